@@ -73,6 +73,7 @@ import {
   createSdkContext,
   getAllModels,
   getClientNameOverride,
+  getClientType,
   getHttpOperationParameter,
   isHttpMetadata,
   isSdkBuiltInKind,
@@ -103,6 +104,7 @@ import {
   Visibility,
   getAuthentication,
 } from "@typespec/http";
+import { getStreamMetadata } from "@typespec/http/experimental";
 import { getSegment } from "@typespec/rest";
 import { getAddedOnVersions } from "@typespec/versioning";
 import { fail } from "assert";
@@ -115,6 +117,7 @@ import {
   Serializable,
 } from "./common/client.js";
 import { CodeModel } from "./common/code-model.js";
+import { JsonLinesMetadata } from "./common/json-lines-metadata.js";
 import { LongRunningMetadata } from "./common/long-running-metadata.js";
 import { Operation as CodeModelOperation, ConvenienceApi, Request } from "./common/operation.js";
 import { ChoiceSchema, SealedChoiceSchema } from "./common/schemas/choice.js";
@@ -132,6 +135,7 @@ import {
   findResponsePropertySegments,
   getServiceVersion,
   isContentTypeHeader,
+  isJsonLinesContentType,
   isKnownContentType,
   isLroNewPollingStrategy,
   operationIsJsonMergePatch,
@@ -198,6 +202,9 @@ export interface EmitterOptionsDev {
   // configure
   "skip-special-headers"?: string[];
   "enable-subclient"?: boolean;
+  "page-prefetch-depth"?: number;
+  "expandable-enum-cache-size"?: number;
+  "generate-async-methods"?: boolean;
 
   // not recommended to set
   "group-etag-headers"?: boolean;
@@ -213,6 +220,14 @@ export interface EmitterOptionsDev {
   "advanced-versioning"?: boolean;
   "service-version-exclude-preview"?: boolean;
 
+  // code generation performance
+  "format-cache"?: boolean;
+  "json-field-switch-dispatch"?: boolean;
+  "json-direct-serialization"?: boolean;
+  "generate-service-impl"?: boolean;
+  "generate-benchmarks"?: boolean;
+  "incremental-output"?: boolean;
+
   // dev options
   "dev-options"?: DevOptions;
 
@@ -2041,6 +2056,17 @@ export class CodeModelBuilder {
     if (op.convenienceApi && operationIsMultipart(sdkHttpOperation)) {
       this.trackSchemaUsage(schema, { serializationFormats: [KnownMediaType.Multipart] });
     }
+    if (sdkType.kind === "bytes" && isJsonLinesContentType(sdkBody.contentTypes)) {
+      // element type of JsonlStream<T>, for the typed overloads of the JSON Lines request body
+      const streamMetadata = getStreamMetadata(this.program, sdkHttpOperation.__raw.parameters);
+      if (streamMetadata) {
+        this.getJsonLinesMetadata(op).requestElementType = this.processJsonLinesElementSchema(
+          op,
+          streamMetadata.streamType,
+          SchemaContext.Input,
+        );
+      }
+    }
 
     if (op.convenienceApi) {
       /**
@@ -2318,6 +2344,25 @@ export class CodeModelBuilder {
       });
     }
 
+    if (
+      !isErrorResponse &&
+      bodyType &&
+      bodyType.kind === "bytes" &&
+      isJsonLinesContentType(sdkResponse.contentTypes)
+    ) {
+      // element type of JsonlStream<T>, for the typed overloads of the JSON Lines response body
+      const streamMetadata = sdkResponse.__raw?.responses
+        .map((it) => getStreamMetadata(this.program, it))
+        .find((it) => it !== undefined);
+      if (streamMetadata) {
+        this.getJsonLinesMetadata(op).responseElementType = this.processJsonLinesElementSchema(
+          op,
+          streamMetadata.streamType,
+          SchemaContext.Output,
+        );
+      }
+    }
+
     if (isErrorResponse) {
       op.addException(response);
 
@@ -2362,6 +2407,25 @@ export class CodeModelBuilder {
     }
   }
 
+  private getJsonLinesMetadata(op: CodeModelOperation): JsonLinesMetadata {
+    return (op.jsonLinesMetadata = op.jsonLinesMetadata ?? new JsonLinesMetadata());
+  }
+
+  private processJsonLinesElementSchema(
+    op: CodeModelOperation,
+    elementType: Type,
+    usage: SchemaContext,
+  ): Schema {
+    const schema = this.processSchema(getClientType(this.sdkContext, elementType), "element");
+    this.trackSchemaUsage(schema, { usage: [usage] });
+    if (op.convenienceApi) {
+      this.trackSchemaUsage(schema, {
+        usage: [op.internalApi ? SchemaContext.Internal : SchemaContext.Public],
+      });
+    }
+    return schema;
+  }
+
   private getStatusCodes(statusCodes: HttpStatusCodesEntry): string[] {
     if (statusCodes === "*") {
       return ["default"];
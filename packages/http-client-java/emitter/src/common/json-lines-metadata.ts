@@ -0,0 +1,11 @@
+import { Schema } from "@autorest/codemodel";
+
+export class JsonLinesMetadata {
+  requestElementType?: Schema;
+  responseElementType?: Schema;
+
+  constructor(requestElementType?: Schema, responseElementType?: Schema) {
+    this.requestElementType = requestElementType;
+    this.responseElementType = responseElementType;
+  }
+}
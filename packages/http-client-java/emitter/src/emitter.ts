@@ -10,6 +10,7 @@ import { dump } from "js-yaml";
 import { dirname } from "path";
 import { fileURLToPath } from "url";
 import { CodeModelBuilder, EmitterOptionsDev } from "./code-model-builder.js";
+import { serializeCodeModelToJson } from "./code-model-json.js";
 import { CodeModel } from "./common/code-model.js";
 import { LibName, reportDiagnostic } from "./lib.js";
 import { EmitterOptions } from "./options.js";
@@ -63,7 +64,8 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         options["license-header"] = codeModel.info.license.extensions.header;
       }
 
-      const codeModelFileName = resolvePath(outputPath, "./code-model.yaml");
+      const codeModelFormat = options["dev-options"]?.["code-model-format"] ?? "yaml";
+      const codeModelFileName = resolvePath(outputPath, `./code-model.${codeModelFormat}`);
 
       await promises.mkdir(outputPath, { recursive: true }).catch((err) => {
         if (err.code !== "EISDIR" && err.code !== "EEXIST") {
@@ -76,7 +78,10 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         }
       });
 
-      await program.host.writeFile(codeModelFileName, dump(codeModel));
+      await program.host.writeFile(
+        codeModelFileName,
+        codeModelFormat === "json" ? serializeCodeModelToJson(codeModel) : dump(codeModel),
+      );
 
       trace(program, `Code model file written to ${codeModelFileName}`);
 
@@ -103,6 +108,9 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
       if (options["dev-options"]?.["java-temp-dir"]) {
         javaArgs.push("-Dcodegen.java.temp.directory=" + options["dev-options"]?.["java-temp-dir"]);
       }
+      if (options["dev-options"]?.["generation-report"]) {
+        javaArgs.push("-Dcodegen.java.generation.report=true");
+      }
       if (options["dev-options"]?.profile) {
         const perfProfile = resolvePath(
           moduleRoot,
@@ -68,6 +68,10 @@ export function isKnownContentType(contentTypes: string[]): boolean {
     });
 }
 
+export function isJsonLinesContentType(contentTypes: string[] | undefined): boolean {
+  return Boolean(contentTypes?.some((it) => it.toLowerCase() === "application/jsonl"));
+}
+
 export function operationIsJsonMergePatch(op: SdkHttpOperation): boolean {
   return operationIsContentType(op, "application/merge-patch+json");
 }
@@ -12,6 +12,8 @@ export interface DevOptions {
   loglevel?: "off" | "debug" | "info" | "warn" | "error";
   "java-temp-dir"?: string; // working directory for java codegen, e.g. transformed code-model file
   profile?: boolean; // enable performance profiling
+  "code-model-format"?: "yaml" | "json"; // format of intermediate code-model file
+  "generation-report"?: boolean; // write the metrics of the generator phases
 }
 
 export interface License {
@@ -37,7 +39,7 @@ export const EmitterOptionsSchema: JSONSchemaType<EmitterOptions> = {
       properties: {
         "generate-code-model": {
           type: "boolean",
-          description: "Generate intermittent 'code-model.yaml' file in output directory.",
+          description: "Generate intermediate 'code-model.yaml' file in output directory.",
           nullable: true,
         },
         debug: {
@@ -61,6 +63,19 @@ export const EmitterOptionsSchema: JSONSchemaType<EmitterOptions> = {
           description: "Enable performance profiling.",
           nullable: true,
         },
+        "code-model-format": {
+          type: "string",
+          description:
+            "Format of intermediate code-model file passed to Java code generator. Default is 'yaml'. 'json' is faster to load.",
+          nullable: true,
+          enum: ["yaml", "json"],
+        },
+        "generation-report": {
+          type: "boolean",
+          description:
+            "Write the time, allocated bytes and file count of each phase of Java code generator to 'target/typespec-java/generation-report.json' in output directory.",
+          nullable: true,
+        },
       },
       nullable: true,
       additionalProperties: false,
@@ -0,0 +1,42 @@
+import { describe, expect, it } from "vitest";
+import { serializeCodeModelToJson } from "../src/code-model-json.js";
+
+describe("code-model-json", () => {
+  it("shared references", () => {
+    const schema = { type: "object", properties: [] as object[] };
+    schema.properties.push({ schema: schema });
+    const values = ["a", "b"];
+    const json = JSON.parse(
+      serializeCodeModelToJson({ schemas: [schema], first: values, second: values, skipped: undefined }),
+    );
+
+    expect(json.schemas[0].$id).toBe("ref_0");
+    expect(json.schemas[0].properties[0].schema).toEqual({ $ref: "ref_0" });
+    expect(json.first).toEqual({ $id: "ref_1", $values: ["a", "b"] });
+    expect(json.second).toEqual({ $ref: "ref_1" });
+    expect("skipped" in json).toBe(false);
+  });
+
+  it("id is the first property", () => {
+    // JSON.stringify writes integer-like keys first
+    const responses = { "200": "ok", description: "responses" };
+    const json = serializeCodeModelToJson({ first: responses, second: responses });
+
+    expect(json).toBe(
+      '{"first":{"$id":"ref_0","200":"ok","description":"responses"},"second":{"$ref":"ref_0"}}',
+    );
+  });
+
+  it("escape keys starting with $", () => {
+    const example = { $id: "id", $ref: "ref", $values: [1], $$escaped: true, name: "$ref" };
+    const json = JSON.parse(serializeCodeModelToJson({ example: example }));
+
+    expect(json.example).toEqual({
+      $$id: "id",
+      $$ref: "ref",
+      $$values: [1],
+      $$$escaped: true,
+      name: "$ref",
+    });
+  });
+});
@@ -0,0 +1,160 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelLoader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Language;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Languages;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Metadata;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schemas;
+import io.clientcore.core.utils.CoreUtils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Scales a code model by loading it multiple times, and merging the copies into the first one.
+ * <p>
+ * The models, enums, unions and operation groups of each copy are renamed with a suffix, so that the merged code model
+ * generates a distinct class for each of them. Operations on the client itself are renamed instead of their group.
+ */
+final class CodeModelScaler {
+
+    private CodeModelScaler() {
+    }
+
+    /**
+     * Loads the code model from YAML, with the schemas and operations multiplied by the scale.
+     *
+     * @param yaml the YAML of the code model.
+     * @param scale the count of copies of the code model to merge.
+     * @return the code model.
+     */
+    static CodeModel load(byte[] yaml, int scale) {
+        return load(yaml, scale, CodeModelScaler::loadYaml);
+    }
+
+    /**
+     * Loads the code model from JSON, with the schemas and operations multiplied by the scale.
+     *
+     * @param json the JSON of the code model.
+     * @param scale the count of copies of the code model to merge.
+     * @return the code model.
+     */
+    static CodeModel loadJson(byte[] json, int scale) {
+        return load(json, scale, CodeModelScaler::loadJson);
+    }
+
+    private static CodeModel load(byte[] content, int scale, Function<byte[], CodeModel> loader) {
+        CodeModel codeModel = loader.apply(content);
+        for (int i = 1; i < scale; ++i) {
+            merge(codeModel, loader.apply(content), "Copy" + i);
+        }
+        return codeModel;
+    }
+
+    private static CodeModel loadYaml(byte[] yaml) {
+        return CodeModelLoader.load(new InputStreamReader(new ByteArrayInputStream(yaml), StandardCharsets.UTF_8));
+    }
+
+    private static CodeModel loadJson(byte[] json) {
+        try {
+            return CodeModelLoader
+                .loadJson(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void merge(CodeModel codeModel, CodeModel copy, String suffix) {
+        Schemas schemas = codeModel.getSchemas();
+        Schemas copySchemas = copy.getSchemas();
+        schemas.setObjects(merge(schemas.getObjects(), copySchemas.getObjects(), suffix));
+        schemas.setChoices(merge(schemas.getChoices(), copySchemas.getChoices(), suffix));
+        schemas.setSealedChoices(merge(schemas.getSealedChoices(), copySchemas.getSealedChoices(), suffix));
+        schemas.setOrs(merge(schemas.getOrs(), copySchemas.getOrs(), suffix));
+
+        List<Client> clients = codeModel.getClients();
+        List<Client> copyClients = copy.getClients();
+        if (clients == null || copyClients == null) {
+            return;
+        }
+        for (int i = 0; i < Math.min(clients.size(), copyClients.size()); ++i) {
+            merge(clients.get(i), copyClients.get(i), suffix);
+        }
+    }
+
+    private static void merge(Client client, Client copy, String suffix) {
+        List<OperationGroup> operationGroups = new ArrayList<>(client.getOperationGroups());
+        for (OperationGroup copyOperationGroup : copy.getOperationGroups()) {
+            OperationGroup clientOperationGroup = CoreUtils.isNullOrEmpty(getName(copyOperationGroup))
+                ? operationGroups.stream()
+                    .filter(operationGroup -> CoreUtils.isNullOrEmpty(getName(operationGroup)))
+                    .findFirst()
+                    .orElse(null)
+                : null;
+
+            if (clientOperationGroup != null) {
+                // operations on the client itself
+                for (Operation operation : copyOperationGroup.getOperations()) {
+                    rename(operation, suffix);
+                    rename(operation.getConvenienceApi(), suffix);
+                    operation.setOperationGroup(clientOperationGroup);
+                    clientOperationGroup.getOperations().add(operation);
+                }
+            } else {
+                rename(copyOperationGroup, suffix);
+                if (!CoreUtils.isNullOrEmpty(copyOperationGroup.get$key())) {
+                    copyOperationGroup.set$key(copyOperationGroup.get$key() + suffix);
+                }
+                copyOperationGroup.setCodeModel(client);
+                operationGroups.add(copyOperationGroup);
+            }
+        }
+        client.setOperationGroups(operationGroups);
+    }
+
+    private static <T extends Metadata> List<T> merge(List<T> items, List<T> copyItems, String suffix) {
+        List<T> merged = items == null ? new ArrayList<>() : new ArrayList<>(items);
+        if (copyItems != null) {
+            for (T item : copyItems) {
+                rename(item, suffix);
+                merged.add(item);
+            }
+        }
+        return merged;
+    }
+
+    private static String getName(Metadata metadata) {
+        return metadata.getLanguage() == null || metadata.getLanguage().getDefault() == null
+            ? null
+            : metadata.getLanguage().getDefault().getName();
+    }
+
+    private static void rename(Metadata metadata, String suffix) {
+        if (metadata == null || metadata.getLanguage() == null) {
+            return;
+        }
+        Languages languages = metadata.getLanguage();
+        rename(languages.getDefault(), suffix);
+        if (languages.getJava() != languages.getDefault()) {
+            rename(languages.getJava(), suffix);
+        }
+    }
+
+    private static void rename(Language language, String suffix) {
+        if (language != null && !CoreUtils.isNullOrEmpty(language.getName())) {
+            language.setName(language.getName() + suffix);
+        }
+    }
+}
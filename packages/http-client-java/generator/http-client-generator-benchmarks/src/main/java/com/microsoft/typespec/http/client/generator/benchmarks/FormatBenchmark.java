@@ -0,0 +1,27 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmark on CodeFormatterUtil, which formats the Java files.
+ */
+public class FormatBenchmark extends StageBenchmark {
+
+    private Map<String, String> javaFiles;
+
+    @Override
+    protected void prepareTrial() {
+        javaFiles = pipeline.generateJavaFiles();
+    }
+
+    @Benchmark
+    public List<String> formatCode() {
+        return CodeFormatterUtil.formatCode(javaFiles);
+    }
+}
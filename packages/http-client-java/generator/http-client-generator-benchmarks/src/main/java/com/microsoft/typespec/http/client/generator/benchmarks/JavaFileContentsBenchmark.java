@@ -0,0 +1,99 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileContents;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark on rendering a file shaped like a protocol client, with a large Javadoc block of JSON schema per method,
+ * to JavaFileContents, and on taking the text of the file, either as a String or written to a Writer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JavaFileContentsBenchmark {
+
+    /**
+     * The count of methods in the file.
+     */
+    @Param({ "50", "200" })
+    public int methods;
+
+    private String schema;
+
+    @Setup
+    public void setup() {
+        StringBuilder schema = new StringBuilder("<pre>{@code\n{\n");
+        for (int i = 0; i < 40; i++) {
+            schema.append("    property").append(i).append(": String (Optional)\n");
+            schema.append("    nested").append(i).append(" (Optional): {\n");
+            schema.append("        name: String (Required)\n");
+            schema.append("        values (Optional): [\n            int (Optional)\n        ]\n    }\n");
+        }
+        this.schema = schema.append("}\n}</pre>").toString();
+    }
+
+    @Benchmark
+    public String renderToString() {
+        return render().toString();
+    }
+
+    @Benchmark
+    public void renderWriteTo() throws IOException {
+        render().writeTo(Writer.nullWriter());
+    }
+
+    private JavaFileContents render() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.declarePackage("com.azure.mock");
+        contents.line();
+        contents.declareImport("com.azure.core.http.rest.RequestOptions", "com.azure.core.http.rest.Response",
+            "com.azure.core.util.BinaryData");
+        contents.classBlock(JavaVisibility.Public, Collections.emptyList(), "MockClient", classBlock -> {
+            for (int i = 0; i < methods; i++) {
+                renderMethod(classBlock, "operation" + i);
+            }
+        });
+        return contents;
+    }
+
+    private void renderMethod(JavaClass classBlock, String methodName) {
+        classBlock.javadocComment(comment -> {
+            comment.description(
+                "The " + methodName + " operation.\n<p><strong>Request Body Schema</strong></p>\n" + schema);
+            comment.param("body", "The body.");
+            comment.param("requestOptions",
+                "The options to configure the HTTP request before HTTP client sends it.");
+            comment.methodReturns("the response body along with {@link Response}.");
+        });
+        classBlock.annotation("ServiceMethod(returns = ReturnType.SINGLE)");
+        classBlock.publicMethod(
+            "Response<BinaryData> " + methodName + "WithResponse(BinaryData body, RequestOptions requestOptions)",
+            methodBlock -> {
+                methodBlock.ifBlock("body == null", ifBlock -> ifBlock.line(
+                    "throw LOGGER.logExceptionAsError(new IllegalArgumentException(\"'body' is required.\"));"));
+                methodBlock.methodReturn("this.serviceClient." + methodName + "WithResponse(body, requestOptions)");
+            });
+    }
+}
@@ -0,0 +1,302 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark on the dispatch on JSON field names in generated fromJson methods, as a chain of if-else statements and as
+ * a switch statement, for a model shaped like an ARM resource with 32 properties.
+ * <p>
+ * Only the dispatch is measured, the JSON reading and the deserialization of values are the same in both styles. Each
+ * invocation dispatches all the properties of the model and an unknown property, as in reading one JSON object.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonFieldDispatchBenchmark {
+
+    private static final String[] FIELD_NAMES = {
+        "id",
+        "name",
+        "type",
+        "location",
+        "tags",
+        "etag",
+        "kind",
+        "zones",
+        "identity",
+        "sku",
+        "plan",
+        "managedBy",
+        "systemData",
+        "provisioningState",
+        "createdAt",
+        "lastModifiedAt",
+        "description",
+        "displayName",
+        "enabled",
+        "version",
+        "endpoint",
+        "publicNetworkAccess",
+        "privateEndpointConnections",
+        "networkAcls",
+        "encryption",
+        "disableLocalAuth",
+        "minimumTlsVersion",
+        "capacity",
+        "tier",
+        "family",
+        "size",
+        "customDomain" };
+
+    private final int[] fields = new int[FIELD_NAMES.length];
+    private int unknown;
+    private String[] fieldNames;
+
+    @Setup
+    public void setup() {
+        // field names as read from JSON, which are not interned
+        fieldNames = new String[FIELD_NAMES.length + 1];
+        for (int i = 0; i < FIELD_NAMES.length; i++) {
+            fieldNames[i] = new String(FIELD_NAMES[i].toCharArray());
+        }
+        fieldNames[FIELD_NAMES.length] = "unknownProperty";
+    }
+
+    @Benchmark
+    public int ifElse() {
+        for (String fieldName : fieldNames) {
+            dispatchIfElse(fieldName);
+        }
+        return unknown;
+    }
+
+    @Benchmark
+    public int switchStatement() {
+        for (String fieldName : fieldNames) {
+            dispatchSwitch(fieldName);
+        }
+        return unknown;
+    }
+
+    private void dispatchIfElse(String fieldName) {
+        if ("id".equals(fieldName)) {
+            fields[0]++;
+        } else if ("name".equals(fieldName)) {
+            fields[1]++;
+        } else if ("type".equals(fieldName)) {
+            fields[2]++;
+        } else if ("location".equals(fieldName)) {
+            fields[3]++;
+        } else if ("tags".equals(fieldName)) {
+            fields[4]++;
+        } else if ("etag".equals(fieldName)) {
+            fields[5]++;
+        } else if ("kind".equals(fieldName)) {
+            fields[6]++;
+        } else if ("zones".equals(fieldName)) {
+            fields[7]++;
+        } else if ("identity".equals(fieldName)) {
+            fields[8]++;
+        } else if ("sku".equals(fieldName)) {
+            fields[9]++;
+        } else if ("plan".equals(fieldName)) {
+            fields[10]++;
+        } else if ("managedBy".equals(fieldName)) {
+            fields[11]++;
+        } else if ("systemData".equals(fieldName)) {
+            fields[12]++;
+        } else if ("provisioningState".equals(fieldName)) {
+            fields[13]++;
+        } else if ("createdAt".equals(fieldName)) {
+            fields[14]++;
+        } else if ("lastModifiedAt".equals(fieldName)) {
+            fields[15]++;
+        } else if ("description".equals(fieldName)) {
+            fields[16]++;
+        } else if ("displayName".equals(fieldName)) {
+            fields[17]++;
+        } else if ("enabled".equals(fieldName)) {
+            fields[18]++;
+        } else if ("version".equals(fieldName)) {
+            fields[19]++;
+        } else if ("endpoint".equals(fieldName)) {
+            fields[20]++;
+        } else if ("publicNetworkAccess".equals(fieldName)) {
+            fields[21]++;
+        } else if ("privateEndpointConnections".equals(fieldName)) {
+            fields[22]++;
+        } else if ("networkAcls".equals(fieldName)) {
+            fields[23]++;
+        } else if ("encryption".equals(fieldName)) {
+            fields[24]++;
+        } else if ("disableLocalAuth".equals(fieldName)) {
+            fields[25]++;
+        } else if ("minimumTlsVersion".equals(fieldName)) {
+            fields[26]++;
+        } else if ("capacity".equals(fieldName)) {
+            fields[27]++;
+        } else if ("tier".equals(fieldName)) {
+            fields[28]++;
+        } else if ("family".equals(fieldName)) {
+            fields[29]++;
+        } else if ("size".equals(fieldName)) {
+            fields[30]++;
+        } else if ("customDomain".equals(fieldName)) {
+            fields[31]++;
+        } else {
+            unknown++;
+        }
+    }
+
+    private void dispatchSwitch(String fieldName) {
+        switch (fieldName) {
+            case "id":
+                fields[0]++;
+                break;
+
+            case "name":
+                fields[1]++;
+                break;
+
+            case "type":
+                fields[2]++;
+                break;
+
+            case "location":
+                fields[3]++;
+                break;
+
+            case "tags":
+                fields[4]++;
+                break;
+
+            case "etag":
+                fields[5]++;
+                break;
+
+            case "kind":
+                fields[6]++;
+                break;
+
+            case "zones":
+                fields[7]++;
+                break;
+
+            case "identity":
+                fields[8]++;
+                break;
+
+            case "sku":
+                fields[9]++;
+                break;
+
+            case "plan":
+                fields[10]++;
+                break;
+
+            case "managedBy":
+                fields[11]++;
+                break;
+
+            case "systemData":
+                fields[12]++;
+                break;
+
+            case "provisioningState":
+                fields[13]++;
+                break;
+
+            case "createdAt":
+                fields[14]++;
+                break;
+
+            case "lastModifiedAt":
+                fields[15]++;
+                break;
+
+            case "description":
+                fields[16]++;
+                break;
+
+            case "displayName":
+                fields[17]++;
+                break;
+
+            case "enabled":
+                fields[18]++;
+                break;
+
+            case "version":
+                fields[19]++;
+                break;
+
+            case "endpoint":
+                fields[20]++;
+                break;
+
+            case "publicNetworkAccess":
+                fields[21]++;
+                break;
+
+            case "privateEndpointConnections":
+                fields[22]++;
+                break;
+
+            case "networkAcls":
+                fields[23]++;
+                break;
+
+            case "encryption":
+                fields[24]++;
+                break;
+
+            case "disableLocalAuth":
+                fields[25]++;
+                break;
+
+            case "minimumTlsVersion":
+                fields[26]++;
+                break;
+
+            case "capacity":
+                fields[27]++;
+                break;
+
+            case "tier":
+                fields[28]++;
+                break;
+
+            case "family":
+                fields[29]++;
+                break;
+
+            case "size":
+                fields[30]++;
+                break;
+
+            case "customDomain":
+                fields[31]++;
+                break;
+
+            default:
+                unknown++;
+                break;
+        }
+    }
+}
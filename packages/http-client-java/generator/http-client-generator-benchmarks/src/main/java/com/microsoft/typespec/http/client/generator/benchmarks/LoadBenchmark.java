@@ -0,0 +1,24 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmark on loading the code model from YAML, via CodeModelCustomConstructor, and from the JSON form of the same
+ * code model, via JsonCodeModelParser.
+ */
+public class LoadBenchmark extends StageBenchmark {
+
+    @Benchmark
+    public CodeModel load() {
+        return pipeline.load();
+    }
+
+    @Benchmark
+    public CodeModel loadJson() {
+        return pipeline.loadJson();
+    }
+}
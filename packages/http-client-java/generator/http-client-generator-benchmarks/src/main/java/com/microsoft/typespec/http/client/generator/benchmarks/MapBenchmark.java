@@ -0,0 +1,32 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmark on ClientMapper, which maps the code model to the client model.
+ * <p>
+ * The mappers cache the result by the schema, hence a new code model is loaded for each invocation. The cache of the
+ * previous code models is not released, which adds to the heap usage of the later iterations.
+ */
+public class MapBenchmark extends StageBenchmark {
+
+    private CodeModel codeModel;
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        pipeline.clearClientModels();
+        codeModel = pipeline.transform(pipeline.load());
+    }
+
+    @Benchmark
+    public Client map() {
+        return pipeline.map(codeModel);
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateHandler;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmark on PartialUpdateHandler, which merges the generated Java files into the existing files.
+ * <p>
+ * The existing files are the formatted generated files, as on re-generation of a library without customization.
+ */
+public class PartialUpdateBenchmark extends StageBenchmark {
+
+    private Map<String, String> javaFiles;
+    private Map<String, String> existingJavaFiles;
+
+    @Override
+    protected void prepareTrial() {
+        javaFiles = pipeline.generateJavaFiles();
+        existingJavaFiles = new HashMap<>();
+        javaFiles.forEach((filePath, content) -> existingJavaFiles.put(filePath,
+            CodeFormatterUtil.formatCode(Collections.singletonMap(filePath, content)).get(0)));
+    }
+
+    @Benchmark
+    public List<String> handlePartialUpdate() {
+        List<String> updatedJavaFiles = new ArrayList<>(javaFiles.size());
+        javaFiles.forEach((filePath, content) -> updatedJavaFiles
+            .add(PartialUpdateHandler.handlePartialUpdateForFile(content, existingJavaFiles.get(filePath))));
+        return updatedJavaFiles;
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.TypeSpecPlugin;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelLoader;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
+import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.utils.CoreUtils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The input of the generator pipeline, and the stages of the pipeline, as they are called by
+ * {@link com.microsoft.typespec.http.client.generator.Main}.
+ * <p>
+ * The input is either "azure" or "clientcore", for the code model pinned in "codemodel/widget.yaml" of the resources,
+ * generated with the azure or the unbranded flavor, or "&lt;flavor&gt;:&lt;path to code-model.yaml&gt;". The code
+ * model of a TypeSpec is generated by "tsp compile", when "dev-options.generate-code-model" is set in "tspconfig.yaml".
+ * <p>
+ * The code model is pinned, instead of read from the output of the test modules, so that the results stay comparable
+ * across changes to the emitter and to the TypeSpec of the tests. It needs to be updated only when the format of the
+ * code model changes.
+ */
+final class PipelineInput {
+    private static final String PINNED_CODE_MODEL = "/codemodel/widget.yaml";
+
+    private final byte[] yaml;
+    private final byte[] json;
+    private final int scale;
+    private final TypeSpecPlugin plugin;
+
+    /**
+     * Reads the code model, and initializes {@link JavaSettings} for the flavor of the input.
+     *
+     * @param input the input.
+     * @param scale the count of copies of the code model to merge.
+     * @throws IOException if the code model cannot be read.
+     */
+    PipelineInput(String input, int scale) throws IOException {
+        String flavor;
+        if ("azure".equals(input)) {
+            flavor = "azure";
+            this.yaml = readPinnedCodeModel();
+        } else if ("clientcore".equals(input)) {
+            flavor = "generic";
+            this.yaml = readPinnedCodeModel();
+        } else {
+            int index = input.indexOf(':');
+            if (index <= 0) {
+                throw new IllegalArgumentException(
+                    "Input must be 'azure', 'clientcore', or '<flavor>:<path to code-model.yaml>'. Input: " + input);
+            }
+            flavor = input.substring(0, index);
+            this.yaml = Files.readAllBytes(Paths.get(input.substring(index + 1)));
+        }
+        this.scale = scale;
+        StringWriter jsonWriter = new StringWriter();
+        CodeModelLoader.convertYamlToJson(new InputStreamReader(new ByteArrayInputStream(yaml), StandardCharsets.UTF_8),
+            jsonWriter);
+        this.json = jsonWriter.toString().getBytes(StandardCharsets.UTF_8);
+
+        EmitterOptions options;
+        try (JsonReader jsonReader = JsonReader.fromString("{\"flavor\":\"" + flavor + "\"}")) {
+            options = EmitterOptions.fromJson(jsonReader);
+        }
+        CodeModel codeModel = CodeModelScaler.load(yaml, 1);
+        if (codeModel.getLanguage().getJava() != null
+            && !CoreUtils.isNullOrEmpty(codeModel.getLanguage().getJava().getNamespace())) {
+            options.setNamespace(codeModel.getLanguage().getJava().getNamespace());
+        }
+
+        JavaSettings.clear();
+        this.plugin = new TypeSpecPlugin(options, true);
+        // initialize JavaSettings, which also selects the mappers and templates of the flavor
+        JavaSettings.getInstance();
+    }
+
+    private static byte[] readPinnedCodeModel() throws IOException {
+        try (InputStream stream = PipelineInput.class.getResourceAsStream(PINNED_CODE_MODEL)) {
+            if (stream == null) {
+                throw new IllegalStateException("Code model '" + PINNED_CODE_MODEL + "' is not on the classpath.");
+            }
+            return stream.readAllBytes();
+        }
+    }
+
+    /**
+     * Loads the code model from YAML.
+     *
+     * @return the code model.
+     */
+    CodeModel load() {
+        return CodeModelScaler.load(yaml, scale);
+    }
+
+    /**
+     * Loads the code model from the JSON form, converted from YAML.
+     *
+     * @return the code model.
+     */
+    CodeModel loadJson() {
+        return CodeModelScaler.loadJson(json, scale);
+    }
+
+    /**
+     * Transforms the code model, as in {@link TypeSpecPlugin#processClient(CodeModel)}.
+     *
+     * @param codeModel the code model loaded from YAML.
+     * @return the transformed code model.
+     */
+    CodeModel transform(CodeModel codeModel) {
+        return new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+    }
+
+    /**
+     * Clears the client models from the previous mapping.
+     */
+    void clearClientModels() {
+        ClientModels.getInstance().clear();
+        UnionModels.getInstance().clear();
+    }
+
+    /**
+     * Maps the code model to client model, as in {@link TypeSpecPlugin#processClient(CodeModel)}.
+     *
+     * @param codeModel the transformed code model.
+     * @return the client.
+     */
+    Client map(CodeModel codeModel) {
+        return Mappers.getClientMapper().map(codeModel);
+    }
+
+    /**
+     * Writes the client to Java files.
+     *
+     * @param codeModel the transformed code model.
+     * @param client the client.
+     * @return the Java package.
+     */
+    JavaPackage writeToTemplates(CodeModel codeModel, Client client) {
+        return plugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+    }
+
+    /**
+     * Runs the stages of the pipeline until the Java files.
+     *
+     * @return the content of the Java files, keyed by the file path.
+     */
+    Map<String, String> generateJavaFiles() {
+        clearClientModels();
+        CodeModel codeModel = transform(load());
+        JavaPackage javaPackage = writeToTemplates(codeModel, map(codeModel));
+
+        Map<String, String> javaFiles = new LinkedHashMap<>();
+        for (JavaFile javaFile : javaPackage.getJavaFiles()) {
+            javaFiles.put(javaFile.getFilePath(), javaFile.getContents().toString());
+        }
+        return javaFiles;
+    }
+}
@@ -0,0 +1,71 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class of the benchmarks on a stage of the generator pipeline.
+ * <p>
+ * A stage is measured in single shot, as it runs once per generation. The input of the stage is prepared by the
+ * previous stages, outside the measurement.
+ * <p>
+ * The generator keeps its settings and the mappers in singletons, hence each combination of the parameters runs in its
+ * own fork.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+        "-Xmx4g",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.code=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+        "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED" })
+public abstract class StageBenchmark {
+
+    /**
+     * The code model, see {@link PipelineInput}.
+     */
+    @Param({ "azure", "clientcore" })
+    public String input;
+
+    /**
+     * The count of copies of the code model, see {@link CodeModelScaler}.
+     */
+    @Param({ "1", "4" })
+    public int scale;
+
+    protected PipelineInput pipeline;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        pipeline = new PipelineInput(input, scale);
+        prepareTrial();
+    }
+
+    /**
+     * Prepares the input of the stage, when it is not modified by the stage.
+     */
+    protected void prepareTrial() {
+    }
+}
@@ -0,0 +1,30 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmark on Javagen.writeToTemplates, which writes the client model to Java files.
+ */
+public class TemplateBenchmark extends StageBenchmark {
+
+    private CodeModel codeModel;
+    private Client client;
+
+    @Override
+    protected void prepareTrial() {
+        pipeline.clearClientModels();
+        codeModel = pipeline.transform(pipeline.load());
+        client = pipeline.map(codeModel);
+    }
+
+    @Benchmark
+    public JavaPackage writeToTemplates() {
+        return pipeline.writeToTemplates(codeModel, client);
+    }
+}
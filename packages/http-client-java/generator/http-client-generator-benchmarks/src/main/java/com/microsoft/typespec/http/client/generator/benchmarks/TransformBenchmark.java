@@ -0,0 +1,28 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmark on the Preprocessor and the Transformer of the code model.
+ */
+public class TransformBenchmark extends StageBenchmark {
+
+    private CodeModel codeModel;
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        // the code model is modified by the transform
+        codeModel = pipeline.load();
+    }
+
+    @Benchmark
+    public CodeModel transform() {
+        return pipeline.transform(codeModel);
+    }
+}
@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark on the framing of multi-megabyte JSON-RPC messages by PeekingBinaryReader, like the "WriteFile" requests
+ * that carry a whole generated file, with and without the Content-Length header.
+ * <p>
+ * The benchmark is in the package of PeekingBinaryReader, as the reader is package-private, and reading through
+ * Connection would measure its listener thread as well. Each invocation frames one message from memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PeekingBinaryReaderBenchmark {
+
+    /**
+     * The size of the message, in MB.
+     */
+    @Param({ "1", "4", "16" })
+    public int size;
+
+    private byte[] withContentLength;
+    private byte[] withoutContentLength;
+    private int contentLength;
+
+    @Setup
+    public void setup() {
+        String message = createMessage(size * 1024 * 1024);
+        contentLength = message.getBytes(StandardCharsets.UTF_8).length;
+        withContentLength
+            = ("Content-Length: " + contentLength + "\r\n\r\n" + message).getBytes(StandardCharsets.UTF_8);
+        withoutContentLength = (message + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String contentLength() throws IOException {
+        try (PeekingBinaryReader reader = new PeekingBinaryReader(new ByteArrayInputStream(withContentLength))) {
+            // the Content-Length header and the empty line
+            reader.readAsciiLine();
+            reader.readAsciiLine();
+            return reader.readUtf8(contentLength);
+        }
+    }
+
+    @Benchmark
+    public String jsonValue() throws IOException {
+        try (PeekingBinaryReader reader = new PeekingBinaryReader(new ByteArrayInputStream(withoutContentLength))) {
+            return reader.readJsonValue();
+        }
+    }
+
+    private static String createMessage(int size) {
+        // escaped line breaks and quotes, as in the content of a Java file in JSON
+        StringBuilder file = new StringBuilder(size);
+        while (file.length() < size) {
+            file.append(
+                "    public Map<String, List<Foo>> getFoo() {\\n        return this.foo; // \\\"foo\\\"\\n    }\\n");
+        }
+        return "{\"jsonrpc\":\"2.0\",\"method\":\"WriteFile\",\"id\":1,\"params\":[\"session\",\"Foo.java\",\"" + file
+            + "\",null]}";
+    }
+}
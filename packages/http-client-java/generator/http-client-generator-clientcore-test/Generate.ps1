@@ -28,6 +28,10 @@ $generateScript = {
   # for each test run. We do this by appending a random number to the output directory.
   # Without this, we could have multiple runs trying to write to the same directory which introduces race conditions.
   $tspOptions = "--option ""@typespec/http-client-java.emitter-output-dir={project-root}/tsp-output/$(Get-Random)"""
+  if ($tspFile -match "payload[\\/]pageable[\\/]") {
+    # request the next pages in background
+    $tspOptions += " --option ""@typespec/http-client-java.page-prefetch-depth=2"""
+  }
 
   $tspTrace = "--trace import-resolution --trace projection --trace http-client-java"
   $tspCommand = "npx --no tsp compile $tspFile $tspOptions $tspTrace"
@@ -9,37 +9,38 @@ import io.clientcore.core.serialization.json.JsonWriter;
 import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for ColorsExtensibleEnum.
  */
 public final class ColorsExtensibleEnum implements ExpandableEnum<String>, JsonSerializable<ColorsExtensibleEnum> {
-    private static final Map<String, ColorsExtensibleEnum> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<String, ColorsExtensibleEnum> NEW_INSTANCE = ColorsExtensibleEnum::new;
+    private static final Map<String, ColorsExtensibleEnum> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Static value blue for ColorsExtensibleEnum.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ColorsExtensibleEnum BLUE = fromValue("blue");
+    public static final ColorsExtensibleEnum BLUE = new ColorsExtensibleEnum("blue");
 
     /**
      * Static value red for ColorsExtensibleEnum.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ColorsExtensibleEnum RED = fromValue("red");
+    public static final ColorsExtensibleEnum RED = new ColorsExtensibleEnum("red");
 
     /**
      * Static value green for ColorsExtensibleEnum.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ColorsExtensibleEnum GREEN = fromValue("green");
+    public static final ColorsExtensibleEnum GREEN = new ColorsExtensibleEnum("green");
 
     private final String value;
 
@@ -59,7 +60,30 @@ public final class ColorsExtensibleEnum implements ExpandableEnum<String>, JsonS
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        switch (value) {
+            case "blue":
+                return BLUE;
+            case "red":
+                return RED;
+            case "green":
+                return GREEN;
+            default:
+                return fromUnknownValue(value);
+        }
+    }
+
+    private static ColorsExtensibleEnum fromUnknownValue(String value) {
+        ColorsExtensibleEnum unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new ColorsExtensibleEnum(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        ColorsExtensibleEnum existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -69,7 +93,9 @@ public final class ColorsExtensibleEnum implements ExpandableEnum<String>, JsonS
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Collection<ColorsExtensibleEnum> values() {
-        return new ArrayList<>(VALUES.values());
+        List<ColorsExtensibleEnum> values = new ArrayList<>(Arrays.asList(BLUE, RED, GREEN));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -123,7 +149,8 @@ public final class ColorsExtensibleEnum implements ExpandableEnum<String>, JsonS
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof ColorsExtensibleEnum && Objects.equals(this.value, ((ColorsExtensibleEnum) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
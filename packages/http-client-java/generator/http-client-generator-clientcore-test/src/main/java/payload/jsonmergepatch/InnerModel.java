@@ -7,8 +7,6 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import payload.jsonmergepatch.implementation.JsonMergePatchHelper;
 
 /**
@@ -28,11 +26,17 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private String description;
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_NAME = 1L << 0;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_DESCRIPTION = 1L << 1;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -83,7 +87,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public InnerModel setName(String name) {
         this.name = name;
-        this.updatedProperties.add("name");
+        this.updatedProperties |= UPDATED_NAME;
         return this;
     }
 
@@ -106,7 +110,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public InnerModel setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= UPDATED_DESCRIPTION;
         return this;
     }
 
@@ -129,14 +133,14 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("name")) {
+        if ((updatedProperties & UPDATED_NAME) != 0) {
             if (this.name == null) {
                 jsonWriter.writeNullField("name");
             } else {
                 jsonWriter.writeStringField("name", this.name);
             }
         }
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & UPDATED_DESCRIPTION) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
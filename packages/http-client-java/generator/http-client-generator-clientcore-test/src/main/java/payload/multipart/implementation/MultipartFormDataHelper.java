@@ -3,11 +3,19 @@ package payload.multipart.implementation;
 import io.clientcore.core.http.models.HttpHeaderName;
 import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.io.ByteArrayInputStream;
+import io.clientcore.core.serialization.ObjectSerializer;
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.SequenceInputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,6 +27,8 @@ public final class MultipartFormDataHelper {
      */
     private static final String CRLF = "\r\n";
 
+    private static final byte[] CRLF_BYTES = CRLF.getBytes(StandardCharsets.UTF_8);
+
     private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
 
     /**
@@ -41,7 +51,12 @@ public final class MultipartFormDataHelper {
      */
     private final Charset encoderCharset = StandardCharsets.UTF_8;
 
-    private InputStream requestDataStream = new ByteArrayInputStream(new byte[0]);
+    /**
+     * The segments of the request body, in order. Consecutive text parts are merged into a single segment, each file is
+     * a segment.
+     */
+    private final List<BinaryData> segments = new ArrayList<>();
+    private final ByteArrayOutputStream pendingBytes = new ByteArrayOutputStream();
     private long requestLength = 0;
 
     private RequestContext requestContext;
@@ -82,10 +97,11 @@ public final class MultipartFormDataHelper {
      */
     public MultipartFormDataHelper serializeTextField(String fieldName, String value) {
         if (value != null) {
-            String serialized = partSeparator + CRLF + "Content-Disposition: form-data; name=\"" + escapeName(fieldName)
-                + "\"" + CRLF + CRLF + value + CRLF;
-            byte[] data = serialized.getBytes(encoderCharset);
-            appendBytes(data);
+            String preamble = partSeparator + CRLF + "Content-Disposition: form-data; name=\"" + escapeName(fieldName)
+                + "\"" + CRLF + CRLF;
+            appendBytes(preamble.getBytes(encoderCharset));
+            appendBytes(value.getBytes(encoderCharset));
+            appendBytes(CRLF_BYTES);
         }
         return this;
     }
@@ -100,11 +116,11 @@ public final class MultipartFormDataHelper {
      */
     public MultipartFormDataHelper serializeJsonField(String fieldName, Object jsonObject) {
         if (jsonObject != null) {
-            String serialized
-                = partSeparator + CRLF + "Content-Disposition: form-data; name=\"" + escapeName(fieldName) + "\"" + CRLF
-                    + "Content-Type: application/json" + CRLF + CRLF + BinaryData.fromObject(jsonObject) + CRLF;
-            byte[] data = serialized.getBytes(encoderCharset);
-            appendBytes(data);
+            String preamble = partSeparator + CRLF + "Content-Disposition: form-data; name=\"" + escapeName(fieldName)
+                + "\"" + CRLF + "Content-Type: application/json" + CRLF + CRLF;
+            appendBytes(preamble.getBytes(encoderCharset));
+            appendBytes(BinaryData.fromObject(jsonObject).toBytes());
+            appendBytes(CRLF_BYTES);
         }
         return this;
     }
@@ -160,10 +176,10 @@ public final class MultipartFormDataHelper {
      * @return the MultipartFormDataHelper instance
      */
     public MultipartFormDataHelper end() {
-        byte[] data = endMarker.getBytes(encoderCharset);
-        appendBytes(data);
+        appendBytes(endMarker.getBytes(encoderCharset));
+        flushPendingBytes();
 
-        requestBody = BinaryData.fromStream(requestDataStream, requestLength);
+        requestBody = new MultipartBinaryData(segments, requestLength);
 
         requestContext = requestContext.toBuilder()
             .setHeader(HttpHeaderName.CONTENT_TYPE, "multipart/form-data; boundary=" + this.boundary)
@@ -183,24 +199,254 @@ public final class MultipartFormDataHelper {
         String fileFieldPreamble
             = partSeparator + CRLF + "Content-Disposition: form-data; name=\"" + escapeName(fieldName) + "\""
                 + contentDispositionFilename + CRLF + "Content-Type: " + contentType + CRLF + CRLF;
-        byte[] data = fileFieldPreamble.getBytes(encoderCharset);
-        appendBytes(data);
+        appendBytes(fileFieldPreamble.getBytes(encoderCharset));
 
-        // Writing the file into the request as a byte stream
+        // Writing the file into the request as a segment of its own
+        flushPendingBytes();
         requestLength += file.getLength();
-        requestDataStream = new SequenceInputStream(requestDataStream, file.toStream());
+        segments.add(file);
 
         // CRLF
-        data = CRLF.getBytes(encoderCharset);
-        appendBytes(data);
+        appendBytes(CRLF_BYTES);
     }
 
     private void appendBytes(byte[] bytes) {
         requestLength += bytes.length;
-        requestDataStream = new SequenceInputStream(requestDataStream, new ByteArrayInputStream(bytes));
+        pendingBytes.write(bytes, 0, bytes.length);
+    }
+
+    private void flushPendingBytes() {
+        if (pendingBytes.size() > 0) {
+            segments.add(BinaryData.fromBytes(pendingBytes.toByteArray()));
+            pendingBytes.reset();
+        }
     }
 
     private static String escapeName(String name) {
         return name.replace("\n", "%0A").replace("\r", "%0D").replace("\"", "%22");
     }
+
+    /**
+     * The multipart HTTP request body. It writes the segments directly to the OutputStream or WritableByteChannel,
+     * without copying them to a single buffer.
+     */
+    private static final class MultipartBinaryData extends BinaryData {
+        private final List<BinaryData> segments;
+        private final long length;
+
+        private MultipartBinaryData(List<BinaryData> segments, long length) {
+            this.segments = segments;
+            this.length = length;
+        }
+
+        @Override
+        public byte[] toBytes() {
+            if (length > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("The multipart request body is too large for a byte array.");
+            }
+            byte[] bytes = new byte[(int) length];
+            int offset = 0;
+            for (BinaryData segment : segments) {
+                byte[] segmentBytes = segment.toBytes();
+                System.arraycopy(segmentBytes, 0, bytes, offset, segmentBytes.length);
+                offset += segmentBytes.length;
+            }
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return new String(toBytes(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public <T> T toObject(Type type, ObjectSerializer serializer) {
+            try {
+                return serializer.deserializeFromBytes(toBytes(), type);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public InputStream toStream() {
+            return new MultipartInputStream(segments);
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) {
+            for (BinaryData segment : segments) {
+                segment.writeTo(outputStream);
+            }
+        }
+
+        @Override
+        public void writeTo(WritableByteChannel channel) {
+            for (BinaryData segment : segments) {
+                segment.writeTo(channel);
+            }
+        }
+
+        @Override
+        public void writeTo(JsonWriter jsonWriter) {
+            try {
+                jsonWriter.writeBinary(toBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(toBytes()).asReadOnlyBuffer();
+        }
+
+        @Override
+        public Long getLength() {
+            return length;
+        }
+
+        @Override
+        public boolean isReplayable() {
+            return segments.stream().allMatch(BinaryData::isReplayable);
+        }
+
+        @Override
+        public BinaryData toReplayableBinaryData() {
+            if (isReplayable()) {
+                return this;
+            }
+            List<BinaryData> replayableSegments = new ArrayList<>(segments.size());
+            for (BinaryData segment : segments) {
+                replayableSegments.add(segment.toReplayableBinaryData());
+            }
+            return new MultipartBinaryData(replayableSegments, length);
+        }
+
+        @Override
+        public void close() {
+            for (BinaryData segment : segments) {
+                segment.close();
+            }
+        }
+    }
+
+    /**
+     * The InputStream of the request body, which reads the segments one after another.
+     * <p>
+     * It supports mark and reset when all segments are replayable, by opening the segment of the mark again.
+     */
+    private static final class MultipartInputStream extends InputStream {
+        private final List<BinaryData> segments;
+        private final boolean markSupported;
+
+        // the stream of the segment at segmentIndex, null if the segment is not opened yet
+        private InputStream current;
+        private int segmentIndex = 0;
+        private long position = 0;
+        private long markPosition = 0;
+
+        private MultipartInputStream(List<BinaryData> segments) {
+            this.segments = segments;
+            this.markSupported = segments.stream().allMatch(BinaryData::isReplayable);
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (openSegment()) {
+                int b = current.read();
+                if (b >= 0) {
+                    position++;
+                    return b;
+                }
+                closeSegment();
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (openSegment()) {
+                int count = current.read(b, off, len);
+                if (count > 0) {
+                    position += count;
+                    return count;
+                } else if (count < 0) {
+                    closeSegment();
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return current == null ? 0 : current.available();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return markSupported;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            markPosition = position;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            if (!markSupported) {
+                throw new IOException("mark/reset not supported");
+            }
+            closeSegment();
+
+            // find the segment of the mark, then skip to the mark in the segment
+            long segmentStart = 0;
+            segmentIndex = 0;
+            while (segmentIndex < segments.size()
+                && markPosition >= segmentStart + segments.get(segmentIndex).getLength()) {
+                segmentStart += segments.get(segmentIndex).getLength();
+                segmentIndex++;
+            }
+            position = segmentStart;
+            if (openSegment()) {
+                long remaining = markPosition - segmentStart;
+                while (remaining > 0) {
+                    long skipped = current.skip(remaining);
+                    if (skipped <= 0) {
+                        if (current.read() < 0) {
+                            throw new IOException("Unexpected end of the request body segment");
+                        }
+                        skipped = 1;
+                    }
+                    remaining -= skipped;
+                }
+                position = markPosition;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeSegment();
+            segmentIndex = segments.size();
+        }
+
+        private boolean openSegment() {
+            if (current == null && segmentIndex < segments.size()) {
+                current = segments.get(segmentIndex).toStream();
+            }
+            return current != null;
+        }
+
+        private void closeSegment() throws IOException {
+            if (current != null) {
+                current.close();
+                current = null;
+                segmentIndex++;
+            }
+        }
+    }
 }
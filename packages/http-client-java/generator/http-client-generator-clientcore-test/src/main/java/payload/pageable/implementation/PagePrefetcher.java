@@ -0,0 +1,184 @@
+package payload.pageable.implementation;
+
+import io.clientcore.core.http.paging.PagedIterable;
+import io.clientcore.core.http.paging.PagedResponse;
+import io.clientcore.core.http.paging.PagingOptions;
+import io.clientcore.core.instrumentation.logging.ClientLogger;
+import io.clientcore.core.models.CoreException;
+import io.clientcore.core.utils.SharedExecutorService;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// DO NOT modify this helper class
+
+/**
+ * Requests the next pages of a paged operation in the background, while the current page is processed.
+ * <p>
+ * When a page is returned, the page at its next link is requested on a shared executor, followed by the page at the
+ * next link of that page, up to the given number of pages ahead of the page being processed. The requests use the same
+ * retriever, hence the same RequestContext, as the requests without prefetch.
+ * <p>
+ * An error of a request in the background is thrown when the iteration reaches its page. If the thread waiting for a
+ * page is interrupted, the pages requested in the background are cancelled.
+ *
+ * @param <T> The type of items in the page.
+ */
+public final class PagePrefetcher<T> {
+    private static final ClientLogger LOGGER = new ClientLogger(PagePrefetcher.class);
+
+    private final BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever;
+    private final int depth;
+    private final Map<String, Prefetch<T>> prefetches = new ConcurrentHashMap<>();
+
+    private PagePrefetcher(BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever, int depth) {
+        this.nextPageRetriever = nextPageRetriever;
+        this.depth = depth;
+    }
+
+    /**
+     * Creates a PagedIterable that prefetches up to {@code depth} pages.
+     *
+     * @param firstPageRetriever the retriever of the first page.
+     * @param nextPageRetriever the retriever of the page at a next link.
+     * @param depth the number of pages to prefetch.
+     * @param <T> The type of items in the page.
+     * @return the PagedIterable.
+     */
+    public static <T> PagedIterable<T> createPagedIterable(Function<PagingOptions, PagedResponse<T>> firstPageRetriever,
+        BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever, int depth) {
+        PagePrefetcher<T> prefetcher = new PagePrefetcher<>(nextPageRetriever, depth);
+        return new PagedIterable<>(pagingOptions -> prefetcher.getFirstPage(firstPageRetriever, pagingOptions),
+            (pagingOptions, nextLink) -> prefetcher.getNextPage(pagingOptions, nextLink));
+    }
+
+    private PagedResponse<T> getFirstPage(Function<PagingOptions, PagedResponse<T>> firstPageRetriever,
+        PagingOptions pagingOptions) {
+        // a new iteration, pages prefetched for a previous iteration may be outdated
+        cancelPrefetches();
+        return prefetchNext(firstPageRetriever.apply(pagingOptions), pagingOptions);
+    }
+
+    private PagedResponse<T> getNextPage(PagingOptions pagingOptions, String nextLink) {
+        Prefetch<T> prefetch = prefetches.remove(nextLink);
+        PagedResponse<T> page;
+        if (prefetch != null && isSamePagingOptions(prefetch.pagingOptions, pagingOptions)) {
+            page = await(prefetch.future);
+        } else {
+            if (prefetch != null) {
+                prefetch.future.cancel(false);
+            }
+            page = nextPageRetriever.apply(pagingOptions, nextLink);
+        }
+        return prefetchNext(page, pagingOptions);
+    }
+
+    private PagedResponse<T> prefetchNext(PagedResponse<T> page, PagingOptions pagingOptions) {
+        if (page != null) {
+            prefetch(page.getNextLink(), getNextPagingOptions(pagingOptions, page));
+        }
+        return page;
+    }
+
+    private void prefetch(String nextLink, PagingOptions pagingOptions) {
+        // Follow the next links of the pages already prefetched, and request the first page not yet requested.
+        // The number of steps is bounded, in case the next links form a cycle.
+        for (int i = 0; i <= depth && nextLink != null && !nextLink.isEmpty(); i++) {
+            Prefetch<T> existing = prefetches.get(nextLink);
+            if (existing == null) {
+                if (prefetches.size() < depth) {
+                    Prefetch<T> prefetch = new Prefetch<>(pagingOptions);
+                    if (prefetches.putIfAbsent(nextLink, prefetch) == null) {
+                        request(nextLink, prefetch);
+                    }
+                }
+                return;
+            }
+
+            // A page in progress continues the prefetch when it completes.
+            if (!existing.future.isDone() || existing.future.isCompletedExceptionally()) {
+                return;
+            }
+            PagedResponse<T> page = existing.future.getNow(null);
+            nextLink = page == null ? null : page.getNextLink();
+            pagingOptions = page == null ? null : getNextPagingOptions(existing.pagingOptions, page);
+        }
+    }
+
+    private void request(String nextLink, Prefetch<T> prefetch) {
+        SharedExecutorService.getInstance().execute(() -> {
+            // skip the request, if the prefetch is cancelled before it starts
+            if (prefetch.future.isDone()) {
+                return;
+            }
+            try {
+                prefetch.future.complete(nextPageRetriever.apply(prefetch.pagingOptions, nextLink));
+            } catch (Throwable e) {
+                prefetch.future.completeExceptionally(e);
+            }
+        });
+        prefetch.future.thenAccept(page -> {
+            // once the page is taken by an iteration, the iteration continues the prefetch
+            if (prefetches.get(nextLink) == prefetch) {
+                prefetchNext(page, prefetch.pagingOptions);
+            }
+        });
+    }
+
+    private PagedResponse<T> await(CompletableFuture<PagedResponse<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            cancelPrefetches();
+            throw LOGGER.throwableAtError()
+                .log("Interrupted while waiting for page.", e,
+                    (message, cause) -> (CancellationException) new CancellationException(message).initCause(cause));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw LOGGER.throwableAtError().log(cause, CoreException::from);
+        }
+    }
+
+    private void cancelPrefetches() {
+        for (Map.Entry<String, Prefetch<T>> entry : prefetches.entrySet()) {
+            // only cancel the prefetch not yet taken by an iteration
+            if (prefetches.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().future.cancel(false);
+            }
+        }
+    }
+
+    private static boolean isSamePagingOptions(PagingOptions left, PagingOptions right) {
+        return Objects.equals(left.getOffset(), right.getOffset())
+            && Objects.equals(left.getPageSize(), right.getPageSize())
+            && Objects.equals(left.getPageIndex(), right.getPageIndex())
+            && Objects.equals(left.getContinuationToken(), right.getContinuationToken());
+    }
+
+    private static PagingOptions getNextPagingOptions(PagingOptions pagingOptions, PagedResponse<?> page) {
+        // the same PagingOptions as PagedIterable passes for the page at the next link of the page
+        return new PagingOptions().setPageSize(pagingOptions.getPageSize())
+            .setContinuationToken(page.getContinuationToken());
+    }
+
+    private static final class Prefetch<T> {
+        private final PagingOptions pagingOptions;
+        private final CompletableFuture<PagedResponse<T>> future = new CompletableFuture<>();
+
+        private Prefetch(PagingOptions pagingOptions) {
+            this.pagingOptions = pagingOptions;
+        }
+    }
+}
@@ -166,7 +166,7 @@ public final class ServerDrivenPaginationsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<Pet> link(RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.createPagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -192,7 +192,7 @@ public final class ServerDrivenPaginationsImpl {
                     .log("Not a supported paging option in this API", IllegalArgumentException::new);
             }
             return linkSinglePage(requestContext);
-        }, (pagingOptions, nextLink) -> linkNextSinglePage(nextLink, requestContextForNextPage));
+        }, (pagingOptions, nextLink) -> linkNextSinglePage(nextLink, requestContextForNextPage), 2);
     }
 
     /**
@@ -249,7 +249,7 @@ public final class ServerDrivenPaginationsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<Pet> linkString(RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.createPagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -275,7 +275,7 @@ public final class ServerDrivenPaginationsImpl {
                     .log("Not a supported paging option in this API", IllegalArgumentException::new);
             }
             return linkStringSinglePage(requestContext);
-        }, (pagingOptions, nextLink) -> linkStringNextSinglePage(nextLink, requestContextForNextPage));
+        }, (pagingOptions, nextLink) -> linkStringNextSinglePage(nextLink, requestContextForNextPage), 2);
     }
 
     /**
@@ -338,7 +338,7 @@ public final class ServerDrivenPaginationsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<Pet> nestedLink(RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.createPagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -364,7 +364,7 @@ public final class ServerDrivenPaginationsImpl {
                     .log("Not a supported paging option in this API", IllegalArgumentException::new);
             }
             return nestedLinkSinglePage(requestContext);
-        }, (pagingOptions, nextLink) -> nestedLinkNextSinglePage(nextLink, requestContextForNextPage));
+        }, (pagingOptions, nextLink) -> nestedLinkNextSinglePage(nextLink, requestContextForNextPage), 2);
     }
 
     /**
@@ -263,7 +263,7 @@ public final class XmlPaginationsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<XmlPet> listWithNextLink(RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.createPagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -289,7 +289,7 @@ public final class XmlPaginationsImpl {
                     .log("Not a supported paging option in this API", IllegalArgumentException::new);
             }
             return listWithNextLinkSinglePage(requestContext);
-        }, (pagingOptions, nextLink) -> listWithNextLinkNextSinglePage(nextLink, requestContextForNextPage));
+        }, (pagingOptions, nextLink) -> listWithNextLinkNextSinglePage(nextLink, requestContextForNextPage), 2);
     }
 
     /**
@@ -0,0 +1,79 @@
+package streaming.jsonl;
+
+import io.clientcore.core.annotations.Metadata;
+import io.clientcore.core.annotations.MetadataProperties;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonSerializable;
+import io.clientcore.core.serialization.json.JsonToken;
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.IOException;
+
+/**
+ * The Info model.
+ */
+@Metadata(properties = { MetadataProperties.IMMUTABLE })
+public final class Info implements JsonSerializable<Info> {
+    /*
+     * The desc property.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private final String desc;
+
+    /**
+     * Creates an instance of Info class.
+     * 
+     * @param desc the desc value to set.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    public Info(String desc) {
+        this.desc = desc;
+    }
+
+    /**
+     * Get the desc property: The desc property.
+     * 
+     * @return the desc value.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    public String getDesc() {
+        return this.desc;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        jsonWriter.writeStartObject();
+        jsonWriter.writeStringField("desc", this.desc);
+        return jsonWriter.writeEndObject();
+    }
+
+    /**
+     * Reads an instance of Info from the JsonReader.
+     * 
+     * @param jsonReader The JsonReader being read.
+     * @return An instance of Info if the JsonReader was pointing to an instance of it, or null if it was pointing to
+     * JSON null.
+     * @throws IllegalStateException If the deserialized JSON object was missing any required properties.
+     * @throws IOException If an error occurs while reading the Info.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    public static Info fromJson(JsonReader jsonReader) throws IOException {
+        return jsonReader.readObject(reader -> {
+            String desc = null;
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                reader.nextToken();
+
+                if ("desc".equals(fieldName)) {
+                    desc = reader.getString();
+                } else {
+                    reader.skipChildren();
+                }
+            }
+            return new Info(desc);
+        });
+    }
+}
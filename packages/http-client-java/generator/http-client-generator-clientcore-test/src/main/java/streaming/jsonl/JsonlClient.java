@@ -10,7 +10,9 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
+import java.util.stream.Stream;
 import streaming.jsonl.implementation.BasicsImpl;
+import streaming.jsonl.implementation.JsonLinesHelper;
 
 /**
  * Initializes a new instance of the synchronous JsonlClient type.
@@ -95,4 +97,20 @@ public final class JsonlClient {
     public BinaryData receive() {
         return receiveWithResponse(RequestContext.none()).getValue();
     }
+
+    /**
+     * The receive operation.
+     * <p>
+     * The elements are parsed from the response body one line at a time, as the Stream is consumed. The Stream should
+     * be closed, e.g. in a try-with-resources statement, to release the response body if it is not consumed to its end.
+     * 
+     * @throws HttpResponseException thrown if the service returns an error.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the elements of the response body.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public Stream<Info> receiveElements() {
+        return JsonLinesHelper.readElements(receive(), Info::fromJson);
+    }
 }
@@ -0,0 +1,217 @@
+package streaming.jsonl.implementation;
+
+import io.clientcore.core.models.binarydata.BinaryData;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonWriter;
+import io.clientcore.core.utils.IOExceptionCheckedBiConsumer;
+import io.clientcore.core.utils.IOExceptionCheckedFunction;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// DO NOT modify this helper class
+
+/**
+ * Reads and writes JSON Lines bodies, where each line is a JSON value, one element at a time.
+ */
+public final class JsonLinesHelper {
+
+    private JsonLinesHelper() {
+    }
+
+    /**
+     * Reads the elements of a JSON Lines body.
+     * <p>
+     * The body is read lazily, a line is read and parsed when the next element is requested. Blank lines are skipped.
+     * The body is closed when the end is reached, on an error, or when the Stream is closed. Hence the Stream should be
+     * closed, e.g. in a try-with-resources statement, if it may not be consumed to its end.
+     *
+     * @param body the JSON Lines body.
+     * @param elementReader the function to read an element from a JsonReader positioned at its first token.
+     * @param <T> the type of the elements.
+     * @return the elements.
+     */
+    public static <T> Stream<T> readElements(BinaryData body, IOExceptionCheckedFunction<JsonReader, T> elementReader) {
+        Objects.requireNonNull(elementReader, "'elementReader' cannot be null.");
+        if (body == null) {
+            return Stream.empty();
+        }
+
+        JsonLinesIterator<T> iterator = new JsonLinesIterator<>(
+            new BufferedReader(new InputStreamReader(body.toStream(), StandardCharsets.UTF_8)), elementReader);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(iterator::closeUnchecked);
+    }
+
+    /**
+     * Creates a JSON Lines body of the elements.
+     * <p>
+     * The elements are serialized lazily, an element is taken from the iterator and written when the body is read up
+     * to it. Hence the body can be read only once, and its length is unknown.
+     *
+     * @param elements the elements.
+     * @param elementWriter the function to write an element to a JsonWriter.
+     * @param <T> the type of the elements.
+     * @return the JSON Lines body.
+     */
+    public static <T> BinaryData writeElements(Iterator<T> elements,
+        IOExceptionCheckedBiConsumer<JsonWriter, T> elementWriter) {
+        Objects.requireNonNull(elements, "'elements' cannot be null.");
+        Objects.requireNonNull(elementWriter, "'elementWriter' cannot be null.");
+        return BinaryData.fromStream(new JsonLinesInputStream<>(elements, elementWriter));
+    }
+
+    private static final class JsonLinesIterator<T> implements Iterator<T> {
+        private final BufferedReader reader;
+        private final IOExceptionCheckedFunction<JsonReader, T> elementReader;
+        // the next non-blank line, or null if it is not read yet, or the body is closed
+        private String nextLine;
+        private boolean closed;
+
+        private JsonLinesIterator(BufferedReader reader, IOExceptionCheckedFunction<JsonReader, T> elementReader) {
+            this.reader = reader;
+            this.elementReader = elementReader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextLine != null) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        nextLine = line;
+                        return true;
+                    }
+                }
+                close();
+                return false;
+            } catch (IOException e) {
+                closeOnError(e);
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = nextLine;
+            nextLine = null;
+            try (JsonReader jsonReader = JsonReader.fromString(line)) {
+                jsonReader.nextToken();
+                return elementReader.apply(jsonReader);
+            } catch (IOException e) {
+                closeOnError(e);
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void close() throws IOException {
+            closed = true;
+            reader.close();
+        }
+
+        private void closeUnchecked() {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void closeOnError(IOException error) {
+            try {
+                close();
+            } catch (IOException e) {
+                error.addSuppressed(e);
+            }
+        }
+    }
+
+    private static final class JsonLinesInputStream<T> extends InputStream {
+        private final Iterator<T> elements;
+        private final IOExceptionCheckedBiConsumer<JsonWriter, T> elementWriter;
+        // the serialized line of the current element, reused for all elements
+        private final LineBuffer line = new LineBuffer();
+        private int position;
+
+        private JsonLinesInputStream(Iterator<T> elements, IOExceptionCheckedBiConsumer<JsonWriter, T> elementWriter) {
+            this.elements = elements;
+            this.elementWriter = elementWriter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return line.buffer()[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            } else if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(len, line.size() - position);
+            System.arraycopy(line.buffer(), position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return line.size() - position;
+        }
+
+        // serializes the next element, if the current line is read, returns false if there is no more element
+        private boolean fill() throws IOException {
+            while (position == line.size()) {
+                if (!elements.hasNext()) {
+                    return false;
+                }
+                line.reset();
+                position = 0;
+                line.writeElement(elements.next(), elementWriter);
+            }
+            return true;
+        }
+    }
+
+    private static final class LineBuffer extends ByteArrayOutputStream {
+        private byte[] buffer() {
+            return buf;
+        }
+
+        private <T> void writeElement(T element, IOExceptionCheckedBiConsumer<JsonWriter, T> elementWriter)
+            throws IOException {
+            try (JsonWriter jsonWriter = JsonWriter.toStream(this)) {
+                elementWriter.accept(jsonWriter, element);
+            }
+            write('\n');
+        }
+    }
+}
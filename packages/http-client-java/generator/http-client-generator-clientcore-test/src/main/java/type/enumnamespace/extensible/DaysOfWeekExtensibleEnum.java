@@ -9,62 +9,63 @@ import io.clientcore.core.serialization.json.JsonWriter;
 import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Days of the week.
  */
 public final class DaysOfWeekExtensibleEnum
     implements ExpandableEnum<String>, JsonSerializable<DaysOfWeekExtensibleEnum> {
-    private static final Map<String, DaysOfWeekExtensibleEnum> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<String, DaysOfWeekExtensibleEnum> NEW_INSTANCE = DaysOfWeekExtensibleEnum::new;
+    private static final Map<String, DaysOfWeekExtensibleEnum> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Monday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum MONDAY = fromValue("Monday");
+    public static final DaysOfWeekExtensibleEnum MONDAY = new DaysOfWeekExtensibleEnum("Monday");
 
     /**
      * Tuesday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum TUESDAY = fromValue("Tuesday");
+    public static final DaysOfWeekExtensibleEnum TUESDAY = new DaysOfWeekExtensibleEnum("Tuesday");
 
     /**
      * Wednesday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum WEDNESDAY = fromValue("Wednesday");
+    public static final DaysOfWeekExtensibleEnum WEDNESDAY = new DaysOfWeekExtensibleEnum("Wednesday");
 
     /**
      * Thursday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum THURSDAY = fromValue("Thursday");
+    public static final DaysOfWeekExtensibleEnum THURSDAY = new DaysOfWeekExtensibleEnum("Thursday");
 
     /**
      * Friday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum FRIDAY = fromValue("Friday");
+    public static final DaysOfWeekExtensibleEnum FRIDAY = new DaysOfWeekExtensibleEnum("Friday");
 
     /**
      * Saturday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum SATURDAY = fromValue("Saturday");
+    public static final DaysOfWeekExtensibleEnum SATURDAY = new DaysOfWeekExtensibleEnum("Saturday");
 
     /**
      * Sunday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum SUNDAY = fromValue("Sunday");
+    public static final DaysOfWeekExtensibleEnum SUNDAY = new DaysOfWeekExtensibleEnum("Sunday");
 
     private final String value;
 
@@ -84,7 +85,38 @@ public final class DaysOfWeekExtensibleEnum
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        switch (value) {
+            case "Monday":
+                return MONDAY;
+            case "Tuesday":
+                return TUESDAY;
+            case "Wednesday":
+                return WEDNESDAY;
+            case "Thursday":
+                return THURSDAY;
+            case "Friday":
+                return FRIDAY;
+            case "Saturday":
+                return SATURDAY;
+            case "Sunday":
+                return SUNDAY;
+            default:
+                return fromUnknownValue(value);
+        }
+    }
+
+    private static DaysOfWeekExtensibleEnum fromUnknownValue(String value) {
+        DaysOfWeekExtensibleEnum unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new DaysOfWeekExtensibleEnum(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        DaysOfWeekExtensibleEnum existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -94,7 +126,10 @@ public final class DaysOfWeekExtensibleEnum
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Collection<DaysOfWeekExtensibleEnum> values() {
-        return new ArrayList<>(VALUES.values());
+        List<DaysOfWeekExtensibleEnum> values
+            = new ArrayList<>(Arrays.asList(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY, SUNDAY));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -148,7 +183,9 @@ public final class DaysOfWeekExtensibleEnum
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof DaysOfWeekExtensibleEnum
+                && Objects.equals(this.value, ((DaysOfWeekExtensibleEnum) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
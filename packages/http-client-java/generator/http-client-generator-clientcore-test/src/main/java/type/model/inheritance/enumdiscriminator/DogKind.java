@@ -9,25 +9,26 @@ import io.clientcore.core.serialization.json.JsonWriter;
 import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * extensible enum type for discriminator.
  */
 public final class DogKind implements ExpandableEnum<String>, JsonSerializable<DogKind> {
-    private static final Map<String, DogKind> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<String, DogKind> NEW_INSTANCE = DogKind::new;
+    private static final Map<String, DogKind> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Species golden.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DogKind GOLDEN = fromValue("golden");
+    public static final DogKind GOLDEN = new DogKind("golden");
 
     private final String value;
 
@@ -47,7 +48,26 @@ public final class DogKind implements ExpandableEnum<String>, JsonSerializable<D
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        switch (value) {
+            case "golden":
+                return GOLDEN;
+            default:
+                return fromUnknownValue(value);
+        }
+    }
+
+    private static DogKind fromUnknownValue(String value) {
+        DogKind unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new DogKind(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        DogKind existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -57,7 +77,9 @@ public final class DogKind implements ExpandableEnum<String>, JsonSerializable<D
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Collection<DogKind> values() {
-        return new ArrayList<>(VALUES.values());
+        List<DogKind> values = new ArrayList<>(Arrays.asList(GOLDEN));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -111,7 +133,7 @@ public final class DogKind implements ExpandableEnum<String>, JsonSerializable<D
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof DogKind && Objects.equals(this.value, ((DogKind) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
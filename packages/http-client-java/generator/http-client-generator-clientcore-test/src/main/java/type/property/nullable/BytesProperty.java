@@ -7,8 +7,6 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import type.property.nullable.implementation.JsonMergePatchHelper;
 
 /**
@@ -28,11 +26,17 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private byte[] nullableProperty;
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_REQUIRED_PROPERTY = 1L << 0;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_NULLABLE_PROPERTY = 1L << 1;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -84,7 +88,7 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public BytesProperty setRequiredProperty(String requiredProperty) {
         this.requiredProperty = requiredProperty;
-        this.updatedProperties.add("requiredProperty");
+        this.updatedProperties |= UPDATED_REQUIRED_PROPERTY;
         return this;
     }
 
@@ -108,7 +112,7 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public BytesProperty setNullableProperty(byte[] nullableProperty) {
         this.nullableProperty = nullableProperty;
-        this.updatedProperties.add("nullableProperty");
+        this.updatedProperties |= UPDATED_NULLABLE_PROPERTY;
         return this;
     }
 
@@ -131,14 +135,14 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("requiredProperty")) {
+        if ((updatedProperties & UPDATED_REQUIRED_PROPERTY) != 0) {
             if (this.requiredProperty == null) {
                 jsonWriter.writeNullField("requiredProperty");
             } else {
                 jsonWriter.writeStringField("requiredProperty", this.requiredProperty);
             }
         }
-        if (updatedProperties.contains("nullableProperty")) {
+        if ((updatedProperties & UPDATED_NULLABLE_PROPERTY) != 0) {
             if (this.nullableProperty == null) {
                 jsonWriter.writeNullField("nullableProperty");
             } else {
@@ -7,9 +7,7 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import type.property.nullable.implementation.JsonMergePatchHelper;
 
 /**
@@ -29,11 +27,17 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     @Metadata(properties = { MetadataProperties.GENERATED })
     private List<byte[]> nullableProperty;
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_REQUIRED_PROPERTY = 1L << 0;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_NULLABLE_PROPERTY = 1L << 1;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -87,7 +91,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     @Metadata(properties = { MetadataProperties.GENERATED })
     public CollectionsByteProperty setRequiredProperty(String requiredProperty) {
         this.requiredProperty = requiredProperty;
-        this.updatedProperties.add("requiredProperty");
+        this.updatedProperties |= UPDATED_REQUIRED_PROPERTY;
         return this;
     }
 
@@ -111,7 +115,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     @Metadata(properties = { MetadataProperties.GENERATED })
     public CollectionsByteProperty setNullableProperty(List<byte[]> nullableProperty) {
         this.nullableProperty = nullableProperty;
-        this.updatedProperties.add("nullableProperty");
+        this.updatedProperties |= UPDATED_NULLABLE_PROPERTY;
         return this;
     }
 
@@ -135,14 +139,14 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("requiredProperty")) {
+        if ((updatedProperties & UPDATED_REQUIRED_PROPERTY) != 0) {
             if (this.requiredProperty == null) {
                 jsonWriter.writeNullField("requiredProperty");
             } else {
                 jsonWriter.writeStringField("requiredProperty", this.requiredProperty);
             }
         }
-        if (updatedProperties.contains("nullableProperty")) {
+        if ((updatedProperties & UPDATED_NULLABLE_PROPERTY) != 0) {
             if (this.nullableProperty == null) {
                 jsonWriter.writeNullField("nullableProperty");
             } else {
@@ -7,8 +7,6 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import type.property.nullable.implementation.JsonMergePatchHelper;
 
 /**
@@ -22,11 +20,14 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private String property;
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_PROPERTY = 1L << 0;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -78,7 +79,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public InnerModel setProperty(String property) {
         this.property = property;
-        this.updatedProperties.add("property");
+        this.updatedProperties |= UPDATED_PROPERTY;
         return this;
     }
 
@@ -100,7 +101,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("property")) {
+        if ((updatedProperties & UPDATED_PROPERTY) != 0) {
             if (this.property == null) {
                 jsonWriter.writeNullField("property");
             } else {
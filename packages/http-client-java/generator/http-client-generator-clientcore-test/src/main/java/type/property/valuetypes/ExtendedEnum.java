@@ -9,25 +9,26 @@ import io.clientcore.core.serialization.json.JsonWriter;
 import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for ExtendedEnum.
  */
 public final class ExtendedEnum implements ExpandableEnum<String>, JsonSerializable<ExtendedEnum> {
-    private static final Map<String, ExtendedEnum> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<String, ExtendedEnum> NEW_INSTANCE = ExtendedEnum::new;
+    private static final Map<String, ExtendedEnum> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Static value value2 for ExtendedEnum.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtendedEnum ENUM_VALUE2 = fromValue("value2");
+    public static final ExtendedEnum ENUM_VALUE2 = new ExtendedEnum("value2");
 
     private final String value;
 
@@ -47,7 +48,26 @@ public final class ExtendedEnum implements ExpandableEnum<String>, JsonSerializa
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        switch (value) {
+            case "value2":
+                return ENUM_VALUE2;
+            default:
+                return fromUnknownValue(value);
+        }
+    }
+
+    private static ExtendedEnum fromUnknownValue(String value) {
+        ExtendedEnum unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new ExtendedEnum(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        ExtendedEnum existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -57,7 +77,9 @@ public final class ExtendedEnum implements ExpandableEnum<String>, JsonSerializa
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Collection<ExtendedEnum> values() {
-        return new ArrayList<>(VALUES.values());
+        List<ExtendedEnum> values = new ArrayList<>(Arrays.asList(ENUM_VALUE2));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -111,7 +133,7 @@ public final class ExtendedEnum implements ExpandableEnum<String>, JsonSerializa
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof ExtendedEnum && Objects.equals(this.value, ((ExtendedEnum) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
@@ -9,31 +9,32 @@ import io.clientcore.core.serialization.json.JsonWriter;
 import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Enum that will be used as a property for model EnumProperty. Extensible.
  */
 public final class InnerEnum implements ExpandableEnum<String>, JsonSerializable<InnerEnum> {
-    private static final Map<String, InnerEnum> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<String, InnerEnum> NEW_INSTANCE = InnerEnum::new;
+    private static final Map<String, InnerEnum> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * First value.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final InnerEnum VALUE_ONE = fromValue("ValueOne");
+    public static final InnerEnum VALUE_ONE = new InnerEnum("ValueOne");
 
     /**
      * Second value.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final InnerEnum VALUE_TWO = fromValue("ValueTwo");
+    public static final InnerEnum VALUE_TWO = new InnerEnum("ValueTwo");
 
     private final String value;
 
@@ -53,7 +54,28 @@ public final class InnerEnum implements ExpandableEnum<String>, JsonSerializable
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        switch (value) {
+            case "ValueOne":
+                return VALUE_ONE;
+            case "ValueTwo":
+                return VALUE_TWO;
+            default:
+                return fromUnknownValue(value);
+        }
+    }
+
+    private static InnerEnum fromUnknownValue(String value) {
+        InnerEnum unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new InnerEnum(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        InnerEnum existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -63,7 +85,9 @@ public final class InnerEnum implements ExpandableEnum<String>, JsonSerializable
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Collection<InnerEnum> values() {
-        return new ArrayList<>(VALUES.values());
+        List<InnerEnum> values = new ArrayList<>(Arrays.asList(VALUE_ONE, VALUE_TWO));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -117,7 +141,7 @@ public final class InnerEnum implements ExpandableEnum<String>, JsonSerializable
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof InnerEnum && Objects.equals(this.value, ((InnerEnum) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
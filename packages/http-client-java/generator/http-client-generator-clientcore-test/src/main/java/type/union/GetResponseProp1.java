@@ -9,31 +9,32 @@ import io.clientcore.core.serialization.json.JsonWriter;
 import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for GetResponseProp1.
  */
 public final class GetResponseProp1 implements ExpandableEnum<String>, JsonSerializable<GetResponseProp1> {
-    private static final Map<String, GetResponseProp1> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<String, GetResponseProp1> NEW_INSTANCE = GetResponseProp1::new;
+    private static final Map<String, GetResponseProp1> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Static value b for GetResponseProp1.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final GetResponseProp1 B = fromValue("b");
+    public static final GetResponseProp1 B = new GetResponseProp1("b");
 
     /**
      * Static value c for GetResponseProp1.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final GetResponseProp1 C = fromValue("c");
+    public static final GetResponseProp1 C = new GetResponseProp1("c");
 
     private final String value;
 
@@ -53,7 +54,28 @@ public final class GetResponseProp1 implements ExpandableEnum<String>, JsonSeria
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        switch (value) {
+            case "b":
+                return B;
+            case "c":
+                return C;
+            default:
+                return fromUnknownValue(value);
+        }
+    }
+
+    private static GetResponseProp1 fromUnknownValue(String value) {
+        GetResponseProp1 unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new GetResponseProp1(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        GetResponseProp1 existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -63,7 +85,9 @@ public final class GetResponseProp1 implements ExpandableEnum<String>, JsonSeria
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Collection<GetResponseProp1> values() {
-        return new ArrayList<>(VALUES.values());
+        List<GetResponseProp1> values = new ArrayList<>(Arrays.asList(B, C));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -117,7 +141,8 @@ public final class GetResponseProp1 implements ExpandableEnum<String>, JsonSeria
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof GetResponseProp1 && Objects.equals(this.value, ((GetResponseProp1) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
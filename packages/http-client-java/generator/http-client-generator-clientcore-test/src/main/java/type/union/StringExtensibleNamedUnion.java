@@ -9,32 +9,33 @@ import io.clientcore.core.serialization.json.JsonWriter;
 import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for StringExtensibleNamedUnion.
  */
 public final class StringExtensibleNamedUnion
     implements ExpandableEnum<String>, JsonSerializable<StringExtensibleNamedUnion> {
-    private static final Map<String, StringExtensibleNamedUnion> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<String, StringExtensibleNamedUnion> NEW_INSTANCE = StringExtensibleNamedUnion::new;
+    private static final Map<String, StringExtensibleNamedUnion> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Static value b for StringExtensibleNamedUnion.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final StringExtensibleNamedUnion OPTIONB = fromValue("b");
+    public static final StringExtensibleNamedUnion OPTIONB = new StringExtensibleNamedUnion("b");
 
     /**
      * Static value c for StringExtensibleNamedUnion.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final StringExtensibleNamedUnion C = fromValue("c");
+    public static final StringExtensibleNamedUnion C = new StringExtensibleNamedUnion("c");
 
     private final String value;
 
@@ -54,7 +55,28 @@ public final class StringExtensibleNamedUnion
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        switch (value) {
+            case "b":
+                return OPTIONB;
+            case "c":
+                return C;
+            default:
+                return fromUnknownValue(value);
+        }
+    }
+
+    private static StringExtensibleNamedUnion fromUnknownValue(String value) {
+        StringExtensibleNamedUnion unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new StringExtensibleNamedUnion(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        StringExtensibleNamedUnion existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -64,7 +86,9 @@ public final class StringExtensibleNamedUnion
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Collection<StringExtensibleNamedUnion> values() {
-        return new ArrayList<>(VALUES.values());
+        List<StringExtensibleNamedUnion> values = new ArrayList<>(Arrays.asList(OPTIONB, C));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -118,7 +142,9 @@ public final class StringExtensibleNamedUnion
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof StringExtensibleNamedUnion
+                && Objects.equals(this.value, ((StringExtensibleNamedUnion) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
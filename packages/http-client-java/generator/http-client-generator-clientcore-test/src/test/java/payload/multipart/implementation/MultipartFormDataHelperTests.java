@@ -0,0 +1,107 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package payload.multipart.implementation;
+
+import io.clientcore.core.http.models.RequestContext;
+import io.clientcore.core.models.binarydata.BinaryData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MultipartFormDataHelperTests {
+
+    @Test
+    public void testRequestBody() {
+        BinaryData body = createRequestBody(BinaryData.fromString("file content"));
+        byte[] bytes = body.toBytes();
+
+        String content = new String(bytes, StandardCharsets.UTF_8);
+        Assertions.assertTrue(content.contains("Content-Disposition: form-data; name=\"name\"\r\n\r\nvalue\r\n"));
+        Assertions.assertTrue(content.contains(
+            "Content-Disposition: form-data; name=\"file\"; filename=\"file.txt\"\r\n"
+                + "Content-Type: text/plain\r\n\r\nfile content\r\n"));
+        Assertions.assertTrue(content.endsWith("--"));
+        // the length is known without buffering the body
+        Assertions.assertEquals(bytes.length, body.getLength());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        Assertions.assertArrayEquals(bytes, outputStream.toByteArray());
+
+        outputStream.reset();
+        body.writeTo(Channels.newChannel(outputStream));
+        Assertions.assertArrayEquals(bytes, outputStream.toByteArray());
+    }
+
+    @Test
+    public void testReplayableRequestBody() throws IOException {
+        BinaryData body = createRequestBody(BinaryData.fromString("file content"));
+        byte[] bytes = body.toBytes();
+        Assertions.assertTrue(body.isReplayable());
+
+        InputStream inputStream = body.toStream();
+        Assertions.assertTrue(inputStream.markSupported());
+        // mark in the middle of the file
+        int markPosition = new String(bytes, StandardCharsets.UTF_8).indexOf("content");
+        for (int i = 0; i < markPosition; i++) {
+            Assertions.assertEquals(bytes[i], (byte) inputStream.read());
+        }
+        inputStream.mark(Integer.MAX_VALUE);
+        byte[] expected = Arrays.copyOfRange(bytes, markPosition, bytes.length);
+        Assertions.assertArrayEquals(expected, readAll(inputStream));
+
+        inputStream.reset();
+        Assertions.assertArrayEquals(expected, readAll(inputStream));
+    }
+
+    @Test
+    public void testNonReplayableFile() {
+        byte[] fileContent = "file content".getBytes(StandardCharsets.UTF_8);
+        BinaryData file = BinaryData.fromStream(new NonMarkableInputStream(fileContent), (long) fileContent.length);
+        BinaryData body = createRequestBody(file);
+        Assertions.assertFalse(body.isReplayable());
+        Assertions.assertFalse(body.toStream().markSupported());
+
+        BinaryData replayableBody = body.toReplayableBinaryData();
+        Assertions.assertTrue(replayableBody.isReplayable());
+        Assertions.assertEquals(body.getLength(), replayableBody.getLength());
+        Assertions.assertArrayEquals(replayableBody.toBytes(), replayableBody.toBytes());
+    }
+
+    private static BinaryData createRequestBody(BinaryData file) {
+        return new MultipartFormDataHelper(RequestContext.none()).serializeTextField("name", "value")
+            .serializeJsonField("json", Collections.singletonMap("key", "value"))
+            .serializeFileField("file", file, "text/plain", "file.txt")
+            .end()
+            .getRequestBody();
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[5];
+        int count;
+        while ((count = inputStream.read(buffer, 0, buffer.length)) != -1) {
+            outputStream.write(buffer, 0, count);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static final class NonMarkableInputStream extends ByteArrayInputStream {
+        private NonMarkableInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package payload.pageable;
+
+import io.clientcore.core.http.client.HttpClient;
+import io.clientcore.core.http.models.HttpHeaderName;
+import io.clientcore.core.http.models.HttpHeaders;
+import io.clientcore.core.http.models.HttpRequest;
+import io.clientcore.core.http.models.RequestContext;
+import io.clientcore.core.http.models.Response;
+import io.clientcore.core.http.paging.PagedIterable;
+import io.clientcore.core.http.paging.PagedResponse;
+import io.clientcore.core.models.binarydata.BinaryData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the page prefetch of the next link paging methods, generated with "page-prefetch-depth=2", against an
+ * in-process mock server.
+ * <p>
+ * The mock server records, for each request, the number of pages the iteration has processed, so that the tests can
+ * check which page was being processed when a page was requested.
+ */
+public class PagePrefetchTests {
+    private static final String FIRST_PAGE_PATH = "/payload/pageable/server-driven-pagination/link";
+
+    private final MockServer server = new MockServer(4);
+    private final ServerDrivenPaginationClient client
+        = new PageableClientBuilder().httpClient(server).buildServerDrivenPaginationClient();
+
+    @Test
+    public void testPrefetchOverlapsProcessing() throws InterruptedException {
+        List<String> ids = new ArrayList<>();
+        for (PagedResponse<Pet> page : client.link().iterableByPage()) {
+            if (ids.isEmpty()) {
+                // the next pages are requested while the first page is being processed
+                Assertions.assertTrue(server.getRequestLatch("/page/2").await(5, TimeUnit.SECONDS));
+                Assertions.assertTrue(server.getRequestLatch("/page/3").await(5, TimeUnit.SECONDS));
+            }
+            page.getValue().forEach(pet -> ids.add(pet.getId()));
+            server.processedPages.incrementAndGet();
+        }
+
+        Assertions.assertEquals(List.of("1", "2", "3", "4"), ids);
+        Assertions.assertEquals(4, server.requests.size());
+        Assertions.assertEquals(0, server.getProcessedPagesAtRequest("/page/2"));
+        Assertions.assertEquals(0, server.getProcessedPagesAtRequest("/page/3"));
+    }
+
+    @Test
+    public void testPrefetchDepth() throws InterruptedException {
+        boolean firstPage = true;
+        for (PagedResponse<Pet> page : client.link().iterableByPage()) {
+            if (firstPage) {
+                Assertions.assertTrue(server.getRequestLatch("/page/3").await(5, TimeUnit.SECONDS));
+                firstPage = false;
+            }
+            server.processedPages.incrementAndGet();
+        }
+
+        // depth 2, the 4th page is not requested before the processing of the 1st page is done
+        Assertions.assertTrue(server.getProcessedPagesAtRequest("/page/4") >= 1);
+    }
+
+    @Test
+    public void testPrefetchUsesRequestContext() {
+        RequestContext requestContext
+            = RequestContext.builder().setHeader(HttpHeaderName.fromString("x-ms-test"), "prefetch").build();
+
+        Assertions.assertEquals(4, client.link(requestContext).stream().count());
+        Assertions.assertEquals(4, server.testValues.size());
+        server.testValues.forEach(value -> Assertions.assertEquals("prefetch", value));
+    }
+
+    @Test
+    public void testNewIterationStartsFromFirstPage() throws InterruptedException {
+        PagedIterable<Pet> pagedIterable = client.link();
+        // stop the first iteration after the first page, while the next pages are prefetched
+        pagedIterable.iterableByPage().iterator().next();
+        Assertions.assertTrue(server.getRequestLatch("/page/2").await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(List.of("1", "2", "3", "4"),
+            pagedIterable.stream().map(Pet::getId).collect(Collectors.toList()));
+    }
+
+    private static final class MockServer implements HttpClient {
+        private final int pageCount;
+        private final AtomicInteger processedPages = new AtomicInteger();
+        private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+        private final Map<String, Integer> processedPagesAtRequest = new ConcurrentHashMap<>();
+        private final Queue<String> testValues = new ConcurrentLinkedQueue<>();
+        private final Map<String, CountDownLatch> requestLatches = new ConcurrentHashMap<>();
+
+        private MockServer(int pageCount) {
+            this.pageCount = pageCount;
+        }
+
+        private CountDownLatch getRequestLatch(String path) {
+            return requestLatches.computeIfAbsent(path, key -> new CountDownLatch(1));
+        }
+
+        private int getProcessedPagesAtRequest(String path) {
+            Integer processedPages = processedPagesAtRequest.get(path);
+            Assertions.assertNotNull(processedPages, "Expected a request to " + path);
+            return processedPages;
+        }
+
+        @Override
+        public Response<BinaryData> send(HttpRequest request) {
+            String path = request.getUri().getPath();
+            requests.add(path);
+            processedPagesAtRequest.putIfAbsent(path, processedPages.get());
+            String testValue = request.getHeaders().getValue(HttpHeaderName.fromString("x-ms-test"));
+            if (testValue != null) {
+                testValues.add(testValue);
+            }
+            getRequestLatch(path).countDown();
+
+            int pageNumber = FIRST_PAGE_PATH.equals(path) ? 1 : Integer.parseInt(path.substring("/page/".length()));
+            String next
+                = pageNumber < pageCount ? ",\"next\":\"http://localhost:3000/page/" + (pageNumber + 1) + "\"" : "";
+            String body = "{\"pets\":[{\"id\":\"" + pageNumber + "\",\"name\":\"pet" + pageNumber + "\"}]" + next + "}";
+            return new Response<>(request, 200, new HttpHeaders().set(HttpHeaderName.CONTENT_TYPE, "application/json"),
+                BinaryData.fromString(body));
+        }
+    }
+}
@@ -6,6 +6,7 @@ package streaming.jsonl;
 import io.clientcore.core.models.binarydata.BinaryData;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +24,12 @@ public final class JsonlTests {
         BinaryData data = client.receive();
         Assertions.assertEquals(3, data.toString().split("\n").length);
     }
+
+    @Test
+    public void testJsonlElements() {
+        try (Stream<Info> elements = client.receiveElements()) {
+            Assertions.assertEquals(List.of("one", "two", "three"),
+                elements.map(Info::getDesc).collect(Collectors.toList()));
+        }
+    }
 }
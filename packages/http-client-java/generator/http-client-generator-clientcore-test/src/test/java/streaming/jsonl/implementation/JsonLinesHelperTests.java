@@ -0,0 +1,147 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package streaming.jsonl.implementation;
+
+import io.clientcore.core.models.binarydata.BinaryData;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonWriter;
+import io.clientcore.core.utils.IOExceptionCheckedBiConsumer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import streaming.jsonl.Info;
+
+public class JsonLinesHelperTests {
+
+    private static final IOExceptionCheckedBiConsumer<JsonWriter, String> DESC_WRITER
+        = (jsonWriter, desc) -> jsonWriter.writeStartObject().writeStringField("desc", desc).writeEndObject();
+
+    @Test
+    public void testWriteElements() {
+        BinaryData body = JsonLinesHelper.writeElements(Arrays.asList("one", "two", "three").iterator(), DESC_WRITER);
+
+        Assertions.assertFalse(body.isReplayable());
+        Assertions.assertEquals("{\"desc\":\"one\"}\n{\"desc\":\"two\"}\n{\"desc\":\"three\"}\n", body.toString());
+    }
+
+    @Test
+    public void testWriteElementsLazily() throws IOException {
+        CountingIterator elements = new CountingIterator(Arrays.asList("one", "two", "three"));
+        InputStream inputStream = JsonLinesHelper.writeElements(elements, DESC_WRITER).toStream();
+
+        // an element is serialized when the body is read up to it
+        Assertions.assertEquals(0, elements.count);
+        Assertions.assertEquals('{', inputStream.read());
+        Assertions.assertEquals(1, elements.count);
+        // the rest of the first line, including the line separator
+        Assertions.assertEquals(14, inputStream.read(new byte[20], 0, 20));
+        Assertions.assertEquals(1, elements.count);
+        Assertions.assertEquals('{', inputStream.read());
+        Assertions.assertEquals(2, elements.count);
+    }
+
+    @Test
+    public void testReadElements() {
+        BinaryData body = BinaryData.fromString("{\"desc\":\"one\"}\n\n{\"desc\":\"two\"}\r\n\"three\"\n");
+
+        List<Object> values = toList(JsonLinesHelper.readElements(body, JsonReader::readUntyped));
+        Assertions.assertEquals(3, values.size());
+        Assertions.assertEquals("two", ((Map<?, ?>) values.get(1)).get("desc"));
+        Assertions.assertEquals("three", values.get(2));
+    }
+
+    @Test
+    public void testReadWriteRoundTrip() {
+        List<Info> infos = Arrays.asList(new Info("one"), new Info("two"), new Info("three"));
+        BinaryData body = JsonLinesHelper.writeElements(infos.iterator(), JsonWriter::writeJson);
+
+        Assertions.assertEquals(Arrays.asList("one", "two", "three"),
+            toList(JsonLinesHelper.readElements(body, Info::fromJson)).stream()
+                .map(Info::getDesc)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testReadElementsClosesBody() {
+        // the Stream is closed before its end, e.g. by try-with-resources, which closes the body
+        ClosingInputStream inputStream = new ClosingInputStream("\"one\"\n\"two\"\n\"three\"\n");
+        try (Stream<Object> elements
+            = JsonLinesHelper.readElements(BinaryData.fromStream(inputStream), JsonReader::readUntyped)) {
+            Assertions.assertEquals("one", elements.iterator().next());
+            Assertions.assertFalse(inputStream.closed);
+        }
+        Assertions.assertTrue(inputStream.closed);
+
+        // the body is closed at the end of the Stream
+        inputStream = new ClosingInputStream("\"one\"\n\"two\"\n");
+        Iterator<Object> iterator
+            = JsonLinesHelper.readElements(BinaryData.fromStream(inputStream), JsonReader::readUntyped).iterator();
+        Assertions.assertEquals("one", iterator.next());
+        Assertions.assertEquals("two", iterator.next());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertTrue(inputStream.closed);
+    }
+
+    @Test
+    public void testReadInvalidElement() {
+        ClosingInputStream inputStream = new ClosingInputStream("{\"desc\":\"one\"}\n{\"desc\":\n");
+
+        Iterator<Object> iterator
+            = JsonLinesHelper.readElements(BinaryData.fromStream(inputStream), JsonReader::readUntyped).iterator();
+        Assertions.assertNotNull(iterator.next());
+        Assertions.assertThrows(UncheckedIOException.class, iterator::next);
+        // the body is closed on the error
+        Assertions.assertTrue(inputStream.closed);
+        Assertions.assertFalse(iterator.hasNext());
+    }
+
+    private static <T> List<T> toList(Stream<T> elements) {
+        try (Stream<T> stream = elements) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    private static final class ClosingInputStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        private ClosingInputStream(String content) {
+            super(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final class CountingIterator implements Iterator<String> {
+        private final Iterator<String> iterator;
+        private int count;
+
+        private CountingIterator(List<String> values) {
+            this.iterator = values.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public String next() {
+            count++;
+            return iterator.next();
+        }
+    }
+}
@@ -6,6 +6,7 @@ package com.microsoft.typespec.http.client.generator.core;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ApiVersion;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
@@ -13,21 +14,14 @@ import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientBuilder;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientException;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodExample;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientResponse;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PackageInfo;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Pom;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProtocolExample;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceVersion;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TestContext;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.XmlSequenceWrapper;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
 import com.microsoft.typespec.http.client.generator.core.model.projectmodel.Project;
@@ -64,16 +58,22 @@ public class Javagen extends NewPlugin {
     }
 
     private boolean generateJava(JavaSettings settings) {
+        GenerationMetrics metrics = GenerationMetrics.getInstance();
         try {
 
             // Step 1: Parse input yaml as CodeModel
             CodeModel codeModel = new Preprocessor(this, connection, pluginName, sessionId).processCodeModel();
 
             // Step 2: Map
-            Client client = Mappers.getClientMapper().map(codeModel);
+            Client client = metrics.time(GenerationMetrics.MAP, () -> Mappers.getClientMapper().map(codeModel));
 
             // Step 3: Write to templates
-            JavaPackage javaPackage = writeToTemplates(codeModel, client, settings, true);
+            JavaPackage javaPackage;
+            try (GenerationMetrics.Phase phase = metrics.startPhase(GenerationMetrics.TEMPLATE)) {
+                javaPackage = writeToTemplates(codeModel, client, settings, true);
+                phase.setFileCount(javaPackage.getJavaFiles().size() + javaPackage.getXmlFiles().size()
+                    + javaPackage.getTextFiles().size());
+            }
 
             // Step 4: Print to files
             // Then for each formatted file write the file. This is done synchronously as there is potential race
@@ -82,18 +82,23 @@ public class Javagen extends NewPlugin {
                 .stream()
                 .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
 
-            for (XmlFile xmlFile : javaPackage.getXmlFiles()) {
-                writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null);
-            }
-            for (TextFile textFile : javaPackage.getTextFiles()) {
-                writeFile(textFile.getFilePath(), textFile.getContents(), null);
-            }
+            try (GenerationMetrics.Phase phase = metrics.startPhase(GenerationMetrics.WRITE)) {
+                for (XmlFile xmlFile : javaPackage.getXmlFiles()) {
+                    writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null);
+                }
+                for (TextFile textFile : javaPackage.getTextFiles()) {
+                    writeFile(textFile.getFilePath(), textFile.getContents(), null);
+                }
 
-            String artifactId = ClientModelUtil.getArtifactId();
-            if (!CoreUtils.isNullOrEmpty(artifactId)) {
-                writeFile("src/main/resources/" + artifactId + ".properties",
-                    "name=${project.artifactId}\nversion=${project.version}\n", null);
+                String artifactId = ClientModelUtil.getArtifactId();
+                if (!CoreUtils.isNullOrEmpty(artifactId)) {
+                    writeFile("src/main/resources/" + artifactId + ".properties",
+                        "name=${project.artifactId}\nversion=${project.version}\n", null);
+                }
+                phase.setFileCount(javaPackage.getXmlFiles().size() + javaPackage.getTextFiles().size());
             }
+
+            metrics.report(this, logger);
         } catch (Exception ex) {
             logger.error("Failed to generate code.", ex);
             return false;
@@ -152,12 +157,8 @@ public class Javagen extends NewPlugin {
 
             // Sample
             if (settings.isDataPlaneClient() && settings.isGenerateSamples()) {
-                for (ProtocolExample protocolExample : client.getProtocolExamples()) {
-                    javaPackage.addProtocolExamples(protocolExample);
-                }
-                for (ClientMethodExample clientMethodExample : client.getClientMethodExamples()) {
-                    javaPackage.addClientMethodExamples(clientMethodExample);
-                }
+                javaPackage.addConcurrently(client.getProtocolExamples(), javaPackage::addProtocolExamples);
+                javaPackage.addConcurrently(client.getClientMethodExamples(), javaPackage::addClientMethodExamples);
             }
 
             // Test
@@ -175,14 +176,12 @@ public class Javagen extends NewPlugin {
 
                     // test cases as Disabled
                     if (!client.getProtocolExamples().isEmpty()) {
-                        client.getProtocolExamples()
-                            .forEach(protocolExample -> javaPackage
-                                .addProtocolTest(new TestContext<>(testContext, protocolExample)));
+                        javaPackage.addConcurrently(client.getProtocolExamples(), protocolExample -> javaPackage
+                            .addProtocolTest(new TestContext<>(testContext, protocolExample)));
                     }
                     if (!client.getClientMethodExamples().isEmpty()) {
-                        client.getClientMethodExamples()
-                            .forEach(clientMethodExample -> javaPackage
-                                .addClientMethodTest(new TestContext<>(testContext, clientMethodExample)));
+                        javaPackage.addConcurrently(client.getClientMethodExamples(), clientMethodExample -> javaPackage
+                            .addClientMethodTest(new TestContext<>(testContext, clientMethodExample)));
                     }
                 }
             }
@@ -241,6 +240,7 @@ public class Javagen extends NewPlugin {
         writeHelperClasses(client, codeModel, javaPackage, settings);
 
         // Unit tests on client model
+        // They are not rendered concurrently, as the example values are from a shared random generator.
         if (settings.isGenerateTests() && !settings.isDataPlaneClient()) {
             for (ClientModel model : client.getModels()) {
                 if (!model.isStronglyTypedHeader()) {
@@ -249,11 +249,19 @@ public class Javagen extends NewPlugin {
             }
         }
 
-        // Package-info
-        for (PackageInfo packageInfo : client.getPackageInfos()) {
-            javaPackage.addPackageInfo(packageInfo.getPackage(), "package-info", packageInfo);
+        // JMH benchmarks on JSON serialization of client model
+        if (settings.isGenerateBenchmarks()) {
+            for (ClientModel model : client.getModels()) {
+                if (ClientModelUtil.isJsonSerializableModel(model.getType())) {
+                    javaPackage.addModelBenchmark(model);
+                }
+            }
         }
 
+        // Package-info
+        javaPackage.addConcurrently(client.getPackageInfos(),
+            packageInfo -> javaPackage.addPackageInfo(packageInfo.getPackage(), "package-info", packageInfo));
+
         if (settings.isDataPlaneClient() || settings.isUnbranded() || settings.isAzureV2()) {
             Project project = new Project(client, ClientModelUtil.getApiVersions(codeModel));
             if (settings.isSdkIntegration()) {
@@ -302,30 +310,25 @@ public class Javagen extends NewPlugin {
     protected void writeClientModels(Client client, JavaPackage javaPackage, JavaSettings settings) {
         if (!settings.isDataPlaneClient()) {
             // Client model
-            for (ClientModel model : client.getModels()) {
-                javaPackage.addModel(model.getPackage(), model.getName(), model);
-            }
+            javaPackage.addConcurrently(client.getModels(),
+                model -> javaPackage.addModel(model.getPackage(), model.getName(), model));
 
             // Enum
-            for (EnumType enumType : client.getEnums()) {
-                javaPackage.addEnum(enumType.getPackage(), enumType.getName(), enumType);
-            }
+            javaPackage.addConcurrently(client.getEnums(),
+                enumType -> javaPackage.addEnum(enumType.getPackage(), enumType.getName(), enumType));
 
             // Response
-            for (ClientResponse response : client.getResponseModels()) {
-                javaPackage.addClientResponse(response.getPackage(), response.getName(), response);
-            }
+            javaPackage.addConcurrently(client.getResponseModels(),
+                response -> javaPackage.addClientResponse(response.getPackage(), response.getName(), response));
 
             // Exception
-            for (ClientException exception : client.getExceptions()) {
-                javaPackage.addException(exception.getPackage(), exception.getName(), exception);
-            }
+            javaPackage.addConcurrently(client.getExceptions(),
+                exception -> javaPackage.addException(exception.getPackage(), exception.getName(), exception));
 
             // XML sequence wrapper
-            for (XmlSequenceWrapper xmlSequenceWrapper : client.getXmlSequenceWrappers()) {
-                javaPackage.addXmlSequenceWrapper(xmlSequenceWrapper.getPackage(),
-                    xmlSequenceWrapper.getWrapperClassName(), xmlSequenceWrapper);
-            }
+            javaPackage.addConcurrently(client.getXmlSequenceWrappers(),
+                xmlSequenceWrapper -> javaPackage.addXmlSequenceWrapper(xmlSequenceWrapper.getPackage(),
+                    xmlSequenceWrapper.getWrapperClassName(), xmlSequenceWrapper));
         }
     }
 
@@ -348,6 +351,7 @@ public class Javagen extends NewPlugin {
         ClientModels.getInstance().clear();
         UnionModels.getInstance().clear();
         JavaSettings.clear();
+        GenerationMetrics.getInstance().clear();
     }
 
     public Logger getLogger() {
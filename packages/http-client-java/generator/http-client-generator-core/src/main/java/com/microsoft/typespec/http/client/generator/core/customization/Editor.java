@@ -3,19 +3,33 @@
 
 package com.microsoft.typespec.http.client.generator.core.customization;
 
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
  * The raw editor containing the current files being customized.
+ * <p>
+ * A file is split into lines only when its lines are requested. A file parsed for an abstract syntax tree
+ * customization keeps its CompilationUnit across customizations, and the CompilationUnit is printed back to the file
+ * content only when the content is requested.
  */
 public final class Editor {
     private final Map<String, String> contents;
     private final Map<String, List<String>> lines;
+    // from the directory of a package (e.g. "src/main/java/com/azure/"), to the class names in the package
+    private final TreeMap<String, Set<String>> packages;
+    private final Map<String, CompilationUnit> compilationUnits;
+    // files whose CompilationUnit may have changes not yet printed to the file content
+    private final Set<String> modifiedCompilationUnits;
 
     /**
      * Creates an editor instance with the file contents and the root directory path.
@@ -25,8 +39,11 @@ public final class Editor {
     public Editor(Map<String, String> contents) {
         this.contents = new HashMap<>(contents);
         this.lines = new HashMap<>();
-        for (Map.Entry<String, String> entry : contents.entrySet()) {
-            lines.put(entry.getKey(), splitContentIntoLines(entry.getValue()));
+        this.packages = new TreeMap<>();
+        this.compilationUnits = new HashMap<>();
+        this.modifiedCompilationUnits = new LinkedHashSet<>();
+        for (String name : contents.keySet()) {
+            indexFile(name);
         }
     }
 
@@ -38,7 +55,9 @@ public final class Editor {
      */
     public boolean packageExists(String packageName) {
         String toFind = "src/main/java/" + packageName.replace('.', '/') + "/";
-        return contents.keySet().stream().anyMatch(fileName -> fileName.startsWith(toFind));
+        // the package, or its first sub-package, is the least directory not less than the package directory
+        String directory = packages.ceilingKey(toFind);
+        return directory != null && directory.startsWith(toFind);
     }
 
     /**
@@ -61,12 +80,8 @@ public final class Editor {
      */
     public List<String> classesInPackage(String packageName) {
         String packagePath = "src/main/java/" + packageName.replace(".", "/") + "/";
-        return contents.keySet()
-            .stream()
-            .filter(fileName -> fileName.startsWith(packagePath))
-            .map(fileName -> fileName.substring(packagePath.length(), fileName.length() - 5))
-            .filter(className -> !className.contains("/"))
-            .collect(Collectors.toList());
+        Set<String> classNames = packages.get(packagePath);
+        return classNames == null ? new ArrayList<>() : new ArrayList<>(classNames);
     }
 
     /**
@@ -75,6 +90,7 @@ public final class Editor {
      * @return the mapping
      */
     public Map<String, String> getContents() {
+        printCompilationUnits();
         return contents;
     }
 
@@ -100,8 +116,12 @@ public final class Editor {
 
     private void addOrReplaceFile(String name, String content, boolean isReplace) {
         if (isReplace || !contents.containsKey(name)) {
-            contents.put(name, content);
-            lines.put(name, splitContentIntoLines(content));
+            if (contents.put(name, content) == null) {
+                indexFile(name);
+            }
+            lines.remove(name);
+            compilationUnits.remove(name);
+            modifiedCompilationUnits.remove(name);
         }
     }
 
@@ -111,8 +131,12 @@ public final class Editor {
      * @param name the relative file path, starting with "src/main/java"
      */
     public void removeFile(String name) {
-        contents.remove(name);
+        if (contents.remove(name) != null) {
+            unindexFile(name);
+        }
         lines.remove(name);
+        compilationUnits.remove(name);
+        modifiedCompilationUnits.remove(name);
     }
 
     /**
@@ -122,6 +146,7 @@ public final class Editor {
      * @return the file content
      */
     public String getFileContent(String name) {
+        printCompilationUnit(name);
         return contents.get(name);
     }
 
@@ -132,7 +157,8 @@ public final class Editor {
      * @return the file content split into lines
      */
     public List<String> getFileLines(String name) {
-        return lines.get(name);
+        String content = getFileContent(name);
+        return content == null ? null : lines.computeIfAbsent(name, ignored -> splitContentIntoLines(content));
     }
 
     /**
@@ -143,15 +169,64 @@ public final class Editor {
      * @return the file content in this line
      */
     public String getFileLine(String name, int line) {
-        return lines.get(name).get(line);
+        return getFileLines(name).get(line);
     }
 
-    private static List<String> splitContentIntoLines(String content) {
-        List<String> res = new ArrayList<>();
-        Scanner scanner = new Scanner(content);
-        while (scanner.hasNextLine()) {
-            res.add(scanner.nextLine());
+    /**
+     * Gets the CompilationUnit of a file, for changes to the abstract syntax tree of the file.
+     * <p>
+     * The CompilationUnit is parsed once, and kept for later customizations of the file. Changes to it are printed to
+     * the file content when the content is requested.
+     *
+     * @param name the relative path of a file, starting with "src/main/java"
+     * @return the CompilationUnit of the file
+     */
+    CompilationUnit getCompilationUnit(String name) {
+        CompilationUnit compilationUnit
+            = compilationUnits.computeIfAbsent(name, ignored -> StaticJavaParser.parse(contents.get(name)));
+        modifiedCompilationUnits.add(name);
+        return compilationUnit;
+    }
+
+    private void printCompilationUnit(String name) {
+        if (modifiedCompilationUnits.remove(name)) {
+            contents.put(name, compilationUnits.get(name).toString());
+            lines.remove(name);
+        }
+    }
+
+    private void printCompilationUnits() {
+        for (String name : modifiedCompilationUnits) {
+            contents.put(name, compilationUnits.get(name).toString());
+            lines.remove(name);
+        }
+        modifiedCompilationUnits.clear();
+    }
+
+    private void indexFile(String name) {
+        int index = name.lastIndexOf('/');
+        if (name.endsWith(".java") && index >= 0) {
+            packages.computeIfAbsent(name.substring(0, index + 1), ignored -> new TreeSet<>())
+                .add(name.substring(index + 1, name.length() - 5));
+        }
+    }
+
+    private void unindexFile(String name) {
+        int index = name.lastIndexOf('/');
+        if (name.endsWith(".java") && index >= 0) {
+            String directory = name.substring(0, index + 1);
+            Set<String> classNames = packages.get(directory);
+            if (classNames != null) {
+                classNames.remove(name.substring(index + 1, name.length() - 5));
+                if (classNames.isEmpty()) {
+                    packages.remove(directory);
+                }
+            }
         }
+    }
+
+    private static List<String> splitContentIntoLines(String content) {
+        List<String> res = content.lines().collect(Collectors.toCollection(ArrayList::new));
         if (content.endsWith("\n")) {
             res.add("");
         }
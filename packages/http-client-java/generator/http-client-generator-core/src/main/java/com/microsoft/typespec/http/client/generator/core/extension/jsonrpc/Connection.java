@@ -61,31 +61,10 @@ public class Connection {
     }
 
     private String readJson() {
-        String jsonText = "";
-        while (true) {
-            try {
-                jsonText += reader.readAsciiLine(); // + "\n";
-            } catch (IOException e) {
-                throw new RuntimeException("Cannot read JSON input");
-            }
-            try {
-                validateJsonText(jsonText);
-                return jsonText;
-            } catch (IOException e) {
-                // not enough text?
-            }
-        }
-    }
-
-    /**
-     * Tests that the passed {@code jsonText} is valid JSON.
-     *
-     * @param jsonText The JSON text to validate.
-     * @throws IOException If the JSON text is invalid.
-     */
-    private static void validateJsonText(String jsonText) throws IOException {
-        try (JsonReader jsonReader = JsonReader.fromString(jsonText)) {
-            jsonReader.readUntyped();
+        try {
+            return reader.readJsonValue();
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read JSON input", e);
         }
     }
 
@@ -145,7 +124,7 @@ public class Connection {
 
     private String readJson(int contentLength) {
         try {
-            return new String(reader.readBytes(contentLength), StandardCharsets.UTF_8);
+            return reader.readUtf8(contentLength);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -4,49 +4,129 @@
 package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
+/**
+ * Buffered reader of JSON-RPC messages.
+ * <p>
+ * Input is read in blocks into an internal buffer. The body of a message is collected in a message buffer that is
+ * reused for subsequent messages, so the only per-message allocation is the decoded String.
+ */
 class PeekingBinaryReader implements Closeable {
-    Integer lastByte;
-    InputStream input;
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer;
+    private int position = 0;
+    private int limit = 0;
+
+    private byte[] message;
 
     PeekingBinaryReader(InputStream input) {
-        this.lastByte = null;
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    PeekingBinaryReader(InputStream input, int bufferSize) {
         this.input = input;
+        this.buffer = new byte[bufferSize];
+        this.message = new byte[bufferSize];
     }
 
     int readByte() throws IOException {
-        if (lastByte != null) {
-            int result = lastByte;
-            lastByte = null;
-            return result;
+        if (position == limit && !fill()) {
+            return -1;
         }
-        return input.read();
+        return buffer[position++] & 0xFF;
     }
 
     int peekByte() throws IOException {
-        if (lastByte != null) {
-            return lastByte;
-        }
-        int result = readByte();
-        if (result != -1) {
-            lastByte = result;
+        if (position == limit && !fill()) {
+            return -1;
         }
-        return result;
+        return buffer[position] & 0xFF;
     }
 
-    byte[] readBytes(int count) throws IOException {
-        byte[] buffer = new byte[count];
-        int read = 0;
-        if (count > 0 && lastByte != null) {
-            buffer[read++] = (byte) (int) lastByte;
-            lastByte = null;
-        }
+    /**
+     * Reads {@code count} bytes and decodes them as UTF-8.
+     *
+     * @param count the number of bytes.
+     * @return the decoded text.
+     * @throws IOException if the stream ends before {@code count} bytes are read.
+     */
+    String readUtf8(int count) throws IOException {
+        ensureMessageCapacity(count);
+        int read = Math.min(count, limit - position);
+        System.arraycopy(buffer, position, message, 0, read);
+        position += read;
+        // read the rest directly into the message buffer, bypassing the block buffer
         while (read < count) {
-            read += input.read(buffer, read, count - read);
+            int n = input.read(message, read, count - read);
+            if (n == -1) {
+                throw new EOFException("Expected " + count + " bytes of message, but stream ended after " + read);
+            }
+            read += n;
+        }
+        return new String(message, 0, count, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a JSON object or array not framed by a Content-Length header, and the rest of its line.
+     * <p>
+     * The end of the value is found by a single scan over the bytes, tracking nesting depth and whether the scan is
+     * inside a string. Bytes of multibyte UTF-8 characters never equal an ASCII delimiter, so no decoding is needed.
+     * The value is not validated, invalid JSON fails when the message is processed.
+     *
+     * @return the JSON text.
+     * @throws IOException if the stream ends before the end of the value.
+     */
+    String readJsonValue() throws IOException {
+        int length = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                throw new EOFException("Stream ended inside a JSON message");
+            }
+
+            int end = -1;
+            for (int i = position; i < limit; i++) {
+                byte b = buffer[i];
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    end = i + 1;
+                    break;
+                }
+            }
+
+            int chunkEnd = (end == -1) ? limit : end;
+            int chunkLength = chunkEnd - position;
+            ensureMessageCapacity(length + chunkLength);
+            System.arraycopy(buffer, position, message, length, chunkLength);
+            length += chunkLength;
+            position = chunkEnd;
+
+            if (end != -1) {
+                // the message without Content-Length is line based, consume the rest of the line
+                readAsciiLine();
+                return new String(message, 0, length, StandardCharsets.UTF_8);
+            }
         }
-        return buffer;
     }
 
     String readAsciiLine() throws IOException {
@@ -68,4 +148,22 @@ class PeekingBinaryReader implements Closeable {
     public void close() throws IOException {
         input.close();
     }
+
+    private boolean fill() throws IOException {
+        int n = input.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+            position = 0;
+            limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+
+    private void ensureMessageCapacity(int capacity) {
+        if (message.length < capacity) {
+            message = Arrays.copyOf(message, Math.max(capacity, message.length * 2));
+        }
+    }
 }
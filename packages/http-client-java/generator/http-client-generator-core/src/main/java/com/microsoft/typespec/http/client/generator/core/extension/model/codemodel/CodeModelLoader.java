@@ -0,0 +1,245 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.inspector.TrustedTagInspector;
+import org.yaml.snakeyaml.introspector.PropertyUtils;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Loads a {@link CodeModel} from YAML or JSON.
+ * <p>
+ * The input is streamed to the parser from a {@link Reader}, so the raw text of the code model is never held in memory
+ * as a whole. The code model of a large service can be tens of megabytes of YAML, where holding the text as a String
+ * alongside the parser buffers and the constructed model multiplies peak heap usage.
+ * <p>
+ * The JSON form is tokenized by {@link JsonReader} instead of the YAML scanner, see {@link JsonCodeModelParser} for
+ * how it represents YAML anchors and aliases.
+ */
+public final class CodeModelLoader {
+
+    private CodeModelLoader() {
+    }
+
+    /**
+     * Loads the code model from a file. The file is read as JSON if its extension is ".json", otherwise as YAML.
+     *
+     * @param path the path of the file.
+     * @param logger the logger to report parse time and peak heap usage, can be null.
+     * @return the code model.
+     * @throws IOException if the file cannot be read.
+     */
+    public static CodeModel load(Path path, Logger logger) throws IOException {
+        resetPeakHeapUsage();
+        long startNanos = System.nanoTime();
+
+        CodeModel codeModel;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            codeModel = isJson(path) ? loadJson(reader) : load(reader);
+        }
+
+        if (logger != null) {
+            logger.info("Loaded code model from '{}', size {} KB, in {} ms, peak heap usage {} MB.", path,
+                Files.size(path) / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                getPeakHeapUsage() / (1024 * 1024));
+        }
+        return codeModel;
+    }
+
+    /**
+     * Loads the code model from YAML.
+     *
+     * @param reader the reader of the YAML. It is not closed by this method.
+     * @return the code model.
+     */
+    public static CodeModel load(Reader reader) {
+        return createYaml().loadAs(reader, CodeModel.class);
+    }
+
+    /**
+     * Loads the code model from JSON.
+     *
+     * @param reader the reader of the JSON. It is not closed by this method.
+     * @return the code model.
+     * @throws IOException if the JSON cannot be read.
+     */
+    public static CodeModel loadJson(Reader reader) throws IOException {
+        // JsonReader is not closed, as closing it closes the reader.
+        JsonReader jsonReader = JsonReader.fromReader(reader);
+        LoaderOptions loaderOptions = createLoaderOptions();
+        Constructor constructor = new CodeModelCustomConstructor(loaderOptions);
+        constructor.setPropertyUtils(createPropertyUtils());
+        constructor.setComposer(new Composer(new JsonCodeModelParser(jsonReader), new Resolver(), loaderOptions));
+        try {
+            return (CodeModel) constructor.getSingleData(CodeModel.class);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Converts the YAML form of the code model to the JSON form, e.g. for a code model generated before the emitter
+     * supports the JSON form. YAML anchors and aliases are converted to "$id" and "$ref", and keys starting with "$"
+     * are escaped.
+     *
+     * @param yaml the reader of the YAML. It is not closed by this method.
+     * @param json the writer of the JSON.
+     * @throws IOException if the JSON cannot be written.
+     */
+    public static void convertYamlToJson(Reader yaml, Writer json) throws IOException {
+        Node root = new Yaml(createLoaderOptions()).compose(yaml);
+
+        Map<Node, Integer> referenceCounts = new IdentityHashMap<>();
+        countReferences(root, referenceCounts);
+
+        try (JsonWriter jsonWriter = JsonWriter.toWriter(json)) {
+            writeNode(root, jsonWriter, referenceCounts, new IdentityHashMap<>());
+        }
+    }
+
+    private static void countReferences(Node node, Map<Node, Integer> referenceCounts) {
+        if (referenceCounts.merge(node, 1, Integer::sum) > 1) {
+            return;
+        }
+
+        if (node instanceof MappingNode) {
+            for (NodeTuple tuple : ((MappingNode) node).getValue()) {
+                countReferences(tuple.getValueNode(), referenceCounts);
+            }
+        } else if (node instanceof SequenceNode) {
+            for (Node item : ((SequenceNode) node).getValue()) {
+                countReferences(item, referenceCounts);
+            }
+        }
+    }
+
+    private static void writeNode(Node node, JsonWriter jsonWriter, Map<Node, Integer> referenceCounts,
+        Map<Node, String> ids) throws IOException {
+        if (node instanceof ScalarNode) {
+            String value = ((ScalarNode) node).getValue();
+            Tag tag = node.getTag();
+            if (Tag.NULL.equals(tag)) {
+                jsonWriter.writeRawValue("null");
+            } else if (Tag.INT.equals(tag) || Tag.FLOAT.equals(tag) || Tag.BOOL.equals(tag)) {
+                jsonWriter.writeRawValue(value);
+            } else {
+                jsonWriter.writeString(value);
+            }
+            return;
+        }
+
+        String existingId = ids.get(node);
+        if (existingId != null) {
+            jsonWriter.writeStartObject().writeFieldName("$ref").writeString(existingId).writeEndObject();
+            return;
+        }
+
+        String id = null;
+        if (referenceCounts.get(node) > 1) {
+            id = "ref_" + ids.size();
+            ids.put(node, id);
+        }
+
+        if (node instanceof MappingNode) {
+            jsonWriter.writeStartObject();
+            if (id != null) {
+                jsonWriter.writeFieldName("$id").writeString(id);
+            }
+            for (NodeTuple tuple : ((MappingNode) node).getValue()) {
+                jsonWriter.writeFieldName(JsonCodeModelParser.escapeKey(((ScalarNode) tuple.getKeyNode()).getValue()));
+                writeNode(tuple.getValueNode(), jsonWriter, referenceCounts, ids);
+            }
+            jsonWriter.writeEndObject();
+        } else {
+            if (id != null) {
+                jsonWriter.writeStartObject().writeFieldName("$id").writeString(id).writeFieldName("$values");
+            }
+            jsonWriter.writeStartArray();
+            for (Node item : ((SequenceNode) node).getValue()) {
+                writeNode(item, jsonWriter, referenceCounts, ids);
+            }
+            jsonWriter.writeEndArray();
+            if (id != null) {
+                jsonWriter.writeEndObject();
+            }
+        }
+    }
+
+    private static boolean isJson(Path path) {
+        return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+    }
+
+    private static Yaml createYaml() {
+        // Yaml is not thread-safe, create a new instance for each load.
+        Representer representer = new Representer(new DumperOptions());
+        representer.setPropertyUtils(createPropertyUtils());
+        LoaderOptions loaderOptions = createLoaderOptions();
+        return new Yaml(new CodeModelCustomConstructor(loaderOptions), representer, new DumperOptions(), loaderOptions);
+    }
+
+    private static PropertyUtils createPropertyUtils() {
+        PropertyUtils propertyUtils = new AnnotatedPropertyUtils();
+        propertyUtils.setSkipMissingProperties(true);
+        return propertyUtils;
+    }
+
+    private static LoaderOptions createLoaderOptions() {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        // The code model is streamed, there is no need to limit its size to what fits in a String.
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+        loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
+        loaderOptions.setTagInspector(new TrustedTagInspector());
+        return loaderOptions;
+    }
+
+    private static void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long getPeakHeapUsage() {
+        // Sum of the peak usage of each heap pool. It is an upper bound, as pools may not peak at the same time.
+        long peakHeapUsage = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid() && pool.getPeakUsage() != null) {
+                peakHeapUsage += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peakHeapUsage;
+    }
+}
@@ -0,0 +1,241 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonToken;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ImplicitTuple;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.parser.Parser;
+
+/**
+ * SnakeYAML {@link Parser} that produces YAML events from the JSON form of the code model.
+ * <p>
+ * The events are composed and constructed by SnakeYAML the same as the events from YAML, so the JSON form is loaded
+ * into the same {@link CodeModel} as the YAML form. Tokenizing JSON is much cheaper than scanning YAML.
+ * <p>
+ * The JSON form keeps the identity sharing of YAML anchors and aliases:
+ * <ul>
+ * <li>An object with {@code "$id"} as its first property is an anchored mapping.</li>
+ * <li>An object with {@code "$id"} and {@code "$values"} properties is an anchored sequence.</li>
+ * <li>An object with a single {@code "$ref"} property is an alias to the object or array with the same id.</li>
+ * </ul>
+ * A key of the code model starting with {@code "$"}, e.g. in an example payload, is escaped by doubling the
+ * {@code "$"}, so that it is not read as one of these.
+ */
+final class JsonCodeModelParser implements Parser {
+    private static final String ID = "$id";
+    private static final String REF = "$ref";
+    private static final String VALUES = "$values";
+
+    private static final ImplicitTuple STRING_IMPLICIT = new ImplicitTuple(false, true);
+    private static final ImplicitTuple PLAIN_IMPLICIT = new ImplicitTuple(true, false);
+
+    private enum Container {
+        MAPPING, SEQUENCE, ANCHORED_SEQUENCE
+    }
+
+    private final JsonReader jsonReader;
+    private final Deque<Event> events = new ArrayDeque<>();
+    private final Deque<Container> containers = new ArrayDeque<>();
+    private boolean streamStarted = false;
+    private boolean streamEnded = false;
+
+    JsonCodeModelParser(JsonReader jsonReader) {
+        this.jsonReader = jsonReader;
+    }
+
+    @Override
+    public boolean checkEvent(Event.ID choice) {
+        Event event = peekEvent();
+        return event != null && event.is(choice);
+    }
+
+    @Override
+    public Event peekEvent() {
+        fillEvents();
+        return events.peekFirst();
+    }
+
+    @Override
+    public Event getEvent() {
+        fillEvents();
+        return events.pollFirst();
+    }
+
+    private void fillEvents() {
+        if (!events.isEmpty() || streamEnded) {
+            return;
+        }
+
+        try {
+            if (!streamStarted) {
+                streamStarted = true;
+                events.add(new StreamStartEvent(null, null));
+                events.add(new DocumentStartEvent(null, null, false, null, null));
+                jsonReader.nextToken();
+                readValue();
+                return;
+            }
+
+            if (containers.isEmpty()) {
+                streamEnded = true;
+                events.add(new DocumentEndEvent(null, null, false));
+                events.add(new StreamEndEvent(null, null));
+                return;
+            }
+
+            JsonToken token = jsonReader.nextToken();
+            Container container = containers.peek();
+            if (container == Container.MAPPING) {
+                readMappingToken(token);
+            } else {
+                if (token == JsonToken.END_ARRAY) {
+                    containers.pop();
+                    events.add(new SequenceEndEvent(null, null));
+                    if (container == Container.ANCHORED_SEQUENCE) {
+                        // end of the object wrapping the anchored sequence
+                        expectToken(JsonToken.END_OBJECT);
+                    }
+                } else {
+                    readValue();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the value at the current token. For an object or array, only its start is read.
+     */
+    private void readValue() throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        switch (token) {
+            case START_OBJECT:
+                readObjectStart();
+                break;
+
+            case START_ARRAY:
+                containers.push(Container.SEQUENCE);
+                events.add(new SequenceStartEvent(null, null, true, null, null, DumperOptions.FlowStyle.AUTO));
+                break;
+
+            case STRING:
+                events.add(stringScalar(jsonReader.getString()));
+                break;
+
+            case NUMBER:
+            case BOOLEAN:
+                events.add(plainScalar(jsonReader.getText()));
+                break;
+
+            case NULL:
+                events.add(plainScalar("null"));
+                break;
+
+            default:
+                throw unexpectedToken(token);
+        }
+    }
+
+    private void readObjectStart() throws IOException {
+        JsonToken token = jsonReader.nextToken();
+        if (token == JsonToken.FIELD_NAME && REF.equals(jsonReader.getFieldName())) {
+            expectToken(JsonToken.STRING);
+            events.add(new AliasEvent(jsonReader.getString(), null, null));
+            expectToken(JsonToken.END_OBJECT);
+        } else if (token == JsonToken.FIELD_NAME && ID.equals(jsonReader.getFieldName())) {
+            expectToken(JsonToken.STRING);
+            String anchor = jsonReader.getString();
+            token = jsonReader.nextToken();
+            if (token == JsonToken.FIELD_NAME && VALUES.equals(jsonReader.getFieldName())) {
+                expectToken(JsonToken.START_ARRAY);
+                containers.push(Container.ANCHORED_SEQUENCE);
+                events.add(new SequenceStartEvent(anchor, null, true, null, null, DumperOptions.FlowStyle.AUTO));
+            } else {
+                containers.push(Container.MAPPING);
+                events.add(new MappingStartEvent(anchor, null, true, null, null, DumperOptions.FlowStyle.AUTO));
+                readMappingToken(token);
+            }
+        } else {
+            containers.push(Container.MAPPING);
+            events.add(new MappingStartEvent(null, null, true, null, null, DumperOptions.FlowStyle.AUTO));
+            readMappingToken(token);
+        }
+    }
+
+    /**
+     * Reads the current token in a mapping, which is either a field name or the end of the mapping.
+     */
+    private void readMappingToken(JsonToken token) throws IOException {
+        if (token == JsonToken.END_OBJECT) {
+            containers.pop();
+            events.add(new MappingEndEvent(null, null));
+        } else if (token == JsonToken.FIELD_NAME) {
+            events.add(stringScalar(unescapeKey(jsonReader.getFieldName())));
+            jsonReader.nextToken();
+            readValue();
+        } else {
+            throw unexpectedToken(token);
+        }
+    }
+
+    /**
+     * Unescapes a key of the code model, which is escaped by doubling the "$" if it starts with "$".
+     *
+     * @param key the key in JSON.
+     * @return the key of the code model.
+     */
+    static String unescapeKey(String key) {
+        return key.startsWith("$$") ? key.substring(1) : key;
+    }
+
+    /**
+     * Escapes a key of the code model by doubling the "$" if it starts with "$", so that it is not read as "$id",
+     * "$ref" or "$values".
+     *
+     * @param key the key of the code model.
+     * @return the key in JSON.
+     */
+    static String escapeKey(String key) {
+        return key.startsWith("$") ? "$" + key : key;
+    }
+
+    private void expectToken(JsonToken expected) throws IOException {
+        JsonToken token = jsonReader.nextToken();
+        if (token != expected) {
+            throw new YAMLException("Expected JSON token " + expected + " in code model, but found " + token + ".");
+        }
+    }
+
+    private static YAMLException unexpectedToken(JsonToken token) {
+        return new YAMLException("Unexpected JSON token " + token + " in code model.");
+    }
+
+    private static ScalarEvent stringScalar(String value) {
+        // Not plain, so that the resolver does not resolve a string like "true" or "1" to another type.
+        return new ScalarEvent(null, null, STRING_IMPLICIT, value, null, null, DumperOptions.ScalarStyle.DOUBLE_QUOTED);
+    }
+
+    private static ScalarEvent plainScalar(String value) {
+        return new ScalarEvent(null, null, PLAIN_IMPLICIT, value, null, null, DumperOptions.ScalarStyle.PLAIN);
+    }
+}
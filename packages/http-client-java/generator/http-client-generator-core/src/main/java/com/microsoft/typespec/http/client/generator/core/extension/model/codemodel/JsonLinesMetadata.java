@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+/**
+ * Represents the element types of the JSON Lines request and response bodies of an operation.
+ */
+public class JsonLinesMetadata {
+    private Schema requestElementType;
+    private Schema responseElementType;
+
+    /**
+     * Creates a new instance of the JsonLinesMetadata class.
+     */
+    public JsonLinesMetadata() {
+    }
+
+    /**
+     * Gets the type of the elements of the JSON Lines request body.
+     *
+     * @return The type of the elements of the JSON Lines request body.
+     */
+    public Schema getRequestElementType() {
+        return requestElementType;
+    }
+
+    /**
+     * Sets the type of the elements of the JSON Lines request body.
+     *
+     * @param requestElementType The type of the elements of the JSON Lines request body.
+     */
+    public void setRequestElementType(Schema requestElementType) {
+        this.requestElementType = requestElementType;
+    }
+
+    /**
+     * Gets the type of the elements of the JSON Lines response body.
+     *
+     * @return The type of the elements of the JSON Lines response body.
+     */
+    public Schema getResponseElementType() {
+        return responseElementType;
+    }
+
+    /**
+     * Sets the type of the elements of the JSON Lines response body.
+     *
+     * @param responseElementType The type of the elements of the JSON Lines response body.
+     */
+    public void setResponseElementType(Schema responseElementType) {
+        this.responseElementType = responseElementType;
+    }
+}
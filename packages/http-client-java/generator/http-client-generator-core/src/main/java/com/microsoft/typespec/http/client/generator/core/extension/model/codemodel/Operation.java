@@ -31,6 +31,7 @@ public class Operation extends Metadata {
     private ExternalDocumentation externalDocs;
     private List<String> specialHeaders;
     private LongRunningMetadata lroMetadata;
+    private JsonLinesMetadata jsonLinesMetadata;
     private ConvenienceApi convenienceApi;
     private Boolean generateProtocolApi;
     private Boolean internalApi;
@@ -349,6 +350,24 @@ public class Operation extends Metadata {
         this.lroMetadata = lroMetadata;
     }
 
+    /**
+     * Gets the element types of the JSON Lines request and response bodies.
+     *
+     * @return The element types of the JSON Lines request and response bodies.
+     */
+    public JsonLinesMetadata getJsonLinesMetadata() {
+        return jsonLinesMetadata;
+    }
+
+    /**
+     * Sets the element types of the JSON Lines request and response bodies.
+     *
+     * @param jsonLinesMetadata The element types of the JSON Lines request and response bodies.
+     */
+    public void setJsonLinesMetadata(JsonLinesMetadata jsonLinesMetadata) {
+        this.jsonLinesMetadata = jsonLinesMetadata;
+    }
+
     /**
      * Gets the convenience API.
      *
@@ -0,0 +1,321 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.plugin;
+
+import io.clientcore.core.serialization.json.JsonSerializable;
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.slf4j.Logger;
+
+/**
+ * Metrics of the phases of a generator run.
+ * <p>
+ * Each phase records the elapsed time, the bytes allocated by all threads alive at the end of the phase (via
+ * {@link ThreadMXBean}), and the count of files processed. A phase that runs more than once, e.g. "write", accumulates
+ * the metrics.
+ * <p>
+ * The phases, and the files in the format, partial update and write phases, are also emitted as JFR events, which are
+ * recorded when the JVM runs with Flight Recorder, e.g. by "dev-options.profile".
+ */
+public final class GenerationMetrics implements JsonSerializable<GenerationMetrics> {
+
+    /**
+     * The path of the run report, relative to the output folder.
+     */
+    public static final String REPORT_FILE = "target/typespec-java/generation-report.json";
+
+    /**
+     * The system property enabling the run report, set by "dev-options.generation-report".
+     */
+    public static final String REPORT_PROPERTY = "codegen.java.generation.report";
+
+    public static final String LOAD = "load";
+    public static final String TRANSFORM = "transform";
+    public static final String MAP = "map";
+    public static final String TEMPLATE = "template";
+    public static final String CUSTOMIZATION = "customization";
+    public static final String PARTIAL_UPDATE = "partial-update";
+    public static final String FORMAT = "format";
+    public static final String WRITE = "write";
+
+    private static final GenerationMetrics INSTANCE = new GenerationMetrics();
+
+    private final Map<String, PhaseMetrics> phases = new LinkedHashMap<>();
+    private long startNanos = System.nanoTime();
+
+    private GenerationMetrics() {
+    }
+
+    public static GenerationMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Clears the metrics, and starts a new run.
+     */
+    public synchronized void clear() {
+        phases.clear();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts a phase. The phase ends when it is closed.
+     *
+     * @param name the name of the phase.
+     * @return the phase.
+     */
+    public Phase startPhase(String name) {
+        return new Phase(name);
+    }
+
+    /**
+     * Runs the action as a phase.
+     *
+     * @param name the name of the phase.
+     * @param action the action.
+     * @return the result of the action.
+     * @param <T> the type of the result.
+     */
+    public <T> T time(String name, Supplier<T> action) {
+        Phase phase = startPhase(name);
+        try {
+            return action.get();
+        } finally {
+            phase.close();
+        }
+    }
+
+    /**
+     * Runs the action as a phase.
+     *
+     * @param name the name of the phase.
+     * @param action the action.
+     */
+    public void run(String name, Runnable action) {
+        Phase phase = startPhase(name);
+        try {
+            action.run();
+        } finally {
+            phase.close();
+        }
+    }
+
+    /**
+     * Logs the summary of the phases, and writes the run report to {@link #REPORT_FILE} if the system property
+     * {@link #REPORT_PROPERTY} is "true".
+     *
+     * @param plugin the plugin, which writes the report to the output folder.
+     * @param logger the logger.
+     */
+    public void report(NewPlugin plugin, Logger logger) {
+        logger.info(getSummary());
+        if (!Boolean.getBoolean(REPORT_PROPERTY)) {
+            return;
+        }
+        try {
+            plugin.writeFile(REPORT_FILE, toJsonString(), null);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to write generation report {}", REPORT_FILE, e);
+        }
+    }
+
+    /**
+     * Gets the summary of the phases, in one line.
+     *
+     * @return the summary of the phases.
+     */
+    public synchronized String getSummary() {
+        return "Generation phases: " + phases.values()
+            .stream()
+            .map(phase -> String.format("%s %d ms, %d MB allocated%s", phase.name, toMillis(phase.elapsedNanos),
+                toMegabytes(phase.allocatedBytes), phase.fileCount > 0 ? ", " + phase.fileCount + " files" : ""))
+            .collect(Collectors.joining("; ")) + ". Total " + toMillis(System.nanoTime() - startNanos) + " ms.";
+    }
+
+    @Override
+    public synchronized JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        List<PhaseMetrics> phaseMetrics = new ArrayList<>(phases.values());
+        jsonWriter.writeStartObject();
+        jsonWriter.writeLongField("elapsedMillis", toMillis(System.nanoTime() - startNanos));
+        jsonWriter.writeLongField("allocatedBytes",
+            phaseMetrics.stream().mapToLong(phase -> phase.allocatedBytes).sum());
+        jsonWriter.writeIntField("availableProcessors", Runtime.getRuntime().availableProcessors());
+        jsonWriter.writeLongField("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        jsonWriter.writeArrayField("phases", phaseMetrics, (writer, phase) -> {
+            writer.writeStartObject();
+            writer.writeStringField("name", phase.name);
+            writer.writeLongField("elapsedMillis", toMillis(phase.elapsedNanos));
+            writer.writeLongField("allocatedBytes", phase.allocatedBytes);
+            writer.writeIntField("fileCount", phase.fileCount);
+            writer.writeEndObject();
+        });
+        return jsonWriter.writeEndObject();
+    }
+
+    private synchronized void record(String name, long elapsedNanos, long allocatedBytes, int fileCount) {
+        PhaseMetrics phase = phases.computeIfAbsent(name, PhaseMetrics::new);
+        phase.elapsedNanos += elapsedNanos;
+        phase.allocatedBytes += allocatedBytes;
+        phase.fileCount += fileCount;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static long toMegabytes(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    /**
+     * Gets the allocated bytes of all live threads, keyed by thread id. Empty if the JVM does not support it.
+     *
+     * @return the allocated bytes of all live threads.
+     */
+    private static Map<Long, Long> getThreadAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return Map.of();
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) {
+            return Map.of();
+        }
+
+        long[] threadIds = bean.getAllThreadIds();
+        long[] allocatedBytes = bean.getThreadAllocatedBytes(threadIds);
+        Map<Long, Long> threadAllocatedBytes = new HashMap<>(threadIds.length * 2);
+        for (int i = 0; i < threadIds.length; ++i) {
+            // -1 for a thread that is no longer alive
+            if (allocatedBytes[i] >= 0) {
+                threadAllocatedBytes.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return threadAllocatedBytes;
+    }
+
+    private static final class PhaseMetrics {
+        private final String name;
+        private long elapsedNanos;
+        private long allocatedBytes;
+        private int fileCount;
+
+        private PhaseMetrics(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * A phase of the generator run, to be closed at the end of the phase.
+     */
+    public final class Phase implements AutoCloseable {
+        private final String name;
+        private final Map<Long, Long> startAllocatedBytes;
+        private final long startNanos;
+        private final PhaseEvent event;
+        private int fileCount;
+
+        private Phase(String name) {
+            this.name = name;
+            this.startAllocatedBytes = getThreadAllocatedBytes();
+            this.event = new PhaseEvent();
+            this.event.begin();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Sets the count of files processed in the phase.
+         *
+         * @param fileCount the count of files.
+         */
+        public void setFileCount(int fileCount) {
+            this.fileCount = fileCount;
+        }
+
+        @Override
+        public void close() {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = 0;
+            for (Map.Entry<Long, Long> entry : getThreadAllocatedBytes().entrySet()) {
+                allocatedBytes += entry.getValue() - startAllocatedBytes.getOrDefault(entry.getKey(), 0L);
+            }
+            record(name, elapsedNanos, allocatedBytes, fileCount);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = name;
+                event.allocatedBytes = allocatedBytes;
+                event.fileCount = fileCount;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Starts the JFR event of a file processed in a phase. The event is to be committed at the end of the processing.
+     *
+     * @param phase the name of the phase.
+     * @param fileName the name of the file.
+     * @return the JFR event.
+     */
+    public static FileEvent startFileEvent(String phase, String fileName) {
+        FileEvent event = new FileEvent();
+        if (event.isEnabled()) {
+            event.phase = phase;
+            event.fileName = fileName;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Name("com.microsoft.typespec.GenerationPhase")
+    @Label("Generation Phase")
+    @Description("A phase of the Java generator run")
+    @Category({ "TypeSpec", "Java Generator" })
+    static final class PhaseEvent extends Event {
+        @Label("Phase")
+        private String phase;
+
+        @Label("Allocated")
+        @DataAmount
+        private long allocatedBytes;
+
+        @Label("File Count")
+        private int fileCount;
+    }
+
+    /**
+     * The JFR event of a file processed in a phase.
+     */
+    @Name("com.microsoft.typespec.GenerationFile")
+    @Label("Generation File")
+    @Description("A file processed in a phase of the Java generator run")
+    @Category({ "TypeSpec", "Java Generator" })
+    public static final class FileEvent extends Event {
+        @Label("Phase")
+        private String phase;
+
+        @Label("File")
+        private String fileName;
+
+        private FileEvent() {
+        }
+    }
+}
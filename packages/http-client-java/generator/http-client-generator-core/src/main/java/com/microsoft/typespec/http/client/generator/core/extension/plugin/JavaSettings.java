@@ -31,7 +31,7 @@ import org.slf4j.Logger;
  */
 public class JavaSettings {
     private static final String VERSION = "4.0.0";
-    private static JavaSettings instance;
+    private static volatile JavaSettings instance;
     private static NewPlugin host;
     private static String header;
     private static final Map<String, Object> SIMPLE_JAVA_SETTINGS = new HashMap<>();
@@ -78,7 +78,7 @@ public class JavaSettings {
     /**
      * Clear the JavaSettings instance.
      */
-    public static void clear() {
+    public static synchronized void clear() {
         instance = null;
     }
 
@@ -88,36 +88,44 @@ public class JavaSettings {
      * @return The JavaSettings instance.
      */
     public static JavaSettings getInstance() {
-        if (instance == null) {
-            AutorestSettings autorestSettings = new AutorestSettings();
-            loadStringSetting("title", autorestSettings::setTitle);
-            loadStringOrArraySettingAsArray("security", autorestSettings::setSecurity);
-            loadStringOrArraySettingAsArray("security-scopes", autorestSettings::setSecurityScopes);
-            loadStringSetting("security-header-name", autorestSettings::setSecurityHeaderName);
-
-            loadStringSetting("tag", autorestSettings::setTag);
-            loadStringSetting("base-folder", autorestSettings::setBaseFolder);
-            loadStringSetting("output-folder", autorestSettings::setOutputFolder);
-            loadStringSetting("java-sdks-folder", autorestSettings::setJavaSdksFolder);
-            // input-file
-            List<String> inputFiles
-                = host.getValueWithJsonReader("input-file", jsonReader -> jsonReader.readArray(JsonReader::getString));
-            if (inputFiles != null) {
-                autorestSettings.getInputFiles().addAll(inputFiles);
-                logger.debug("List of input files : {}", autorestSettings.getInputFiles());
-            }
-            // require (readme.md etc.)
-            List<String> require
-                = host.getValueWithJsonReader("require", jsonReader -> jsonReader.readArray(JsonReader::getString));
-            if (require != null) {
-                autorestSettings.getRequire().addAll(require);
-                logger.debug("List of require : {}", autorestSettings.getRequire());
-            }
+        JavaSettings settings = instance;
+        if (settings != null) {
+            return settings;
+        }
 
-            setHeader(getStringValue(host, "license-header"));
-            instance = new JavaSettings(autorestSettings);
+        // Templates are rendered concurrently, the instance must be created only once.
+        synchronized (JavaSettings.class) {
+            if (instance == null) {
+                AutorestSettings autorestSettings = new AutorestSettings();
+                loadStringSetting("title", autorestSettings::setTitle);
+                loadStringOrArraySettingAsArray("security", autorestSettings::setSecurity);
+                loadStringOrArraySettingAsArray("security-scopes", autorestSettings::setSecurityScopes);
+                loadStringSetting("security-header-name", autorestSettings::setSecurityHeaderName);
+
+                loadStringSetting("tag", autorestSettings::setTag);
+                loadStringSetting("base-folder", autorestSettings::setBaseFolder);
+                loadStringSetting("output-folder", autorestSettings::setOutputFolder);
+                loadStringSetting("java-sdks-folder", autorestSettings::setJavaSdksFolder);
+                // input-file
+                List<String> inputFiles = host.getValueWithJsonReader("input-file",
+                    jsonReader -> jsonReader.readArray(JsonReader::getString));
+                if (inputFiles != null) {
+                    autorestSettings.getInputFiles().addAll(inputFiles);
+                    logger.debug("List of input files : {}", autorestSettings.getInputFiles());
+                }
+                // require (readme.md etc.)
+                List<String> require
+                    = host.getValueWithJsonReader("require", jsonReader -> jsonReader.readArray(JsonReader::getString));
+                if (require != null) {
+                    autorestSettings.getRequire().addAll(require);
+                    logger.debug("List of require : {}", autorestSettings.getRequire());
+                }
+
+                setHeader(getStringValue(host, "license-header"));
+                instance = new JavaSettings(autorestSettings);
+            }
+            return instance;
         }
-        return instance;
     }
 
     private static Map<Integer, String> parseStatusCodeMapping(JsonReader jsonReader) throws IOException {
@@ -322,6 +330,32 @@ public class JavaSettings {
         // Whether to handle partial updates.
         this.handlePartialUpdate = getBooleanValue(host, "partial-update", false);
 
+        // Whether to cache formatted files on disk, so that unchanged files are not formatted again on regeneration.
+        this.formatCache = getBooleanValue(host, "format-cache", true);
+
+        // Whether generated fromJson methods dispatch on the JSON field name with a switch statement, instead of a
+        // chain of if-else statements comparing the field name with each property name.
+        this.jsonFieldSwitchDispatch = getBooleanValue(host, "json-field-switch-dispatch", false);
+
+        // Whether convenience methods serialize request models by their toJson, and deserialize response models by
+        // their fromJson, instead of BinaryData.fromObject and BinaryData.toObject.
+        this.jsonDirectSerialization = getBooleanValue(host, "json-direct-serialization", false);
+
+        // Whether the implementation of the service interfaces of azure-core clients is generated, instead of created
+        // at runtime via RestProxy.
+        this.generateServiceImpl = getBooleanValue(host, "generate-service-impl", false);
+
+        // Whether JMH benchmarks on the JSON serialization of the models are generated, under "src/benchmark/java".
+        this.generateBenchmarks = getBooleanValue(host, "generate-benchmarks", false);
+
+        // The number of pages that generated paging methods request in the background ahead of the page being
+        // processed. 0 disables the prefetch.
+        this.pagePrefetchDepth = getIntegerValue(host, "page-prefetch-depth", 0);
+
+        // The maximum number of unknown values a generated expandable enum retains. 0 disables the retention, an
+        // unknown value then creates a new instance on each lookup.
+        this.expandableEnumCacheSize = getIntegerValue(host, "expandable-enum-cache-size", 1024);
+
         // If set to true, responses will only use Response, ResponseBase, PagedResponse, and PagedResponseBase types
         // with generics instead of creating a specific named type that extends one of those types.
         // If fluent default to false, this is because the automated test generation ends up with invalid code.
@@ -1399,6 +1433,87 @@ public class JavaSettings {
         return handlePartialUpdate;
     }
 
+    private final boolean formatCache;
+
+    /**
+     * Whether formatted files are cached on disk, so that unchanged files are not formatted again on regeneration.
+     *
+     * @return Whether formatted files are cached on disk.
+     */
+    public boolean isFormatCache() {
+        return formatCache;
+    }
+
+    private final boolean jsonFieldSwitchDispatch;
+
+    /**
+     * Whether generated fromJson methods dispatch on the JSON field name with a switch statement.
+     *
+     * @return Whether generated fromJson methods dispatch on the JSON field name with a switch statement.
+     */
+    public boolean isJsonFieldSwitchDispatch() {
+        return jsonFieldSwitchDispatch;
+    }
+
+    private final boolean jsonDirectSerialization;
+
+    /**
+     * Whether convenience methods serialize request models by their toJson, and deserialize response models by their
+     * fromJson.
+     *
+     * @return Whether convenience methods serialize and deserialize models by their toJson and fromJson.
+     */
+    public boolean isJsonDirectSerialization() {
+        return jsonDirectSerialization;
+    }
+
+    private final boolean generateServiceImpl;
+
+    /**
+     * Whether the implementation of the service interfaces of azure-core clients is generated, instead of created at
+     * runtime via RestProxy.
+     *
+     * @return Whether the implementation of the service interfaces is generated.
+     */
+    public boolean isGenerateServiceImpl() {
+        return generateServiceImpl;
+    }
+
+    private final boolean generateBenchmarks;
+
+    /**
+     * Whether JMH benchmarks on the JSON serialization of the models are generated, along with a "benchmark" profile
+     * in the POM to run them.
+     *
+     * @return Whether JMH benchmarks on the models are generated.
+     */
+    public boolean isGenerateBenchmarks() {
+        return generateBenchmarks;
+    }
+
+    private final int pagePrefetchDepth;
+
+    /**
+     * The number of pages that generated paging methods request in the background, while the current page is
+     * processed.
+     *
+     * @return The number of pages to prefetch, 0 if pages are not prefetched.
+     */
+    public int getPagePrefetchDepth() {
+        return pagePrefetchDepth;
+    }
+
+    private final int expandableEnumCacheSize;
+
+    /**
+     * The maximum number of unknown values a generated expandable enum retains, known values are not counted.
+     *
+     * @return The maximum number of unknown values retained, 0 if unknown values are not retained.
+     */
+    public int getExpandableEnumCacheSize() {
+        return expandableEnumCacheSize;
+    }
+
     private final boolean genericResponseTypes;
 
     /**
@@ -1588,6 +1703,17 @@ public class JavaSettings {
         }
     }
 
+    private static int getIntegerValue(NewPlugin host, String settingName, int defaultValue) {
+        Integer ret = host.getValue(settingName, json -> json == null ? null : Integer.parseInt(json));
+        if (ret == null) {
+            return defaultValue;
+        } else {
+            logger.debug("Option, integer, {} : {}", settingName, ret);
+            SIMPLE_JAVA_SETTINGS.put(settingName, ret);
+            return ret;
+        }
+    }
+
     private static void loadStringOrArraySettingAsArray(String settingName, Consumer<List<String>> action) {
         host.getValue(settingName, jsonString -> {
             if (jsonString == null) {
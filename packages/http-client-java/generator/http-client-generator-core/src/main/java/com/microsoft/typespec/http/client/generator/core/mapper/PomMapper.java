@@ -67,6 +67,7 @@ public class PomMapper implements IMapper<Project, Pom> {
         }
 
         pom.setRequireCompilerPlugins(!project.isIntegratedWithSdk());
+        pom.setRequireBenchmarkProfile(JavaSettings.getInstance().isGenerateBenchmarks());
 
         return pom;
     }
@@ -97,6 +98,7 @@ public class PomMapper implements IMapper<Project, Pom> {
 
         pom.setDependencyIdentifiers(dependencyIdentifiers);
         pom.setRequireCompilerPlugins(true);
+        pom.setRequireBenchmarkProfile(JavaSettings.getInstance().isGenerateBenchmarks());
         return pom;
     }
 
@@ -4,6 +4,7 @@
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
 import com.microsoft.typespec.http.client.generator.core.Javagen;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonLinesMetadata;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Request;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Response;
@@ -70,6 +71,7 @@ public class ProxyMethodMapper implements IMapper<Operation, Map<Request, List<P
         buildExpectedResponseFields(operation, settings, builder);
         buildUnexpectedResponseExceptionFields(builder, operation, expectedStatusCodes, settings);
         builder.responseContentTypes(getResponseContentTypes(operation));
+        buildJsonLinesElementTypes(operation, builder);
 
         final ProxyMethod builderSource = builder.build();
         final ProxyMethodParameterProcessor parameterProcessor = new ProxyMethodParameterProcessor(operation, settings);
@@ -88,6 +90,25 @@ public class ProxyMethodMapper implements IMapper<Operation, Map<Request, List<P
         return result;
     }
 
+    /**
+     * Updates the builder with the types of the elements of the JSON Lines request and response bodies, if the
+     * operation has them.
+     *
+     * @param operation the operation.
+     * @param builder the builder to update with the element types.
+     */
+    protected static void buildJsonLinesElementTypes(Operation operation, ProxyMethod.Builder builder) {
+        JsonLinesMetadata jsonLinesMetadata = operation.getJsonLinesMetadata();
+        if (jsonLinesMetadata != null) {
+            if (jsonLinesMetadata.getRequestElementType() != null) {
+                builder.requestElementType(Mappers.getSchemaMapper().map(jsonLinesMetadata.getRequestElementType()));
+            }
+            if (jsonLinesMetadata.getResponseElementType() != null) {
+                builder.responseElementType(Mappers.getSchemaMapper().map(jsonLinesMetadata.getResponseElementType()));
+            }
+        }
+    }
+
     /**
      * Gets the operation id defined for the operation.
      * <p>
@@ -123,6 +123,7 @@ public class ClientCoreProxyMethodMapper extends ProxyMethodMapper {
             responseContentTypes.add(MethodUtil.CONTENT_TYPE_APPLICATION_JSON_ERROR_WEIGHT);
         }
         builder.responseContentTypes(responseContentTypes);
+        buildJsonLinesElementTypes(operation, builder);
 
         List<Request> requests = operation.getRequests();
         // Used to deduplicate method with same signature.
@@ -294,6 +295,8 @@ public class ClientCoreProxyMethodMapper extends ProxyMethodMapper {
                 .urlPath(syncProxyMethod.getUrlPath())
                 .specialHeaders(syncProxyMethod.getSpecialHeaders())
                 .responseContentTypes(syncProxyMethod.getResponseContentTypes())
+                .requestElementType(syncProxyMethod.getRequestElementType())
+                .responseElementType(syncProxyMethod.getResponseElementType())
                 .responseExpectedStatusCodes(syncProxyMethod.getResponseExpectedStatusCodes())
                 .allParameters(requiredParams)
                 .parameters(requiredParams)
@@ -142,6 +142,8 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         "io.clientcore.core.http.models.HttpHeaderName");
     public static final ClassType HTTP_RESPONSE
         = withClientCoreReplacement("com.azure.core.http.HttpResponse", "io.clientcore.core.http.models.HttpResponse");
+    public static final ClassType HTTP_METHOD
+        = withClientCoreReplacement("com.azure.core.http.HttpMethod", "io.clientcore.core.http.models.HttpMethod");
 
     public static final ClassType HTTP_PIPELINE_POLICY = withClientCoreReplacement(
         "com.azure.core.http.policy.HttpPipelinePolicy", "io.clientcore.core.http.pipeline.HttpPipelinePolicy");
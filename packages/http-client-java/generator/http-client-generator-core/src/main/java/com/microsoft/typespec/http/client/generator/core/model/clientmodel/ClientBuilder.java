@@ -55,7 +55,9 @@ public class ClientBuilder {
     }
 
     public String getBuilderMethodNameForSyncClient(AsyncSyncClient syncClient) {
-        boolean singleClient = asyncClients.size() == 1 || syncClient.getMethodGroupClient() == null;
+        // count the sync clients only when there is no async client, i.e. when only sync methods are generated
+        int clientCount = asyncClients.isEmpty() ? syncClients.size() : asyncClients.size();
+        boolean singleClient = clientCount == 1 || syncClient.getMethodGroupClient() == null;
         return singleClient ? "buildClient" : ("build" + syncClient.getClassName());
     }
 
@@ -8,9 +8,11 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSe
 import com.microsoft.typespec.http.client.generator.core.implementation.OperationInstrumentationInfo;
 import com.microsoft.typespec.http.client.generator.core.mapper.CollectionUtil;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import io.clientcore.core.utils.CoreUtils;
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -519,6 +521,20 @@ public class ClientMethod {
                     imports.add("java.util.List");
                     imports.add("java.util.Map");
                     ClassType.BINARY_DATA.addImportsTo(imports, includeImplementationImports);
+                    if (settings.isAzureV1()) {
+                        // for the helper method reading the page, see TemplateUtil.writePagingHelperMethods
+                        imports.add("com.azure.json.JsonProviders");
+                        imports.add(ClassType.JSON_READER.getFullName());
+                        imports.add(ClassType.JSON_TOKEN.getFullName());
+                        imports.add(IOException.class.getName());
+                        ClassType.PAGED_RESPONSE.addImportsTo(imports, false);
+                    }
+                }
+
+                if (type == ClientMethodType.PagingSync && ClientModelUtil.isPagePrefetch(this, settings)) {
+                    // the helper class is in the implementation package
+                    imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                        + ClientModelUtil.PAGE_PREFETCHER);
                 }
             }
 
@@ -5,16 +5,19 @@ package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * The collection of all client models stored for inheritance lookup.
+ * <p>
+ * The collection is safe for concurrent access, as templates are rendered concurrently.
  */
 public class ClientModels {
     private static final ClientModels INSTANCE = new ClientModels();
-    private final Map<String, ClientModel> nameMap = new HashMap<>();
+    private final Map<String, ClientModel> nameMap = Collections.synchronizedMap(new HashMap<>());
 
 //    private final Map<String, ArrayList<ClientModel>> derivedTypesMap = new HashMap<String, ArrayList<ClientModel>>();
     private ClientModels() {
@@ -55,7 +58,9 @@ public class ClientModels {
 //    }
 
     public final List<ClientModel> getModels() {
-        return new ArrayList<>(nameMap.values());
+        synchronized (nameMap) {
+            return new ArrayList<>(nameMap.values());
+        }
     }
 
 //    private ArrayList<ClientModel> getDerivedTypeList(String parentModelName) {
@@ -21,6 +21,7 @@ public class Pom {
     private String licenseUrl;
 
     private boolean requireCompilerPlugins = false;
+    private boolean requireBenchmarkProfile = false;
 
     public List<String> getDependencyIdentifiers() {
         return dependencyIdentifiers;
@@ -111,6 +112,15 @@ public class Pom {
         return this;
     }
 
+    public boolean isRequireBenchmarkProfile() {
+        return requireBenchmarkProfile;
+    }
+
+    public Pom setRequireBenchmarkProfile(boolean requireBenchmarkProfile) {
+        this.requireBenchmarkProfile = requireBenchmarkProfile;
+        return this;
+    }
+
     public Map<String, String> getRepositories() {
         return repositories;
     }
@@ -93,6 +93,11 @@ public class ProxyMethod {
      * The media-types in response.
      */
     private final Set<String> responseContentTypes;
+    /**
+     * The types of the elements of the JSON Lines request and response bodies.
+     */
+    private final IType requestElementType;
+    private final IType responseElementType;
 
     private final Map<String, ProxyMethodExample> examples;
 
@@ -123,6 +128,8 @@ public class ProxyMethod {
             .rawResponseBodyType(rawResponseBodyType)
             .isResumable(isResumable)
             .responseContentTypes(responseContentTypes)
+            .requestElementType(requestElementType)
+            .responseElementType(responseElementType)
             .examples(examples)
             .specialHeaders(specialHeaders)
             .operationId(operationId)
@@ -148,6 +155,8 @@ public class ProxyMethod {
      * @param description The description of this method.
      * @param isResumable Whether this method is resumable.
      * @param responseContentTypes The media-types in response.
+     * @param requestElementType The type of the elements of the JSON Lines request body.
+     * @param responseElementType The type of the elements of the JSON Lines response body.
      * @param operationId the operation ID
      * @param examples the examples for the method.
      * @param specialHeaders list of special headers
@@ -159,9 +168,9 @@ public class ProxyMethod {
         Map<ClassType, List<Integer>> unexpectedResponseExceptionTypes, String name,
         List<ProxyMethodParameter> parameters, List<ProxyMethodParameter> allParameters, String description,
         IType returnValueWireType, IType responseBodyType, IType rawResponseBodyType, boolean isResumable,
-        Set<String> responseContentTypes, String operationId, Map<String, ProxyMethodExample> examples,
-        List<String> specialHeaders, boolean isSync, String baseName, boolean customHeaderIgnored,
-        String implementation) {
+        Set<String> responseContentTypes, IType requestElementType, IType responseElementType, String operationId,
+        Map<String, ProxyMethodExample> examples, List<String> specialHeaders, boolean isSync, String baseName,
+        boolean customHeaderIgnored, String implementation) {
         this.requestContentType = requestContentType;
         this.returnType = returnType;
         this.httpMethod = httpMethod;
@@ -179,6 +188,8 @@ public class ProxyMethod {
         this.rawResponseBodyType = rawResponseBodyType;
         this.isResumable = isResumable;
         this.responseContentTypes = responseContentTypes;
+        this.requestElementType = requestElementType;
+        this.responseElementType = responseElementType;
         this.operationId = operationId;
         this.examples = examples;
         this.specialHeaders = specialHeaders;
@@ -284,6 +295,26 @@ public class ProxyMethod {
         return responseContentTypes;
     }
 
+    /**
+     * Gets the type of the elements of the JSON Lines request body.
+     *
+     * @return the type of the elements of the JSON Lines request body, or null if the request body is not JSON Lines,
+     * or the type is unknown.
+     */
+    public final IType getRequestElementType() {
+        return requestElementType;
+    }
+
+    /**
+     * Gets the type of the elements of the JSON Lines response body.
+     *
+     * @return the type of the elements of the JSON Lines response body, or null if the response body is not JSON
+     * Lines, or the type is unknown.
+     */
+    public final IType getResponseElementType() {
+        return responseElementType;
+    }
+
     public String getOperationId() {
         return operationId;
     }
@@ -359,6 +390,8 @@ public class ProxyMethod {
             .unexpectedResponseExceptionTypes(this.getUnexpectedResponseExceptionTypes())
             .allParameters(allSyncParams)
             .responseContentTypes(this.getResponseContentTypes())
+            .requestElementType(this.getRequestElementType())
+            .responseElementType(this.getResponseElementType())
             .responseExpectedStatusCodes(this.getResponseExpectedStatusCodes())
             .isSync(true)
             .customHeaderIgnored(this.customHeaderIgnored)
@@ -523,6 +556,8 @@ public class ProxyMethod {
         protected IType rawResponseBodyType;
         protected boolean isResumable;
         protected Set<String> responseContentTypes;
+        protected IType requestElementType;
+        protected IType responseElementType;
         protected Map<String, ProxyMethodExample> examples;
         protected String operationId;
         protected List<String> specialHeaders;
@@ -733,6 +768,28 @@ public class ProxyMethod {
             return this;
         }
 
+        /**
+         * Sets the type of the elements of the JSON Lines request body.
+         *
+         * @param requestElementType the type of the elements of the JSON Lines request body
+         * @return the Builder itself
+         */
+        public Builder requestElementType(IType requestElementType) {
+            this.requestElementType = requestElementType;
+            return this;
+        }
+
+        /**
+         * Sets the type of the elements of the JSON Lines response body.
+         *
+         * @param responseElementType the type of the elements of the JSON Lines response body
+         * @return the Builder itself
+         */
+        public Builder responseElementType(IType responseElementType) {
+            this.responseElementType = responseElementType;
+            return this;
+        }
+
         /**
          * Sets the examples for the method.
          *
@@ -790,7 +847,8 @@ public class ProxyMethod {
                 CollectionUtil.toImmutableMapOfList(unexpectedResponseExceptionTypes), name,
                 CollectionUtil.toImmutableList(parameters), CollectionUtil.toImmutableList(allParameters), description,
                 returnValueWireType, responseBodyType, rawResponseBodyType, isResumable,
-                CollectionUtil.toImmutableSet(responseContentTypes), operationId, examples,
+                CollectionUtil.toImmutableSet(responseContentTypes), requestElementType, responseElementType,
+                operationId, examples,
                 CollectionUtil.toImmutableList(specialHeaders), isSync, baseName, customHeaderIgnored, implementation);
         }
     }
@@ -24,14 +24,22 @@ public final class TypeSpecMetadata implements JsonSerializable<TypeSpecMetadata
     private final Map<String, String> crossLanguageDefinitions;
 
     private final List<String> generatedFiles;
+    private final Map<String, String> generatedFileDigests;
 
     public TypeSpecMetadata(String artifactId, String flavor, String apiVersion,
         Map<String, String> crossLanguageDefinitions, List<String> generatedFiles) {
+        this(artifactId, flavor, apiVersion, crossLanguageDefinitions, generatedFiles, null);
+    }
+
+    public TypeSpecMetadata(String artifactId, String flavor, String apiVersion,
+        Map<String, String> crossLanguageDefinitions, List<String> generatedFiles,
+        Map<String, String> generatedFileDigests) {
         this.artifactId = artifactId;
         this.flavor = flavor;
         this.apiVersion = apiVersion;
         this.crossLanguageDefinitions = crossLanguageDefinitions;
         this.generatedFiles = generatedFiles;
+        this.generatedFileDigests = generatedFileDigests;
     }
 
     public String getArtifactId() {
@@ -59,6 +67,16 @@ public final class TypeSpecMetadata implements JsonSerializable<TypeSpecMetadata
         return generatedFiles;
     }
 
+    /**
+     * Gets the SHA-256 digests of the content of generated Java files, keyed by file path. It is only recorded when
+     * generating with incremental output.
+     *
+     * @return the digests of generated Java files
+     */
+    public Map<String, String> getGeneratedFileDigests() {
+        return generatedFileDigests;
+    }
+
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
@@ -76,6 +94,9 @@ public final class TypeSpecMetadata implements JsonSerializable<TypeSpecMetadata
         if (!CoreUtils.isNullOrEmpty(generatedFiles)) {
             jsonWriter.writeArrayField("generatedFiles", this.generatedFiles, JsonWriter::writeString);
         }
+        if (!CoreUtils.isNullOrEmpty(generatedFileDigests)) {
+            jsonWriter.writeMapField("generatedFileDigests", this.generatedFileDigests, JsonWriter::writeString);
+        }
         return jsonWriter.writeEndObject();
     }
 
@@ -86,6 +107,7 @@ public final class TypeSpecMetadata implements JsonSerializable<TypeSpecMetadata
             String apiVersion = null;
             Map<String, String> crossLanguageDefinitions = null;
             List<String> generatedFiles = null;
+            Map<String, String> generatedFileDigests = null;
             while (reader.nextToken() != JsonToken.END_OBJECT) {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
@@ -100,11 +122,14 @@ public final class TypeSpecMetadata implements JsonSerializable<TypeSpecMetadata
                     crossLanguageDefinitions = reader.readMap(JsonReader::getString);
                 } else if ("generatedFiles".equals(fieldName)) {
                     generatedFiles = reader.readArray(JsonReader::getString);
+                } else if ("generatedFileDigests".equals(fieldName)) {
+                    generatedFileDigests = reader.readMap(JsonReader::getString);
                 } else {
                     reader.skipChildren();
                 }
             }
-            return new TypeSpecMetadata(artifactId, flavor, apiVersion, crossLanguageDefinitions, generatedFiles);
+            return new TypeSpecMetadata(artifactId, flavor, apiVersion, crossLanguageDefinitions, generatedFiles,
+                generatedFileDigests);
         });
     }
 }
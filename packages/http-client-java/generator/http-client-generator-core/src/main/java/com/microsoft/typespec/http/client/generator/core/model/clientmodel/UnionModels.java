@@ -3,14 +3,18 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * The collection of all union models. It is safe for concurrent access, as templates are rendered concurrently.
+ */
 public class UnionModels {
 
     private static final UnionModels INSTANCE = new UnionModels();
-    private final Map<String, List<UnionModel>> nameMap = new HashMap<>();
+    private final Map<String, List<UnionModel>> nameMap = Collections.synchronizedMap(new HashMap<>());
 
     private UnionModels() {
     }
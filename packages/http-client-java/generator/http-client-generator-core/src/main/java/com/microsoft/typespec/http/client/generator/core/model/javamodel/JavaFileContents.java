@@ -4,7 +4,8 @@
 package com.microsoft.typespec.http.client.generator.core.model.javamodel;
 
 import io.clientcore.core.utils.CoreUtils;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -12,20 +13,28 @@ import java.util.TreeSet;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Contents of a Java file, written line by line with indentation and comment prefixes.
+ * <p>
+ * The contents are kept in a single character buffer. Completed lines are each followed by a line break, and are
+ * followed by the text of the current line.
+ */
 public class JavaFileContents {
     private static final String SINGLE_INDENT = "    ";
+    private static final int WRITE_CHUNK_SIZE = 8192;
 
-    private final List<String> contents;
+    private final StringBuilder contents;
+    // start of the current line in contents, it is 0 if no line has been completed
+    private int currentLineStart = 0;
 
-    private String currentLine;
-    private String linePrefix;
+    private final StringBuilder linePrefix;
+    private boolean linePrefixBlank = true;
 
     private CurrentLineType currentLineType = CurrentLineType.Empty;
 
     public JavaFileContents() {
-        this.currentLine = "";
-        this.linePrefix = "";
-        this.contents = new ArrayList<>();
+        this.contents = new StringBuilder();
+        this.linePrefix = new StringBuilder();
     }
 
     private static String toString(List<JavaModifier> modifiers) {
@@ -34,24 +43,70 @@ public class JavaFileContents {
 
     @Override
     public String toString() {
-        return String.join("\n", contents) + currentLine;
+        if (currentLineStart == 0) {
+            return contents.toString();
+        }
+
+        // completed lines are joined by line breaks, the line break of the last completed line is not included
+        int length = contents.length();
+        if (currentLineStart == length) {
+            return contents.substring(0, length - 1);
+        }
+        return new StringBuilder(length - 1).append(contents, 0, currentLineStart - 1)
+            .append(contents, currentLineStart, length)
+            .toString();
+    }
+
+    /**
+     * Writes the contents to a writer, without creating a String of the contents. The text written is the same as
+     * {@link #toString()}.
+     *
+     * @param writer the writer.
+     * @throws IOException if the writer fails.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        char[] chunk = new char[WRITE_CHUNK_SIZE];
+        if (currentLineStart == 0) {
+            write(writer, 0, contents.length(), chunk);
+        } else {
+            write(writer, 0, currentLineStart - 1, chunk);
+            write(writer, currentLineStart, contents.length(), chunk);
+        }
+    }
+
+    private void write(Writer writer, int start, int end, char[] chunk) throws IOException {
+        for (int chunkStart = start; chunkStart < end; chunkStart += chunk.length) {
+            int chunkEnd = Math.min(end, chunkStart + chunk.length);
+            contents.getChars(chunkStart, chunkEnd, chunk, 0);
+            writer.write(chunk, 0, chunkEnd - chunkStart);
+        }
     }
 
+    /**
+     * Checks whether any completed line contains the text.
+     *
+     * @param str the text.
+     * @return whether any completed line contains the text.
+     */
     public boolean contains(String str) {
-        return contents.stream().anyMatch(line -> line.contains(str));
+        if (str.indexOf('\n') >= 0) {
+            // a line never contains a line break
+            return false;
+        }
+        // the first match is in the completed lines if there is any match there, and a match without line break
+        // cannot span two lines
+        int index = contents.indexOf(str);
+        return index >= 0 && index + str.length() < currentLineStart;
     }
 
     public final void addToPrefix(String toAdd) {
-        linePrefix += toAdd;
+        linePrefix.append(toAdd);
+        linePrefixBlank = linePrefixBlank && isBlank(toAdd, 0, toAdd.length());
     }
 
     private void removeFromPrefix(String toRemove) {
-        int toRemoveLength = toRemove.length();
-        if (linePrefix.length() <= toRemoveLength) {
-            linePrefix = "";
-        } else {
-            linePrefix = linePrefix.substring(0, linePrefix.length() - toRemoveLength);
-        }
+        linePrefix.setLength(Math.max(0, linePrefix.length() - toRemove.length()));
+        linePrefixBlank = isBlank(linePrefix, 0, linePrefix.length());
     }
 
     public final void indent(Runnable action) {
@@ -69,37 +124,46 @@ public class JavaFileContents {
     }
 
     private void text(String text, boolean addPrefix, boolean completeLastLine) {
-        String prefix = addPrefix ? linePrefix : null;
-
         if (text == null || text.isEmpty()) {
-            handleLine("", prefix, true, completeLastLine);
+            handleLine("", 0, 0, addPrefix, true, completeLastLine);
         } else {
             int lineStartIndex = 0;
             int textLength = text.length();
             while (lineStartIndex < textLength) {
                 int newLineCharacterIndex = text.indexOf('\n', lineStartIndex);
                 if (newLineCharacterIndex == -1) {
-                    handleLine(text.substring(lineStartIndex), prefix, true, completeLastLine);
+                    handleLine(text, lineStartIndex, textLength, addPrefix, true, completeLastLine);
                     break;
                 } else {
-                    handleLine(text.substring(lineStartIndex, newLineCharacterIndex), prefix, false, completeLastLine);
+                    handleLine(text, lineStartIndex, newLineCharacterIndex, addPrefix, false, completeLastLine);
                     lineStartIndex = newLineCharacterIndex + 1;
                 }
             }
         }
     }
 
-    private void handleLine(String line, String prefix, boolean lastLine, boolean completeLastLine) {
-        if (prefix != null
-            && (!prefix.trim().isEmpty() || (!prefix.isEmpty() && line != null && !line.trim().isEmpty()))) {
-            currentLine += prefix;
+    private void handleLine(String text, int start, int end, boolean addPrefix, boolean lastLine,
+        boolean completeLastLine) {
+        // a blank prefix, i.e. indentation, is not added to a blank line
+        if (addPrefix && linePrefix.length() > 0 && (!linePrefixBlank || !isBlank(text, start, end))) {
+            contents.append(linePrefix);
         }
 
-        currentLine += line;
+        contents.append(text, start, end);
         if (!lastLine || completeLastLine) {
-            contents.add(currentLine);
-            currentLine = "";
+            contents.append('\n');
+            currentLineStart = contents.length();
+        }
+    }
+
+    private static boolean isBlank(CharSequence text, int start, int end) {
+        // same as String.trim().isEmpty()
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
         }
+        return true;
     }
 
     public final void text(String text) {
@@ -63,6 +63,21 @@ public class JavaFileFactory {
         return javaFile;
     }
 
+    public final JavaFile createBenchmarkFile(String packageKeyword, String fileNameWithoutExtension) {
+        String folderPath
+            = Paths.get("src", "benchmark", "java", packageKeyword.replace('.', File.separatorChar)).toString();
+        String filePath = Paths.get(folderPath)
+            .resolve(String.format("%1$s.java", fileNameWithoutExtension))
+            .toString()
+            .replace('\\', '/')
+            .replace("//", "/");
+        JavaFile javaFile = new JavaFile(filePath);
+
+        addCommentAndPackage(javaFile, packageKeyword);
+
+        return javaFile;
+    }
+
     private void addCommentAndPackage(JavaFile javaFile, String packageName) {
         String headerComment = settings.getFileHeaderText();
         if (headerComment != null && !headerComment.isEmpty()) {
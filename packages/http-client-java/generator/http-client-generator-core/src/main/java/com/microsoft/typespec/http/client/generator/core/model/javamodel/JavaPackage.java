@@ -30,6 +30,7 @@ import com.microsoft.typespec.http.client.generator.core.model.projectmodel.Text
 import com.microsoft.typespec.http.client.generator.core.model.xmlmodel.XmlFile;
 import com.microsoft.typespec.http.client.generator.core.template.ChangelogTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ClientMethodTestTemplate;
+import com.microsoft.typespec.http.client.generator.core.template.ModelBenchmarkTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ModelTestTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ProtocolSampleBlankTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ProtocolTestBaseTemplate;
@@ -50,11 +51,14 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
 public class JavaPackage {
@@ -67,11 +71,14 @@ public class JavaPackage {
 
     private final JavaFileFactory javaFileFactory;
 
-    private final Set<String> filePaths = new HashSet<>();
+    private final Set<String> filePaths = Collections.synchronizedSet(new HashSet<>());
+
+    // Java files rendered by the current thread within addConcurrently, to be added after all items are rendered.
+    private final ThreadLocal<List<JavaFile>> pendingJavaFiles = new ThreadLocal<>();
 
     public JavaPackage(NewPlugin host) {
         this.settings = JavaSettings.getInstance();
-        this.javaFiles = new ArrayList<>();
+        this.javaFiles = Collections.synchronizedList(new ArrayList<>());
         this.xmlFiles = new ArrayList<>();
         this.javaFileFactory = new JavaFileFactory(settings);
         this.logger = new PluginLogger(host, JavaPackage.class);
@@ -241,9 +248,48 @@ public class JavaPackage {
     }
 
     protected void addJavaFile(JavaFile javaFile) {
-        this.checkDuplicateFile(javaFile.getFilePath());
-        filePaths.add(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        List<JavaFile> pending = pendingJavaFiles.get();
+        if (pending != null) {
+            pending.add(javaFile);
+            return;
+        }
+
+        synchronized (javaFiles) {
+            this.checkDuplicateFile(javaFile.getFilePath());
+            filePaths.add(javaFile.getFilePath());
+            javaFiles.add(javaFile);
+        }
+    }
+
+    /**
+     * Renders the items concurrently, via the add methods of this package called by the action.
+     * <p>
+     * Java files rendered for an item are held until all items are rendered, then added in the order of the items.
+     * Hence the order of the Java files is the same as when the items are rendered one by one.
+     *
+     * @param items the items to render.
+     * @param action the action to render an item, e.g. {@code model -> javaPackage.addModel(...)}.
+     * @param <T> the type of the item.
+     */
+    public final <T> void addConcurrently(List<T> items, Consumer<T> action) {
+        if (items.size() <= 1) {
+            items.forEach(action);
+            return;
+        }
+
+        List<List<JavaFile>> renderedJavaFiles = items.parallelStream().map(item -> {
+            List<JavaFile> previous = pendingJavaFiles.get();
+            List<JavaFile> pending = new ArrayList<>(1);
+            pendingJavaFiles.set(pending);
+            try {
+                action.accept(item);
+            } finally {
+                pendingJavaFiles.set(previous);
+            }
+            return pending;
+        }).collect(Collectors.toList());
+
+        renderedJavaFiles.forEach(files -> files.forEach(this::addJavaFile));
     }
 
     public void addProtocolExamples(ProtocolExample protocolExample) {
@@ -319,6 +365,33 @@ public class JavaPackage {
         }
     }
 
+    public void addModelBenchmark(ClientModel model) {
+        try {
+            final String packageName = JavaSettings.getInstance().getPackage("generated");
+
+            String className = model.getName();
+            if (JavaSettings.getInstance().isAzureV1()) {
+                className = ClassNameUtil.truncateClassName(JavaSettings.getInstance().getPackage(),
+                    "src/benchmark/java", packageName, className, "Benchmarks");
+            } else {
+                className = className + "Benchmarks";
+            }
+
+            JavaFile javaFile = javaFileFactory.createBenchmarkFile(packageName, className);
+            ModelBenchmarkTemplate.getInstance()
+                .write(new ModelBenchmarkTemplate.ModelBenchmarkInfo(className, model), javaFile);
+            if (!this.checkDuplicateFile(javaFile.getFilePath())) {
+                addJavaFile(javaFile);
+            }
+        } catch (PossibleCredentialException e) {
+            // skip this benchmark file
+            logger.warn("Skip benchmark for model '{}', caused by key '{}'", model.getName(), e.getKeyName());
+        } catch (ConstantStringTooLongException e) {
+            // skip this benchmark file
+            logger.warn("Skip benchmark for model '{}', JSON string is too long.", model.getName());
+        }
+    }
+
     public void addReadmeMarkdown(Project project) {
         TextFile textFile = new TextFile("README.md", new ReadmeTemplate().write(project));
         this.checkDuplicateFile(textFile.getFilePath());
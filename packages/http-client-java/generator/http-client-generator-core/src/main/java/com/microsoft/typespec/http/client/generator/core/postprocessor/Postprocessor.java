@@ -6,12 +6,15 @@ package com.microsoft.typespec.http.client.generator.core.postprocessor;
 import com.microsoft.typespec.http.client.generator.core.customization.Customization;
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateHandler;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.FormatCache;
 import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.utils.CoreUtils;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -28,6 +31,8 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 
 public class Postprocessor {
+    private static final String FORMAT_CACHE_DIRECTORY = "target/typespec-java/format-cache";
+
     protected final NewPlugin plugin;
     private final Logger logger;
 
@@ -91,15 +96,20 @@ public class Postprocessor {
                     return;
                 }
             } else if (className.endsWith(".java")) {
-                customizationClass = loadCustomizationClassFromJavaCode(className, getBaseDirectory(plugin), logger);
+                // compiling the customization class is part of the customization
+                customizationClass = GenerationMetrics.getInstance()
+                    .time(GenerationMetrics.CUSTOMIZATION,
+                        () -> loadCustomizationClassFromJavaCode(className, getBaseDirectory(plugin), logger));
             } else {
                 throw new RuntimeException("Invalid customization class " + className);
             }
 
-            try {
+            try (GenerationMetrics.Phase phase
+                = GenerationMetrics.getInstance().startPhase(GenerationMetrics.CUSTOMIZATION)) {
                 Customization customization = customizationClass.getConstructor().newInstance();
                 logger.info("Running customization, this may take a while...");
                 fileContents = customization.run(fileContents, logger);
+                phase.setFileCount(fileContents.size());
             } catch (Exception e) {
                 logger.error("Unable to complete customization", e);
                 throw new RuntimeException("Unable to complete customization", e);
@@ -116,10 +126,21 @@ public class Postprocessor {
     public static void writeToFiles(Map<String, String> javaFiles, NewPlugin plugin, Logger logger) {
         JavaSettings settings = JavaSettings.getInstance();
         if (settings.isHandlePartialUpdate()) {
-            handlePartialUpdate(javaFiles, plugin, logger);
+            try (GenerationMetrics.Phase phase
+                = GenerationMetrics.getInstance().startPhase(GenerationMetrics.PARTIAL_UPDATE)) {
+                handlePartialUpdate(javaFiles, plugin, logger);
+                phase.setFileCount(javaFiles.size());
+            }
+        }
+
+        FormatCache formatCache = null;
+        String outputFolder = settings.getAutorestSettings().getOutputFolder();
+        if (settings.isFormatCache() && !CoreUtils.isNullOrEmpty(outputFolder)) {
+            // Kept under "target", so that it is ignored by source control and not packaged with the SDK.
+            formatCache = new FormatCache(Paths.get(outputFolder, FORMAT_CACHE_DIRECTORY));
         }
 
-        CodeFormatterUtil.formatCode(javaFiles, plugin, logger);
+        CodeFormatterUtil.formatCode(javaFiles, formatCache, plugin, logger);
     }
 
     private static String getReadme(NewPlugin plugin) {
@@ -211,9 +232,13 @@ public class Postprocessor {
                 // check if existingFile exists, if not, no need to handle partial update
                 if (Files.exists(existingFilePath)) {
                     try {
+                        GenerationMetrics.FileEvent fileEvent
+                            = GenerationMetrics.startFileEvent(GenerationMetrics.PARTIAL_UPDATE, path);
                         String existingFileContent = Files.readString(existingFilePath);
-                        return PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent,
-                            existingFileContent);
+                        String updatedFileContent = PartialUpdateHandler
+                            .handlePartialUpdateForFile(generatedFileContent, existingFileContent);
+                        fileEvent.commit();
+                        return updatedFileContent;
                     } catch (IOException e) {
                         logger.error("Unable to get content from file path", e);
                         throw new UncheckedIOException(e);
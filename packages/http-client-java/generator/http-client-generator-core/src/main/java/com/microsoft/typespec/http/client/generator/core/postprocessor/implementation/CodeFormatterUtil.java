@@ -11,20 +11,32 @@ import com.github.javaparser.printer.configuration.imports.DefaultImportOrdering
 import com.google.googlejavaformat.FormatterDiagnostic;
 import com.google.googlejavaformat.java.FormatterException;
 import com.google.googlejavaformat.java.RemoveUnusedImports;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.util.Constants;
-import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jface.text.Document;
@@ -37,6 +49,7 @@ import org.w3c.dom.NodeList;
  * Utility class that handles code formatting.
  */
 public final class CodeFormatterUtil {
+    private static final int SLOWEST_FILES_TO_REPORT = 5;
 
     /**
      * Formats the given files by removing unused imports and applying Eclipse code formatting.
@@ -45,7 +58,35 @@ public final class CodeFormatterUtil {
      * @param plugin The plugin to use to write the formatted files.
      */
     public static void formatCode(Map<String, String> files, NewPlugin plugin, Logger logger) {
-        formatCodeInternal(files, logger).forEach(entry -> plugin.writeFile(entry.getKey(), entry.getValue(), null));
+        formatCode(files, null, plugin, logger);
+    }
+
+    /**
+     * Formats the given files by removing unused imports and applying Eclipse code formatting.
+     * <p>
+     * Files found in the format cache are not formatted again, and newly formatted files are added to the cache.
+     *
+     * @param files The files to format.
+     * @param formatCache The format cache, or null if no cache is used.
+     * @param plugin The plugin to use to write the formatted files.
+     */
+    public static void formatCode(Map<String, String> files, FormatCache formatCache, NewPlugin plugin, Logger logger) {
+        GenerationMetrics metrics = GenerationMetrics.getInstance();
+        List<Map.Entry<String, String>> formattedFiles;
+        try (GenerationMetrics.Phase phase = metrics.startPhase(GenerationMetrics.FORMAT)) {
+            formattedFiles = formatCodeInternal(files, formatCache, logger).collect(Collectors.toList());
+            phase.setFileCount(formattedFiles.size());
+        }
+
+        try (GenerationMetrics.Phase phase = metrics.startPhase(GenerationMetrics.WRITE)) {
+            for (Map.Entry<String, String> entry : formattedFiles) {
+                GenerationMetrics.FileEvent fileEvent
+                    = GenerationMetrics.startFileEvent(GenerationMetrics.WRITE, entry.getKey());
+                plugin.writeFile(entry.getKey(), entry.getValue(), null);
+                fileEvent.commit();
+            }
+            phase.setFileCount(formattedFiles.size());
+        }
     }
 
     /**
@@ -56,30 +97,191 @@ public final class CodeFormatterUtil {
      * @throws RuntimeException If code formatting fails.
      */
     public static List<String> formatCode(Map<String, String> files) {
-        return formatCodeInternal(files, null).map(Map.Entry::getValue).collect(Collectors.toList());
+        return formatCodeInternal(files, null, null).map(Map.Entry::getValue).collect(Collectors.toList());
     }
 
-    private static Stream<Map.Entry<String, String>> formatCodeInternal(Map<String, String> files, Logger logger) {
-        Map<String, String> eclipseSettings = loadEclipseSettings();
-        DefaultImportOrderingStrategy orderingStrategy = new DefaultImportOrderingStrategy();
-        orderingStrategy.setSortImportsAlphabetically(true);
+    /*
+     * In previous iterations of code formatting, we let Spotless use Google Java Formatter to remove unused imports.
+     * This worked well when code was valid, but when there were errors Spotless would halt processing on the first
+     * issue found. This meant that resolving issues were difficult, as it could take many iterations to resolve the
+     * regressions introduced.
+     *
+     * This then resulted in a new design where when Spotless failed on the entire fileset we would run Spotless
+     * individually on each file, and log the error message with the file content. This worked, but was tremendously
+     * slow as it required running many Maven processes, one for each file.
+     *
+     * This new implementation takes a dependency on google-java-format to run Google Java Formatter ourselves. This
+     * allows us to control error handling by processing all files, in-memory (much faster than letting Spotless run
+     * Google Java Formatter), and capturing all issues before attempting Spotless formatting (which now excludes
+     * unused import removal).
+     *
+     * Generated files are now only parsed by the Eclipse formatter, as ImportOrganizer removes unused imports with a
+     * lexical scan. Google Java Formatter still parses the files ImportOrganizer cannot handle, and the files Eclipse
+     * formatter found syntax errors in, to capture the issues.
+     */
+    private static Stream<Map.Entry<String, String>> formatCodeInternal(Map<String, String> files,
+        FormatCache formatCache, Logger logger) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>(files.entrySet());
+        List<Future<FormatResult>> futures = new ArrayList<>(entries.size());
+
+        long start = System.nanoTime();
+        for (Map.Entry<String, String> entry : entries) {
+            futures.add(
+                FormatterPool.EXECUTOR.submit(() -> formatFile(entry.getKey(), entry.getValue(), formatCache, logger)));
+        }
 
-        return removeUnusedImports(files.entrySet(), logger).stream().map(entry -> {
+        // Collect results in the order of the input files, so that output is deterministic regardless of the order
+        // the workers finished in.
+        List<FormatResult> results = new ArrayList<>(futures.size());
+        for (Future<FormatResult> future : futures) {
             try {
-                String file = reorderImports(entry.getValue(), orderingStrategy);
-                file = formatCode(file, entry.getKey(), ToolFactory.createCodeFormatter(eclipseSettings));
-                return Map.entry(entry.getKey(), file);
-            } catch (Exception e) {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new RuntimeException("Interrupted while formatting files.", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Tracker for errors encountered while running Google Java Formatter.
+        StringBuilder errorCapture = new StringBuilder();
+        for (FormatResult result : results) {
+            if (result.unusedImportsError != null) {
+                String[] fileLines = result.originalContent.split("\n");
+                // Capture the error message and continue processing other files.
+                for (FormatterDiagnostic diagnostic : result.unusedImportsError.diagnostics()) {
+                    appendDiagnosticError(errorCapture, diagnostic, result.fileName, fileLines, logger);
+                }
+            }
+        }
+
+        if (errorCapture.length() > 0) {
+            throw new IllegalStateException("Google Java Formatter encountered errors:\n" + errorCapture);
+        }
+
+        for (FormatResult result : results) {
+            if (result.formatError != null) {
                 // print file content
                 String errorMessage
-                    = "Failed to format file: " + entry.getKey() + ". File content: \n" + entry.getValue();
+                    = "Failed to format file: " + result.fileName + ". File content: \n" + result.originalContent;
                 if (logger != null) {
                     logger.error(errorMessage);
                 }
 
-                throw new RuntimeException(errorMessage, e);
+                throw new RuntimeException(errorMessage, result.formatError);
             }
-        });
+        }
+
+        if (formatCache != null) {
+            formatCache.evict(logger);
+        }
+
+        if (logger != null) {
+            logFormatTimings(results, elapsedMillis, logger);
+            if (formatCache != null) {
+                logger.info("Format cache hits: {}, misses: {}", formatCache.getHits(), formatCache.getMisses());
+            }
+        }
+
+        return results.stream().map(result -> Map.entry(result.fileName, result.formattedContent));
+    }
+
+    /**
+     * Formats a single file by removing unused imports, reordering imports, and applying Eclipse code formatting.
+     * <p>
+     * This runs on a {@link FormatterPool} worker thread and uses the worker's {@link CodeFormatter}.
+     *
+     * @param fileName The name of the file.
+     * @param content The content of the file.
+     * @param formatCache The format cache, or null if no cache is used.
+     * @param logger The logger.
+     * @return The result of formatting the file.
+     */
+    private static FormatResult formatFile(String fileName, String content, FormatCache formatCache, Logger logger) {
+        long start = System.nanoTime();
+        GenerationMetrics.FileEvent fileEvent = GenerationMetrics.startFileEvent(GenerationMetrics.FORMAT, fileName);
+        FormatResult result = new FormatResult(fileName, content);
+        try {
+            if (formatCache != null) {
+                result.formattedContent = formatCache.get(fileName, content);
+                if (result.formattedContent != null) {
+                    return result;
+                }
+            }
+
+            // Generated code has a simple import section, which can be organized with a lexical scan, so that the
+            // Eclipse formatter is the only parser of the file. Only fall back to Google Java Formatter and JavaParser
+            // if it cannot.
+            String file = ImportOrganizer.organizeImports(content);
+            boolean validated = false;
+            if (file == null) {
+                try {
+                    // Use Google Java Formatter to remove unused imports.
+                    file = RemoveUnusedImports.removeUnusedImports(content);
+                    validated = true;
+                } catch (FormatterException ex) {
+                    result.unusedImportsError = ex;
+                    return result;
+                }
+                file = reorderImports(file, FormatterPool.IMPORT_ORDERING_STRATEGY);
+            }
+
+            CodeFormatter codeFormatter = FormatterPool.CODE_FORMATTER.get();
+            String formattedContent = formatCode(file, fileName, codeFormatter);
+            if (!validated && FormatterPool.hasSyntaxErrors(fileName, file)) {
+                // Eclipse formatter formats the file regardless of syntax errors, let Google Java Formatter parse the
+                // file for the diagnostics.
+                try {
+                    RemoveUnusedImports.removeUnusedImports(content);
+                } catch (FormatterException ex) {
+                    result.unusedImportsError = ex;
+                    return result;
+                }
+            }
+            result.formattedContent = formattedContent;
+
+            if (formatCache != null) {
+                formatCache.put(fileName, content, result.formattedContent, logger);
+            }
+        } catch (Exception e) {
+            result.formatError = e;
+        } finally {
+            result.elapsedNanos = System.nanoTime() - start;
+            fileEvent.commit();
+        }
+
+        return result;
+    }
+
+    private static void logFormatTimings(List<FormatResult> results, long elapsedMillis, Logger logger) {
+        if (logger.isDebugEnabled()) {
+            for (FormatResult result : results) {
+                logger.debug("Formatted file {} in {} ms", result.fileName,
+                    TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos));
+            }
+        }
+
+        List<FormatResult> slowestFiles = results.stream()
+            .sorted(Comparator.comparingLong((FormatResult result) -> result.elapsedNanos).reversed())
+            .limit(SLOWEST_FILES_TO_REPORT)
+            .collect(Collectors.toList());
+        logger.info("Formatted {} files in {} ms, using {} threads. Slowest files: {}", results.size(), elapsedMillis,
+            FormatterPool.THREAD_COUNT,
+            slowestFiles.stream()
+                .map(result -> result.fileName + " (" + TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos) + " ms)")
+                .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Gets a fingerprint of the formatter settings, which changes whenever the formatting result may change.
+     *
+     * @return The fingerprint of the formatter settings.
+     */
+    static String getFormatterSettingsFingerprint() {
+        return new TreeMap<>(FormatterPool.ECLIPSE_SETTINGS).toString();
     }
 
     /**
@@ -120,7 +322,7 @@ public final class CodeFormatterUtil {
      * @return The Java file with reordered imports, or if the file has no imports the file as-is.
      */
     @SuppressWarnings("OptionalGetWithoutIsPresent")
-    private static String reorderImports(String file, ImportOrderingStrategy orderingStrategy) {
+    static String reorderImports(String file, ImportOrderingStrategy orderingStrategy) {
         CompilationUnit compilationUnit = StaticJavaParser.parse(file);
         com.github.javaparser.ast.NodeList<ImportDeclaration> imports = compilationUnit.getImports();
         if (imports.isEmpty()) {
@@ -208,51 +410,6 @@ public final class CodeFormatterUtil {
         return doc.get();
     }
 
-    /*
-     * In previous iterations of code formatting, we let Spotless use Google Java Formatter to remove unused imports.
-     * This worked well when code was valid, but when there were errors Spotless would halt processing on the first
-     * issue found. This meant that resolving issues were difficult, as it could take many iterations to resolve the
-     * regressions introduced.
-     *
-     * This then resulted in a new design where when Spotless failed on the entire fileset we would run Spotless
-     * individually on each file, and log the error message with the file content. This worked, but was tremendously
-     * slow as it required running many Maven processes, one for each file.
-     *
-     * This new implementation takes a dependency on google-java-format to run Google Java Formatter ourselves. This
-     * allows us to control error handling by processing all files, in-memory (much faster than letting Spotless run
-     * Google Java Formatter), and capturing all issues before attempting Spotless formatting (which now excludes
-     * unused import removal).
-     */
-    private static List<Map.Entry<String, String>> removeUnusedImports(Collection<Map.Entry<String, String>> files,
-        Logger logger) {
-        List<Map.Entry<String, String>> updatedFiles = new ArrayList<>(files.size());
-
-        // Tracker for errors encountered while running Google Java Formatter.
-        StringBuilder errorCapture = new StringBuilder();
-
-        for (Map.Entry<String, String> file : files) {
-            String content = file.getValue();
-            try {
-                // Use Google Java Formatter to remove unused imports.
-                updatedFiles.add(
-                    new AbstractMap.SimpleEntry<>(file.getKey(), RemoveUnusedImports.removeUnusedImports(content)));
-            } catch (FormatterException ex) {
-                String[] fileLines = content.split("\n");
-                // Capture the error message and continue processing other files.
-                for (FormatterDiagnostic diagnostic : ex.diagnostics()) {
-                    appendDiagnosticError(errorCapture, diagnostic, file.getKey(), fileLines, logger);
-                }
-            }
-            file.setValue(content);
-        }
-
-        if (errorCapture.length() > 0) {
-            throw new IllegalStateException("Google Java Formatter encountered errors:\n" + errorCapture);
-        }
-
-        return updatedFiles;
-    }
-
     private static void appendDiagnosticError(StringBuilder errorCapture, FormatterDiagnostic diagnostic,
         String fileName, String[] fileLines, Logger logger) {
         int lineNumber = diagnostic.line();
@@ -282,4 +439,86 @@ public final class CodeFormatterUtil {
         errorCapture.append(diagnosticMessage);
     }
 
+    /**
+     * Process-wide resources for formatting, initialized on first use.
+     * <p>
+     * Formatting is CPU bound, so the pool is bounded by the number of available processors. Each worker thread
+     * creates its own {@link CodeFormatter} once and reuses it for every file it formats, as JDT formatters are not
+     * thread-safe but are reusable.
+     */
+    private static final class FormatterPool {
+        private static final Map<String, String> ECLIPSE_SETTINGS = loadEclipseSettings();
+
+        private static final DefaultImportOrderingStrategy IMPORT_ORDERING_STRATEGY;
+
+        static {
+            IMPORT_ORDERING_STRATEGY = new DefaultImportOrderingStrategy();
+            IMPORT_ORDERING_STRATEGY.setSortImportsAlphabetically(true);
+        }
+
+        private static final ThreadLocal<CodeFormatter> CODE_FORMATTER
+            = ThreadLocal.withInitial(() -> ToolFactory.createCodeFormatter(ECLIPSE_SETTINGS));
+
+        private static final Map<String, String> COMPILER_OPTIONS = new HashMap<>();
+
+        static {
+            JavaCore.setComplianceOptions(JavaCore.latestSupportedJavaVersion(), COMPILER_OPTIONS);
+        }
+
+        private static final int THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREAD_COUNT, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "code-formatter-" + threadNumber.getAndIncrement());
+                // Daemon threads, so that the pool does not prevent JVM from exiting.
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        /**
+         * Checks whether the file has syntax errors, by parsing it with the Eclipse parser.
+         * <p>
+         * Bindings are not resolved, hence only the syntax errors are reported.
+         *
+         * @param fileName The name of the file.
+         * @param content The content of the file.
+         * @return Whether the file has syntax errors.
+         */
+        private static boolean hasSyntaxErrors(String fileName, String content) {
+            ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+            parser.setKind(ASTParser.K_COMPILATION_UNIT);
+            parser.setCompilerOptions(COMPILER_OPTIONS);
+            parser.setUnitName(fileName.substring(fileName.lastIndexOf('/') + 1));
+            parser.setSource(content.toCharArray());
+            org.eclipse.jdt.core.dom.CompilationUnit compilationUnit
+                = (org.eclipse.jdt.core.dom.CompilationUnit) parser.createAST(null);
+            for (IProblem problem : compilationUnit.getProblems()) {
+                if (problem.isError()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The result of formatting a single file.
+     */
+    private static final class FormatResult {
+        private final String fileName;
+        private final String originalContent;
+        private String formattedContent;
+        private FormatterException unusedImportsError;
+        private Exception formatError;
+        private long elapsedNanos;
+
+        private FormatResult(String fileName, String originalContent) {
+            this.fileName = fileName;
+            this.originalContent = originalContent;
+        }
+    }
 }
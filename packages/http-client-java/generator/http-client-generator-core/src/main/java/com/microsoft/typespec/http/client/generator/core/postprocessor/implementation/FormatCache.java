@@ -0,0 +1,227 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.jdt.internal.compiler.env.IModule;
+import org.slf4j.Logger;
+
+/**
+ * On-disk cache of formatted Java files.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the unformatted file content and the formatter settings, and hold the
+ * result of {@link CodeFormatterUtil} formatting (unused import removal, import reordering and Eclipse formatting).
+ * Regenerating an SDK where most files didn't change then skips formatting for all but the changed files.
+ * <p>
+ * The cache is bounded by total size on disk. When the bound is exceeded, the least recently used entries are
+ * evicted. Any I/O failure in the cache is logged and treated as a cache miss, it never fails code generation.
+ */
+public final class FormatCache {
+    /**
+     * Version of the cache entries. Increase it whenever formatting changes in a way that isn't captured by the
+     * formatter settings, such as upgrading google-java-format or Eclipse JDT, so that stale entries are not used.
+     */
+    private static final String CACHE_VERSION = "1";
+
+    private static final long DEFAULT_MAX_SIZE_IN_BYTES = 256L * 1024 * 1024;
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final String settingsFingerprint;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * Creates a cache stored in the given directory, bounded by the default maximum size.
+     *
+     * @param directory The directory of the cache.
+     */
+    public FormatCache(Path directory) {
+        this(directory, DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+    FormatCache(Path directory, long maxSizeInBytes) {
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.settingsFingerprint = CACHE_VERSION + "\n" + CodeFormatterUtil.getFormatterSettingsFingerprint();
+    }
+
+    /**
+     * Gets the formatted content of the file from the cache.
+     *
+     * @param fileName The name of the file.
+     * @param content The unformatted content of the file.
+     * @return The formatted content of the file, or null if it isn't in the cache.
+     */
+    String get(String fileName, String content) {
+        Path entry = getEntryPath(fileName, content);
+        try {
+            String formattedContent = Files.readString(entry, StandardCharsets.UTF_8);
+            // Last modified time is used as last access time for eviction.
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.incrementAndGet();
+            return formattedContent;
+        } catch (IOException e) {
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Puts the formatted content of the file into the cache.
+     *
+     * @param fileName The name of the file.
+     * @param content The unformatted content of the file.
+     * @param formattedContent The formatted content of the file.
+     * @param logger The logger.
+     */
+    void put(String fileName, String content, String formattedContent, Logger logger) {
+        Path entry = getEntryPath(fileName, content);
+        try {
+            Files.createDirectories(entry.getParent());
+            // Write to a temporary file then move it, so that a concurrent reader never sees a partial entry.
+            Path tempFile = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try {
+                Files.writeString(tempFile, formattedContent, StandardCharsets.UTF_8);
+                try {
+                    Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            if (logger != null) {
+                logger.warn("Unable to write format cache entry for file: {}", fileName, e);
+            }
+        }
+    }
+
+    /**
+     * Evicts the least recently used entries, until the cache is within its maximum size.
+     *
+     * @param logger The logger.
+     */
+    void evict(Logger logger) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<CacheEntry> entries = new ArrayList<>();
+        long totalSize = 0;
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    entries.add(new CacheEntry(file, attributes.size(), attributes.lastModifiedTime()));
+                    totalSize += attributes.size();
+                } catch (NoSuchFileException e) {
+                    // Removed by a concurrent run.
+                }
+            }
+        } catch (IOException e) {
+            if (logger != null) {
+                logger.warn("Unable to list format cache directory: {}", directory, e);
+            }
+            return;
+        }
+
+        if (totalSize <= maxSizeInBytes) {
+            return;
+        }
+
+        entries.sort(Comparator.comparing(entry -> entry.lastAccessTime));
+        int evicted = 0;
+        for (CacheEntry entry : entries) {
+            if (totalSize <= maxSizeInBytes) {
+                break;
+            }
+
+            try {
+                Files.deleteIfExists(entry.path);
+                totalSize -= entry.size;
+                evicted++;
+            } catch (IOException e) {
+                // Ignore, it will be evicted in a later run.
+            }
+        }
+
+        if (logger != null) {
+            logger.info("Evicted {} entries from format cache.", evicted);
+        }
+    }
+
+    /**
+     * Gets the number of cache hits.
+     *
+     * @return The number of cache hits.
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses.
+     *
+     * @return The number of cache misses.
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private Path getEntryPath(String fileName, String content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        digest.update(settingsFingerprint.getBytes(StandardCharsets.UTF_8));
+        // module-info.java is formatted differently from other files.
+        digest.update((byte) (fileName.endsWith(IModule.MODULE_INFO_JAVA) ? 1 : 0));
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+
+        String hash = toHexString(digest.digest());
+        // Two-level layout, to avoid too many files in a single directory.
+        return directory.resolve(hash.substring(0, 2)).resolve(hash.substring(2));
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static final class CacheEntry {
+        private final Path path;
+        private final long size;
+        private final FileTime lastAccessTime;
+
+        private CacheEntry(Path path, long size, FileTime lastAccessTime) {
+            this.path = path;
+            this.size = size;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+}
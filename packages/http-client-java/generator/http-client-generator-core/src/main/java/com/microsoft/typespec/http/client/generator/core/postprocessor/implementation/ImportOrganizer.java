@@ -0,0 +1,345 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Removes unused imports, and sorts and de-duplicates the remaining imports of a Java file, without parsing the file.
+ * <p>
+ * Generated code always writes one import declaration per line, directly after the package declaration. For such
+ * files the import section can be found with a line scan, and the names used by the rest of the file can be collected
+ * with a single lexical scan, which is much cheaper than building a syntax tree. The result is identical to removing
+ * unused imports with google-java-format, then reordering the imports with JavaParser: an import is unused if it is
+ * from "java.lang" or the package of the file, or if its simple name is neither used as an identifier (not qualified
+ * by a "." or "::") nor referenced in Javadoc; static imports come first, then imports sorted by name, duplicates
+ * removed.
+ * <p>
+ * If the file has any shape the scan doesn't understand (multi-line or multiple imports on a line, trailing comments,
+ * block comments in the import section, unterminated comments or literals), {@link #organizeImports(String)} returns
+ * null so the caller can fall back to the parser based implementation.
+ */
+final class ImportOrganizer {
+    private static final Pattern IMPORT_PATTERN
+        = Pattern.compile("^import\\s+(static\\s+)?([\\p{javaJavaIdentifierPart}.]+?)(\\.\\*)?\\s*;\\s*$");
+    private static final Pattern PACKAGE_PATTERN
+        = Pattern.compile("^package\\s+([\\p{javaJavaIdentifierPart}.\\s]+?)\\s*;\\s*$");
+
+    // Javadoc tags which take a reference, e.g. "{@link Type#member(ParameterType)}" or "@throws Type".
+    private static final Pattern JAVADOC_INLINE_REFERENCE_PATTERN = Pattern.compile("\\{@(?:link|linkplain|value)\\s");
+    private static final Pattern JAVADOC_BLOCK_REFERENCE_PATTERN
+        = Pattern.compile("(?m)^[\\s*]*@(?:see|throws|exception)\\s+");
+
+    private static final Comparator<ImportLine> IMPORT_ORDER
+        = Comparator.comparingInt((ImportLine importLine) -> importLine.isStatic ? 0 : 1)
+            .thenComparing(importLine -> importLine.name);
+
+    private ImportOrganizer() {
+    }
+
+    /**
+     * Removes unused imports, and sorts and de-duplicates the remaining imports of the Java file.
+     *
+     * @param file The Java file to organize imports for.
+     * @return The Java file with organized imports, the file as-is if it has no imports, or null if the file cannot be
+     * handled without a parser.
+     */
+    static String organizeImports(String file) {
+        List<String> lines = file.lines().collect(Collectors.toList());
+
+        String packageName = null;
+        int importStartLine = -1;
+        int importEndLine = -1;
+        boolean inBlockComment = false;
+        List<ImportLine> imports = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            String trimmed = line.trim();
+
+            if (inBlockComment) {
+                if (importStartLine >= 0) {
+                    // Block comment within the import section.
+                    return null;
+                }
+                inBlockComment = !trimmed.contains("*/");
+                continue;
+            }
+
+            if (trimmed.startsWith("import ") || trimmed.startsWith("import\t")) {
+                Matcher matcher = IMPORT_PATTERN.matcher(line);
+                if (!matcher.matches()) {
+                    return null;
+                }
+
+                if (importStartLine < 0) {
+                    importStartLine = i;
+                }
+                importEndLine = i;
+                imports.add(new ImportLine(i, matcher.group(1) != null, matcher.group(2), matcher.group(3) != null));
+            } else if (trimmed.startsWith("/*") && importStartLine < 0) {
+                inBlockComment = !trimmed.contains("*/");
+            } else if (trimmed.startsWith("package ") && importStartLine < 0 && packageName == null) {
+                Matcher matcher = PACKAGE_PATTERN.matcher(trimmed);
+                if (!matcher.matches()) {
+                    return null;
+                }
+                packageName = matcher.group(1).replaceAll("\\s", "");
+            } else if (!trimmed.isEmpty() && !trimmed.startsWith("//")) {
+                // Javadoc or first line of the type or module declaration, there should be no more imports. If there
+                // is anything looking like an import after it, let the parser decide.
+                if (lines.stream().skip(i).anyMatch(l -> l.startsWith("import"))) {
+                    return null;
+                }
+                break;
+            }
+        }
+
+        if (importStartLine < 0) {
+            // File has no imports, nothing to organize.
+            return file;
+        }
+
+        // Lines in the import section are only imports, blank lines and line comments, so the rest of the file is
+        // everything before and after it.
+        Set<String> usedNames = collectUsedNames(String.join("\n", lines.subList(0, importStartLine)) + "\n"
+            + String.join("\n", lines.subList(importEndLine + 1, lines.size())));
+        if (usedNames == null) {
+            return null;
+        }
+
+        Set<Integer> unusedImportLines = new HashSet<>();
+        List<ImportLine> usedImports = new ArrayList<>();
+        for (ImportLine importLine : imports) {
+            if (isUnused(importLine, packageName, usedNames)) {
+                unusedImportLines.add(importLine.line);
+            } else {
+                usedImports.add(importLine);
+            }
+        }
+
+        // List.sort is stable, same as the JavaParser ordering strategy.
+        usedImports.sort(IMPORT_ORDER);
+        Set<String> distinctImports = new LinkedHashSet<>();
+        for (ImportLine importLine : usedImports) {
+            distinctImports.add(importLine.toString());
+        }
+
+        // Unused imports are removed with their line. The used imports are sorted in place, from the first to the last
+        // used import, dropping anything in between.
+        int usedImportStartLine = usedImports.stream().mapToInt(importLine -> importLine.line).min().orElse(-1);
+        int usedImportEndLine = usedImports.stream().mapToInt(importLine -> importLine.line).max().orElse(-1);
+        List<String> organizedLines = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            if (i == usedImportStartLine) {
+                organizedLines.addAll(distinctImports);
+                i = usedImportEndLine;
+            } else if (!unusedImportLines.contains(i)) {
+                organizedLines.add(lines.get(i));
+            }
+        }
+
+        return String.join("\n", organizedLines);
+    }
+
+    private static boolean isUnused(ImportLine importLine, String packageName, Set<String> usedNames) {
+        int lastDot = importLine.name.lastIndexOf('.');
+        String qualifier = importLine.isAsterisk ? importLine.name : importLine.name.substring(0, Math.max(lastDot, 0));
+        if ("java.lang".equals(qualifier) || qualifier.equals(packageName)) {
+            return true;
+        }
+        return !importLine.isAsterisk && !usedNames.contains(importLine.name.substring(lastDot + 1));
+    }
+
+    /**
+     * Collects the simple names the code may refer to an import by.
+     * <p>
+     * These are the identifiers not qualified by a "." or "::", and the names referenced by Javadoc tags. Names in
+     * comments, string, text block and character literals are skipped.
+     *
+     * @param code The code, excluding the import declarations.
+     * @return The names used by the code, or null if the code has an unterminated comment or literal.
+     */
+    private static Set<String> collectUsedNames(String code) {
+        Set<String> usedNames = new HashSet<>();
+        int length = code.length();
+        boolean qualified = false;
+        int i = 0;
+        while (i < length) {
+            char c = code.charAt(i);
+            char next = (i + 1 < length) ? code.charAt(i + 1) : 0;
+            if (c == '/' && next == '/') {
+                int end = code.indexOf('\n', i);
+                i = (end < 0) ? length : end;
+            } else if (c == '/' && next == '*') {
+                int end = code.indexOf("*/", i + 2);
+                if (end < 0) {
+                    return null;
+                }
+                if (i + 2 < end && code.charAt(i + 2) == '*') {
+                    collectJavadocNames(code.substring(i + 3, end), usedNames);
+                }
+                i = end + 2;
+            } else if (c == '"' || c == '\'') {
+                i = skipLiteral(code, i);
+                if (i < 0) {
+                    return null;
+                }
+                qualified = false;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                do {
+                    i++;
+                } while (i < length && Character.isJavaIdentifierPart(code.charAt(i)));
+                if (!qualified) {
+                    usedNames.add(code.substring(start, i));
+                }
+                qualified = false;
+            } else if (Character.isDigit(c)) {
+                // Numeric literal, e.g. "0x1Fl", "1_000", "1.5e3d".
+                do {
+                    i++;
+                } while (i < length && (Character.isJavaIdentifierPart(code.charAt(i)) || code.charAt(i) == '.'));
+                qualified = false;
+            } else if (c == '.' && next == '.') {
+                // Varargs "...".
+                i += 3;
+                qualified = false;
+            } else if (c == '.' || (c == ':' && next == ':')) {
+                i += (c == '.') ? 1 : 2;
+                qualified = true;
+            } else {
+                if (!Character.isWhitespace(c)) {
+                    qualified = false;
+                }
+                i++;
+            }
+        }
+        return usedNames;
+    }
+
+    /**
+     * Skips a string, text block or character literal.
+     *
+     * @param code The code.
+     * @param start The index of the opening quote.
+     * @return The index after the closing quote, or -1 if the literal is unterminated.
+     */
+    private static int skipLiteral(String code, int start) {
+        char quote = code.charAt(start);
+        if (quote == '"' && code.startsWith("\"\"\"", start)) {
+            int i = start + 3;
+            while (i < code.length()) {
+                if (code.charAt(i) == '\\') {
+                    i += 2;
+                } else if (code.startsWith("\"\"\"", i)) {
+                    return i + 3;
+                } else {
+                    i++;
+                }
+            }
+            return -1;
+        }
+
+        int i = start + 1;
+        while (i < code.length()) {
+            char c = code.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else if (c == '\n') {
+                return -1;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Collects the names referenced by the Javadoc tags which take a reference, e.g. "Type" and "ParameterType" of
+     * "{@link Type.Nested#member(ParameterType)}". Only the first identifier of a qualified name is a name in scope.
+     *
+     * @param javadoc The Javadoc comment, without the delimiters.
+     * @param usedNames The names used by the code.
+     */
+    private static void collectJavadocNames(String javadoc, Set<String> usedNames) {
+        if (javadoc.indexOf('@') < 0) {
+            return;
+        }
+
+        Matcher inlineMatcher = JAVADOC_INLINE_REFERENCE_PATTERN.matcher(javadoc);
+        while (inlineMatcher.find()) {
+            collectReferenceNames(javadoc, inlineMatcher.end(), usedNames);
+        }
+        Matcher blockMatcher = JAVADOC_BLOCK_REFERENCE_PATTERN.matcher(javadoc);
+        while (blockMatcher.find()) {
+            collectReferenceNames(javadoc, blockMatcher.end(), usedNames);
+        }
+    }
+
+    private static void collectReferenceNames(String javadoc, int start, Set<String> usedNames) {
+        int i = start;
+        while (i < javadoc.length() && Character.isWhitespace(javadoc.charAt(i))) {
+            i++;
+        }
+
+        // Qualifier, until the member, the end of the tag, or the label.
+        int qualifierStart = i;
+        while (i < javadoc.length()
+            && (Character.isJavaIdentifierPart(javadoc.charAt(i)) || javadoc.charAt(i) == '.')) {
+            i++;
+        }
+        int qualifierEnd = qualifierStart;
+        while (qualifierEnd < i && Character.isJavaIdentifierPart(javadoc.charAt(qualifierEnd))) {
+            qualifierEnd++;
+        }
+        if (qualifierEnd > qualifierStart && Character.isJavaIdentifierStart(javadoc.charAt(qualifierStart))) {
+            usedNames.add(javadoc.substring(qualifierStart, qualifierEnd));
+        }
+
+        // Member, and its parameter types.
+        if (i < javadoc.length() && javadoc.charAt(i) == '#') {
+            do {
+                i++;
+            } while (i < javadoc.length() && Character.isJavaIdentifierPart(javadoc.charAt(i)));
+            if (i < javadoc.length() && javadoc.charAt(i) == '(') {
+                int end = javadoc.indexOf(')', i);
+                if (end > i) {
+                    Set<String> parameterNames = collectUsedNames(javadoc.substring(i + 1, end));
+                    if (parameterNames != null) {
+                        usedNames.addAll(parameterNames);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class ImportLine {
+        private final int line;
+        private final boolean isStatic;
+        private final String name;
+        private final boolean isAsterisk;
+
+        private ImportLine(int line, boolean isStatic, String name, boolean isAsterisk) {
+            this.line = line;
+            this.isStatic = isStatic;
+            this.name = name;
+            this.isAsterisk = isAsterisk;
+        }
+
+        @Override
+        public String toString() {
+            return "import " + (isStatic ? "static " : "") + name + (isAsterisk ? ".*" : "") + ";";
+        }
+    }
+}
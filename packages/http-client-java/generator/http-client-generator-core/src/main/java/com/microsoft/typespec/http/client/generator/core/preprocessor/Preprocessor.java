@@ -14,6 +14,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SealedChoiceSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
@@ -83,19 +84,23 @@ public class Preprocessor extends NewPlugin {
             //
         }
 
-        CodeModel codeModel;
+        GenerationMetrics metrics = GenerationMetrics.getInstance();
+        CodeModel loadedCodeModel;
         try {
             // YAML
-            codeModel = yamlMapper.loadAs(file, CodeModel.class);
+            loadedCodeModel = metrics.time(GenerationMetrics.LOAD, () -> yamlMapper.loadAs(file, CodeModel.class));
         } catch (Exception e) {
             System.err.println("Got an error " + e.getMessage());
             connection.sendError(1, 500, "Cannot parse input into code model: " + e.getMessage());
             throw new RuntimeException("Cannot parse input into code model.", e);
         }
 
-        performPretransformUpdates(codeModel);
-        codeModel = new Transformer().transform(codeModel);
-        performPosttransformUpdates(codeModel);
+        CodeModel codeModel = metrics.time(GenerationMetrics.TRANSFORM, () -> {
+            performPretransformUpdates(loadedCodeModel);
+            CodeModel transformedCodeModel = new Transformer().transform(loadedCodeModel);
+            performPosttransformUpdates(transformedCodeModel);
+            return transformedCodeModel;
+        });
 
         Representer representer = new Representer(new DumperOptions()) {
             @Override
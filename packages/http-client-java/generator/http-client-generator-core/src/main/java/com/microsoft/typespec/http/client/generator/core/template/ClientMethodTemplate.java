@@ -31,6 +31,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaInt
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJavadocComment;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.CollectionFormat;
 import com.microsoft.typespec.http.client.generator.core.util.MethodNamer;
@@ -829,13 +830,15 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                     addQueryParameterReInjectionLogic(nextLinkReInjection, function);
                 }
 
-                function.line("return new PagedIterable<>(");
+                boolean pagePrefetch = ClientModelUtil.isPagePrefetch(clientMethod, settings);
+                function.line(
+                    pagePrefetch ? "return PagePrefetcher.createPagedIterable(" : "return new PagedIterable<>(");
                 function.indent(() -> {
                     function.line("%s,",
                         this.getPagingSinglePageExpression(clientMethod,
                             clientMethod.getProxyMethod().getPagingSinglePageMethodName(),
                             clientMethod.getArgumentList(), settings));
-                    function.line("%s);",
+                    function.line(pagePrefetch ? "%s, " + settings.getPagePrefetchDepth() + ");" : "%s);",
                         this.getPagingNextPageExpression(clientMethod,
                             clientMethod.getMethodPageDetails()
                                 .getNextMethod()
@@ -982,24 +985,19 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
 
     protected void pagedSinglePageResponseConversion(ProxyMethod restAPIMethod, ClientMethod clientMethod,
         JavaSettings settings, JavaBlock function) {
+        if (settings.isDataPlaneClient()) {
+            function.line("return %s;", pagedResponseConversion(clientMethod));
+            return;
+        }
+
         function.line("return new PagedResponseBase<>(");
         function.line("res.getRequest(),");
         function.line("res.getStatusCode(),");
         function.line("res.getHeaders(),");
-        if (settings.isDataPlaneClient()) {
-            function.line("getValues(res.getValue(), \"%s\"),",
-                clientMethod.getMethodPageDetails().getSerializedItemName());
-        } else {
-            function.line("res.getValue().%s(),",
-                CodeNamer.getModelNamer().modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-        }
+        function.line("res.getValue().%s(),",
+            CodeNamer.getModelNamer().modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
         if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-            if (settings.isDataPlaneClient()) {
-                function.line("getNextLink(res.getValue(), \"%s\"),",
-                    clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-            } else {
-                function.line(nextLinkLine(clientMethod));
-            }
+            function.line(nextLinkLine(clientMethod));
         } else {
             function.line("null,");
         }
@@ -1011,6 +1009,22 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
         }
     }
 
+    /**
+     * Gets the expression that converts the BinaryData response "res" of a protocol paging method to PagedResponse.
+     * <p>
+     * The items and the next link are read from the page in a single pass, see
+     * {@link TemplateUtil#writeClientMethodsAndHelpers(JavaClass, List)}.
+     *
+     * @param clientMethod the paging client method.
+     * @return the expression.
+     */
+    private static String pagedResponseConversion(ClientMethod clientMethod) {
+        MethodPageDetails pageDetails = clientMethod.getMethodPageDetails();
+        String nextLinkPath
+            = pageDetails.nonNullNextLink() ? "\"" + pageDetails.getSerializedNextLinkName() + "\"" : "null";
+        return "toPagedResponse(res, \"" + pageDetails.getSerializedItemName() + "\", " + nextLinkPath + ")";
+    }
+
     protected void generatePagingSync(ClientMethod clientMethod, JavaType typeBlock, JavaSettings settings) {
         addServiceMethodAnnotation(typeBlock, ReturnType.COLLECTION);
         writeMethod(typeBlock, clientMethod.getMethodVisibility(), clientMethod.getDeclaration(), function -> {
@@ -1032,7 +1046,9 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                             + TemplateUtil.getContextNone() + ");");
                 }
 
-                function.line("return new PagedIterable<>(");
+                boolean pagePrefetch = ClientModelUtil.isPagePrefetch(clientMethod, settings);
+                function.line(
+                    pagePrefetch ? "return PagePrefetcher.createPagedIterable(" : "return new PagedIterable<>(");
 
                 String nextMethodArgs = clientMethod.getMethodPageDetails()
                     .getNextMethod()
@@ -1042,7 +1058,7 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                 function.indent(() -> {
                     function.line("%s,", this.getPagingSinglePageExpression(clientMethod,
                         clientMethod.getProxyMethod().getPagingSinglePageMethodName(), firstPageArgs, settings));
-                    function.line("%s);",
+                    function.line(pagePrefetch ? "%s, " + settings.getPagePrefetchDepth() + ");" : "%s);",
                         this.getPagingNextPageExpression(clientMethod,
                             clientMethod.getMethodPageDetails()
                                 .getNextMethod()
@@ -1444,25 +1460,20 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                 function.line("return FluxUtil.withContext(context -> " + serviceMethodCall + ")");
             }
             function.indent(() -> {
+                if (settings.isDataPlaneClient() && settings.isAzureV1()) {
+                    function.line(".map(res -> %s);", pagedResponseConversion(clientMethod));
+                    return;
+                }
+
                 function.line(".map(res -> new PagedResponseBase<>(");
                 function.indent(() -> {
                     function.line("res.getRequest(),");
                     function.line("res.getStatusCode(),");
                     function.line("res.getHeaders(),");
-                    if (settings.isDataPlaneClient() && settings.isAzureV1()) {
-                        function.line("getValues(res.getValue(), \"%s\"),",
-                            clientMethod.getMethodPageDetails().getSerializedItemName());
-                    } else {
-                        function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
-                            .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-                    }
+                    function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
+                        .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
                     if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-                        if (settings.isDataPlaneClient() && settings.isAzureV1()) {
-                            function.line("getNextLink(res.getValue(), \"%s\"),",
-                                clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-                        } else {
-                            function.line(nextLinkLine(clientMethod));
-                        }
+                        function.line(nextLinkLine(clientMethod));
                     } else {
                         function.line("null,");
                     }
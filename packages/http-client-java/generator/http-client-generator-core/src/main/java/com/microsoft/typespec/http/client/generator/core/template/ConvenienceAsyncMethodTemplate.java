@@ -13,6 +13,8 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Gener
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.utils.CoreUtils;
 import java.util.List;
@@ -43,6 +45,21 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
         }
     }
 
+    @Override
+    public void write(ConvenienceMethod convenienceMethodObj, JavaClass classBlock,
+        Set<GenericType> typeReferenceStaticClasses) {
+        super.write(convenienceMethodObj, classBlock, typeReferenceStaticClasses);
+
+        if (isMethodIncluded(convenienceMethodObj)) {
+            // typed overloads of the convenience methods that send or receive a JSON Lines body
+            convenienceMethodObj.getConvenienceMethods()
+                .stream()
+                .filter(this::isMethodIncluded)
+                .filter(m -> m.getMethodVisibilityInWrapperClient() == JavaVisibility.Public)
+                .forEach(m -> JsonLinesMethodTemplate.write(m, classBlock));
+        }
+    }
+
     @Override
     protected boolean isMethodIncluded(ClientMethod method) {
         return isMethodAsync(method) && isMethodVisible(method) && !method.isImplementationOnly();
@@ -71,8 +88,9 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
         IType rawResponseBodyType = convenienceMethod.getProxyMethod().getRawResponseBodyType();
 
         if (methodType == ClientMethodType.PagingAsync) {
+            // page items are not deserialized through JsonSerializationHelper
             String expressionMapFromBinaryData = expressionMapFromBinaryData(responseBodyType, rawResponseBodyType,
-                protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses);
+                protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses, false);
             if (expressionMapFromBinaryData == null) {
                 // no need to do the map
                 methodBlock
@@ -134,7 +152,7 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
     private String expressionConvertFromBinaryData(IType responseBodyType, IType rawType, Set<String> mediaTypes,
         Set<GenericType> typeReferenceStaticClasses) {
         String expressionMapFromBinaryData
-            = expressionMapFromBinaryData(responseBodyType, rawType, mediaTypes, typeReferenceStaticClasses);
+            = expressionMapFromBinaryData(responseBodyType, rawType, mediaTypes, typeReferenceStaticClasses, true);
         if (expressionMapFromBinaryData != null) {
             return String.format(".map(%s)", expressionMapFromBinaryData);
         } else {
@@ -144,7 +162,7 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
     }
 
     private String expressionMapFromBinaryData(IType responseBodyType, IType rawType, Set<String> mediaTypes,
-        Set<GenericType> typeReferenceStaticClasses) {
+        Set<GenericType> typeReferenceStaticClasses, boolean useJsonSerializationHelper) {
         SupportedMimeType mimeType = SupportedMimeType.getResponseKnownMimeType(mediaTypes);
         // TODO (weidxu): support XML etc.
         switch (mimeType) {
@@ -162,7 +180,13 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
 
             default:
                 // JSON etc.
-                if (responseBodyType instanceof EnumType) {
+                String jsonSerializableExpression = useJsonSerializationHelper
+                    ? expressionFromJsonSerializable(responseBodyType, "protocolMethodData")
+                    : null;
+                if (jsonSerializableExpression != null) {
+                    // model, or List or Map of models, deserialized by fromJson
+                    return "protocolMethodData -> " + jsonSerializableExpression;
+                } else if (responseBodyType instanceof EnumType) {
                     // enum
                     return String.format("protocolMethodData -> %1$s.from%2$s(protocolMethodData.toObject(%2$s.class))",
                         responseBodyType, ((EnumType) responseBodyType).getElementType());
@@ -447,6 +447,12 @@ abstract class ConvenienceMethodTemplateBase {
         // JsonMergePatchHelper class
         imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
             + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
+
+        // JsonSerializationHelper class
+        if (isJsonDirectSerialization()) {
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                + ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME);
+        }
     }
 
     protected void addGeneratedAnnotation(JavaType typeBlock) {
@@ -579,6 +585,12 @@ abstract class ConvenienceMethodTemplateBase {
                     } else if (type instanceof EnumType) {
                         return "BinaryData.fromObject(" + name + " == null ? null : " + name + "."
                             + ((EnumType) type).getToMethodName() + "())";
+                    } else if (isJsonDirectSerialization(type)) {
+                        return ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME + ".toBinaryData(" + name + ")";
+                    } else if (isJsonDirectSerialization() && ClientModelUtil.getJsonWriteValueCallback(type) != null) {
+                        // List or Map of models
+                        return ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME + ".toBinaryData(" + name + ", "
+                            + ClientModelUtil.getJsonWriteValueCallback(type) + ")";
                     } else {
                         return "BinaryData.fromObject(" + name + ")";
                     }
@@ -586,6 +598,35 @@ abstract class ConvenienceMethodTemplateBase {
         }
     }
 
+    private static boolean isJsonDirectSerialization() {
+        // JsonSerializationHelper is only available for azure-core
+        JavaSettings settings = JavaSettings.getInstance();
+        return settings.isAzureV1() && settings.isJsonDirectSerialization();
+    }
+
+    private static boolean isJsonDirectSerialization(IType type) {
+        return isJsonDirectSerialization() && ClientModelUtil.isJsonSerializableModel(type);
+    }
+
+    /**
+     * Gets the expression to deserialize the BinaryData of a JSON response body by the fromJson of the models.
+     *
+     * @param responseBodyType the type of the response body.
+     * @param binaryDataExpression the expression of the BinaryData.
+     * @return the expression to deserialize the BinaryData, or null if the type is not a model, or a List or Map of
+     * models, or such models are not deserialized by their fromJson.
+     */
+    protected static String expressionFromJsonSerializable(IType responseBodyType, String binaryDataExpression) {
+        if (!isJsonDirectSerialization()) {
+            return null;
+        }
+        String readValueCallback = ClientModelUtil.getJsonReadValueCallback(responseBodyType);
+        return readValueCallback == null
+            ? null
+            : String.format("%1$s.fromBinaryData(%2$s, %3$s)", ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME,
+                binaryDataExpression, readValueCallback);
+    }
+
     private static void writeHeader(MethodParameter parameter, JavaBlock methodBlock) {
         Consumer<JavaBlock> writeLine
             = javaBlock -> javaBlock.line(String.format("requestOptions.setHeader(%1$s, %2$s);",
@@ -15,6 +15,8 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Gener
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.utils.CoreUtils;
 import java.util.List;
@@ -43,6 +45,21 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
         }
     }
 
+    @Override
+    public void write(ConvenienceMethod convenienceMethodObj, JavaClass classBlock,
+        Set<GenericType> typeReferenceStaticClasses) {
+        super.write(convenienceMethodObj, classBlock, typeReferenceStaticClasses);
+
+        if (isMethodIncluded(convenienceMethodObj)) {
+            // typed overloads of the convenience methods that send or receive a JSON Lines body
+            convenienceMethodObj.getConvenienceMethods()
+                .stream()
+                .filter(this::isMethodIncluded)
+                .filter(m -> m.getMethodVisibilityInWrapperClient() == JavaVisibility.Public)
+                .forEach(m -> JsonLinesMethodTemplate.write(m, classBlock));
+        }
+    }
+
     @Override
     protected boolean isMethodIncluded(ClientMethod method) {
         return !isMethodAsync(method) && isMethodVisible(method) && !method.isImplementationOnly();
@@ -96,10 +113,12 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
         if (convenienceMethod.getType() == ClientMethodType.PagingSync) {
             String mapPageExpression = "";
             if (JavaSettings.getInstance().isAzureV1()) {
+                // page items are not deserialized through JsonSerializationHelper
                 mapPageExpression
                     = ".mapPage(bodyItemValue -> "
                         + expressionConvertFromBinaryData(responseBodyType, rawResponseBodyType, "bodyItemValue",
-                            protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses)
+                            protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses,
+                            false)
                         + ")";
             }
             methodBlock.methodReturn(String.format("serviceClient.%1$s(%2$s)%3$s", protocolMethod.getName(),
@@ -118,7 +137,7 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
             if (protocolResponseBodyType == ClassType.BINARY_DATA) {
                 expressConversion
                     = expressionConvertFromBinaryData(responseBodyType, rawResponseBodyType, expressConversion,
-                        protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses);
+                        protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses, true);
             }
 
             if (isResponseBase(convenienceMethod.getReturnValue().getType())) {
@@ -135,7 +154,7 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
                 convertFromResponse);
             if (protocolResponseBodyType == ClassType.BINARY_DATA) {
                 statement = expressionConvertFromBinaryData(responseBodyType, rawResponseBodyType, statement,
-                    protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses);
+                    protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses, true);
             }
             if (convenienceMethod.getType() == ClientMethodType.SimpleSyncRestResponse) {
                 if (isResponseBase(convenienceMethod.getReturnValue().getType())) {
@@ -203,7 +222,7 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
     }
 
     private String expressionConvertFromBinaryData(IType responseBodyType, IType rawType, String invocationExpression,
-        Set<String> mediaTypes, Set<GenericType> typeReferenceStaticClasses) {
+        Set<String> mediaTypes, Set<GenericType> typeReferenceStaticClasses, boolean useJsonSerializationHelper) {
         SupportedMimeType mimeType = SupportedMimeType.getResponseKnownMimeType(mediaTypes);
         // TODO (weidxu): support XML etc.
         switch (mimeType) {
@@ -220,7 +239,13 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
 
             default:
                 // JSON etc.
-                if (responseBodyType instanceof EnumType) {
+                String jsonSerializableExpression = useJsonSerializationHelper
+                    ? expressionFromJsonSerializable(responseBodyType, invocationExpression)
+                    : null;
+                if (jsonSerializableExpression != null) {
+                    // model, or List or Map of models, deserialized by fromJson
+                    return jsonSerializableExpression;
+                } else if (responseBodyType instanceof EnumType) {
                     // enum
                     IType elementType = ((EnumType) responseBodyType).getElementType();
                     return String.format("%1$s.from%2$s(%3$s.toObject(%2$s.class))", responseBodyType, elementType,
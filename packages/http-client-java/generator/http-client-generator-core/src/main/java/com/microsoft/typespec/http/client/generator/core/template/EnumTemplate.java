@@ -10,6 +10,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaEnum;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
@@ -20,7 +21,10 @@ import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import io.clientcore.core.utils.CoreUtils;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Writes a EnumType to a JavaFile.
@@ -84,14 +88,20 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
             IType elementType = enumType.getElementType();
             String typeName = elementType.getClientType().toString();
             String pascalTypeName = CodeNamer.toPascalCase(typeName);
+            Map<String, String> knownValues = getKnownValues(enumType);
             for (ClientEnumValue enumValue : enumType.getValues()) {
                 String value = enumValue.getValue();
                 classBlock.javadocComment(CoreUtils.isNullOrEmpty(enumValue.getDescription())
                     ? "Static value " + value + " for " + enumName + "."
                     : enumValue.getDescription());
                 addGeneratedAnnotation(classBlock);
-                classBlock.publicStaticFinalVariable(String.format("%1$s %2$s = from%3$s(%4$s)", enumName,
-                    enumValue.getName(), pascalTypeName, elementType.defaultValueExpression(value)));
+                // the known values are registered directly, as fromString resolves them to these constants
+                String valueExpression = elementType.defaultValueExpression(value);
+                String knownValue = knownValues.get(valueExpression);
+                classBlock.publicStaticFinalVariable(String.format("%1$s %2$s = %3$s", enumName, enumValue.getName(),
+                    enumValue.getName().equals(knownValue)
+                        ? "fromString(" + valueExpression + ", " + enumName + ".class)"
+                        : knownValue));
             }
 
             // ctor, marked as Deprecated
@@ -120,8 +130,10 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
 
             classBlock.publicStaticMethod(String.format("%1$s from%2$s(%3$s name)", enumName, pascalTypeName, typeName),
                 function -> {
-                    String stringValue = (ClassType.STRING.equals(elementType)) ? "name" : "String.valueOf(name)";
-                    function.methodReturn("fromString(" + stringValue + ", " + enumName + ".class)");
+                    // known values are resolved without the lookup in the values of ExpandableStringEnum
+                    function.ifBlock("name == null", ifBlock -> ifBlock.methodReturn("null"));
+                    writeKnownValueSwitch(function, "name", knownValues,
+                        defaultBlock -> defaultBlock.methodReturn("fromString(name, " + enumName + ".class)"));
                 });
 
             // values()
@@ -136,6 +148,38 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
         });
     }
 
+    /**
+     * Gets the constants of the distinct values of the enum.
+     *
+     * @param enumType the enum type.
+     * @return the map from the expression of a value to the name of the first constant of that value.
+     */
+    private static Map<String, String> getKnownValues(EnumType enumType) {
+        Map<String, String> knownValues = new LinkedHashMap<>();
+        for (ClientEnumValue enumValue : enumType.getValues()) {
+            knownValues.putIfAbsent(enumType.getElementType().defaultValueExpression(enumValue.getValue()),
+                enumValue.getName());
+        }
+        return knownValues;
+    }
+
+    private static void writeKnownValueSwitch(JavaBlock block, String variableName, Map<String, String> knownValues,
+        Consumer<JavaBlock> defaultAction) {
+        if (knownValues.isEmpty()) {
+            defaultAction.accept(block);
+            return;
+        }
+
+        block.block("switch (" + variableName + ")", switchBlock -> {
+            knownValues.forEach((valueExpression, constant) -> {
+                switchBlock.line("case " + valueExpression + ":");
+                switchBlock.indent(() -> switchBlock.methodReturn(constant));
+            });
+            switchBlock.line("default:");
+            switchBlock.indent(() -> defaultAction.accept(switchBlock));
+        });
+    }
+
     private void writeEnum(EnumType enumType, JavaFile javaFile, JavaSettings settings) {
         Set<String> imports = new HashSet<>();
         if (!settings.isStreamStyleSerialization()) {
@@ -211,14 +255,18 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
 
     private void writeExpandableEnumInterface(EnumType enumType, JavaFile javaFile, JavaSettings settings) {
         Set<String> imports = new HashSet<>();
+        int cacheSize = settings.getExpandableEnumCacheSize();
         imports.add("java.util.Collection");
         imports.add("java.lang.IllegalArgumentException");
-        imports.add("java.util.Map");
-        imports.add("java.util.concurrent.ConcurrentHashMap");
+        if (cacheSize > 0) {
+            imports.add("java.util.List");
+            imports.add("java.util.Map");
+            imports.add("java.util.concurrent.ConcurrentHashMap");
+        }
         imports.add("java.util.ArrayList");
+        imports.add("java.util.Arrays");
         imports.add("java.util.Objects");
         imports.add(ClassType.EXPANDABLE_ENUM.getFullName());
-        imports.add("java.util.function.Function");
         if (!settings.isStreamStyleSerialization()) {
             imports.add("com.fasterxml.jackson.annotation.JsonCreator");
         } else {
@@ -246,19 +294,27 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
             declaration = String.format("%1$s implements ExpandableEnum<%2$s>", enumName, pascalTypeName);
         }
         javaFile.publicFinalClass(declaration, classBlock -> {
-            classBlock.privateStaticFinalVariable(
-                String.format("Map<%1$s, %2$s> VALUES = new ConcurrentHashMap<>()", pascalTypeName, enumName));
-            classBlock.privateStaticFinalVariable(
-                String.format("Function<%1$s, %2$s> NEW_INSTANCE = %2$s::new", pascalTypeName, enumName));
+            // known values are resolved to their constants without a lookup in a map, unknown values are cached up
+            // to a fixed number of values, so that values sent by a service cannot grow the cache without limit
+            if (cacheSize > 0) {
+                classBlock.privateStaticFinalVariable("int MAX_CACHED_UNKNOWN_VALUES = " + cacheSize);
+                classBlock.privateStaticFinalVariable(String.format(
+                    "Map<%1$s, %2$s> UNKNOWN_VALUES = new ConcurrentHashMap<>()", pascalTypeName, enumName));
+            }
 
+            Map<String, String> knownValues = getKnownValues(enumType);
             for (ClientEnumValue enumValue : enumType.getValues()) {
                 String value = enumValue.getValue();
                 classBlock.javadocComment(CoreUtils.isNullOrEmpty(enumValue.getDescription())
                     ? "Static value " + value + " for " + enumName + "."
                     : enumValue.getDescription());
                 addGeneratedAnnotation(classBlock);
-                classBlock.publicStaticFinalVariable(String.format("%1$s %2$s = fromValue(%3$s)", enumName,
-                    enumValue.getName(), elementType.defaultValueExpression(value)));
+                String valueExpression = elementType.defaultValueExpression(value);
+                String knownValue = knownValues.get(valueExpression);
+                classBlock.publicStaticFinalVariable(String.format("%1$s %2$s = %3$s", enumName, enumValue.getName(),
+                    enumValue.getName().equals(knownValue)
+                        ? "new " + enumName + "(" + valueExpression + ")"
+                        : knownValue));
             }
 
             classBlock.variable(pascalTypeName + " value", JavaVisibility.Private, JavaModifier.Final);
@@ -283,17 +339,52 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                 function -> {
                     function.ifBlock("value == null",
                         ifBlock -> ifBlock.line("throw new IllegalArgumentException(\"'value' cannot be null.\");"));
-                    function.methodReturn("VALUES.computeIfAbsent(value, NEW_INSTANCE)");
+                    String unknownValue = cacheSize > 0 ? "fromUnknownValue(value)" : "new " + enumName + "(value)";
+                    if (ClassType.STRING.equals(elementType.getClientType())) {
+                        writeKnownValueSwitch(function, "value", knownValues,
+                            defaultBlock -> defaultBlock.methodReturn(unknownValue));
+                    } else {
+                        // switch is not available for all types of values, e.g. Double, compare the values instead
+                        knownValues.values()
+                            .forEach(constant -> function.ifBlock(constant + ".value.equals(value)",
+                                ifBlock -> ifBlock.methodReturn(constant)));
+                        function.methodReturn(unknownValue);
+                    }
                 });
 
+            if (cacheSize > 0) {
+                classBlock.staticMethod(JavaVisibility.Private,
+                    String.format("%1$s fromUnknownValue(%2$s value)", enumName, pascalTypeName), function -> {
+                        function.line("%1$s unknownValue = UNKNOWN_VALUES.get(value);", enumName);
+                        function.ifBlock("unknownValue != null", ifBlock -> ifBlock.methodReturn("unknownValue"));
+                        function.line("unknownValue = new %1$s(value);", enumName);
+                        function.ifBlock("UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES", ifBlock -> {
+                            ifBlock.line("// the cache is full, the value is not retained");
+                            ifBlock.methodReturn("unknownValue");
+                        });
+                        function.line("%1$s existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);",
+                            enumName);
+                        function.methodReturn("existingValue == null ? unknownValue : existingValue");
+                    });
+            }
+
             // values
             classBlock.javadocComment(comment -> {
                 comment.description("Gets known " + enumName + " values.");
                 comment.methodReturns("Known " + enumName + " values.");
             });
             addGeneratedAnnotation(classBlock);
-            classBlock.publicStaticMethod(String.format("Collection<%s> values()", enumName),
-                function -> function.methodReturn("new ArrayList<>(VALUES.values())"));
+            String knownValueList = String.join(", ", knownValues.values());
+            classBlock.publicStaticMethod(String.format("Collection<%s> values()", enumName), function -> {
+                if (cacheSize > 0) {
+                    function.line("List<%1$s> values = new ArrayList<>(Arrays.asList(%2$s));", enumName,
+                        knownValueList);
+                    function.line("values.addAll(UNKNOWN_VALUES.values());");
+                    function.methodReturn("values");
+                } else {
+                    function.methodReturn("new ArrayList<>(Arrays.asList(" + knownValueList + "))");
+                }
+            });
 
             // getValue
             classBlock.javadocComment(comment -> {
@@ -344,12 +435,13 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                 function -> function.methodReturn("Objects.toString(this.value)"));
 
             // equals
-            // checkstyle needs both equals() and hashcode() override, so even if its implementation is identical to
-            // Object's equals(), we still need it
+            // unknown values are not retained when the cache is full, hence instances of the same value may differ
             addGeneratedAnnotation(classBlock);
             classBlock.annotation("Override");
             classBlock.method(JavaVisibility.Public, null, "boolean equals(Object obj)",
-                function -> function.methodReturn("this == obj"));
+                function -> function.methodReturn(String.format(
+                    "this == obj || (obj instanceof %1$s && Objects.equals(this.value, ((%1$s) obj).value))",
+                    enumName)));
 
             // hashcode
             addGeneratedAnnotation(classBlock);
@@ -0,0 +1,233 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Annotation;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJavadocComment;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Template to write the typed overloads of the methods that send or receive a JSON Lines body as BinaryData.
+ * <p>
+ * The element type is the model of the JSON Lines stream in the code model. For a method that sends a JSON Lines body,
+ * the sync overload takes an Iterator of the elements, which are serialized into the request body one line at a time
+ * by JsonLinesHelper, and the async overload takes a Flux of the elements. For a method that receives a JSON Lines
+ * body, the sync overload returns a Stream of the elements, parsed one line at a time from the response body, which
+ * closes the response body when it is closed, and the async overload returns a Flux of the elements, parsed on the
+ * boundedElastic Scheduler. The overloads delegate to the method, which is in the same class.
+ */
+public final class JsonLinesMethodTemplate {
+
+    private static final String METHOD_NAME_SUFFIX = "Elements";
+    private static final String ELEMENT_WRITER = "JsonWriter::writeJson";
+
+    private JsonLinesMethodTemplate() {
+    }
+
+    /**
+     * Checks whether the typed overloads would be written for the method.
+     *
+     * @param clientMethod the client method.
+     * @return whether the typed overloads would be written for the method.
+     */
+    public static boolean isJsonLinesMethod(ClientMethod clientMethod) {
+        return (clientMethod.getType() == ClientMethodType.SimpleSync
+            || clientMethod.getType() == ClientMethodType.SimpleAsync)
+            && (ClientModelUtil.isJsonLinesRequest(clientMethod) || ClientModelUtil.isJsonLinesResponse(clientMethod));
+    }
+
+    /**
+     * Adds the imports of the typed overloads, if any of the methods sends or receives a JSON Lines body.
+     *
+     * @param imports the set of imports.
+     * @param clientMethods the client methods.
+     */
+    public static void addImports(Set<String> imports, Collection<ClientMethod> clientMethods) {
+        List<ClientMethod> jsonLinesMethods
+            = clientMethods.stream().filter(JsonLinesMethodTemplate::isJsonLinesMethod).collect(Collectors.toList());
+        if (jsonLinesMethods.isEmpty()) {
+            return;
+        }
+
+        JavaSettings settings = JavaSettings.getInstance();
+        ClassType.BINARY_DATA.addImportsTo(imports, false);
+        ClassType.JSON_WRITER.addImportsTo(imports, false);
+        imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+            + ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME);
+        for (ClientMethod clientMethod : jsonLinesMethods) {
+            if (clientMethod.getType() == ClientMethodType.SimpleAsync) {
+                ClassType.FLUX.addImportsTo(imports, false);
+            } else {
+                if (ClientModelUtil.isJsonLinesRequest(clientMethod)) {
+                    imports.add(Iterator.class.getName());
+                }
+                if (ClientModelUtil.isJsonLinesResponse(clientMethod)) {
+                    imports.add(Stream.class.getName());
+                }
+            }
+            if (ClientModelUtil.isJsonLinesRequest(clientMethod)) {
+                clientMethod.getProxyMethod().getRequestElementType().addImportsTo(imports, false);
+            }
+            if (ClientModelUtil.isJsonLinesResponse(clientMethod)) {
+                clientMethod.getProxyMethod().getResponseElementType().addImportsTo(imports, false);
+            }
+        }
+    }
+
+    /**
+     * Writes the typed overloads of the method, if it sends or receives a JSON Lines body.
+     *
+     * @param clientMethod the client method.
+     * @param typeBlock the type block to write.
+     */
+    public static void write(ClientMethod clientMethod, JavaType typeBlock) {
+        if (clientMethod.getType() != ClientMethodType.SimpleSync
+            && clientMethod.getType() != ClientMethodType.SimpleAsync) {
+            return;
+        }
+
+        if (ClientModelUtil.isJsonLinesRequest(clientMethod)) {
+            writeRequestMethod(clientMethod, typeBlock);
+        }
+        if (ClientModelUtil.isJsonLinesResponse(clientMethod)) {
+            writeResponseMethod(clientMethod, typeBlock);
+        }
+    }
+
+    private static void writeRequestMethod(ClientMethod clientMethod, JavaType typeBlock) {
+        boolean isAsync = clientMethod.getType() == ClientMethodType.SimpleAsync;
+        IType elementType = clientMethod.getProxyMethod().getRequestElementType();
+        List<ClientMethodParameter> parameters = clientMethod.getMethodInputParameters();
+        ClientMethodParameter bodyParameter = parameters.stream()
+            .filter(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY
+                && p.getClientType() == ClassType.BINARY_DATA)
+            .findFirst()
+            .get();
+
+        String parametersDeclaration = parameters.stream().map(p -> {
+            if (p == bodyParameter) {
+                return (isAsync ? "Flux<" : "Iterator<") + elementType + "> " + p.getName();
+            } else {
+                return p.getDeclaration();
+            }
+        }).collect(Collectors.joining(", "));
+        // the async overload passes the BinaryData of the Flux of the lines to the method
+        String bodyVariableName = bodyParameter.getName() + "Content";
+        String bodyExpression = isAsync
+            ? bodyVariableName
+            : String.format("%1$s.writeElements(%2$s, %3$s)", ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME,
+                bodyParameter.getName(), ELEMENT_WRITER);
+        String invocation = clientMethod.getName() + "("
+            + parameters.stream()
+                .map(p -> p == bodyParameter ? bodyExpression : p.getName())
+                .collect(Collectors.joining(", "))
+            + ")";
+
+        typeBlock.javadocComment(comment -> {
+            comment.description(clientMethod.getDescription());
+            comment.line("<p>");
+            comment.line("The elements are serialized into the request body one line at a time, as the request body "
+                + "is sent.");
+            for (ClientMethodParameter parameter : parameters) {
+                if (parameter == bodyParameter) {
+                    comment.param(parameter.getName(), "the elements of the request body.");
+                } else {
+                    comment.param(parameter.getName(), MethodUtil.methodParameterDescriptionOrDefault(parameter));
+                }
+            }
+            writeJavadocExceptions(clientMethod, comment);
+            comment.methodReturns(clientMethod.getReturnValue().getDescription());
+        });
+        addGeneratedAnnotation(typeBlock);
+        typeBlock.annotation("ServiceMethod(returns = ReturnType.SINGLE)");
+
+        String declaration = String.format("%1$s %2$s(%3$s)", clientMethod.getReturnValue().getType(),
+            clientMethod.getName() + METHOD_NAME_SUFFIX, parametersDeclaration);
+        typeBlock.publicMethod(declaration, function -> {
+            if (isAsync) {
+                function.methodReturn(String.format(
+                    "%1$s.fromFlux(%2$s.map(element -> %3$s.writeElement(element, %4$s)), null, false)"
+                        + ".flatMap(%5$s -> %6$s)",
+                    ClassType.BINARY_DATA.getName(), bodyParameter.getName(),
+                    ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME, ELEMENT_WRITER, bodyVariableName, invocation));
+            } else if (clientMethod.getReturnValue().getType().asNullable() == ClassType.VOID) {
+                function.line(invocation + ";");
+            } else {
+                function.methodReturn(invocation);
+            }
+        });
+    }
+
+    private static void writeResponseMethod(ClientMethod clientMethod, JavaType typeBlock) {
+        boolean isAsync = clientMethod.getType() == ClientMethodType.SimpleAsync;
+        IType elementType = clientMethod.getProxyMethod().getResponseElementType();
+        List<ClientMethodParameter> parameters = clientMethod.getMethodInputParameters();
+
+        typeBlock.javadocComment(comment -> {
+            comment.description(clientMethod.getDescription());
+            comment.line("<p>");
+            if (isAsync) {
+                comment.line("The elements are parsed from the response body one line at a time.");
+            } else {
+                comment.line("The elements are parsed from the response body one line at a time, as the Stream is "
+                    + "consumed. The Stream should be closed, e.g. in a try-with-resources statement, to release the "
+                    + "response body if it is not consumed to its end.");
+            }
+            for (ClientMethodParameter parameter : parameters) {
+                comment.param(parameter.getName(), MethodUtil.methodParameterDescriptionOrDefault(parameter));
+            }
+            writeJavadocExceptions(clientMethod, comment);
+            comment.methodReturns("the elements of the response body.");
+        });
+        addGeneratedAnnotation(typeBlock);
+        typeBlock.annotation("ServiceMethod(returns = ReturnType.COLLECTION)");
+
+        String declaration = String.format("%1$s<%2$s> %3$s(%4$s)", isAsync ? "Flux" : "Stream", elementType,
+            clientMethod.getName() + METHOD_NAME_SUFFIX, clientMethod.getParametersDeclaration());
+        String invocation = clientMethod.getName() + "("
+            + parameters.stream().map(ClientMethodParameter::getName).collect(Collectors.joining(", ")) + ")";
+        String elementReader = ClientModelUtil.getJsonReadValueCallback(elementType);
+        typeBlock.publicMethod(declaration, function -> {
+            if (isAsync) {
+                function.methodReturn(String.format("%1$s.flatMapMany(body -> %2$s.readElementsAsync(body, %3$s))",
+                    invocation, ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME, elementReader));
+            } else {
+                function.methodReturn(String.format("%1$s.readElements(%2$s, %3$s)",
+                    ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME, invocation, elementReader));
+            }
+        });
+    }
+
+    private static void writeJavadocExceptions(ClientMethod clientMethod, JavaJavadocComment comment) {
+        if (clientMethod.hasParameterDeclaration()) {
+            comment.methodThrows("IllegalArgumentException", "thrown if parameters fail the validation");
+        }
+        ClientMethodTemplateBase.generateJavadocExceptions(clientMethod, comment, false);
+        comment.methodThrows("RuntimeException",
+            "all other wrapped checked exceptions if the request fails to be sent");
+    }
+
+    private static void addGeneratedAnnotation(JavaType typeBlock) {
+        if (JavaSettings.getInstance().isAzureV1()) {
+            typeBlock.annotation(Annotation.GENERATED.getName());
+        } else {
+            typeBlock.annotation(Annotation.METADATA.getName() + "(properties = {MetadataProperties.GENERATED})");
+        }
+    }
+}
@@ -43,6 +43,9 @@ public class MethodGroupTemplate implements IJavaTemplate<MethodGroupClient, Jav
         }
 
         methodGroupClient.addImportsTo(imports, true, settings);
+        if (ClientModelUtil.isGenerateServiceImpl(methodGroupClient.getProxy())) {
+            ServiceImplTemplate.addImports(imports);
+        }
 
         String serviceClientPackageName
             = ClientModelUtil.getServiceClientPackageName(methodGroupClient.getServiceClientName());
@@ -131,7 +134,10 @@ public class MethodGroupTemplate implements IJavaTemplate<MethodGroupClient, Jav
 
     protected void writeServiceProxyConstruction(JavaBlock constructor, MethodGroupClient methodGroupClient) {
         ClassType proxyType = ClassType.REST_PROXY;
-        if (JavaSettings.getInstance().isAzureV1()) {
+        if (ClientModelUtil.isGenerateServiceImpl(methodGroupClient.getProxy())) {
+            constructor.line(String.format("this.service = %1$s;", ServiceImplTemplate.getServiceImplCreation(
+                methodGroupClient.getProxy(), "client.getHttpPipeline()", "client.getSerializerAdapter()")));
+        } else if (JavaSettings.getInstance().isAzureV1()) {
             constructor.line(String.format(
                 "this.service = %1$s.create(%2$s.class, client.getHttpPipeline(), client.getSerializerAdapter());",
                 proxyType.getName(), methodGroupClient.getProxy().getName()));
@@ -0,0 +1,152 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ConstantStringTooLongException;
+import com.microsoft.typespec.http.client.generator.core.util.ModelTestCaseUtil;
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the JMH benchmark on the JSON serialization of a model.
+ * <p>
+ * The benchmark measures the throughput of fromJson, toJson and the round-trip of both, on a JSON composed by
+ * {@link ModelTestCaseUtil}. The JSON has larger List and Map than the one in the unit test of the model. The
+ * allocation rate is reported by the GC profiler configured in the "benchmark" profile of the POM.
+ */
+public class ModelBenchmarkTemplate implements IJavaTemplate<ModelBenchmarkTemplate.ModelBenchmarkInfo, JavaFile> {
+
+    private static final ModelBenchmarkTemplate INSTANCE = new ModelBenchmarkTemplate();
+
+    private ModelBenchmarkTemplate() {
+    }
+
+    public static ModelBenchmarkTemplate getInstance() {
+        return INSTANCE;
+    }
+
+    public static final class ModelBenchmarkInfo {
+        private final String className;
+        private final ClientModel model;
+
+        public ModelBenchmarkInfo(String className, ClientModel model) {
+            this.className = className;
+            this.model = model;
+        }
+    }
+
+    /**
+     * Write the JSON serialization / de-serialization benchmark for the model.
+     *
+     * @param benchmarkInfo the info, which include the client model to benchmark.
+     * @param javaFile the java file.
+     * @throws com.microsoft.typespec.http.client.generator.core.util.PossibleCredentialException
+     * thrown when there is possible mock value to a secret property.
+     * @throws com.microsoft.typespec.http.client.generator.core.util.ConstantStringTooLongException
+     * thrown when the String representation of the JSON is too long (>= 2^16), even with the size of the unit test.
+     */
+    @Override
+    public void write(ModelBenchmarkInfo benchmarkInfo, JavaFile javaFile) {
+        String className = benchmarkInfo.className;
+        ClientModel model = benchmarkInfo.model;
+        boolean branded = JavaSettings.getInstance().isAzureV1();
+
+        String jsonStringExpression
+            = ClassType.STRING.defaultValueExpression(toJsonString(ModelTestCaseUtil.benchmarkJsonFromModel(model)));
+        if (jsonStringExpression.length() >= 65536) {
+            // Java compiler would give "constant string too long" error on the generated file.
+            // Fall back to the size of the unit test.
+            jsonStringExpression
+                = ClassType.STRING.defaultValueExpression(toJsonString(ModelTestCaseUtil.jsonFromModel(model)));
+            if (jsonStringExpression.length() >= 65536) {
+                throw new ConstantStringTooLongException();
+            }
+        }
+
+        Set<String> imports = new HashSet<>();
+        model.addImportsTo(imports, JavaSettings.getInstance());
+        ClassType.JSON_READER.addImportsTo(imports, false);
+        ClassType.JSON_WRITER.addImportsTo(imports, false);
+        if (branded) {
+            imports.add("com.azure.json.JsonProviders");
+        }
+        imports.add(ByteArrayOutputStream.class.getName());
+        imports.add(IOException.class.getName());
+        imports.add(StandardCharsets.class.getName());
+        imports.add("java.util.concurrent.TimeUnit");
+        imports.add("org.openjdk.jmh.annotations.Benchmark");
+        imports.add("org.openjdk.jmh.annotations.BenchmarkMode");
+        imports.add("org.openjdk.jmh.annotations.Fork");
+        imports.add("org.openjdk.jmh.annotations.Measurement");
+        imports.add("org.openjdk.jmh.annotations.Mode");
+        imports.add("org.openjdk.jmh.annotations.OutputTimeUnit");
+        imports.add("org.openjdk.jmh.annotations.Scope");
+        imports.add("org.openjdk.jmh.annotations.Setup");
+        imports.add("org.openjdk.jmh.annotations.State");
+        imports.add("org.openjdk.jmh.annotations.Warmup");
+        javaFile.declareImport(imports);
+
+        String modelName = model.getName();
+        String createReader = branded ? "JsonProviders.createReader(json)" : "JsonReader.fromBytes(json)";
+        String createWriter
+            = branded ? "JsonProviders.createWriter(outputStream)" : "JsonWriter.toStream(outputStream)";
+        final String json = jsonStringExpression;
+
+        javaFile.annotation("BenchmarkMode(Mode.Throughput)", "OutputTimeUnit(TimeUnit.SECONDS)", "State(Scope.Thread)",
+            "Fork(1)", "Warmup(iterations = 3, time = 1)", "Measurement(iterations = 5, time = 1)");
+        // JMH generates subclasses of the benchmark class, hence it cannot be final
+        javaFile.publicClass(null, className, classBlock -> {
+            classBlock.privateStaticFinalVariable("byte[] JSON = " + json + ".getBytes(StandardCharsets.UTF_8)");
+            classBlock.privateMemberVariable(modelName, "model");
+
+            classBlock.annotation("Setup");
+            classBlock.publicMethod("void setup() throws IOException",
+                methodBlock -> methodBlock.line("model = deserialize(JSON);"));
+
+            classBlock.annotation("Benchmark");
+            classBlock.publicMethod(modelName + " fromJson() throws IOException",
+                methodBlock -> methodBlock.methodReturn("deserialize(JSON)"));
+
+            classBlock.annotation("Benchmark");
+            classBlock.publicMethod("byte[] toJson() throws IOException",
+                methodBlock -> methodBlock.methodReturn("serialize(model)"));
+
+            classBlock.annotation("Benchmark");
+            classBlock.publicMethod(modelName + " roundTrip() throws IOException",
+                methodBlock -> methodBlock.methodReturn("deserialize(serialize(model))"));
+
+            classBlock.staticMethod(JavaVisibility.Private, modelName + " deserialize(byte[] json) throws IOException",
+                methodBlock -> methodBlock.tryBlock("JsonReader jsonReader = " + createReader,
+                    tryBlock -> tryBlock.methodReturn(modelName + ".fromJson(jsonReader)")));
+
+            classBlock.staticMethod(JavaVisibility.Private,
+                "byte[] serialize(" + modelName + " model) throws IOException", methodBlock -> {
+                    methodBlock.line("ByteArrayOutputStream outputStream = new ByteArrayOutputStream();");
+                    methodBlock.tryBlock("JsonWriter jsonWriter = " + createWriter,
+                        tryBlock -> tryBlock.line("model.toJson(jsonWriter);"));
+                    methodBlock.methodReturn("outputStream.toByteArray()");
+                });
+        });
+    }
+
+    private static String toJsonString(Map<String, Object> jsonObject) {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            JsonWriter jsonWriter = JsonWriter.toStream(outputStream)) {
+            jsonWriter.writeMap(jsonObject, JsonWriter::writeUntyped).flush();
+            return outputStream.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize Map to JSON string", e);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaMod
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.template.util.ModelTemplateHeaderHelper;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.utils.CoreUtils;
 import java.io.IOException;
@@ -36,10 +37,13 @@ import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -158,6 +162,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             addModelConstructor(model, propertiesManager, modelConstructorVisibility, settings, classBlock);
 
             boolean streamStyle = settings.isStreamStyleSerialization();
+            ClientModel jsonMergePatchModel = ClientModelUtil.isJsonMergePatchModel(model, settings) ? model : null;
 
             for (ClientModelProperty property : getFieldProperties(propertiesManager)) {
                 final boolean propertyIsReadOnly = immutableModel || property.isReadOnly();
@@ -194,7 +199,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
                         methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                            methodBlock, settings, jsonMergePatchModel));
                 } else if (ClientModelUtil.needsPackagePrivateSetter(model, property, settings, streamStyle)) {
                     generateSetterJavadoc(classBlock, model, property);
                     addGeneratedAnnotation(classBlock);
@@ -202,7 +207,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
                         methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                            methodBlock, settings, jsonMergePatchModel));
                 }
 
                 // If the property is additional properties, and stream-style serialization isn't being used, add a
@@ -240,7 +245,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                         methodBlock
                             .line("super." + parentProperty.getSetterName() + "(" + parentProperty.getName() + ");");
                         if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
-                            methodBlock.line("this.updatedProperties.add(\"" + parentProperty.getName() + "\");");
+                            methodBlock.line(getJsonMergePatchSetUpdatedStatement(model, parentProperty.getName()));
                         }
                         methodBlock.methodReturn("this");
                     });
@@ -476,8 +481,9 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
             imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
                 + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
-            imports.add(Set.class.getName());
-            imports.add(HashSet.class.getName());
+            if (model.getImplementationDetails().isInput() && isJsonMergePatchBitSet(model)) {
+                imports.add(BitSet.class.getName());
+            }
         }
     }
 
@@ -1145,10 +1151,10 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
      * @param property The property.
      * @param treatAsXml Whether the setter should treat the property as XML.
      * @param methodBlock Where the setter method is being added.
-     * @param isJsonMergePatchModel Whether the client model is a JSON merge patch model.
+     * @param jsonMergePatchModel The client model if it is a JSON merge patch model, otherwise null.
      */
     private static void addSetterMethod(IType propertyWireType, IType propertyClientType, ClientModelProperty property,
-        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings, boolean isJsonMergePatchModel) {
+        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings, ClientModel jsonMergePatchModel) {
         String expression = (propertyClientType.equals(ArrayType.BYTE_ARRAY))
             ? TemplateHelper.getByteCloneExpression(property.getName())
             : property.getName();
@@ -1176,8 +1182,8 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             }
         }
 
-        if (isJsonMergePatchModel) {
-            methodBlock.line("this.updatedProperties.add(\"" + property.getName() + "\");");
+        if (jsonMergePatchModel != null) {
+            methodBlock.line(getJsonMergePatchSetUpdatedStatement(jsonMergePatchModel, property.getName()));
         }
 
         methodBlock.methodReturn("this");
@@ -1432,6 +1438,89 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         }
     }
 
+    /**
+     * Gets the names of the properties whose updates are tracked by a json-merge-patch model, in the order of their
+     * bits in "updatedProperties". They are the writable properties of the model and its parent models. Each model
+     * tracks its own bits, the setters overriding parent setters mark the bits of the model.
+     * <p>
+     * The bits are a long, or a BitSet if there are more than 64 properties.
+     *
+     * @param model the json-merge-patch model.
+     * @return the names of the tracked properties.
+     */
+    protected static List<String> getJsonMergePatchTrackedProperties(ClientModel model) {
+        Set<String> propertyNames = new LinkedHashSet<>();
+        Stream.concat(ClientModelUtil.getParentProperties(model).stream(), model.getProperties().stream())
+            .filter(property -> !property.isReadOnly() && !property.isPolymorphicDiscriminator())
+            .forEach(property -> propertyNames.add(property.getName()));
+        return new ArrayList<>(propertyNames);
+    }
+
+    /**
+     * Gets the statement that marks the property as updated in a json-merge-patch model.
+     *
+     * @param model the json-merge-patch model.
+     * @param propertyName the name of the property.
+     * @return the statement.
+     */
+    protected static String getJsonMergePatchSetUpdatedStatement(ClientModel model, String propertyName) {
+        String constantName = getJsonMergePatchUpdatedConstant(model, propertyName);
+        return isJsonMergePatchBitSet(model)
+            ? "this.updatedProperties.set(" + constantName + ");"
+            : "this.updatedProperties |= " + constantName + ";";
+    }
+
+    /**
+     * Gets the expression that checks whether the property is updated in a json-merge-patch model.
+     *
+     * @param model the json-merge-patch model.
+     * @param propertyName the name of the property.
+     * @return the expression.
+     */
+    protected static String getJsonMergePatchIsUpdatedExpression(ClientModel model, String propertyName) {
+        String constantName = getJsonMergePatchUpdatedConstant(model, propertyName);
+        return isJsonMergePatchBitSet(model)
+            ? "updatedProperties.get(" + constantName + ")"
+            : "(updatedProperties & " + constantName + ") != 0";
+    }
+
+    private static boolean isJsonMergePatchBitSet(ClientModel model) {
+        return getJsonMergePatchTrackedProperties(model).size() > Long.SIZE;
+    }
+
+    private static String getJsonMergePatchUpdatedConstant(ClientModel model, String propertyName) {
+        String constantName = getJsonMergePatchUpdatedConstants(getJsonMergePatchTrackedProperties(model))
+            .get(propertyName);
+        if (constantName == null) {
+            throw new IllegalStateException(
+                "Property '" + propertyName + "' is not tracked by json-merge-patch model '" + model.getName() + "'.");
+        }
+        return constantName;
+    }
+
+    /**
+     * Gets the names of the UPDATED_ constants of the tracked properties, keyed by the property name.
+     * <p>
+     * Different property names can map to the same constant name, e.g. "fooBar" and "foo_bar", a numeric suffix is
+     * added to the constant name of the later property on collision.
+     *
+     * @param trackedProperties the names of the tracked properties.
+     * @return the names of the constants, keyed by the property name, in the order of the tracked properties.
+     */
+    private static Map<String, String> getJsonMergePatchUpdatedConstants(List<String> trackedProperties) {
+        Map<String, String> constantNames = new LinkedHashMap<>();
+        Set<String> usedNames = new HashSet<>();
+        for (String propertyName : trackedProperties) {
+            String baseName = "UPDATED_" + CodeNamer.getEnumMemberName(propertyName);
+            String constantName = baseName;
+            for (int counter = 1; !usedNames.add(constantName); counter++) {
+                constantName = baseName + "_" + counter;
+            }
+            constantNames.put(propertyName, constantName);
+        }
+        return constantNames;
+    }
+
     /**
      * Add json-merge-patch related flag and accessors.
      */
@@ -1442,10 +1531,25 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             return;
         }
 
+        List<String> trackedProperties = getJsonMergePatchTrackedProperties(model);
+        boolean useBitSet = trackedProperties.size() > Long.SIZE;
+        Map<String, String> constantNames = getJsonMergePatchUpdatedConstants(trackedProperties);
+        for (int i = 0; i < trackedProperties.size(); i++) {
+            String constantName = constantNames.get(trackedProperties.get(i));
+            addGeneratedAnnotation(classBlock);
+            classBlock.privateStaticFinalVariable(
+                useBitSet ? ("int " + constantName + " = " + i) : ("long " + constantName + " = 1L << " + i));
+        }
+
         classBlock.javadocComment(comment -> comment
-            .description("Stores updated model property, the value is property name, not serialized name"));
+            .description("Stores updated model properties, a bit per property as given by the UPDATED_ constants"));
         addGeneratedAnnotation(classBlock);
-        classBlock.privateFinalMemberVariable("Set<String> updatedProperties = new HashSet<>()");
+        if (useBitSet) {
+            classBlock.privateFinalMemberVariable(
+                "BitSet updatedProperties = new BitSet(" + trackedProperties.size() + ")");
+        } else {
+            classBlock.privateMemberVariable("long updatedProperties");
+        }
 
         if (model.isPolymorphic() && CoreUtils.isNullOrEmpty(model.getDerivedModels())) {
             // Only polymorphic parent models generate an accessor.
@@ -166,6 +166,10 @@ public class PomTemplate implements IXmlTemplate<Pom, XmlFile> {
             }
 
             writeBuildBlock(projectBlock, pom);
+
+            if (pom.isRequireBenchmarkProfile()) {
+                projectBlock.block("profiles", profilesBlock -> writeBenchmarkProfile(profilesBlock));
+            }
         });
     }
 
@@ -200,6 +204,99 @@ public class PomTemplate implements IXmlTemplate<Pom, XmlFile> {
         }
     }
 
+    /**
+     * Extension for writing the "benchmark" profile, which compiles the JMH benchmarks under "src/benchmark/java" and
+     * runs them in "integration-test" phase, e.g. "mvn verify -Pbenchmark -DskipTests".
+     *
+     * @param profilesBlock the "profiles" xml block.
+     */
+    protected void writeBenchmarkProfile(XmlBlock profilesBlock) {
+        profilesBlock.block("profile", profileBlock -> {
+            profileBlock.tag("id", "benchmark");
+
+            profileBlock.block("dependencies", dependenciesBlock -> {
+                writeBenchmarkDependency(dependenciesBlock, Project.Dependency.JMH_CORE);
+                writeBenchmarkDependency(dependenciesBlock, Project.Dependency.JMH_GENERATOR_ANNPROCESS);
+            });
+
+            profileBlock.block("build", buildBlock -> buildBlock.block("plugins", pluginsBlock -> {
+                // build-helper-maven-plugin: add benchmarks to test sources
+                pluginsBlock.block("plugin", pluginBlock -> {
+                    pluginBlock.tag("groupId", "org.codehaus.mojo");
+                    pluginBlock.tag("artifactId", "build-helper-maven-plugin");
+                    pluginBlock.tag("version", "3.0.0");
+                    pluginBlock.block("executions",
+                        executionsBlock -> executionsBlock.block("execution", executionBlock -> {
+                            executionBlock.tag("id", "add-benchmark-source");
+                            executionBlock.tag("phase", "generate-test-sources");
+                            executionBlock.block("goals", goalsBlock -> goalsBlock.tag("goal", "add-test-source"));
+                            executionBlock.block("configuration",
+                                configurationBlock -> configurationBlock.block("sources",
+                                    sourcesBlock -> sourcesBlock.tag("source", "${basedir}/src/benchmark/java")));
+                        }));
+                });
+
+                // maven-compiler-plugin: JMH annotation processor generates the benchmark harness
+                pluginsBlock.block("plugin", pluginBlock -> {
+                    pluginBlock.tag("groupId", "org.apache.maven.plugins");
+                    pluginBlock.tag("artifactId", "maven-compiler-plugin");
+                    pluginBlock.tag("version", "3.13.0");
+                    pluginBlock.block("executions",
+                        executionsBlock -> executionsBlock.block("execution", executionBlock -> {
+                            executionBlock.tag("id", "default-testCompile");
+                            executionBlock.block("configuration", configurationBlock -> configurationBlock
+                                .block("annotationProcessorPaths", pathsBlock -> pathsBlock.block("path", pathBlock -> {
+                                    Project.Dependency dependency = Project.Dependency.JMH_GENERATOR_ANNPROCESS;
+                                    pathBlock.tag("groupId", dependency.getGroupId());
+                                    pathBlock.tag("artifactId", dependency.getArtifactId());
+                                    pathBlock.tagWithInlineComment("version", dependency.getVersion(),
+                                        getExternalDependencyVersionUpdateTag(dependency));
+                                })));
+                        }));
+                });
+
+                // exec-maven-plugin: run the benchmarks, with allocation rate reported by the GC profiler
+                pluginsBlock.block("plugin", pluginBlock -> {
+                    pluginBlock.tag("groupId", "org.codehaus.mojo");
+                    pluginBlock.tag("artifactId", "exec-maven-plugin");
+                    pluginBlock.tag("version", "3.5.0");
+                    pluginBlock.block("executions",
+                        executionsBlock -> executionsBlock.block("execution", executionBlock -> {
+                            executionBlock.tag("id", "run-benchmarks");
+                            executionBlock.tag("phase", "integration-test");
+                            executionBlock.block("goals", goalsBlock -> goalsBlock.tag("goal", "exec"));
+                            executionBlock.block("configuration", configurationBlock -> {
+                                configurationBlock.tag("executable", "java");
+                                configurationBlock.tag("classpathScope", "test");
+                                configurationBlock.block("arguments", argumentsBlock -> {
+                                    argumentsBlock.tag("argument", "-classpath");
+                                    argumentsBlock.line("<classpath />");
+                                    argumentsBlock.tag("argument", "org.openjdk.jmh.Main");
+                                    argumentsBlock.tag("argument", "-prof");
+                                    argumentsBlock.tag("argument", "gc");
+                                });
+                            });
+                        }));
+                });
+            }));
+        });
+    }
+
+    private static void writeBenchmarkDependency(XmlBlock dependenciesBlock, Project.Dependency dependency) {
+        dependenciesBlock.block("dependency", dependencyBlock -> {
+            dependencyBlock.tag("groupId", dependency.getGroupId());
+            dependencyBlock.tag("artifactId", dependency.getArtifactId());
+            dependencyBlock.tagWithInlineComment("version", dependency.getVersion(),
+                getExternalDependencyVersionUpdateTag(dependency));
+            dependencyBlock.tag("scope", "test");
+        });
+    }
+
+    private static String getExternalDependencyVersionUpdateTag(Project.Dependency dependency) {
+        return String.format("{x-version-update;%1$s;external_dependency}",
+            Project.getVersionUpdateTag(dependency.getGroupId(), dependency.getArtifactId()));
+    }
+
     /**
      * Write a "maven-compiler-plugin" block, for SDK not using com.azure:azure-client-sdk-parent
      *
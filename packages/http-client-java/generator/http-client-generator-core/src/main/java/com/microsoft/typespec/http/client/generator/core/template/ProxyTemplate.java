@@ -133,6 +133,10 @@ public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
                     writeProxyMethodSignature(parameterDeclarationList, restAPIMethod, interfaceBlock);
                 }
             });
+
+            if (ClientModelUtil.isGenerateServiceImpl(restAPI)) {
+                ServiceImplTemplate.write(restAPI, classBlock);
+            }
         }
     }
 
@@ -25,6 +25,7 @@ import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.utils.CoreUtils;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -80,6 +81,14 @@ public class ServiceAsyncClientTemplate implements IJavaTemplate<AsyncSyncClient
 
         Templates.getConvenienceAsyncMethodTemplate().addImports(imports, asyncClient.getConvenienceMethods());
 
+        // typed overloads of the methods that send or receive a JSON Lines body
+        List<ClientMethod> jsonLinesMethods = new ArrayList<>(
+            wrapServiceClient ? serviceClient.getClientMethods() : methodGroupClient.getClientMethods());
+        asyncClient.getConvenienceMethods()
+            .forEach(convenienceMethod -> jsonLinesMethods.addAll(convenienceMethod.getConvenienceMethods()));
+        jsonLinesMethods.removeIf(clientMethod -> clientMethod.getType().isSync());
+        JsonLinesMethodTemplate.addImports(imports, jsonLinesMethods);
+
         javaFile.declareImport(imports);
         javaFile.javadocComment(comment -> comment.description(String
             .format("Initializes a new instance of the asynchronous %1$s type.", serviceClient.getInterfaceName())));
@@ -80,6 +80,9 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
         ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
 
         serviceClient.addImportsTo(imports, true, false, settings);
+        if (ClientModelUtil.isGenerateServiceImpl(serviceClient.getProxy())) {
+            ServiceImplTemplate.addImports(imports);
+        }
         additionalMethods.forEach(method -> method.addImportsTo(imports));
         javaFile.declareImport(imports);
 
@@ -238,7 +241,11 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
                                         methodGroupClient.getVariableName(), methodGroupClient.getClassName()));
                                 }
 
-                                if (serviceClient.getProxy() != null) {
+                                if (ClientModelUtil.isGenerateServiceImpl(serviceClient.getProxy())) {
+                                    constructorBlock.line(String.format("this.service = %1$s;",
+                                        ServiceImplTemplate.getServiceImplCreation(serviceClient.getProxy(),
+                                            "this.httpPipeline", getSerializerPhrase())));
+                                } else if (serviceClient.getProxy() != null) {
                                     constructorBlock.line(String.format(
                                         "this.service = %1$s.create(%2$s.class, this.httpPipeline, %3$s);",
                                         ClassType.REST_PROXY.getName(), serviceClient.getProxy().getName(),
@@ -379,7 +386,10 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
                 methodGroupClient.getClassName());
         }
 
-        if (serviceClient.getProxy() != null) {
+        if (ClientModelUtil.isGenerateServiceImpl(serviceClient.getProxy())) {
+            constructorBlock.line("this.service = %s;", ServiceImplTemplate.getServiceImplCreation(
+                serviceClient.getProxy(), "this.httpPipeline", this.getSerializerPhrase()));
+        } else if (serviceClient.getProxy() != null) {
             if (!JavaSettings.getInstance().isAzureV1()) {
                 constructorBlock.line("this.service = %s.create(%s.class, this.httpPipeline);",
                     ClassType.REST_PROXY.getName(), serviceClient.getProxy().getName());
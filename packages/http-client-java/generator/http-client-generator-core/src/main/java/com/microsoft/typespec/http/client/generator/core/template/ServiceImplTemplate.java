@@ -0,0 +1,423 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Proxy;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Template to write the implementation of a service interface of an azure-core client, which is used instead of the
+ * implementation created at runtime via RestProxy.
+ * <p>
+ * The implementation is a nested class next to the service interface. Each method substitutes the parameters into the
+ * URL, sets the headers and the body of the request, sends it through the HttpPipeline within the tracing span of the
+ * call, and maps the response to Response of BinaryData or Void, or to the exception for an unexpected status code.
+ * The code that RestProxy derives from the annotations by reflection, is written out at generation time.
+ * <p>
+ * The request callbacks and the error options of RequestOptions are not accessible outside of azure-core, hence a
+ * call with RequestOptions is delegated to the service interface created by RestProxy.
+ */
+public final class ServiceImplTemplate {
+
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile("\\{([^}]+)}");
+
+    private static final String HTTP_PIPELINE_VARIABLE_NAME = "httpPipeline";
+    private static final String SERIALIZER_VARIABLE_NAME = "serializer";
+    private static final String REST_PROXY_SERVICE_VARIABLE_NAME = "restProxyService";
+    private static final String REST_PROXY_SERVICE_METHOD_NAME = "getRestProxyService";
+
+    private ServiceImplTemplate() {
+    }
+
+    /**
+     * Gets the name of the implementation class of the service interface.
+     *
+     * @param proxy the service interface.
+     * @return the name of the implementation class.
+     */
+    public static String getServiceImplName(Proxy proxy) {
+        return proxy.getName() + "Impl";
+    }
+
+    /**
+     * Gets the expression that creates the implementation of the service interface.
+     *
+     * @param proxy the service interface.
+     * @param httpPipelineExpression the expression of the HttpPipeline.
+     * @param serializerExpression the expression of the SerializerAdapter.
+     * @return the expression that creates the implementation of the service interface.
+     */
+    public static String getServiceImplCreation(Proxy proxy, String httpPipelineExpression,
+        String serializerExpression) {
+        return "new " + getServiceImplName(proxy) + "(" + httpPipelineExpression + ", " + serializerExpression + ")";
+    }
+
+    /**
+     * Adds the imports of the implementation of the service interface.
+     *
+     * @param imports the set of imports.
+     */
+    public static void addImports(Set<String> imports) {
+        JavaSettings settings = JavaSettings.getInstance();
+        ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
+        ClassType.SERIALIZER_ADAPTER.addImportsTo(imports, false);
+        ClassType.HTTP_METHOD.addImportsTo(imports, false);
+        ClassType.HTTP_HEADER_NAME.addImportsTo(imports, false);
+        ClassType.HTTP_REQUEST.addImportsTo(imports, false);
+        ClassType.HTTP_RESPONSE.addImportsTo(imports, false);
+        ClassType.HTTP_RESPONSE_EXCEPTION.addImportsTo(imports, false);
+        ClassType.SIMPLE_RESPONSE.addImportsTo(imports, false);
+        ClassType.URL_BUILDER.addImportsTo(imports, false);
+        ClassType.BINARY_DATA.addImportsTo(imports, false);
+        ClassType.CONTEXT.addImportsTo(imports, false);
+        ClassType.REST_PROXY.addImportsTo(imports, false);
+        imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+            + ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME);
+    }
+
+    /**
+     * Writes the implementation of the service interface, as a nested class.
+     *
+     * @param proxy the service interface.
+     * @param classBlock the class block to write.
+     */
+    public static void write(Proxy proxy, JavaClass classBlock) {
+        String serviceImplName = getServiceImplName(proxy);
+        classBlock.javadocComment(comment -> comment.description(String.format(
+            "The implementation of %1$s, which sends the requests through the HttpPipeline.", proxy.getName())));
+        classBlock.privateStaticFinalClass(serviceImplName + " implements " + proxy.getName(), implBlock -> {
+            implBlock.privateFinalMemberVariable(ClassType.HTTP_PIPELINE.getName(), HTTP_PIPELINE_VARIABLE_NAME);
+            implBlock.privateFinalMemberVariable(ClassType.SERIALIZER_ADAPTER.getName(), SERIALIZER_VARIABLE_NAME);
+            boolean delegateRequestOptions = proxy.getMethods()
+                .stream()
+                .anyMatch(m -> m.getImplementation() == null && getRequestOptionsParameter(m) != null);
+            if (delegateRequestOptions) {
+                implBlock.privateMemberVariable("volatile " + proxy.getName() + " " + REST_PROXY_SERVICE_VARIABLE_NAME);
+            }
+
+            implBlock.constructor(JavaVisibility.Private,
+                String.format("%1$s(%2$s %3$s, %4$s %5$s)", serviceImplName, ClassType.HTTP_PIPELINE.getName(),
+                    HTTP_PIPELINE_VARIABLE_NAME, ClassType.SERIALIZER_ADAPTER.getName(), SERIALIZER_VARIABLE_NAME),
+                constructor -> {
+                    constructor.line("this.%1$s = %1$s;", HTTP_PIPELINE_VARIABLE_NAME);
+                    constructor.line("this.%1$s = %1$s;", SERIALIZER_VARIABLE_NAME);
+                });
+
+            // methods creating the exception, one for each distinct mapping of status code to exception type
+            Map<String, ProxyMethod> exceptionMethods = new LinkedHashMap<>();
+            for (ProxyMethod proxyMethod : proxy.getMethods()) {
+                if (proxyMethod.getImplementation() != null) {
+                    // default method of the service interface
+                    continue;
+                }
+
+                String exceptionMethodName = exceptionMethods.entrySet()
+                    .stream()
+                    .filter(e -> isSameExceptionMapping(e.getValue(), proxyMethod))
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElseGet(() -> {
+                        String name = exceptionMethods.isEmpty()
+                            ? "createException"
+                            : "createException" + (exceptionMethods.size() + 1);
+                        exceptionMethods.put(name, proxyMethod);
+                        return name;
+                    });
+
+                implBlock.annotation("Override");
+                implBlock.publicMethod(getMethodSignature(proxyMethod),
+                    methodBlock -> writeMethod(proxy, proxyMethod, exceptionMethodName, methodBlock));
+            }
+
+            if (delegateRequestOptions) {
+                // created on the first call with RequestOptions, as RestProxy parses the annotations by reflection
+                implBlock.privateMethod(proxy.getName() + " " + REST_PROXY_SERVICE_METHOD_NAME + "()", methodBlock -> {
+                    methodBlock.line("%1$s service = %2$s;", proxy.getName(), REST_PROXY_SERVICE_VARIABLE_NAME);
+                    methodBlock.ifBlock("service == null", ifBlock -> {
+                        ifBlock.line("service = %1$s.create(%2$s.class, %3$s, %4$s);", ClassType.REST_PROXY.getName(),
+                            proxy.getName(), HTTP_PIPELINE_VARIABLE_NAME, SERIALIZER_VARIABLE_NAME);
+                        ifBlock.line("%1$s = service;", REST_PROXY_SERVICE_VARIABLE_NAME);
+                    });
+                    methodBlock.methodReturn("service");
+                });
+            }
+
+            exceptionMethods.forEach((name, proxyMethod) -> implBlock.privateMethod(
+                String.format("%1$s %2$s(%3$s response, %4$s body)", ClassType.HTTP_RESPONSE_EXCEPTION.getName(), name,
+                    ClassType.HTTP_RESPONSE.getName(), ClassType.BINARY_DATA.getName()),
+                methodBlock -> writeExceptionMethod(proxyMethod, methodBlock)));
+        });
+    }
+
+    private static String getMethodSignature(ProxyMethod proxyMethod) {
+        String parameters = proxyMethod.getParameters()
+            .stream()
+            .map(p -> p.getWireType() + " " + p.getName())
+            .collect(Collectors.joining(", "));
+        return proxyMethod.getReturnType() + " " + proxyMethod.getName() + "(" + parameters + ")";
+    }
+
+    private static ProxyMethodParameter getRequestOptionsParameter(ProxyMethod proxyMethod) {
+        return proxyMethod.getParameters()
+            .stream()
+            .filter(p -> ClassType.REQUEST_OPTIONS.equals(p.getWireType()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static void writeMethod(Proxy proxy, ProxyMethod proxyMethod, String exceptionMethodName,
+        JavaBlock methodBlock) {
+        Map<String, String> hostValues = new LinkedHashMap<>();
+        Map<String, String> pathValues = new LinkedHashMap<>();
+        List<ProxyMethodParameter> queryParameters = new ArrayList<>();
+        List<ProxyMethodParameter> headerParameters = new ArrayList<>();
+        ProxyMethodParameter bodyParameter = null;
+        String contextName = "null";
+        for (ProxyMethodParameter parameter : proxyMethod.getParameters()) {
+            switch (parameter.getRequestParameterLocation()) {
+                case URI:
+                    // host parameters are already encoded
+                    hostValues.put(parameter.getRequestParameterName(), toStringExpression(parameter));
+                    break;
+
+                case PATH:
+                    pathValues.put(parameter.getRequestParameterName(),
+                        parameter.getAlreadyEncoded()
+                            ? toStringExpression(parameter)
+                            : ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME + ".escapePath("
+                                + toStringExpression(parameter) + ")");
+                    break;
+
+                case QUERY:
+                    queryParameters.add(parameter);
+                    break;
+
+                case HEADER:
+                    headerParameters.add(parameter);
+                    break;
+
+                case BODY:
+                    bodyParameter = parameter;
+                    break;
+
+                default:
+                    if (!ClassType.REQUEST_OPTIONS.equals(parameter.getWireType())) {
+                        contextName = parameter.getName();
+                    }
+                    break;
+            }
+        }
+
+        // local variables, renamed if they clash with the parameters
+        Set<String> parameterNames
+            = proxyMethod.getParameters().stream().map(ProxyMethodParameter::getName).collect(Collectors.toSet());
+        String urlBuilder = getLocalName("urlBuilder", parameterNames);
+        String httpRequest = getLocalName("httpRequest", parameterNames);
+        String requestContext = getLocalName("requestContext", parameterNames);
+        String response = getLocalName("response", parameterNames);
+        String responseBody = getLocalName("responseBody", parameterNames);
+        String statusCode = getLocalName("statusCode", parameterNames);
+        String exception = getLocalName("exception", parameterNames);
+
+        ProxyMethodParameter requestOptions = getRequestOptionsParameter(proxyMethod);
+        if (requestOptions != null) {
+            String arguments = proxyMethod.getParameters()
+                .stream()
+                .map(ProxyMethodParameter::getName)
+                .collect(Collectors.joining(", "));
+            methodBlock.ifBlock(requestOptions.getName() + " != null", ifBlock -> ifBlock
+                .methodReturn(REST_PROXY_SERVICE_METHOD_NAME + "()." + proxyMethod.getName() + "(" + arguments + ")"));
+        }
+
+        methodBlock.line("%1$s %2$s = %3$s.createUrlBuilder(%4$s, %5$s);", ClassType.URL_BUILDER.getName(), urlBuilder,
+            ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME, substitute(proxy.getBaseURL(), hostValues),
+            substitute(proxyMethod.getUrlPath(), pathValues));
+        for (ProxyMethodParameter parameter : queryParameters) {
+            String value = parameter.getAlreadyEncoded()
+                ? toStringExpression(parameter)
+                : ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME + ".escapeQuery(" + toStringExpression(parameter)
+                    + ")";
+            String setQueryParameter
+                = urlBuilder + ".setQueryParameter(\"" + parameter.getRequestParameterName() + "\", " + value + ");";
+            if (parameter.getWireType() instanceof PrimitiveType) {
+                methodBlock.line(setQueryParameter);
+            } else {
+                methodBlock.ifBlock(parameter.getName() + " != null", ifBlock -> ifBlock.line(setQueryParameter));
+            }
+        }
+
+        methodBlock.line("%1$s %2$s = new %1$s(%3$s.%4$s, %5$s.toString());", ClassType.HTTP_REQUEST.getName(),
+            httpRequest, ClassType.HTTP_METHOD.getName(), proxyMethod.getHttpMethod(), urlBuilder);
+        for (ProxyMethodParameter parameter : headerParameters) {
+            // null value removes the header
+            methodBlock.line("%1$s.setHeader(%2$s.fromString(\"%3$s\"), %4$s);", httpRequest,
+                ClassType.HTTP_HEADER_NAME.getName(), parameter.getRequestParameterName(),
+                toStringExpression(parameter));
+        }
+        if (bodyParameter != null) {
+            methodBlock.line("%1$s.setBody(%2$s, %3$s, \"%4$s\");", ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME,
+                httpRequest, bodyParameter.getName(), proxyMethod.getRequestContentType());
+        } else {
+            methodBlock.line("%1$s.setHeader(%2$s.CONTENT_LENGTH, \"0\");", httpRequest,
+                ClassType.HTTP_HEADER_NAME.getName());
+        }
+        // same as RestProxy, the span of the call is started from the Context, and named after the service interface
+        methodBlock.line("%1$s %2$s = %3$s.startTracingSpan(%4$s, \"%5$s.%6$s\", %7$s);", ClassType.CONTEXT.getName(),
+            requestContext, ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME, HTTP_PIPELINE_VARIABLE_NAME,
+            proxy.getClientTypeName(), proxyMethod.getName(), contextName);
+
+        String statusCheck = getUnexpectedStatusCondition(proxyMethod, statusCode);
+        // the body of a Response<Void> is only read for the exception
+        boolean voidResponse = ClassType.VOID.equals(ClientModelUtil.getServiceImplResponseBodyType(proxyMethod));
+        String returnResponse = "new " + ClassType.SIMPLE_RESPONSE.getName() + "<>(" + httpRequest + ", " + statusCode
+            + ", " + response + ".getHeaders(), " + (voidResponse ? "null" : responseBody) + ")";
+        if (proxyMethod.isSync()) {
+            String throwException = voidResponse
+                ? "throw " + exceptionMethodName + "(" + response + ", "
+                    + ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME + ".readBody(" + response + "));"
+                : "throw " + exceptionMethodName + "(" + response + ", " + responseBody + ");";
+            methodBlock.tryBlock(ClassType.HTTP_RESPONSE.getName() + " " + response + " = "
+                + HTTP_PIPELINE_VARIABLE_NAME + ".sendSync(" + httpRequest + ", " + requestContext + ")", tryBlock -> {
+                    if (!voidResponse) {
+                        tryBlock.line("%1$s %2$s = %3$s.readBody(%4$s);", ClassType.BINARY_DATA.getName(), responseBody,
+                            ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME, response);
+                    }
+                    tryBlock.line("int %1$s = %2$s.getStatusCode();", statusCode, response);
+                    tryBlock.ifBlock(statusCheck, ifBlock -> ifBlock.line(throwException));
+                    tryBlock.line("%1$s.endTracingSpan(%2$s, %3$s, %4$s);",
+                        ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME, HTTP_PIPELINE_VARIABLE_NAME, statusCode,
+                        requestContext);
+                    tryBlock.methodReturn(returnResponse);
+                }).catchBlock("RuntimeException " + exception, catchBlock -> {
+                    catchBlock.line("%1$s.endTracingSpan(%2$s, %3$s, %4$s);",
+                        ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME, HTTP_PIPELINE_VARIABLE_NAME, exception,
+                        requestContext);
+                    catchBlock.line("throw %1$s;", exception);
+                });
+        } else {
+            methodBlock.line("return %1$s.endTracingSpanAsync(%2$s, %2$s.send(%3$s, %4$s).flatMap(%5$s -> {",
+                ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME, HTTP_PIPELINE_VARIABLE_NAME, httpRequest,
+                requestContext, response);
+            methodBlock.indent(() -> {
+                methodBlock.line("int %1$s = %2$s.getStatusCode();", statusCode, response);
+                methodBlock.ifBlock(statusCheck,
+                    ifBlock -> ifBlock.methodReturn(ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME + ".readBodyAsync("
+                        + response + ").flatMap(" + responseBody + " -> " + ClassType.MONO.getName() + ".error("
+                        + exceptionMethodName + "(" + response + ", " + responseBody + ")))"));
+                if (voidResponse) {
+                    methodBlock.line("%1$s.close();", response);
+                    methodBlock.methodReturn(ClassType.MONO.getName() + ".just(" + returnResponse + ")");
+                } else {
+                    methodBlock.methodReturn(ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME + ".readBodyAsync("
+                        + response + ").map(" + responseBody + " -> " + returnResponse + ")");
+                }
+            });
+            methodBlock.line("}), %1$s);", requestContext);
+        }
+    }
+
+    private static void writeExceptionMethod(ProxyMethod proxyMethod, JavaBlock methodBlock) {
+        methodBlock.line("String message = %1$s.getErrorMessage(response, body);",
+            ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME);
+        methodBlock.line("Object value = %1$s.getErrorValue(%2$s, response, body);",
+            ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME, SERIALIZER_VARIABLE_NAME);
+        if (proxyMethod.getUnexpectedResponseExceptionTypes() != null) {
+            for (Map.Entry<ClassType, List<Integer>> exception : proxyMethod.getUnexpectedResponseExceptionTypes()
+                .entrySet()) {
+                String condition = exception.getValue()
+                    .stream()
+                    .map(code -> "response.getStatusCode() == " + code)
+                    .collect(Collectors.joining(" || "));
+                methodBlock.ifBlock(condition, ifBlock -> ifBlock
+                    .methodReturn("new " + exception.getKey().getName() + "(message, response, value)"));
+            }
+        }
+        ClassType defaultExceptionType = proxyMethod.getUnexpectedResponseExceptionType() == null
+            ? ClassType.HTTP_RESPONSE_EXCEPTION
+            : proxyMethod.getUnexpectedResponseExceptionType();
+        methodBlock.methodReturn("new " + defaultExceptionType.getName() + "(message, response, value)");
+    }
+
+    private static String getUnexpectedStatusCondition(ProxyMethod proxyMethod, String statusCode) {
+        List<Integer> expectedStatusCodes = proxyMethod.getResponseExpectedStatusCodes();
+        if (expectedStatusCodes == null || expectedStatusCodes.isEmpty()) {
+            // same as RestProxy, any status code below 400 is expected
+            return statusCode + " >= 400";
+        }
+        return expectedStatusCodes.stream().map(code -> statusCode + " != " + code).collect(Collectors.joining(" && "));
+    }
+
+    private static String getLocalName(String name, Set<String> parameterNames) {
+        String localName = name;
+        int suffix = 1;
+        while (parameterNames.contains(localName)) {
+            localName = name + suffix++;
+        }
+        return localName;
+    }
+
+    private static boolean isSameExceptionMapping(ProxyMethod method1, ProxyMethod method2) {
+        return Objects.equals(method1.getUnexpectedResponseExceptionTypes(),
+            method2.getUnexpectedResponseExceptionTypes())
+            && Objects.equals(method1.getUnexpectedResponseExceptionType(),
+                method2.getUnexpectedResponseExceptionType());
+    }
+
+    private static String toStringExpression(ProxyMethodParameter parameter) {
+        IType wireType = parameter.getWireType();
+        return wireType instanceof PrimitiveType ? "String.valueOf(" + parameter.getName() + ")" : parameter.getName();
+    }
+
+    /*
+     * Substitutes the parameters in the template, e.g. "{endpoint}/items/{name}", into a String concatenation.
+     */
+    private static String substitute(String template, Map<String, String> values) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        Matcher matcher = PARAMETER_PATTERN.matcher(template);
+        int start = 0;
+        while (matcher.find()) {
+            String value = values.get(matcher.group(1));
+            literal.append(template, start, matcher.start());
+            if (value == null) {
+                // not a parameter of the method, kept as it is
+                literal.append(matcher.group());
+            } else {
+                if (literal.length() > 0) {
+                    segments.add(quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                segments.add(value);
+            }
+            start = matcher.end();
+        }
+        literal.append(template, start, template.length());
+        if (literal.length() > 0 || segments.isEmpty()) {
+            segments.add(quote(literal.toString()));
+        }
+        return String.join(" + ", segments);
+    }
+
+    private static String quote(String literal) {
+        return "\"" + literal.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
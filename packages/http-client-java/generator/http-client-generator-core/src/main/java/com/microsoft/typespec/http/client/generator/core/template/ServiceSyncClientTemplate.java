@@ -20,6 +20,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFil
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -73,6 +74,14 @@ public class ServiceSyncClientTemplate implements IJavaTemplate<AsyncSyncClient,
 
         Templates.getConvenienceSyncMethodTemplate().addImports(imports, syncClient.getConvenienceMethods());
 
+        // typed overloads of the methods that send or receive a JSON Lines body
+        List<ClientMethod> jsonLinesMethods = new ArrayList<>(
+            wrapServiceClient ? serviceClient.getClientMethods() : methodGroupClient.getClientMethods());
+        syncClient.getConvenienceMethods()
+            .forEach(convenienceMethod -> jsonLinesMethods.addAll(convenienceMethod.getConvenienceMethods()));
+        jsonLinesMethods.removeIf(clientMethod -> !clientMethod.getType().isSync());
+        JsonLinesMethodTemplate.addImports(imports, jsonLinesMethods);
+
         if (!JavaSettings.getInstance().isAzureV1()) {
             ClassType.INSTRUMENTATION.addImportsTo(imports, false);
             ClassType.SDK_INSTRUMENTATION_OPTIONS.addImportsTo(imports, false);
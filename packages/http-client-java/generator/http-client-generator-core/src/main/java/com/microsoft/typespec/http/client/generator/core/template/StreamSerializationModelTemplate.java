@@ -387,6 +387,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
         private final Consumer<JavaClass> addGeneratedAnnotation;
         private final boolean isJsonMergePatchModel;
         private final boolean useFromJsonShared;
+        private final boolean useJsonFieldSwitch;
 
         protected StreamSerializationGenerator(ClientModelPropertiesManager propertiesManager,
             Predicate<ClientModel> isManagementErrorSubclass) {
@@ -398,6 +399,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             this.addGeneratedAnnotation = Templates.getModelTemplate()::addGeneratedAnnotation;
             this.isJsonMergePatchModel = ClientModelUtil.isJsonMergePatchModel(model, settings);
             this.useFromJsonShared = canUseFromJsonShared(propertiesManager);
+            this.useJsonFieldSwitch = settings.isJsonFieldSwitchDispatch();
         }
 
         public void writeStreamStyleSerialization(JavaClass classBlock) {
@@ -667,7 +669,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
             if (isJsonMergePatch) {
                 if (!property.isPolymorphicDiscriminator()) {
-                    methodBlock.ifBlock("updatedProperties.contains(\"" + property.getName() + "\")", codeBlock -> {
+                    methodBlock.ifBlock(getJsonMergePatchIsUpdatedExpression(model, property.getName()), codeBlock -> {
                         if (property.getClientType().isNullable()) {
                             codeBlock
                                 .ifBlock(getPropertyGetterStatement(property, fromSuperType) + " == null",
@@ -1061,6 +1063,8 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
                     // Add deserialization for the super type itself.
                     JavaIfBlock ifBlock = null;
+                    JsonFieldSwitch discriminatorSwitch
+                        = useJsonFieldSwitch ? new JsonFieldSwitch("discriminatorValue") : null;
 
                     // Add deserialization for all child types.
                     List<ClientModel> childTypes = getAllChildTypes(model, new ArrayList<>());
@@ -1097,12 +1101,26 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                             ? ".fromJsonKnownDiscriminator(readerToUse.reset())"
                             : ".fromJson(readerToUse.reset())";
 
-                        ifBlock = ifOrElseIf(tryStatement, ifBlock,
-                            "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
-                            ifStatement -> ifStatement.methodReturn(childType.getName() + deserializationMethod));
+                        Consumer<JavaBlock> childTypeDeserialization
+                            = ifStatement -> ifStatement.methodReturn(childType.getName() + deserializationMethod);
+                        if (discriminatorSwitch != null) {
+                            discriminatorSwitch.addCase(childType.getSerializedName(), null, true,
+                                childTypeDeserialization);
+                        } else {
+                            ifBlock = ifOrElseIf(tryStatement, ifBlock,
+                                "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
+                                childTypeDeserialization);
+                        }
                     }
 
-                    if (ifBlock == null) {
+                    if (discriminatorSwitch != null) {
+                        if (!discriminatorSwitch.isEmpty()) {
+                            // The discriminator is null if the JSON object doesn't have it, switch doesn't accept null.
+                            tryStatement.ifBlock("discriminatorValue != null",
+                                ifStatement -> discriminatorSwitch.write(ifStatement, null));
+                        }
+                        tryStatement.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())");
+                    } else if (ifBlock == null) {
                         tryStatement.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())");
                     } else {
                         ifBlock.elseBlock(
@@ -1180,10 +1198,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
                 // Loop over all properties and generate their deserialization handling.
                 AtomicReference<JavaIfBlock> ifBlockReference = new AtomicReference<>(null);
+                JsonFieldSwitch fieldSwitch = useJsonFieldSwitch ? new JsonFieldSwitch(fieldNameVariableName) : null;
 
                 BiConsumer<ClientModelProperty, Boolean> consumer
                     = (property, fromSuper) -> handleJsonPropertyDeserialization(property, whileBlock, ifBlockReference,
-                        fromSuper, false);
+                        fieldSwitch, fromSuper, false);
 
                 Map<String, ClientModelProperty> modelPropertyMap = new HashMap<>();
                 for (ClientModelProperty parentProperty : ClientModelUtil.getParentProperties(model)) {
@@ -1221,18 +1240,23 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     superSettersToDeserialized.values().forEach(property -> consumer.accept(property, true));
                 }
 
-                generateThisFromJson(ifBlockReference, consumer, methodBlock, false, useFromJsonShared);
+                generateThisFromJson(ifBlockReference, fieldSwitch, consumer, methodBlock, false, useFromJsonShared);
 
                 // All properties have been checked for, add an else block that will either ignore unknown properties
                 // or add them into an additional properties bag.
-                generateUnknownFieldLogic(whileBlock, ifBlockReference.get());
+                if (fieldSwitch != null) {
+                    fieldSwitch.write(methodBlock,
+                        unknownJsonFieldDeserialization(getAdditionalPropertiesPropertyInModelOrFromSuper()));
+                } else {
+                    generateUnknownFieldLogic(whileBlock, ifBlockReference.get());
+                }
             });
 
             // Add the validation and return logic.
             handleReadReturn(methodBlock);
         }
 
-        private void generateThisFromJson(AtomicReference<JavaIfBlock> ifBlockReference,
+        private void generateThisFromJson(AtomicReference<JavaIfBlock> ifBlockReference, JsonFieldSwitch fieldSwitch,
             BiConsumer<ClientModelProperty, Boolean> consumer, JavaBlock methodBlock, boolean isFromJsonShared,
             boolean usingFromJsonShared) {
             propertiesManager.forEachRequiredProperty(property -> {
@@ -1260,7 +1284,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             // defined
             // by this model.
             if (!usingFromJsonShared || !propertiesManager.isAllFlattenedPropertiesFromParent()) {
-                handleFlattenedPropertiesDeserialization(methodBlock, ifBlock, isFromJsonShared);
+                handleFlattenedPropertiesDeserialization(methodBlock, ifBlock, fieldSwitch, isFromJsonShared);
             }
         }
 
@@ -1344,10 +1368,15 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                             methodBlock.ifBlock(callToSuperFromJsonShared, ifBlock -> ifBlock.methodReturn("true")));
                     }
 
+                    JsonFieldSwitch fieldSwitch = useJsonFieldSwitch ? new JsonFieldSwitch(fieldName) : null;
                     BiConsumer<ClientModelProperty, Boolean> consumer
                         = (property, fromSuper) -> handleJsonPropertyDeserialization(property, methodBlock,
-                            ifBlockReference, fromSuper, true);
-                    generateThisFromJson(ifBlockReference, consumer, methodBlock, true, false);
+                            ifBlockReference, fieldSwitch, fromSuper, true);
+                    generateThisFromJson(ifBlockReference, fieldSwitch, consumer, methodBlock, true, false);
+                    if (fieldSwitch != null) {
+                        // Unknown properties are handled by the caller of 'fromJsonShared'.
+                        fieldSwitch.write(methodBlock, null);
+                    }
 
                     methodBlock.methodReturn("false");
                 });
@@ -1496,12 +1525,26 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
         }
 
         private void handleJsonPropertyDeserialization(ClientModelProperty property, JavaBlock methodBlock,
-            AtomicReference<JavaIfBlock> ifBlockReference, boolean fromSuper, boolean isFromJsonShared) {
+            AtomicReference<JavaIfBlock> ifBlockReference, JsonFieldSwitch fieldSwitch, boolean fromSuper,
+            boolean isFromJsonShared) {
             // Property will be handled later by flattened deserialization.
             if (property.getNeedsFlatten()) {
                 return;
             }
 
+            if (fieldSwitch != null) {
+                String jsonPropertyName = property.getSerializedName();
+                if (!CoreUtils.isNullOrEmpty(jsonPropertyName)) {
+                    fieldSwitch.addCase(jsonPropertyName, null, isFromJsonShared, deserializationBlock -> {
+                        generateJsonDeserializationLogic(deserializationBlock, property, fromSuper);
+                        if (isFromJsonShared) {
+                            deserializationBlock.methodReturn("true");
+                        }
+                    });
+                }
+                return;
+            }
+
             JavaIfBlock ifBlock = ifBlockReference.get();
             ifBlock = handleJsonPropertyDeserialization(property, methodBlock, ifBlock, fromSuper, isFromJsonShared);
 
@@ -1526,12 +1569,51 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
         }
 
         private void handleFlattenedPropertiesDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
-            boolean isFromJsonShared) {
+            JsonFieldSwitch fieldSwitch, boolean isFromJsonShared) {
             // The initial call to handle flattened properties is using the base node which is just a holder.
             for (JsonFlattenedPropertiesTree structure : propertiesManager.getJsonFlattenedPropertiesTree()
                 .getChildrenNodes()
                 .values()) {
-                handleFlattenedPropertiesDeserializationHelper(structure, methodBlock, ifBlock, isFromJsonShared, 0);
+                if (fieldSwitch != null) {
+                    handleFlattenedPropertiesDeserializationWithSwitch(structure, methodBlock, fieldSwitch,
+                        isFromJsonShared, 0);
+                } else {
+                    handleFlattenedPropertiesDeserializationHelper(structure, methodBlock, ifBlock, isFromJsonShared,
+                        0);
+                }
+            }
+        }
+
+        private void handleFlattenedPropertiesDeserializationWithSwitch(JsonFlattenedPropertiesTree flattenedProperties,
+            JavaBlock methodBlock, JsonFieldSwitch fieldSwitch, boolean isFromJsonShared, int depth) {
+            ClientModelPropertyWithMetadata propertyWithMetadata = flattenedProperties.getProperty();
+            if (propertyWithMetadata != null) {
+                // This is a terminal location, so only need to handle checking for the property name.
+                fieldSwitch.addCase(flattenedProperties.getNodeName(), null, false,
+                    deserializationBlock -> generateJsonDeserializationLogic(deserializationBlock,
+                        propertyWithMetadata.getProperty(), propertyWithMetadata.isFromSuperClass()));
+            } else {
+                // Otherwise this is an intermediate location and a while loop reader needs to be added.
+                fieldSwitch.addCase(flattenedProperties.getNodeName(),
+                    "reader.currentToken() == JsonToken.START_OBJECT", false, ifAction -> {
+                        addReaderWhileLoop(ifAction, false, false, whileBlock -> {
+                            JsonFieldSwitch innerFieldSwitch
+                                = new JsonFieldSwitch(propertiesManager.getJsonReaderFieldNameVariableName());
+                            for (JsonFlattenedPropertiesTree structure : flattenedProperties.getChildrenNodes()
+                                .values()) {
+                                handleFlattenedPropertiesDeserializationWithSwitch(structure, methodBlock,
+                                    innerFieldSwitch, isFromJsonShared, depth + 1);
+                            }
+
+                            innerFieldSwitch.write(whileBlock,
+                                unknownJsonFieldDeserialization(propertiesManager.getAdditionalProperties()));
+                        });
+
+                        if (isFromJsonShared && depth == 0) {
+                            // Flattening will handle skipping and additional properties itself.
+                            ifAction.methodReturn("true");
+                        }
+                    });
             }
         }
 
@@ -1801,8 +1883,24 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
         private void handleUnknownJsonFieldDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
             ClientModelProperty additionalProperties) {
+            Consumer<JavaBlock> unknownFieldConsumer = unknownJsonFieldDeserialization(additionalProperties);
+            if (ifBlock == null) {
+                unknownFieldConsumer.accept(methodBlock);
+            } else {
+                ifBlock.elseBlock(unknownFieldConsumer);
+            }
+        }
+
+        /**
+         * Gets the deserialization of a JSON field that isn't a property, which either skips the field or adds it into
+         * the additional properties bag.
+         *
+         * @param additionalProperties The additional properties property, or null if there isn't one.
+         * @return The deserialization of a JSON field that isn't a property.
+         */
+        private Consumer<JavaBlock> unknownJsonFieldDeserialization(ClientModelProperty additionalProperties) {
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
-            Consumer<JavaBlock> unknownFieldConsumer = javaBlock -> {
+            return javaBlock -> {
                 if (additionalProperties != null) {
                     javaBlock.ifBlock(additionalProperties.getName() + " == null",
                         ifAction -> ifAction.line(additionalProperties.getName() + " = new LinkedHashMap<>();"));
@@ -1832,12 +1930,6 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     javaBlock.line("reader.skipChildren();");
                 }
             };
-
-            if (ifBlock == null) {
-                unknownFieldConsumer.accept(methodBlock);
-            } else {
-                ifBlock.elseBlock(unknownFieldConsumer);
-            }
         }
 
         /**
@@ -2647,4 +2739,120 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
     }
+
+    /**
+     * Collects the cases of a dispatch on a JSON field name, or on a discriminator value, and writes them as a switch
+     * statement.
+     * <p>
+     * A switch on a String compares the hash code of the value before comparing with equals, so the cost of the
+     * dispatch doesn't grow with the number of cases as with a chain of if-else statements comparing with equals.
+     */
+    private static final class JsonFieldSwitch {
+        private final String variableName;
+        private final Map<String, List<JsonFieldCase>> cases = new LinkedHashMap<>();
+
+        private JsonFieldSwitch(String variableName) {
+            this.variableName = variableName;
+        }
+
+        /**
+         * Adds a case.
+         * <p>
+         * Cases are added in the order of the if-else chain. Cases of the same name are written in the same switch
+         * case, as an if-else chain on their additional conditions, so that a later case is still reached when the
+         * additional condition of an earlier case doesn't hold.
+         *
+         * @param name The field name.
+         * @param additionalCondition Condition that needs to hold besides the name matching, or null.
+         * @param returns Whether the action always ends with a return statement.
+         * @param action The action for the case.
+         */
+        private void addCase(String name, String additionalCondition, boolean returns, Consumer<JavaBlock> action) {
+            cases.computeIfAbsent(name, ignored -> new ArrayList<>())
+                .add(new JsonFieldCase(additionalCondition, returns, action));
+        }
+
+        private boolean isEmpty() {
+            return cases.isEmpty();
+        }
+
+        /**
+         * Writes the switch statement.
+         *
+         * @param block The block to write the switch statement to.
+         * @param defaultAction The action when no case matches, or when the additional conditions of all cases of the
+         * name don't hold. If null, the switch statement completes normally in those situations.
+         */
+        private void write(JavaBlock block, Consumer<JavaBlock> defaultAction) {
+            if (cases.isEmpty()) {
+                if (defaultAction != null) {
+                    defaultAction.accept(block);
+                }
+                return;
+            }
+
+            block.block("switch (" + variableName + ")", switchBlock -> {
+                cases.forEach((name, fieldCases) -> {
+                    switchBlock.line("case \"" + name + "\":");
+                    switchBlock.indent(() -> {
+                        // 'break' after a return statement doesn't compile as it is unreachable.
+                        if (!writeCases(switchBlock, fieldCases, defaultAction)) {
+                            switchBlock.line("break;");
+                        }
+                    });
+                });
+
+                if (defaultAction != null) {
+                    switchBlock.line("default:");
+                    switchBlock.indent(() -> {
+                        defaultAction.accept(switchBlock);
+                        switchBlock.line("break;");
+                    });
+                }
+            });
+        }
+
+        /**
+         * Writes the cases of a name, in the same way as the if-else chain would check them.
+         *
+         * @return Whether the written statements always end with a return statement.
+         */
+        private static boolean writeCases(JavaBlock block, List<JsonFieldCase> fieldCases,
+            Consumer<JavaBlock> defaultAction) {
+            JavaIfBlock ifBlock = null;
+            boolean conditionalCasesReturn = true;
+            for (JsonFieldCase fieldCase : fieldCases) {
+                if (fieldCase.additionalCondition == null) {
+                    // As in the if-else chain, cases after a case without additional condition are unreachable.
+                    if (ifBlock == null) {
+                        fieldCase.action.accept(block);
+                    } else {
+                        ifBlock.elseBlock(fieldCase.action);
+                    }
+                    return conditionalCasesReturn && fieldCase.returns;
+                }
+
+                ifBlock = StreamSerializationGenerator.ifOrElseIf(block, ifBlock, fieldCase.additionalCondition,
+                    fieldCase.action);
+                conditionalCasesReturn &= fieldCase.returns;
+            }
+
+            if (defaultAction != null) {
+                ifBlock.elseBlock(defaultAction);
+            }
+            return false;
+        }
+    }
+
+    private static final class JsonFieldCase {
+        private final String additionalCondition;
+        private final boolean returns;
+        private final Consumer<JavaBlock> action;
+
+        private JsonFieldCase(String additionalCondition, boolean returns, Consumer<JavaBlock> action) {
+            this.additionalCondition = additionalCondition;
+            this.returns = returns;
+            this.action = action;
+        }
+    }
 }
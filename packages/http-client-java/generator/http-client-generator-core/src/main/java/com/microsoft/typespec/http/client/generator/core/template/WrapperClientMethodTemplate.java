@@ -93,6 +93,9 @@ public class WrapperClientMethodTemplate extends ClientMethodTemplateBase {
             classBlock.method(clientMethod.getMethodVisibilityInWrapperClient(), null, declaration, method);
         }
 
+        if (clientMethod.getMethodVisibilityInWrapperClient() == JavaVisibility.Public) {
+            JsonLinesMethodTemplate.write(clientMethod, typeBlock);
+        }
     }
 
     /**
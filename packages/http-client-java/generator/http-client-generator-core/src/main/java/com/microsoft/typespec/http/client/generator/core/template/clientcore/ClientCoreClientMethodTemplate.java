@@ -31,6 +31,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJav
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.template.ClientMethodTemplate;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.CollectionFormat;
 import com.microsoft.typespec.http.client.generator.core.util.MethodNamer;
@@ -780,7 +781,9 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                     function.line(
                         "RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();");
                 }
-                function.line("return new PagedIterable<>(");
+                boolean pagePrefetch = ClientModelUtil.isPagePrefetch(clientMethod, settings);
+                function.line(
+                    pagePrefetch ? "return PagePrefetcher.createPagedIterable(" : "return new PagedIterable<>(");
 
                 String nextMethodArgs = clientMethod.getMethodPageDetails()
                     .getNextMethod()
@@ -792,7 +795,7 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                 function.indent(() -> {
                     function.line("%s,", this.getPagingSinglePageExpression(clientMethod,
                         clientMethod.getProxyMethod().getPagingSinglePageMethodName(), effectiveFirstPageArgs));
-                    function.line("%s);",
+                    function.line(pagePrefetch ? "%s, " + settings.getPagePrefetchDepth() + ");" : "%s);",
                         this.getPagingNextPageExpression(clientMethod,
                             clientMethod.getMethodPageDetails()
                                 .getNextMethod()
@@ -19,6 +19,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlo
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.template.JsonLinesMethodTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.WrapperClientMethodTemplate;
 import io.clientcore.core.annotations.ReturnType;
 import java.util.List;
@@ -52,6 +53,9 @@ public class ClientCoreWrapperClientMethodTemplate extends WrapperClientMethodTe
             // Max overload for single service API is of method type SimpleSyncRestResponse
             writeConvenienceMethod(clientMethod, typeBlock, ReturnType.SINGLE,
                 clientMethod.getProxyMethod().getSimpleRestResponseMethodName());
+            if (clientMethod.getMethodVisibility() == JavaVisibility.Public) {
+                JsonLinesMethodTemplate.write(clientMethod, typeBlock);
+            }
             return;
         } else if (methodType == ClientMethodType.PagingSync && !hasRequestContext) {
             writeConvenienceMethod(clientMethod, typeBlock, ReturnType.COLLECTION, clientMethod.getName());
@@ -11,11 +11,13 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelPropertyAccess;
@@ -25,8 +27,14 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Exter
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ModelPropertySegment;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Proxy;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import io.clientcore.core.utils.CoreUtils;
@@ -57,16 +65,26 @@ public class ClientModelUtil {
     public static final String MULTI_PART_FORM_DATA_HELPER_CLASS_NAME = "MultipartFormDataHelper";
     public static final String GENERIC_MULTI_PART_FORM_DATA_HELPER_CLASS_NAME = "GenericMultipartFormDataHelper";
 
+    public static final String JSON_LINES_HELPER_CLASS_NAME = "JsonLinesHelper";
+    public static final String GENERIC_JSON_LINES_HELPER_CLASS_NAME = "GenericJsonLinesHelper";
+    public static final String JSON_LINES_CONTENT_TYPE = "application/jsonl";
+
     private static final Pattern SPLIT_FLATTEN_PROPERTY_PATTERN = Pattern.compile("((?<!\\\\))\\.");
 
     public static final String JSON_MERGE_PATCH_HELPER_CLASS_NAME = "JsonMergePatchHelper";
 
+    public static final String JSON_SERIALIZATION_HELPER_CLASS_NAME = "JsonSerializationHelper";
+
+    public static final String SERVICE_IMPL_HELPER_CLASS_NAME = "ServiceImplHelper";
+
     public static final String OPERATION_LOCATION_POLLING_STRATEGY = "OperationLocationPollingStrategy";
     public static final String SYNC_OPERATION_LOCATION_POLLING_STRATEGY = "SyncOperationLocationPollingStrategy";
     public static final String POLLING_UTILS = "PollingUtils";
     public static final String CLIENT_CORE_POLLING_UTILS = "ClientCorePollingUtils";
     public static final String CLIENT_CORE_OPERATION_LOCATION_POLLING_STRATEGY
         = "ClientCoreOperationLocationPollingStrategy";
+    public static final String PAGE_PREFETCHER = "PagePrefetcher";
+    public static final String CLIENT_CORE_PAGE_PREFETCHER = "ClientCorePagePrefetcher";
 
     private ClientModelUtil() {
     }
@@ -797,6 +815,376 @@ public class ClientModelUtil {
         return externalPackageNames;
     }
 
+    /**
+     * Checks whether the sync paging method prefetches pages in the background.
+     * <p>
+     * Only the PagedIterable on sync stack (always the case for clientcore) requests the pages itself. Without sync
+     * stack, and in Fluent, the PagedIterable wraps the PagedFlux, and the pages are not prefetched.
+     *
+     * @param clientMethod the paging method.
+     * @param settings the Java settings.
+     * @return whether the paging method prefetches pages.
+     */
+    public static boolean isPagePrefetch(ClientMethod clientMethod, JavaSettings settings) {
+        return settings.getPagePrefetchDepth() > 0
+            && !settings.isFluent()
+            && (settings.isSyncStackEnabled() || !settings.isAzureV1())
+            && clientMethod.getMethodPageDetails() != null
+            && clientMethod.getMethodPageDetails().nonNullNextLink();
+    }
+
+    /**
+     * Checks whether any paging method of the service clients prefetches pages, which requires the PagePrefetcher
+     * helper class.
+     *
+     * @param serviceClients the service clients.
+     * @param settings the Java settings.
+     * @return whether the PagePrefetcher helper class is required.
+     */
+    public static boolean requirePagePrefetcher(List<ServiceClient> serviceClients, JavaSettings settings) {
+        if (settings.getPagePrefetchDepth() <= 0) {
+            return false;
+        }
+
+        Predicate<ClientMethod> isPagePrefetch
+            = method -> method.getType() == ClientMethodType.PagingSync && isPagePrefetch(method, settings);
+        for (ServiceClient serviceClient : serviceClients) {
+            if (serviceClient.getClientMethods().stream().anyMatch(isPagePrefetch)
+                || serviceClient.getMethodGroupClients()
+                    .stream()
+                    .flatMap(methodGroupClient -> methodGroupClient.getClientMethods().stream())
+                    .anyMatch(isPagePrefetch)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the request body of the method is JSON Lines of models, sent as BinaryData.
+     * <p>
+     * A request that requires the Content-Length header is excluded, as the length of the body is unknown until all the
+     * elements are serialized.
+     *
+     * @param clientMethod the client method.
+     * @return whether the request body of the method is JSON Lines of models.
+     */
+    public static boolean isJsonLinesRequest(ClientMethod clientMethod) {
+        ProxyMethod proxyMethod = clientMethod.getProxyMethod();
+        return proxyMethod != null
+            && JSON_LINES_CONTENT_TYPE.equalsIgnoreCase(proxyMethod.getRequestContentType())
+            && proxyMethod.getRequestElementType() != null
+            && isJsonSerializableModel(proxyMethod.getRequestElementType())
+            && clientMethod.getMethodInputParameters()
+                .stream()
+                .anyMatch(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY
+                    && p.getClientType() == ClassType.BINARY_DATA)
+            && proxyMethod.getParameters()
+                .stream()
+                .noneMatch(p -> p.getRequestParameterLocation() == RequestParameterLocation.HEADER
+                    && "Content-Length".equalsIgnoreCase(p.getRequestParameterName()));
+    }
+
+    /**
+     * Checks whether the response body of the method is JSON Lines of models, returned as BinaryData.
+     *
+     * @param clientMethod the client method.
+     * @return whether the response body of the method is JSON Lines of models.
+     */
+    public static boolean isJsonLinesResponse(ClientMethod clientMethod) {
+        ProxyMethod proxyMethod = clientMethod.getProxyMethod();
+        IType returnType = clientMethod.getReturnValue().getType();
+        return proxyMethod != null
+            && proxyMethod.getResponseContentTypes() != null
+            && proxyMethod.getResponseContentTypes().stream().anyMatch(JSON_LINES_CONTENT_TYPE::equalsIgnoreCase)
+            && proxyMethod.getResponseElementType() != null
+            && isJsonSerializableModel(proxyMethod.getResponseElementType())
+            && (returnType == ClassType.BINARY_DATA
+                || (returnType instanceof GenericType
+                    && ClassType.MONO.getName().equals(((GenericType) returnType).getName())
+                    && ((GenericType) returnType).getTypeArguments()[0] == ClassType.BINARY_DATA));
+    }
+
+    /**
+     * Checks whether any method of the service clients, or convenience method of the clients, sends or receives a JSON
+     * Lines body of models, which requires the JsonLinesHelper class.
+     *
+     * @param serviceClients the service clients.
+     * @param asyncClients the async clients.
+     * @param syncClients the sync clients.
+     * @return whether the JsonLinesHelper class is required.
+     */
+    public static boolean requireJsonLinesHelper(List<ServiceClient> serviceClients,
+        List<AsyncSyncClient> asyncClients, List<AsyncSyncClient> syncClients) {
+        Predicate<ClientMethod> isJsonLines = method -> (method.getType() == ClientMethodType.SimpleSync
+            || method.getType() == ClientMethodType.SimpleAsync)
+            && (isJsonLinesRequest(method) || isJsonLinesResponse(method));
+        for (ServiceClient serviceClient : serviceClients) {
+            if (serviceClient.getClientMethods().stream().anyMatch(isJsonLines)
+                || serviceClient.getMethodGroupClients()
+                    .stream()
+                    .flatMap(methodGroupClient -> methodGroupClient.getClientMethods().stream())
+                    .anyMatch(isJsonLines)) {
+                return true;
+            }
+        }
+        return Stream.concat(asyncClients.stream(), syncClients.stream())
+            .flatMap(client -> client.getConvenienceMethods().stream())
+            .flatMap(convenienceMethod -> convenienceMethod.getConvenienceMethods().stream())
+            .anyMatch(isJsonLines);
+    }
+
+    /**
+     * Checks whether the type is a model that implements JsonSerializable, so that it can be serialized by its toJson
+     * and deserialized by its fromJson.
+     *
+     * @param type the type
+     * @return whether the type is a model that implements JsonSerializable
+     */
+    public static boolean isJsonSerializableModel(IType type) {
+        if (!JavaSettings.getInstance().isStreamStyleSerialization() || !isClientModel(type) || isExternalModel(type)) {
+            return false;
+        }
+        ClientModel model = getClientModel(((ClassType) type).getName());
+        return model.getXmlName() == null && !model.isStronglyTypedHeader() && !isMultipartModel(model);
+    }
+
+    /**
+     * Gets the expression of the callback to read the type from a JsonReader, by the fromJson of the models.
+     * <p>
+     * For example, "Resource::fromJson" for a model, and "reader -> reader.readArray(Resource::fromJson)" for a List
+     * of models.
+     *
+     * @param type the type
+     * @return the expression of the callback, or null if the type is not a model, or a List or Map of models
+     */
+    public static String getJsonReadValueCallback(IType type) {
+        return getJsonReadValueCallback(type, 0);
+    }
+
+    private static String getJsonReadValueCallback(IType type, int depth) {
+        if (type instanceof ClassType) {
+            return isJsonSerializableModel(type) ? type + "::fromJson" : null;
+        }
+
+        String var = depth == 0 ? "reader" : "reader" + depth;
+        if (type instanceof ListType) {
+            String elementCallback = getJsonReadValueCallback(((ListType) type).getElementType(), depth + 1);
+            return elementCallback == null ? null : var + " -> " + var + ".readArray(" + elementCallback + ")";
+        } else if (type instanceof MapType) {
+            String valueCallback = getJsonReadValueCallback(((MapType) type).getValueType(), depth + 1);
+            return valueCallback == null ? null : var + " -> " + var + ".readMap(" + valueCallback + ")";
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the expression of the callback to write a List or Map of models to a JsonWriter, by the toJson of the
+     * models.
+     * <p>
+     * For example, "(writer, array) -> writer.writeArray(array, (writer1, element1) -> writer1.writeJson(element1))"
+     * for a List of models.
+     *
+     * @param type the type
+     * @return the expression of the callback, or null if the type is not a List or Map of models
+     */
+    public static String getJsonWriteValueCallback(IType type) {
+        return type instanceof ClassType ? null : getJsonWriteValueCallback(type, 0);
+    }
+
+    private static String getJsonWriteValueCallback(IType type, int depth) {
+        String var = depth == 0 ? "writer" : "writer" + depth;
+        if (type instanceof ClassType) {
+            // not JsonWriter::writeJson, as it cannot be inferred for the overloads of JsonWriter.writeArray
+            String element = "element" + depth;
+            return isJsonSerializableModel(type)
+                ? "(" + var + ", " + element + ") -> " + var + ".writeJson(" + element + ")"
+                : null;
+        } else if (type instanceof ListType) {
+            String elementCallback = getJsonWriteValueCallback(((ListType) type).getElementType(), depth + 1);
+            String array = depth == 0 ? "array" : "array" + depth;
+            return elementCallback == null
+                ? null
+                : "(" + var + ", " + array + ") -> " + var + ".writeArray(" + array + ", " + elementCallback + ")";
+        } else if (type instanceof MapType) {
+            String valueCallback = getJsonWriteValueCallback(((MapType) type).getValueType(), depth + 1);
+            String map = depth == 0 ? "map" : "map" + depth;
+            return valueCallback == null
+                ? null
+                : "(" + var + ", " + map + ") -> " + var + ".writeMap(" + map + ", " + valueCallback + ")";
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the convenience methods of the clients serialize or deserialize any model through
+     * JsonSerializationHelper.
+     *
+     * @param asyncClients the async clients
+     * @param syncClients the sync clients
+     * @return whether JsonSerializationHelper is required
+     */
+    public static boolean requireJsonSerializationHelper(List<AsyncSyncClient> asyncClients,
+        List<AsyncSyncClient> syncClients) {
+        JavaSettings settings = JavaSettings.getInstance();
+        if (!settings.isAzureV1() || !settings.isJsonDirectSerialization()) {
+            return false;
+        }
+        return Stream.concat(asyncClients.stream(), syncClients.stream())
+            .flatMap(client -> client.getConvenienceMethods().stream())
+            .flatMap(convenienceMethod -> convenienceMethod.getConvenienceMethods().stream())
+            .anyMatch(
+                method -> method.getParameters()
+                    .stream()
+                    .anyMatch(p -> isJsonSerializableModel(p.getWireType())
+                        || getJsonWriteValueCallback(p.getWireType()) != null)
+                    || method.getParameterTransformations()
+                        .asStream()
+                        .anyMatch(t -> isJsonSerializableModel(t.getOutParameter().getRawType())
+                            || getJsonWriteValueCallback(t.getOutParameter().getRawType()) != null)
+                    || getJsonReadValueCallback(getResponseBodyType(method.getReturnValue().getType())) != null);
+    }
+
+    /**
+     * Checks whether the implementation of any service interface of the clients is generated.
+     *
+     * @param serviceClients the service clients
+     * @return whether ServiceImplHelper is required
+     */
+    public static boolean requireServiceImplHelper(List<ServiceClient> serviceClients) {
+        return serviceClients.stream()
+            .anyMatch(serviceClient -> isGenerateServiceImpl(serviceClient.getProxy())
+                || serviceClient.getMethodGroupClients()
+                    .stream()
+                    .anyMatch(methodGroupClient -> isGenerateServiceImpl(methodGroupClient.getProxy())));
+    }
+
+    /**
+     * Checks whether the implementation of the service interface is generated, instead of created via RestProxy.
+     * <p>
+     * The implementation is generated for azure-core data-plane clients, when every method of the service interface
+     * is supported, i.e. it takes String or primitive parameters in host, path, query and header, an optional
+     * BinaryData body, RequestOptions and Context, and returns Response of BinaryData or Void.
+     *
+     * @param proxy the service interface
+     * @return whether the implementation of the service interface is generated
+     */
+    public static boolean isGenerateServiceImpl(Proxy proxy) {
+        JavaSettings settings = JavaSettings.getInstance();
+        if (proxy == null
+            || !settings.isAzureV1()
+            || !settings.isDataPlaneClient()
+            || !settings.isGenerateServiceImpl()) {
+            return false;
+        }
+        return proxy.getMethods().stream().allMatch(ClientModelUtil::isServiceImplSupported);
+    }
+
+    /**
+     * Gets the type of the body of the Response that the proxy method returns, for the generated implementation of the
+     * service interface.
+     *
+     * @param proxyMethod the proxy method
+     * @return BinaryData or Void, or null if the return type is not supported
+     */
+    public static IType getServiceImplResponseBodyType(ProxyMethod proxyMethod) {
+        IType returnType = proxyMethod.getReturnType();
+        if (!proxyMethod.isSync()) {
+            if (!(returnType instanceof GenericType)
+                || !ClassType.MONO.getName().equals(((GenericType) returnType).getName())) {
+                return null;
+            }
+            returnType = ((GenericType) returnType).getTypeArguments()[0];
+        }
+        if (GenericType.response(ClassType.BINARY_DATA).equals(returnType)) {
+            return ClassType.BINARY_DATA;
+        } else if (GenericType.response(ClassType.VOID).equals(returnType)) {
+            return ClassType.VOID;
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean isServiceImplSupported(ProxyMethod proxyMethod) {
+        if (proxyMethod.getImplementation() != null) {
+            // default method of the service interface
+            return true;
+        }
+        if (proxyMethod.isResumable() || getServiceImplResponseBodyType(proxyMethod) == null) {
+            return false;
+        }
+        if (proxyMethod.getUnexpectedResponseExceptionTypes() != null
+            && !proxyMethod.getUnexpectedResponseExceptionTypes()
+                .keySet()
+                .stream()
+                .allMatch(ClientModelUtil::isCoreHttpResponseException)) {
+            return false;
+        }
+        if (proxyMethod.getUnexpectedResponseExceptionType() != null
+            && !isCoreHttpResponseException(proxyMethod.getUnexpectedResponseExceptionType())) {
+            return false;
+        }
+        for (ProxyMethodParameter parameter : proxyMethod.getParameters()) {
+            IType wireType = parameter.getWireType();
+            switch (parameter.getRequestParameterLocation()) {
+                case URI:
+                case PATH:
+                case QUERY:
+                case HEADER:
+                    boolean supportedType = ClassType.STRING.equals(wireType)
+                        || wireType == PrimitiveType.INT
+                        || wireType == PrimitiveType.LONG
+                        || wireType == PrimitiveType.BOOLEAN;
+                    if (!supportedType
+                        || parameter.getExplode()
+                        || !CoreUtils.isNullOrEmpty(parameter.getHeaderCollectionPrefix())) {
+                        return false;
+                    }
+                    break;
+
+                case BODY:
+                    if (!ClassType.BINARY_DATA.equals(wireType)
+                        || "application/x-www-form-urlencoded".equals(proxyMethod.getRequestContentType())) {
+                        return false;
+                    }
+                    break;
+
+                case NONE:
+                    if (!ClassType.REQUEST_OPTIONS.equals(wireType) && !ClassType.CONTEXT.equals(wireType)) {
+                        return false;
+                    }
+                    break;
+
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCoreHttpResponseException(ClassType exceptionType) {
+        // the exceptions in azure-core, which have the constructor of (String, HttpResponse, Object)
+        return "com.azure.core.exception".equals(exceptionType.getPackage());
+    }
+
+    private static IType getResponseBodyType(IType type) {
+        // e.g. Mono<Response<T>>, page items are not deserialized through JsonSerializationHelper
+        while (type instanceof GenericType) {
+            String name = ((GenericType) type).getName();
+            if (ClassType.MONO.getName().equals(name)
+                || ClassType.RESPONSE.getName().equals(name)
+                || ClassType.RESPONSE_BASE.getName().equals(name)) {
+                IType[] typeArguments = ((GenericType) type).getTypeArguments();
+                type = typeArguments[typeArguments.length - 1];
+            } else {
+                break;
+            }
+        }
+        return type;
+    }
+
     public static boolean requireOperationLocationPollingStrategy(CodeModel codeModel) {
         if (CoreUtils.isNullOrEmpty(codeModel.getClients())) {
             return false;
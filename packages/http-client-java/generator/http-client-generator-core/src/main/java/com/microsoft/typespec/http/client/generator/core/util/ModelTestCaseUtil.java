@@ -31,17 +31,28 @@ import java.util.stream.Collectors;
 public class ModelTestCaseUtil {
 
     private static final class Configuration {
+        private final Random random;
+
         private final float nullableProbability = 0.0f;
 
-        private final int maxDepth = 5;
+        private final int maxDepth;
 
         private final int maxStringLen = 16 + 1;
-        private final int maxList = 4 + 1;
-        private final int maxDict = 4 + 1;
+        private final int maxList;
+        private final int maxDict;
+
+        private Configuration(int seed, int maxDepth, int maxList, int maxDict) {
+            this.random = new Random(seed);
+            this.maxDepth = maxDepth;
+            this.maxList = maxList;
+            this.maxDict = maxDict;
+        }
     }
 
-    private static final Random RANDOM = new Random(3);
-    private static final Configuration CONFIGURATION = new Configuration();
+    private static final Configuration CONFIGURATION = new Configuration(3, 5, 4 + 1, 4 + 1);
+    // larger List and Map for benchmark, but less depth to keep the size of the JSON in check
+    // it has its own random generator, so that the values of the unit tests are not affected
+    private static final Configuration BENCHMARK_CONFIGURATION = new Configuration(3, 3, 16 + 1, 16 + 1);
 
     /**
      * Compose a random JSON object according to the structure of client model.
@@ -50,10 +61,22 @@ public class ModelTestCaseUtil {
      * @return the JSON object as Map
      */
     public static Map<String, Object> jsonFromModel(ClientModel model) {
-        return jsonFromModel(0, model);
+        return jsonFromModel(CONFIGURATION, 0, model);
+    }
+
+    /**
+     * Compose a random JSON object according to the structure of client model, for benchmark.
+     * <p>
+     * Compared to {@link #jsonFromModel(ClientModel)}, the List and Map in the JSON object are larger.
+     *
+     * @param model the client model
+     * @return the JSON object as Map
+     */
+    public static Map<String, Object> benchmarkJsonFromModel(ClientModel model) {
+        return jsonFromModel(BENCHMARK_CONFIGURATION, 0, model);
     }
 
-    private static Map<String, Object> jsonFromModel(int depth, ClientModel model) {
+    private static Map<String, Object> jsonFromModel(Configuration configuration, int depth, ClientModel model) {
         Map<String, Object> jsonObject = new LinkedHashMap<>();
 
         // polymorphism
@@ -65,7 +88,7 @@ public class ModelTestCaseUtil {
         // class
         for (ClientModelProperty property : model.getProperties()) {
             if (!property.isPolymorphicDiscriminator()) {
-                addForProperty(depth, jsonObject, property, model.getNeedsFlatten());
+                addForProperty(configuration, depth, jsonObject, property, model.getNeedsFlatten());
             }
         }
 
@@ -76,7 +99,7 @@ public class ModelTestCaseUtil {
             if (parentModel != null) {
                 for (ClientModelProperty property : parentModel.getProperties()) {
                     if (!property.isPolymorphicDiscriminator()) {
-                        addForProperty(depth, jsonObject, property, parentModel.getNeedsFlatten());
+                        addForProperty(configuration, depth, jsonObject, property, parentModel.getNeedsFlatten());
                     }
                 }
             }
@@ -94,42 +117,46 @@ public class ModelTestCaseUtil {
      * @return the JSON object as Map
      */
     public static Object jsonFromType(int depth, IType type) {
+        return jsonFromType(CONFIGURATION, depth, type);
+    }
+
+    private static Object jsonFromType(Configuration configuration, int depth, IType type) {
         if (type.asNullable() == ClassType.INTEGER) {
-            return RANDOM.nextInt() & Integer.MAX_VALUE;
+            return configuration.random.nextInt() & Integer.MAX_VALUE;
         } else if (type.asNullable() == ClassType.LONG) {
-            return RANDOM.nextLong() & Long.MAX_VALUE;
+            return configuration.random.nextLong() & Long.MAX_VALUE;
         } else if (type.asNullable() == ClassType.BIG_DECIMAL) {
-            return RANDOM.nextLong() & Long.MAX_VALUE;
+            return configuration.random.nextLong() & Long.MAX_VALUE;
         } else if (type.asNullable() == ClassType.FLOAT) {
-            return RANDOM.nextFloat() * 100;
+            return configuration.random.nextFloat() * 100;
         } else if (type.asNullable() == ClassType.DOUBLE) {
-            return RANDOM.nextDouble() * 100;
+            return configuration.random.nextDouble() * 100;
         } else if (type.asNullable() == ClassType.BOOLEAN) {
-            return RANDOM.nextBoolean();
+            return configuration.random.nextBoolean();
         } else if (type == ClassType.STRING) {
-            return randomString();
+            return randomString(configuration);
         } else if (type.asNullable() == ClassType.UNIX_TIME_LONG) {
             // use nextInt to avoid exceeding unixTime limit
-            return RANDOM.nextInt() & Integer.MAX_VALUE;
+            return configuration.random.nextInt() & Integer.MAX_VALUE;
         } else if (type == ClassType.DATE_TIME) {
-            return randomDateTime().toString();
+            return randomDateTime(configuration).toString();
         } else if (type == ClassType.DATE_TIME_RFC_1123) {
-            return DateTimeRfc1123.toRfc1123String(randomDateTime());
+            return DateTimeRfc1123.toRfc1123String(randomDateTime(configuration));
         } else if (type == ClassType.DURATION) {
             Duration duration = Duration.ZERO;
-            duration = duration.plusSeconds(RANDOM.nextInt(10 * 24 * 60 * 60));
+            duration = duration.plusSeconds(configuration.random.nextInt(10 * 24 * 60 * 60));
             return duration.toString();
         } else if (type.asNullable() == ClassType.DURATION_LONG) {
-            return RANDOM.nextLong() & Long.MAX_VALUE;
+            return configuration.random.nextLong() & Long.MAX_VALUE;
         } else if (type.asNullable() == ClassType.DURATION_DOUBLE) {
-            return Math.abs(RANDOM.nextDouble() * 10);
+            return Math.abs(configuration.random.nextDouble() * 10);
         } else if (type == ClassType.UUID) {
             return UUID.randomUUID().toString();
         } else if (type == ClassType.URL) {
-            return "http://example.org/" + URLEncoder.encode(randomString(), StandardCharsets.UTF_8);
+            return "http://example.org/" + URLEncoder.encode(randomString(configuration), StandardCharsets.UTF_8);
         } else if (type == ClassType.OBJECT || type == ClassType.BINARY_DATA) {
             // unknown type, use a simple string
-            return ClassType.STRING.defaultValueExpression("data" + randomString());
+            return ClassType.STRING.defaultValueExpression("data" + randomString(configuration));
         } else if (type instanceof EnumType) {
             IType elementType = ((EnumType) type).getElementType();
             List<String> values
@@ -138,7 +165,7 @@ public class ModelTestCaseUtil {
                 // empty enum
                 return null;
             }
-            int index = RANDOM.nextInt(values.size());
+            int index = configuration.random.nextInt(values.size());
             String value = values.get(index);
             if (elementType.asNullable() == ClassType.INTEGER) {
                 return Integer.valueOf(value);
@@ -155,11 +182,11 @@ public class ModelTestCaseUtil {
             }
         } else if (type instanceof IterableType) {
             List<Object> list = new ArrayList<>();
-            if (depth <= CONFIGURATION.maxDepth) {
+            if (depth <= configuration.maxDepth) {
                 IType elementType = ((IterableType) type).getElementType();
-                int count = RANDOM.nextInt(CONFIGURATION.maxList - 1) + 1;
+                int count = configuration.random.nextInt(configuration.maxList - 1) + 1;
                 for (int i = 0; i < count; ++i) {
-                    Object element = jsonFromType(depth + 1, elementType);
+                    Object element = jsonFromType(configuration, depth + 1, elementType);
                     if (element != null) {
                         list.add(element);
                     }
@@ -168,13 +195,13 @@ public class ModelTestCaseUtil {
             return list;
         } else if (type instanceof MapType) {
             Map<String, Object> map = new LinkedHashMap<>();
-            if (depth <= CONFIGURATION.maxDepth) {
+            if (depth <= configuration.maxDepth) {
                 IType elementType = ((MapType) type).getValueType();
-                int count = RANDOM.nextInt(CONFIGURATION.maxDict - 1) + 1;
+                int count = configuration.random.nextInt(configuration.maxDict - 1) + 1;
                 for (int i = 0; i < count; ++i) {
-                    Object element = jsonFromType(depth + 1, elementType);
+                    Object element = jsonFromType(configuration, depth + 1, elementType);
                     if (element != null) {
-                        map.put(randomString(), element);
+                        map.put(randomString(configuration), element);
                     }
                 }
             } // else abort
@@ -182,7 +209,7 @@ public class ModelTestCaseUtil {
         } else if (type instanceof ClassType && type != ClassType.CONTEXT) {
             ClientModel model = ClientModelUtil.getClientModel(((ClassType) type).getName());
             if (model != null) {
-                return jsonFromModel(depth + 1, model);
+                return jsonFromModel(configuration, depth + 1, model);
             }
         }
         return null;
@@ -202,9 +229,9 @@ public class ModelTestCaseUtil {
     }
 
     @SuppressWarnings("unchecked")
-    private static void addForProperty(int depth, Map<String, Object> jsonObject, ClientModelProperty property,
-        boolean modelNeedsFlatten) {
-        final boolean maxDepthReached = depth > CONFIGURATION.maxDepth;
+    private static void addForProperty(Configuration configuration, int depth, Map<String, Object> jsonObject,
+        ClientModelProperty property, boolean modelNeedsFlatten) {
+        final boolean maxDepthReached = depth > configuration.maxDepth;
         // TODO (weidxu): skip constant property for now, as the property.getDefaultValue() is the code, not the raw
         // data
         if (!property.isConstant() && (
@@ -212,8 +239,8 @@ public class ModelTestCaseUtil {
         property.isRequired()
             // optional property only be generated when still have depth remains
             // we assume here that there is no infinitely nested required properties
-            || (!maxDepthReached && RANDOM.nextFloat() > CONFIGURATION.nullableProbability))) {
-            Object value = jsonFromType(depth, property.getWireType());
+            || (!maxDepthReached && configuration.random.nextFloat() > configuration.nullableProbability))) {
+            Object value = jsonFromType(configuration, depth, property.getWireType());
             if (property.isAdditionalProperties()) {
                 if (value != null) {
                     ((Map<String, Object>) value).forEach(jsonObject::putIfAbsent);
@@ -275,12 +302,12 @@ public class ModelTestCaseUtil {
         }
     }
 
-    private static String randomString() {
+    private static String randomString(Configuration configuration) {
         int leftLimit = 97; // letter 'a'
         int rightLimit = 122; // letter 'z'
-        int targetStringLength = RANDOM.nextInt(CONFIGURATION.maxStringLen - 1) + 1;
+        int targetStringLength = configuration.random.nextInt(configuration.maxStringLen - 1) + 1;
 
-        return RANDOM.ints(leftLimit, rightLimit + 1)
+        return configuration.random.ints(leftLimit, rightLimit + 1)
             .limit(targetStringLength)
             .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
             .toString();
@@ -288,7 +315,7 @@ public class ModelTestCaseUtil {
 
     private static final OffsetDateTime TIME = OffsetDateTime.parse("2020-12-20T00:00:00.000Z");
 
-    private static OffsetDateTime randomDateTime() {
-        return TIME.plusSeconds(RANDOM.nextInt(356 * 24 * 60 * 60));
+    private static OffsetDateTime randomDateTime(Configuration configuration) {
+        return TIME.plusSeconds(configuration.random.nextInt(356 * 24 * 60 * 60));
     }
 }
@@ -241,24 +241,42 @@ public class TemplateUtil {
     }
 
     /**
-     * Helper function to write helper methods for LLC paging
+     * Helper function to write helper methods for LLC paging.
+     * <p>
+     * The page is read in a single pass with JsonReader. Items that are objects or arrays are kept as the raw JSON of
+     * the item, no intermediate Map is built for the page or its items.
      *
      * @param classBlock Java class block
      */
     private static void writePagingHelperMethods(JavaClass classBlock) {
-        classBlock.privateMethod("List<BinaryData> getValues(BinaryData binaryData, String path)", block -> {
-            block.line("try {");
-            block.line("Map<?, ?> obj = binaryData.toObject(Map.class);");
-            block.line("List<?> values = (List<?>) obj.get(path);");
-            block.line("return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());");
-            block.line("} catch (RuntimeException e) { return null; }");
-        });
-        classBlock.privateMethod("String getNextLink(BinaryData binaryData, String path)", block -> {
-            block.line("try {");
-            block.line("Map<?, ?> obj = binaryData.toObject(Map.class);");
-            block.line("return (String) obj.get(path);");
-            block.line("} catch (RuntimeException e) { return null; }");
-        });
+        classBlock.privateMethod(
+            "PagedResponse<BinaryData> toPagedResponse(Response<BinaryData> res, String itemPath, String nextLinkPath)",
+            block -> {
+                block.line("List<BinaryData> values = null;");
+                block.line("String nextLink = null;");
+                block.line("try (JsonReader jsonReader = JsonProviders.createReader(res.getValue().toBytes())) {");
+                block.line("if (jsonReader.nextToken() == JsonToken.START_OBJECT) {");
+                block.line("while (jsonReader.nextToken() != JsonToken.END_OBJECT) {");
+                block.line("String fieldName = jsonReader.getFieldName();");
+                block.line("JsonToken token = jsonReader.nextToken();");
+                block.line("if (token == JsonToken.START_ARRAY && fieldName.equals(itemPath)) {");
+                block.line("values = jsonReader.readArray(reader -> reader.isStartArrayOrObject()"
+                    + " ? BinaryData.fromString(reader.readChildren())"
+                    + " : BinaryData.fromObject(reader.readUntyped()));");
+                block.line("} else if (token == JsonToken.STRING && fieldName.equals(nextLinkPath)) {");
+                block.line("nextLink = jsonReader.getString();");
+                block.line("} else {");
+                block.line("jsonReader.skipChildren();");
+                block.line("}");
+                block.line("}");
+                block.line("}");
+                block.line("} catch (IOException | RuntimeException e) {");
+                block.line("values = null;");
+                block.line("nextLink = null;");
+                block.line("}");
+                block.line("return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),"
+                    + " values, nextLink, null);");
+            });
     }
 
     /**
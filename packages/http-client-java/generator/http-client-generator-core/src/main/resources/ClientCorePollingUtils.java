@@ -4,13 +4,23 @@ import io.clientcore.core.instrumentation.logging.ClientLogger;
 import io.clientcore.core.models.CoreException;
 import io.clientcore.core.models.binarydata.BinaryData;
 import io.clientcore.core.serialization.ObjectSerializer;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonSerializable;
+import io.clientcore.core.serialization.json.JsonToken;
+import io.clientcore.core.serialization.json.JsonWriter;
 import io.clientcore.core.utils.CoreUtils;
 import io.clientcore.core.utils.DateTimeRfc1123;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
@@ -73,6 +83,102 @@ final class PollingUtils {
         throw new RuntimeException("Unsupported type: " + type);
     }
 
+    /**
+     * Deserializes a property of the JSON object in the response body.
+     * <p>
+     * The response body is read by a JsonReader up to the property, and only the value of the property is
+     * deserialized to the result type.
+     *
+     * @param responseBody the response body
+     * @param propertyName the name of the property
+     * @param serializer the serializer for the value of the property, if the result type cannot read itself from JSON
+     * @param type the result type
+     * @return the value of the property, or null if the property is absent or null
+     */
+    public static <T> T deserializeResultProperty(String responseBody, String propertyName,
+                                                  ObjectSerializer serializer, Type type) {
+        if (responseBody == null) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonReader.fromString(responseBody)) {
+            if (jsonReader.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (jsonReader.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonReader.getFieldName();
+                jsonReader.nextToken();
+                if (propertyName.equals(fieldName)) {
+                    return jsonReader.currentToken() == JsonToken.NULL
+                        ? null
+                        : readResultValue(jsonReader, serializer, type);
+                }
+                jsonReader.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readResultValue(JsonReader jsonReader, ObjectSerializer serializer, Type type)
+        throws IOException {
+        if (type instanceof Class<?>) {
+            Class<T> clazz = (Class<T>) type;
+            if (clazz.isAssignableFrom(BinaryData.class)) {
+                // T is BinaryData
+                return clazz.cast(BinaryData.fromString(readJsonText(jsonReader)));
+            }
+
+            Method fromJson = getFromJsonMethod(clazz);
+            if (fromJson != null) {
+                // T is a model, it reads itself from the JsonReader
+                try {
+                    return clazz.cast(fromJson.invoke(null, jsonReader));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    } else if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+
+        return serializer.deserializeFromBytes(readJsonText(jsonReader).getBytes(StandardCharsets.UTF_8), type);
+    }
+
+    // the static "fromJson(JsonReader)" method of a JsonSerializable class, or null
+    private static Method getFromJsonMethod(Class<?> clazz) {
+        if (!JsonSerializable.class.isAssignableFrom(clazz)) {
+            return null;
+        }
+        try {
+            Method method = clazz.getMethod("fromJson", JsonReader.class);
+            // a static method of the super class returns the super type
+            return Modifier.isStatic(method.getModifiers()) && clazz.isAssignableFrom(method.getReturnType())
+                ? method
+                : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    // the JSON text of the current value of the JsonReader
+    private static String readJsonText(JsonReader jsonReader) throws IOException {
+        if (jsonReader.isStartArrayOrObject()) {
+            return jsonReader.readChildren();
+        }
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonWriter.toWriter(stringWriter)) {
+            jsonWriter.writeUntyped(jsonReader.readUntyped());
+        }
+        return stringWriter.toString();
+    }
+
     private static final HttpHeaderName RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("retry-after-ms");
     private static final HttpHeaderName X_MS_RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("x-ms-retry-after-ms");
 
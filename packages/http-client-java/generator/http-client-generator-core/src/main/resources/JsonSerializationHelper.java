@@ -0,0 +1,86 @@
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import com.azure.json.ReadValueCallback;
+import com.azure.json.WriteValueCallback;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// DO NOT modify this helper class
+
+/**
+ * Serializes models to the request body by their toJson, and deserializes the response body to models by their
+ * fromJson.
+ * <p>
+ * Compared to BinaryData.fromObject and BinaryData.toObject, it does not look up an ObjectSerializer, or resolve the
+ * type to serialize or deserialize by reflection.
+ */
+public final class JsonSerializationHelper {
+
+    private JsonSerializationHelper() {
+    }
+
+    /**
+     * Serializes a model to BinaryData, by its toJson.
+     *
+     * @param value the model.
+     * @return the BinaryData of the JSON of the model.
+     * @throws UncheckedIOException if the model fails to be serialized.
+     */
+    public static BinaryData toBinaryData(JsonSerializable<?> value) {
+        return toBinaryData(value, JsonWriter::writeJson);
+    }
+
+    /**
+     * Serializes a value to BinaryData, by the toJson of the models.
+     *
+     * @param value the value, e.g. a List or Map of models.
+     * @param writeValue the callback to write the value to a JsonWriter, e.g. the writeArray of the models.
+     * @param <T> the type of the value.
+     * @return the BinaryData of the JSON of the value.
+     * @throws UncheckedIOException if the value fails to be serialized.
+     */
+    public static <T> BinaryData toBinaryData(T value, WriteValueCallback<JsonWriter, T> writeValue) {
+        if (value == null) {
+            // same as BinaryData.fromObject(null)
+            return BinaryData.fromString("null");
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            writeValue.write(jsonWriter, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return BinaryData.fromBytes(outputStream.toByteArray());
+    }
+
+    /**
+     * Deserializes BinaryData, by the fromJson of the models.
+     *
+     * @param data the BinaryData.
+     * @param readValue the callback to read the value from a JsonReader, e.g. the fromJson of a model.
+     * @param <T> the type of the value.
+     * @return the value, or null if the BinaryData is null or empty.
+     * @throws UncheckedIOException if the BinaryData fails to be deserialized.
+     */
+    public static <T> T fromBinaryData(BinaryData data, ReadValueCallback<JsonReader, T> readValue) {
+        if (data == null) {
+            return null;
+        }
+
+        byte[] bytes = data.toBytes();
+        if (bytes.length == 0) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(bytes)) {
+            return readValue.read(jsonReader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -81,7 +81,7 @@ public final class OperationLocationPollingStrategy<T, U> extends OperationResou
             || response.getStatusCode() == 202
             || response.getStatusCode() == 204) {
             final Duration retryAfter = PollingUtils.getRetryAfterFromHeaders(response.getHeaders(), OffsetDateTime::now);
-            final Mono<PollResponse<T>> pollResponseMono = PollingUtils.deserializeResponse((BinaryData) response.getValue(), serializer, pollResponseType)
+            final Mono<PollResponse<T>> pollResponseMono = deserializeResponse((BinaryData) response.getValue(), serializer, pollResponseType)
                 .onErrorResume(exception -> {
                     LOGGER.info("Failed to parse initial response.");
                     return Mono.empty();
@@ -110,20 +110,25 @@ public final class OperationLocationPollingStrategy<T, U> extends OperationResou
         if (propertyName != null) {
             // take the last poll response body from PollingContext,
             // and de-serialize the <propertyName> property as final result
-            BinaryData latestResponseBody
-                    = BinaryData.fromString(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY));
-            return PollingUtils.deserializeResponse(latestResponseBody, serializer, PollingUtils.POST_POLL_RESULT_TYPE_REFERENCE)
-                    .flatMap(value -> {
-                        if (value.get(propertyName) != null) {
-                            return BinaryData.fromObjectAsync(value.get(propertyName))
-                                    .flatMap(result -> PollingUtils.deserializeResponse(result, serializer, resultType));
-                        } else {
-                            return Mono.error(new AzureException("Cannot get final result"));
-                        }
-                    })
+            return Mono.fromCallable(() -> PollingUtils.deserializeResultProperty(
+                    pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY), propertyName, serializer, resultType))
                     .switchIfEmpty(Mono.error(new AzureException("Cannot get final result")));
         } else {
             return super.getResult(pollingContext, resultType);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Mono<T> deserializeResponse(BinaryData binaryData, ObjectSerializer serializer, TypeReference<T> typeReference) {
+        Mono<T> value;
+        if (binaryData == null) {
+            value = Mono.empty();
+        } else if (typeReference.getJavaClass().isAssignableFrom(BinaryData.class)) {
+            // T is BinaryData
+            value = (Mono<T>) binaryData.toReplayableBinaryDataAsync();
+        } else {
+            value = binaryData.toObjectAsync(typeReference, serializer);
+        }
+        return value;
+    }
 }
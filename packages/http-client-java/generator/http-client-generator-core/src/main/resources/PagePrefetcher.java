@@ -0,0 +1,183 @@
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.util.SharedExecutorService;
+import com.azure.core.util.logging.ClientLogger;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// DO NOT modify this helper class
+
+/**
+ * Requests the next pages of a paged operation in the background, while the current page is processed.
+ * <p>
+ * When a page is returned, the page at its next link is requested on a shared executor, followed by the page at the
+ * next link of that page, up to the given number of pages ahead of the page being processed. The requests use the same
+ * retriever, hence the same RequestOptions and Context, as the requests without prefetch.
+ * <p>
+ * An error of a request in the background is thrown when the iteration reaches its page. If the thread waiting for a
+ * page is interrupted, the pages requested in the background are cancelled.
+ *
+ * @param <T> The type of items in the page.
+ */
+public final class PagePrefetcher<T> {
+    private static final ClientLogger LOGGER = new ClientLogger(PagePrefetcher.class);
+
+    private final BiFunction<String, Integer, PagedResponse<T>> nextPageRetriever;
+    private final int depth;
+    private final Map<String, Prefetch<T>> prefetches = new ConcurrentHashMap<>();
+
+    private PagePrefetcher(BiFunction<String, Integer, PagedResponse<T>> nextPageRetriever, int depth) {
+        this.nextPageRetriever = nextPageRetriever;
+        this.depth = depth;
+    }
+
+    /**
+     * Creates a PagedIterable that prefetches up to {@code depth} pages.
+     *
+     * @param firstPageRetriever the retriever of the first page.
+     * @param nextPageRetriever the retriever of the page at a next link.
+     * @param depth the number of pages to prefetch.
+     * @param <T> The type of items in the page.
+     * @return the PagedIterable.
+     */
+    public static <T> PagedIterable<T> createPagedIterable(Supplier<PagedResponse<T>> firstPageRetriever,
+        Function<String, PagedResponse<T>> nextPageRetriever, int depth) {
+        PagePrefetcher<T> prefetcher
+            = new PagePrefetcher<>((nextLink, pageSize) -> nextPageRetriever.apply(nextLink), depth);
+        return new PagedIterable<>(() -> prefetcher.getFirstPage(pageSize -> firstPageRetriever.get(), null),
+            nextLink -> prefetcher.getNextPage(nextLink, null));
+    }
+
+    /**
+     * Creates a PagedIterable that supports page size, and prefetches up to {@code depth} pages.
+     *
+     * @param firstPageRetriever the retriever of the first page.
+     * @param nextPageRetriever the retriever of the page at a next link.
+     * @param depth the number of pages to prefetch.
+     * @param <T> The type of items in the page.
+     * @return the PagedIterable.
+     */
+    public static <T> PagedIterable<T> createPagedIterable(Function<Integer, PagedResponse<T>> firstPageRetriever,
+        BiFunction<String, Integer, PagedResponse<T>> nextPageRetriever, int depth) {
+        PagePrefetcher<T> prefetcher = new PagePrefetcher<>(nextPageRetriever, depth);
+        return new PagedIterable<>(pageSize -> prefetcher.getFirstPage(firstPageRetriever, pageSize),
+            (nextLink, pageSize) -> prefetcher.getNextPage(nextLink, pageSize));
+    }
+
+    private PagedResponse<T> getFirstPage(Function<Integer, PagedResponse<T>> firstPageRetriever, Integer pageSize) {
+        // a new iteration, pages prefetched for a previous iteration may be outdated
+        cancelPrefetches();
+        return prefetchNext(firstPageRetriever.apply(pageSize), pageSize);
+    }
+
+    private PagedResponse<T> getNextPage(String nextLink, Integer pageSize) {
+        Prefetch<T> prefetch = prefetches.remove(nextLink);
+        PagedResponse<T> page;
+        if (prefetch != null && Objects.equals(prefetch.pageSize, pageSize)) {
+            page = await(prefetch.future);
+        } else {
+            if (prefetch != null) {
+                prefetch.future.cancel(false);
+            }
+            page = nextPageRetriever.apply(nextLink, pageSize);
+        }
+        return prefetchNext(page, pageSize);
+    }
+
+    private PagedResponse<T> prefetchNext(PagedResponse<T> page, Integer pageSize) {
+        if (page != null) {
+            prefetch(page.getContinuationToken(), pageSize);
+        }
+        return page;
+    }
+
+    private void prefetch(String nextLink, Integer pageSize) {
+        // Follow the next links of the pages already prefetched, and request the first page not yet requested.
+        // The number of steps is bounded, in case the next links form a cycle.
+        for (int i = 0; i <= depth && nextLink != null && !nextLink.isEmpty(); i++) {
+            Prefetch<T> existing = prefetches.get(nextLink);
+            if (existing == null) {
+                if (prefetches.size() < depth) {
+                    Prefetch<T> prefetch = new Prefetch<>(pageSize);
+                    if (prefetches.putIfAbsent(nextLink, prefetch) == null) {
+                        request(nextLink, prefetch);
+                    }
+                }
+                return;
+            }
+
+            // A page in progress continues the prefetch when it completes.
+            if (!existing.future.isDone() || existing.future.isCompletedExceptionally()) {
+                return;
+            }
+            PagedResponse<T> page = existing.future.getNow(null);
+            nextLink = page == null ? null : page.getContinuationToken();
+        }
+    }
+
+    private void request(String nextLink, Prefetch<T> prefetch) {
+        SharedExecutorService.getInstance().execute(() -> {
+            // skip the request, if the prefetch is cancelled before it starts
+            if (prefetch.future.isDone()) {
+                return;
+            }
+            try {
+                prefetch.future.complete(nextPageRetriever.apply(nextLink, prefetch.pageSize));
+            } catch (Throwable e) {
+                prefetch.future.completeExceptionally(e);
+            }
+        });
+        prefetch.future.thenAccept(page -> {
+            // once the page is taken by an iteration, the iteration continues the prefetch
+            if (prefetches.get(nextLink) == prefetch) {
+                prefetchNext(page, prefetch.pageSize);
+            }
+        });
+    }
+
+    private PagedResponse<T> await(CompletableFuture<PagedResponse<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            cancelPrefetches();
+            throw LOGGER.logExceptionAsError(
+                (CancellationException) new CancellationException("Interrupted while waiting for page.").initCause(e));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw LOGGER.logExceptionAsError(new RuntimeException(cause));
+        }
+    }
+
+    private void cancelPrefetches() {
+        for (Map.Entry<String, Prefetch<T>> entry : prefetches.entrySet()) {
+            // only cancel the prefetch not yet taken by an iteration
+            if (prefetches.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().future.cancel(false);
+            }
+        }
+    }
+
+    private static final class Prefetch<T> {
+        private final Integer pageSize;
+        private final CompletableFuture<PagedResponse<T>> future = new CompletableFuture<>();
+
+        private Prefetch(Integer pageSize) {
+            this.pageSize = pageSize;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.UrlBuilder;
+import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.core.util.serializer.SerializerEncoding;
+import com.azure.core.util.tracing.Tracer;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+// DO NOT modify this helper class
+
+/**
+ * Builds the requests and reads the responses, for the generated implementations of the service interfaces.
+ * <p>
+ * It follows the behavior of RestProxy, for the parameters and return types of the protocol methods.
+ */
+public final class ServiceImplHelper {
+
+    private static final String PATH_SAFE_CHARACTERS = "-._~!$'()*,;&=@:+";
+    private static final String QUERY_SAFE_CHARACTERS = "-._~!$'()*,;&=@:+/?";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    private ServiceImplHelper() {
+    }
+
+    /**
+     * Creates the UrlBuilder of the request, from the host and the path.
+     * <p>
+     * If the path is an absolute URL, e.g. the link to the next page, the host is not used. Otherwise, the path is
+     * appended to the path of the host, if any.
+     *
+     * @param host the host, with its parameters substituted.
+     * @param path the path, with its parameters substituted.
+     * @return the UrlBuilder of the request.
+     */
+    public static UrlBuilder createUrlBuilder(String host, String path) {
+        UrlBuilder pathUrlBuilder = UrlBuilder.parse(path);
+        if (pathUrlBuilder.getScheme() != null) {
+            return pathUrlBuilder;
+        }
+
+        UrlBuilder urlBuilder = UrlBuilder.parse(host);
+        if (path != null && !path.isEmpty() && !"/".equals(path)) {
+            String hostPath = urlBuilder.getPath();
+            if (hostPath == null || hostPath.isEmpty() || "/".equals(hostPath) || path.contains("://")) {
+                urlBuilder.setPath(path);
+            } else if (path.startsWith("/")) {
+                urlBuilder.setPath(hostPath + path);
+            } else {
+                urlBuilder.setPath(hostPath + "/" + path);
+            }
+        }
+        return urlBuilder;
+    }
+
+    /**
+     * Escapes the value of a path parameter.
+     *
+     * @param value the value.
+     * @return the escaped value.
+     */
+    public static String escapePath(String value) {
+        return escape(value, PATH_SAFE_CHARACTERS);
+    }
+
+    /**
+     * Escapes the value of a query parameter.
+     *
+     * @param value the value.
+     * @return the escaped value.
+     */
+    public static String escapeQuery(String value) {
+        return escape(value, QUERY_SAFE_CHARACTERS);
+    }
+
+    /**
+     * Sets the body of the request.
+     * <p>
+     * The Content-Type header is set to the content type of the body, if the header is not already set.
+     *
+     * @param request the request.
+     * @param body the body, can be null.
+     * @param contentType the content type of the body.
+     */
+    public static void setBody(HttpRequest request, BinaryData body, String contentType) {
+        if (body == null) {
+            request.setHeader(HttpHeaderName.CONTENT_LENGTH, "0");
+            return;
+        }
+
+        if (request.getHeaders().getValue(HttpHeaderName.CONTENT_TYPE) == null) {
+            request.setHeader(HttpHeaderName.CONTENT_TYPE, contentType);
+        }
+        request.setBody(body);
+    }
+
+    /**
+     * Starts the tracing span of the call, if tracing is enabled.
+     * <p>
+     * Same as RestProxy, the span is started from the Context of the call, unless tracing is disabled in it.
+     *
+     * @param httpPipeline the HttpPipeline, which provides the Tracer.
+     * @param spanName the name of the span.
+     * @param context the Context of the call, can be null.
+     * @return the Context with the span, to send the request with.
+     */
+    public static Context startTracingSpan(HttpPipeline httpPipeline, String spanName, Context context) {
+        Context requestContext = context == null ? Context.NONE : context;
+        Tracer tracer = httpPipeline.getTracer();
+        if (!isTracingEnabled(tracer, requestContext)) {
+            return requestContext;
+        }
+        return tracer.start(spanName, requestContext);
+    }
+
+    /**
+     * Ends the tracing span of the call, for a response.
+     *
+     * @param httpPipeline the HttpPipeline, which provides the Tracer.
+     * @param statusCode the status code of the response.
+     * @param context the Context with the span.
+     */
+    public static void endTracingSpan(HttpPipeline httpPipeline, int statusCode, Context context) {
+        endTracingSpan(httpPipeline.getTracer(), statusCode, null, context);
+    }
+
+    /**
+     * Ends the tracing span of the call, for an error.
+     *
+     * @param httpPipeline the HttpPipeline, which provides the Tracer.
+     * @param error the error.
+     * @param context the Context with the span.
+     */
+    public static void endTracingSpan(HttpPipeline httpPipeline, Throwable error, Context context) {
+        int statusCode = error instanceof HttpResponseException
+            && ((HttpResponseException) error).getResponse() != null
+                ? ((HttpResponseException) error).getResponse().getStatusCode()
+                : 0;
+        endTracingSpan(httpPipeline.getTracer(), statusCode, error, context);
+    }
+
+    /**
+     * Ends the tracing span of the call, when the response or the error is emitted.
+     *
+     * @param httpPipeline the HttpPipeline, which provides the Tracer.
+     * @param response the response of the call.
+     * @param context the Context with the span.
+     * @param <T> the type of the response.
+     * @return the response of the call, which ends the span.
+     */
+    public static <T extends Response<?>> Mono<T> endTracingSpanAsync(HttpPipeline httpPipeline, Mono<T> response,
+        Context context) {
+        return response.doOnEach(signal -> {
+            if (signal.isOnNext()) {
+                endTracingSpan(httpPipeline, signal.get().getStatusCode(), context);
+            } else if (signal.isOnError()) {
+                endTracingSpan(httpPipeline, signal.getThrowable(), context);
+            }
+        });
+    }
+
+    /**
+     * Reads the body of the response into memory.
+     *
+     * @param response the response.
+     * @return the body of the response, empty if the response has no body.
+     */
+    public static BinaryData readBody(HttpResponse response) {
+        BinaryData body = response.getBodyAsBinaryData();
+        return BinaryData.fromBytes(body == null ? EMPTY_BYTES : body.toBytes());
+    }
+
+    /**
+     * Reads the body of the response into memory.
+     *
+     * @param response the response.
+     * @return the body of the response, empty if the response has no body.
+     */
+    public static Mono<BinaryData> readBodyAsync(HttpResponse response) {
+        return response.getBodyAsByteArray().defaultIfEmpty(EMPTY_BYTES).map(BinaryData::fromBytes);
+    }
+
+    /**
+     * Gets the message of the exception, for a response with unexpected status code.
+     *
+     * @param response the response.
+     * @param body the body of the response.
+     * @return the message of the exception.
+     */
+    public static String getErrorMessage(HttpResponse response, BinaryData body) {
+        byte[] bytes = body == null ? EMPTY_BYTES : body.toBytes();
+        return "Status code " + response.getStatusCode() + ", "
+            + (bytes.length == 0 ? "(empty body)" : "\"" + new String(bytes, StandardCharsets.UTF_8) + "\"");
+    }
+
+    /**
+     * Gets the value of the exception, for a response with unexpected status code.
+     *
+     * @param serializer the serializer.
+     * @param response the response.
+     * @param body the body of the response.
+     * @return the body of the response deserialized, or null if the body is empty or cannot be deserialized.
+     */
+    public static Object getErrorValue(SerializerAdapter serializer, HttpResponse response, BinaryData body) {
+        byte[] bytes = body == null ? EMPTY_BYTES : body.toBytes();
+        if (bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return serializer.deserialize(new String(bytes, StandardCharsets.UTF_8), Object.class,
+                SerializerEncoding.fromHeaders(response.getHeaders()));
+        } catch (Exception e) {
+            // same as RestProxy, the exception is created without the value
+            return null;
+        }
+    }
+
+    private static void endTracingSpan(Tracer tracer, int statusCode, Throwable error, Context context) {
+        if (!isTracingEnabled(tracer, context)) {
+            return;
+        }
+        tracer.end(statusCode >= 400 ? String.valueOf(statusCode) : null, error, context);
+    }
+
+    private static boolean isTracingEnabled(Tracer tracer, Context context) {
+        return tracer != null
+            && tracer.isEnabled()
+            && !(boolean) context.getData(Tracer.DISABLE_TRACING_KEY).orElse(false);
+    }
+
+    private static String escape(String value, String safeCharacters) {
+        if (value == null) {
+            return null;
+        }
+
+        StringBuilder builder = null;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; ++i) {
+            int b = bytes[i] & 0xFF;
+            boolean safe = (b >= 'a' && b <= 'z')
+                || (b >= 'A' && b <= 'Z')
+                || (b >= '0' && b <= '9')
+                || (b < 0x80 && safeCharacters.indexOf(b) >= 0);
+            if (builder == null) {
+                if (safe) {
+                    continue;
+                }
+                // copy the safe prefix, as it is
+                builder = new StringBuilder(bytes.length + 16);
+                builder.append(value, 0, i);
+            }
+            if (safe) {
+                builder.append((char) b);
+            } else {
+                builder.append('%').append(HEX_DIGITS[b >> 4]).append(HEX_DIGITS[b & 0xF]);
+            }
+        }
+        return builder == null ? value : builder.toString();
+    }
+}
@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,8 +29,16 @@ public class MockUnitJavagen extends Javagen {
         }
     }
 
+    // settings overriding SETTINGS_MAP, it is null during the constructor of the base class
+    private final Map<String, Object> settings;
+
     public MockUnitJavagen() {
+        this(Collections.emptyMap());
+    }
+
+    public MockUnitJavagen(Map<String, Object> settings) {
         super(new MockConnection(), "dummy", "dummy");
+        this.settings = settings;
         JavaSettingsAccessor.setHost(this);
     }
 
@@ -52,13 +61,17 @@ public class MockUnitJavagen extends Javagen {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValue(String key, IOExceptionCheckedFunction<String, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) getSetting(key);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValueWithJsonReader(String key, IOExceptionCheckedFunction<JsonReader, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) getSetting(key);
+    }
+
+    private Object getSetting(String key) {
+        return (settings != null && settings.containsKey(key)) ? settings.get(key) : SETTINGS_MAP.get(key);
     }
 
     @Override
@@ -0,0 +1,206 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.mapper.DefaultMapperFactory;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import com.microsoft.typespec.http.client.generator.core.template.DefaultTemplateFactory;
+import com.microsoft.typespec.http.client.generator.core.template.Templates;
+import io.clientcore.core.serialization.json.JsonReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Fixtures for the tests of the templates, and compilation of the generated code, so that the tests can verify the
+ * behavior of the generated code.
+ */
+public final class TemplateTestHelper {
+    public static final String MODELS_PACKAGE = "com.azure.mock.models";
+
+    /**
+     * The tag of the test classes generating code with the generic flavor.
+     * <p>
+     * The constants of ClassType are resolved by the flavor of the settings when ClassType is first used, and cannot be
+     * reset. Surefire runs the test classes of this tag in a JVM of their own, and the other test classes, which use
+     * the azure flavor, in another.
+     */
+    public static final String GENERIC_FLAVOR = "generic-flavor";
+
+    private TemplateTestHelper() {
+    }
+
+    /**
+     * Runs the action with the settings of {@link MockUnitJavagen} overridden by the options, and clears the settings
+     * afterward.
+     * <p>
+     * Client models need to be created inside the action, as ClassType depends on the settings. The settings, and the
+     * mapper and template factories of the flavor, are reset for each action. The constants of ClassType are not, hence
+     * a test class using the generic flavor is tagged with {@link #GENERIC_FLAVOR}. As the settings are global, the
+     * actions are run one at a time.
+     *
+     * @param options the options overriding the default settings.
+     * @param action the action, taking the package to add the generated files to.
+     * @return the result of the action.
+     * @param <T> the type of the result.
+     */
+    public static synchronized <T> T withSettings(Map<String, Object> options, Function<JavaPackage, T> action) {
+        JavaSettings.clear();
+        // the factories are replaced by the settings of the other flavors, but not restored by the azure flavor
+        Mappers.setFactory(new DefaultMapperFactory());
+        Templates.setFactory(new DefaultTemplateFactory());
+        try {
+            JavaPackage javaPackage = new JavaPackage(new MockUnitJavagen(options));
+            boolean azureClassType = ClassType.JSON_READER.getPackage().startsWith("com.azure.");
+            Assertions.assertEquals(JavaSettings.getInstance().isAzureV1(), azureClassType,
+                "ClassType is resolved with another flavor, tag the test class with " + GENERIC_FLAVOR
+                    + " if it uses the generic flavor.");
+            return action.apply(javaPackage);
+        } finally {
+            JavaSettings.clear();
+        }
+    }
+
+    /**
+     * Creates a builder of a model in {@link #MODELS_PACKAGE}.
+     *
+     * @param name the name of the model.
+     * @param properties the properties of the model.
+     * @return the builder of the model.
+     */
+    public static ClientModel.Builder modelBuilder(String name, ClientModelProperty... properties) {
+        ClassType modelType = new ClassType.Builder().packageName(MODELS_PACKAGE).name(name).build();
+        return new ClientModel.Builder().packageName(MODELS_PACKAGE)
+            .name(name)
+            .description("The " + name + ".")
+            .type(modelType)
+            .imports(new ArrayList<>())
+            .properties(Arrays.asList(properties));
+    }
+
+    /**
+     * Creates a builder of a property, with the same serialized name as the name.
+     *
+     * @param name the name of the property.
+     * @param type the type of the property.
+     * @return the builder of the property.
+     */
+    public static ClientModelProperty.Builder propertyBuilder(String name, IType type) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(name)
+            .description("The " + name + ".")
+            .wireType(type)
+            .clientType(type);
+    }
+
+    /**
+     * Compiles the generated Java files, against clientcore and the libraries of the classes.
+     * <p>
+     * The code generated with the azure flavor needs the libraries it uses, e.g. azure-core, on the classpath of the
+     * compilation.
+     *
+     * @param javaFiles the generated Java files.
+     * @param libraryClasses the classes of the libraries to compile against, in addition to clientcore.
+     * @return the class loader of the compiled classes.
+     */
+    public static ClassLoader compile(List<JavaFile> javaFiles, Class<?>... libraryClasses) {
+        // the generated files are formatted as in the generation, which also removes the unused imports
+        Map<String, String> files = new LinkedHashMap<>();
+        javaFiles.stream()
+            .filter(javaFile -> javaFile.getFilePath().endsWith(".java"))
+            .forEach(javaFile -> files.put(javaFile.getFilePath(), javaFile.getContents().toString()));
+        List<String> formattedFiles = CodeFormatterUtil.formatCode(files);
+        List<JavaFileObject> sources = new ArrayList<>();
+        int index = 0;
+        for (String path : files.keySet()) {
+            sources.add(new SourceFile(path, formattedFiles.get(index++)));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+        JavaFileManager fileManager
+            = new ForwardingJavaFileManager<JavaFileManager>(compiler.getStandardFileManager(diagnostics, null, null)) {
+                @Override
+                public JavaFileObject getJavaFileForOutput(Location location, String className,
+                    JavaFileObject.Kind kind, FileObject sibling) {
+                    return new SimpleJavaFileObject(
+                        URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+                        @Override
+                        public OutputStream openOutputStream() {
+                            return classes.computeIfAbsent(className, ignored -> new ByteArrayOutputStream());
+                        }
+                    };
+                }
+            };
+
+        StringBuilder classPath = new StringBuilder(classPathOf(JsonReader.class));
+        for (Class<?> libraryClass : libraryClasses) {
+            classPath.append(File.pathSeparator).append(classPathOf(libraryClass));
+        }
+        List<String> options = Arrays.asList("-proc:none", "-classpath", classPath.toString());
+        boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+        Assertions.assertTrue(success, "Generated code does not compile: " + diagnostics.getDiagnostics());
+
+        return new ClassLoader(TemplateTestHelper.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                ByteArrayOutputStream bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                byte[] classBytes = bytes.toByteArray();
+                return defineClass(name, classBytes, 0, classBytes.length);
+            }
+        };
+    }
+
+    private static String classPathOf(Class<?> clazz) {
+        try {
+            return new File(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String contents;
+
+        private SourceFile(String path, String contents) {
+            super(URI.create("mem:///" + path), JavaFileObject.Kind.SOURCE);
+            this.contents = contents;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return contents;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization;
+
+import com.github.javaparser.ast.CompilationUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EditorTests {
+
+    private static final String FOO_FILE = "src/main/java/com/azure/foo/Foo.java";
+    private static final String BAR_FILE = "src/main/java/com/azure/foo/Bar.java";
+    private static final String BAZ_FILE = "src/main/java/com/azure/foo/models/Baz.java";
+
+    @Test
+    public void testPackageIndex() {
+        Editor editor = createEditor();
+
+        Assertions.assertTrue(editor.packageExists("com.azure.foo"));
+        Assertions.assertTrue(editor.packageExists("com.azure"));
+        Assertions.assertFalse(editor.packageExists("com.azure.fo"));
+        Assertions.assertFalse(editor.packageExists("com.azure.foo.implementation"));
+        Assertions.assertEquals(Arrays.asList("Bar", "Foo"), editor.classesInPackage("com.azure.foo"));
+        Assertions.assertEquals(Collections.emptyList(), editor.classesInPackage("com.azure"));
+
+        editor.addFile("src/main/java/com/azure/foo/implementation/FooImpl.java",
+            "package com.azure.foo.implementation;\n\nclass FooImpl {\n}\n");
+        Assertions.assertTrue(editor.packageExists("com.azure.foo.implementation"));
+        Assertions.assertEquals(Collections.singletonList("FooImpl"),
+            editor.classesInPackage("com.azure.foo.implementation"));
+
+        editor.removeFile(BAZ_FILE);
+        Assertions.assertFalse(editor.packageExists("com.azure.foo.models"));
+        Assertions.assertFalse(editor.classExists("com.azure.foo.models", "Baz"));
+    }
+
+    @Test
+    public void testFileLines() {
+        Editor editor = createEditor();
+
+        Assertions.assertEquals(Arrays.asList("package com.azure.foo;", "", "public class Foo {", "}", ""),
+            editor.getFileLines(FOO_FILE));
+        Assertions.assertEquals("public class Foo {", editor.getFileLine(FOO_FILE, 2));
+
+        editor.replaceFile(FOO_FILE, "package com.azure.foo;\r\nclass Foo {}");
+        Assertions.assertEquals(Arrays.asList("package com.azure.foo;", "class Foo {}"), editor.getFileLines(FOO_FILE));
+        Assertions.assertNull(editor.getFileLines("src/main/java/com/azure/foo/Qux.java"));
+    }
+
+    @Test
+    public void testCompilationUnitReusedAcrossCustomizations() {
+        Editor editor = createEditor();
+        LibraryCustomization libraryCustomization = new LibraryCustomization(editor);
+        ClassCustomization classCustomization = libraryCustomization.getClass("com.azure.foo", "Foo");
+
+        CompilationUnit[] compilationUnits = new CompilationUnit[2];
+        classCustomization.customizeAst(ast -> {
+            compilationUnits[0] = ast;
+            ast.getClassByName("Foo").get().addField("int", "first");
+        });
+        classCustomization.customizeAst(ast -> {
+            compilationUnits[1] = ast;
+            ast.getClassByName("Foo").get().addField("int", "second");
+        });
+        Assertions.assertSame(compilationUnits[0], compilationUnits[1]);
+
+        // the changes are printed when the content is requested
+        String content = editor.getFileContent(FOO_FILE);
+        Assertions.assertTrue(content.contains("int first;"));
+        Assertions.assertTrue(content.contains("int second;"));
+        Assertions.assertTrue(editor.getFileLines(FOO_FILE).contains("    int second;"));
+
+        classCustomization.customizeAst(ast -> ast.getClassByName("Foo").get().addField("int", "third"));
+        Assertions.assertTrue(editor.getContents().get(FOO_FILE).contains("int third;"));
+
+        // a replaced file is parsed again
+        editor.replaceFile(FOO_FILE, "package com.azure.foo;\n\npublic class Foo {\n}\n");
+        classCustomization.customizeAst(ast -> Assertions.assertNotSame(compilationUnits[0], ast));
+        Assertions.assertFalse(editor.getContents().get(FOO_FILE).contains("int first;"));
+    }
+
+    private static Editor createEditor() {
+        Map<String, String> files = new HashMap<>();
+        files.put(FOO_FILE, "package com.azure.foo;\n\npublic class Foo {\n}\n");
+        files.put(BAR_FILE, "package com.azure.foo;\n\npublic class Bar {\n}\n");
+        files.put(BAZ_FILE, "package com.azure.foo.models;\n\npublic class Baz {\n}\n");
+        return new Editor(files);
+    }
+}
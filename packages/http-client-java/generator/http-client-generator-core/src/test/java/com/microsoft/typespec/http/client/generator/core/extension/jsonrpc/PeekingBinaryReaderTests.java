@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PeekingBinaryReaderTests {
+
+    @Test
+    public void testReadJsonValue() throws IOException {
+        String first = "{\"method\":\"WriteFile\",\"params\":[\"a}.java\",\"class A { String s = \\\"]\\\\\\\"; }\"]}";
+        String second = "[{\"text\":\"中文 😀\"},{}]";
+        // small buffer, so that values span multiple reads
+        PeekingBinaryReader reader = createReader(first + "\r\n" + second + "\n", 7);
+
+        Assertions.assertEquals('{', reader.peekByte());
+        Assertions.assertEquals(first, reader.readJsonValue());
+        Assertions.assertEquals('[', reader.peekByte());
+        Assertions.assertEquals(second, reader.readJsonValue());
+        Assertions.assertEquals(-1, reader.peekByte());
+    }
+
+    @Test
+    public void testReadHeadersAndContent() throws IOException {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"é\"}";
+        int contentLength = content.getBytes(StandardCharsets.UTF_8).length;
+        String input = "Content-Length: " + contentLength + "\r\n\r\n" + content + "Content-Length: 2\r\n\r\n{}";
+        PeekingBinaryReader reader = createReader(input, 5);
+
+        Assertions.assertEquals("Content-Length: " + contentLength, reader.readAsciiLine());
+        Assertions.assertEquals("", reader.readAsciiLine());
+        Assertions.assertEquals(content, reader.readUtf8(contentLength));
+        Assertions.assertEquals("Content-Length: 2", reader.readAsciiLine());
+        Assertions.assertEquals("", reader.readAsciiLine());
+        Assertions.assertEquals("{}", reader.readUtf8(2));
+        Assertions.assertNull(reader.readAsciiLine());
+    }
+
+    @Test
+    public void testTruncatedMessage() {
+        Assertions.assertThrows(EOFException.class, () -> createReader("{\"a\":[1,2", 4).readJsonValue());
+        Assertions.assertThrows(EOFException.class, () -> createReader("{\"a\":1}", 4).readUtf8(10));
+    }
+
+    private static PeekingBinaryReader createReader(String text, int bufferSize) {
+        return new PeekingBinaryReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), bufferSize);
+    }
+}
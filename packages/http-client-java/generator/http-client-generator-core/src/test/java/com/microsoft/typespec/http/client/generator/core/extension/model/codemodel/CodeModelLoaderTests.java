@@ -0,0 +1,101 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CodeModelLoaderTests {
+
+    private static final String CODE_MODEL_YAML = String.join("\n", "info:", "  title: Sample", "schemas:",
+        "  objects:", "    - &ref_0", "      type: object", "      language:", "        default:",
+        "          name: Foo", "          description: The Foo model.", "      properties:", "        - schema: *ref_0",
+        "          serializedName: child", "          language:", "            default:", "              name: child",
+        "              description: ''", "language:", "  default:", "    name: Sample", "    description: ''");
+
+    private static final String CODE_MODEL_JSON = String.join("", "{\"info\":{\"title\":\"Sample\"},",
+        "\"schemas\":{\"objects\":[", "{\"$id\":\"ref_0\",\"type\":\"object\",",
+        "\"language\":{\"default\":{\"name\":\"Foo\",\"description\":\"The Foo model.\"}},",
+        "\"properties\":[{\"schema\":{\"$ref\":\"ref_0\"},\"serializedName\":\"child\",",
+        "\"language\":{\"default\":{\"name\":\"child\",\"description\":\"\"}}}]}]},",
+        "\"language\":{\"default\":{\"name\":\"Sample\",\"description\":\"\"}}}");
+
+    @Test
+    public void testLoadFromFile(@TempDir Path tempDir) throws IOException {
+        Path codeModelFile = tempDir.resolve("code-model.yaml");
+        Files.writeString(codeModelFile, CODE_MODEL_YAML, StandardCharsets.UTF_8);
+
+        assertCodeModel(CodeModelLoader.load(codeModelFile, null));
+    }
+
+    @Test
+    public void testLoadFromReader() {
+        assertCodeModel(CodeModelLoader.load(new StringReader(CODE_MODEL_YAML)));
+    }
+
+    @Test
+    public void testLoadJsonFromFile(@TempDir Path tempDir) throws IOException {
+        Path codeModelFile = tempDir.resolve("code-model.json");
+        Files.writeString(codeModelFile, CODE_MODEL_JSON, StandardCharsets.UTF_8);
+
+        assertCodeModel(CodeModelLoader.load(codeModelFile, null));
+    }
+
+    @Test
+    public void testLoadJsonConvertedFromYaml() throws IOException {
+        StringWriter json = new StringWriter();
+        CodeModelLoader.convertYamlToJson(new StringReader(CODE_MODEL_YAML), json);
+
+        assertCodeModel(CodeModelLoader.loadJson(new StringReader(json.toString())));
+    }
+
+    @Test
+    public void testLoadJsonKeepsStringValues() throws IOException {
+        // a string that would be resolved to boolean if it were a plain YAML scalar
+        CodeModel codeModel = CodeModelLoader
+            .loadJson(new StringReader(CODE_MODEL_JSON.replace("\"title\":\"Sample\"", "\"title\":\"true\"")));
+
+        Assertions.assertEquals("true", codeModel.getInfo().getTitle());
+    }
+
+    @Test
+    public void testLoadJsonWithReservedKeys() throws IOException {
+        // example payload with keys that are "$id", "$ref" and "$values" of the JSON form
+        String yaml = CODE_MODEL_YAML.replace("      type: object\n",
+            String.join("\n", "      type: object", "      example:", "        $id: id", "        $ref: ref",
+                "        $values:", "          - 1", "        $$escaped: true", "        nested:",
+                "          $ref: ref_0", ""));
+        StringWriter json = new StringWriter();
+        CodeModelLoader.convertYamlToJson(new StringReader(yaml), json);
+        Assertions.assertTrue(json.toString().contains("\"$$ref\":\"ref\""));
+
+        CodeModel codeModel = CodeModelLoader.loadJson(new StringReader(json.toString()));
+        assertCodeModel(codeModel);
+        Object example = codeModel.getSchemas().getObjects().get(0).getExample();
+        Assertions.assertEquals(
+            CodeModelLoader.load(new StringReader(yaml)).getSchemas().getObjects().get(0).getExample(), example);
+        Assertions.assertEquals(Map.of("$id", "id", "$ref", "ref", "$values", List.of(1), "$$escaped", true, "nested",
+            Map.of("$ref", "ref_0")), example);
+    }
+
+    private static void assertCodeModel(CodeModel codeModel) {
+        Assertions.assertEquals("Sample", codeModel.getInfo().getTitle());
+        Assertions.assertEquals(1, codeModel.getSchemas().getObjects().size());
+
+        ObjectSchema foo = codeModel.getSchemas().getObjects().get(0);
+        Assertions.assertEquals("Foo", foo.getLanguage().getDefault().getName());
+        Assertions.assertEquals(1, foo.getProperties().size());
+        // anchor and alias resolve to the same instance
+        Assertions.assertSame(foo, foo.getProperties().get(0).getSchema());
+    }
+}
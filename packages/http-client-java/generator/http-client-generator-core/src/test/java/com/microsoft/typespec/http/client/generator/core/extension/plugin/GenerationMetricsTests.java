@@ -0,0 +1,70 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.plugin;
+
+import io.clientcore.core.serialization.json.JsonReader;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GenerationMetricsTests {
+
+    @Test
+    public void testPhases() throws IOException {
+        // phase names unique to this test, as the metrics is shared by the tests running in parallel
+        GenerationMetrics metrics = GenerationMetrics.getInstance();
+        try (GenerationMetrics.Phase phase = metrics.startPhase("test-allocate")) {
+            byte[][] buffers = new byte[16][];
+            for (int i = 0; i < buffers.length; ++i) {
+                buffers[i] = new byte[1024 * 1024];
+            }
+            Assertions.assertEquals(16, buffers.length);
+            phase.setFileCount(2);
+        }
+        // a phase run more than once accumulates the metrics
+        try (GenerationMetrics.Phase phase = metrics.startPhase("test-allocate")) {
+            phase.setFileCount(3);
+        }
+
+        Assertions.assertTrue(metrics.getSummary().contains("test-allocate "));
+        Assertions.assertTrue(metrics.getSummary().contains("MB allocated, 5 files"));
+
+        Map<String, Object> phase = getPhase(metrics, "test-allocate");
+        Assertions.assertEquals(5, ((Number) phase.get("fileCount")).intValue());
+        Assertions.assertTrue(((Number) phase.get("allocatedBytes")).longValue() >= 16 * 1024 * 1024);
+        Assertions.assertTrue(((Number) phase.get("elapsedMillis")).longValue() >= 0);
+    }
+
+    @Test
+    public void testTimeAndRun() throws IOException {
+        GenerationMetrics metrics = GenerationMetrics.getInstance();
+        Assertions.assertEquals("result", metrics.time("test-time", () -> "result"));
+        int[] runCount = new int[1];
+        metrics.run("test-run", () -> runCount[0]++);
+        Assertions.assertEquals(1, runCount[0]);
+        // the phase is recorded when the action fails
+        Assertions.assertThrows(IllegalStateException.class, () -> metrics.run("test-run-failure", () -> {
+            throw new IllegalStateException();
+        }));
+
+        Assertions.assertEquals(0, ((Number) getPhase(metrics, "test-time").get("fileCount")).intValue());
+        Assertions.assertNotNull(getPhase(metrics, "test-run"));
+        Assertions.assertNotNull(getPhase(metrics, "test-run-failure"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getPhase(GenerationMetrics metrics, String name) throws IOException {
+        try (JsonReader jsonReader = JsonReader.fromString(metrics.toJsonString())) {
+            Map<String, Object> report = jsonReader.readMap(JsonReader::readUntyped);
+            Assertions.assertTrue(report.containsKey("elapsedMillis"));
+            Assertions.assertTrue(report.containsKey("allocatedBytes"));
+            return ((List<Map<String, Object>>) report.get("phases")).stream()
+                .filter(phase -> name.equals(phase.get("name")))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        }
+    }
+}
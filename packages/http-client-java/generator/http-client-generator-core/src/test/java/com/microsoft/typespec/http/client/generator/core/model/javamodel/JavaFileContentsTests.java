@@ -0,0 +1,50 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JavaFileContentsTests {
+
+    @Test
+    public void testIndentationAndComments() throws IOException {
+        JavaFileContents contents = new JavaFileContents();
+        contents.classBlock(JavaVisibility.Public, Collections.emptyList(), "Foo", classBlock -> {
+            classBlock.javadocComment(comment -> comment.description("The Foo.\n\nDetails."));
+            classBlock.method(JavaVisibility.Public, null, "void bar()", methodBlock -> {
+                contents.lineComment("comment");
+                methodBlock.ifBlock("value", ifBlock -> ifBlock.line("run();")).elseBlock(elseBlock -> {
+                });
+            });
+        });
+
+        String expected = String.join("\n", "public class Foo {", "    /**", "     * The Foo.", "     * ",
+            "     * Details.", "     */", "    public void bar() {", "        // comment", "        if (value) {",
+            "            run();", "        } else {", "        }", "    }", "}");
+        Assertions.assertEquals(expected, contents.toString());
+
+        StringWriter writer = new StringWriter();
+        contents.writeTo(writer);
+        Assertions.assertEquals(expected, writer.toString());
+    }
+
+    @Test
+    public void testContains() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.line("private static final ClientLogger LOGGER = new ClientLogger(Foo.class);");
+        contents.line("int a;");
+        contents.text("int pending;");
+
+        Assertions.assertTrue(contents.contains("LOGGER"));
+        Assertions.assertTrue(contents.contains("int a;"));
+        // text of the current line, and text across lines, are not matched
+        Assertions.assertFalse(contents.contains("pending"));
+        Assertions.assertFalse(contents.contains(";int"));
+        Assertions.assertFalse(contents.contains(";\nint"));
+    }
+}
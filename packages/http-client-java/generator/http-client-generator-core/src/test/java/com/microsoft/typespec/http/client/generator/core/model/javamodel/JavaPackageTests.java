@@ -0,0 +1,34 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PackageInfo;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JavaPackageTests {
+
+    @Test
+    public void testAddConcurrentlyKeepsOrder() {
+        List<PackageInfo> packageInfos = IntStream.range(0, 200)
+            .mapToObj(i -> new PackageInfo("com.azure.mock.package" + i, "Package " + i + "."))
+            .collect(Collectors.toList());
+
+        JavaPackage javaPackage = new JavaPackage(new MockUnitJavagen());
+        javaPackage.addConcurrently(packageInfos,
+            packageInfo -> javaPackage.addPackageInfo(packageInfo.getPackage(), "package-info", packageInfo));
+
+        List<JavaFile> javaFiles = javaPackage.getJavaFiles();
+        Assertions.assertEquals(packageInfos.size(), javaFiles.size());
+        for (int i = 0; i < packageInfos.size(); i++) {
+            Assertions.assertEquals("src/main/java/com/azure/mock/package" + i + "/package-info.java",
+                javaFiles.get(i).getFilePath());
+            Assertions.assertTrue(javaFiles.get(i).getContents().toString().contains("Package " + i + "."));
+        }
+    }
+}
@@ -3,10 +3,27 @@
 package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.github.javaparser.printer.configuration.imports.DefaultImportOrderingStrategy;
+import com.google.googlejavaformat.java.FormatterException;
+import com.google.googlejavaformat.java.RemoveUnusedImports;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -37,4 +54,108 @@ public class CodeFormatterUtilTests {
         assertEquals(1, formattingResult.size());
         assertEquals(expected, formattingResult.get(0));
     }
+
+    @Test
+    public void organizeImportsRemovesUnusedAndDuplicates() {
+        String initial = String.join("\n", "package com.azure.test;", "", "import java.util.Map;",
+            "import static java.util.Objects.requireNonNull;", "import java.util.List;", "import java.util.Map;",
+            "import java.util.*;", "import java.lang.String;", "import com.azure.test.Model;",
+            "import com.azure.core.util.Context;", "import com.azure.core.util.BinaryData;",
+            "import com.azure.core.util.CoreUtils;", "import com.azure.core.http.HttpHeaderName;",
+            "import com.azure.core.exception.HttpResponseException;", "", "/**",
+            " * See {@link BinaryData#fromObject(Object, HttpHeaderName)}.", " *",
+            " * @throws HttpResponseException on failure.", " */", "public class Test {",
+            "    // List is not used by the comment, or the \"Context\" string.",
+            "    private final Map<String, Model> map = requireNonNull(null, \"Context\");",
+            "    private final Object utils = com.azure.core.util.CoreUtils.class;", "}", "");
+        String expected
+            = String.join("\n", "package com.azure.test;", "", "import static java.util.Objects.requireNonNull;",
+                "import com.azure.core.exception.HttpResponseException;", "import com.azure.core.http.HttpHeaderName;",
+                "import com.azure.core.util.BinaryData;", "import java.util.*;", "import java.util.Map;", "", "/**",
+                " * See {@link BinaryData#fromObject(Object, HttpHeaderName)}.", " *",
+                " * @throws HttpResponseException on failure.", " */", "public class Test {",
+                "    // List is not used by the comment, or the \"Context\" string.",
+                "    private final Map<String, Model> map = requireNonNull(null, \"Context\");",
+                "    private final Object utils = com.azure.core.util.CoreUtils.class;", "}");
+
+        assertEquals(expected, ImportOrganizer.organizeImports(initial));
+    }
+
+    @Test
+    public void organizeImportsFallsBackForUnsupportedImportSection() {
+        String initial = String.join("\n", "package com.azure.test;", "", "import java.util.Map; // comment",
+            "import java.util.List;", "", "public class Test {", "}");
+
+        assertNull(ImportOrganizer.organizeImports(initial));
+    }
+
+    @Test
+    public void formatCodeReportsSyntaxErrors() {
+        String initial = String.join("\n", "package com.azure.test;", "", "import java.util.List;", "",
+            "public class Test {", "    private final List<String> list = ;", "}", "");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> CodeFormatterUtil.formatCode(new HashMap<>(Map.of("Test.java", initial))));
+        assertTrue(exception.getMessage().startsWith("Google Java Formatter encountered errors"));
+    }
+
+    @Test
+    public void organizeImportsMatchesParserBasedImplementation() throws IOException, FormatterException {
+        DefaultImportOrderingStrategy orderingStrategy = new DefaultImportOrderingStrategy();
+        orderingStrategy.setSortImportsAlphabetically(true);
+
+        List<Path> javaFiles;
+        try (Stream<Path> files = Files.walk(Paths.get("../http-client-generator-test/src"))) {
+            javaFiles = files.filter(file -> file.toString().endsWith(".java")).collect(Collectors.toList());
+        }
+        assertTrue(javaFiles.size() > 0);
+
+        for (Path javaFile : javaFiles) {
+            String file = reverseImports(javaFile);
+
+            String organizedFile = ImportOrganizer.organizeImports(file);
+            assertNotNull(organizedFile, "Import section not handled for " + javaFile);
+            assertEquals(
+                CodeFormatterUtil.reorderImports(RemoveUnusedImports.removeUnusedImports(file), orderingStrategy),
+                organizedFile,
+                "Output differs from Google Java Formatter and JavaParser import organizing for " + javaFile);
+        }
+    }
+
+    private static String reverseImports(Path javaFile) {
+        List<String> lines;
+        try {
+            lines = new ArrayList<>(Files.readAllLines(javaFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<Integer> importLineIndexes = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).startsWith("import ")) {
+                importLineIndexes.add(i);
+            }
+        }
+
+        List<String> imports = importLineIndexes.stream().map(lines::get).collect(Collectors.toList());
+        Collections.reverse(imports);
+        for (int i = 0; i < importLineIndexes.size(); i++) {
+            lines.set(importLineIndexes.get(i), imports.get(i));
+        }
+        if (!importLineIndexes.isEmpty()) {
+            // unused imports, and imports from "java.lang" or the same package
+            String packageName = lines.stream()
+                .filter(line -> line.startsWith("package "))
+                .findFirst()
+                .map(line -> line.substring("package ".length(), line.indexOf(';')))
+                .orElse("");
+            int lastImportLine = importLineIndexes.get(importLineIndexes.size() - 1);
+            lines.addAll(lastImportLine + 1,
+                List.of("import com.azure.core.util.UnusedType;",
+                    "import static com.azure.core.util.UnusedType.unusedMethod;", "import java.lang.String;",
+                    "import " + packageName + ".SamePackageType;"));
+            lines.add(importLineIndexes.get(0), "import com.azure.core.util.UnusedFirst;");
+        }
+        return String.join("\n", lines) + "\n";
+    }
 }
@@ -0,0 +1,59 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+public class FormatCacheTests {
+    private static final String CONTENT = "package com.azure.test;\npublic class Test {}\n";
+    private static final String FORMATTED_CONTENT = "package com.azure.test;\n\npublic class Test {\n}\n";
+
+    @Test
+    public void getReturnsPutContent() throws IOException {
+        Path directory = Files.createTempDirectory("format-cache");
+        try {
+            FormatCache formatCache = new FormatCache(directory);
+            assertNull(formatCache.get("src/main/java/com/azure/test/Test.java", CONTENT));
+
+            formatCache.put("src/main/java/com/azure/test/Test.java", CONTENT, FORMATTED_CONTENT, null);
+            assertEquals(FORMATTED_CONTENT, formatCache.get("src/main/java/com/azure/test/Test.java", CONTENT));
+            // Same content under another name is the same entry, unless it is module-info.java.
+            assertEquals(FORMATTED_CONTENT, formatCache.get("src/main/java/com/azure/test/Other.java", CONTENT));
+            assertNull(formatCache.get("src/main/java/module-info.java", CONTENT));
+
+            assertEquals(2, formatCache.getHits());
+            assertEquals(2, formatCache.getMisses());
+
+            // Cache is persistent.
+            assertEquals(FORMATTED_CONTENT,
+                new FormatCache(directory).get("src/main/java/com/azure/test/Test.java", CONTENT));
+        } finally {
+            Utils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Test
+    public void evictRemovesEntriesOverMaxSize() throws IOException {
+        Path directory = Files.createTempDirectory("format-cache");
+        try {
+            FormatCache formatCache = new FormatCache(directory, FORMATTED_CONTENT.length());
+            formatCache.put("Test1.java", CONTENT + "// 1", FORMATTED_CONTENT, null);
+            formatCache.put("Test2.java", CONTENT + "// 2", FORMATTED_CONTENT, null);
+            formatCache.evict(null);
+
+            int entries = 0;
+            entries += formatCache.get("Test1.java", CONTENT + "// 1") == null ? 0 : 1;
+            entries += formatCache.get("Test2.java", CONTENT + "// 2") == null ? 0 : 1;
+            assertEquals(1, entries);
+        } finally {
+            Utils.deleteDirectory(directory.toFile());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.GENERIC_FLAVOR;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.MODELS_PACKAGE;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.compile;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.withSettings;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag(GENERIC_FLAVOR)
+public class EnumTemplateTests {
+
+    @Test
+    public void testExpandableEnumResolvesKnownValues() throws Exception {
+        ExpandableEnum color = generate(null, () -> createEnum(ClassType.STRING, "red", "green"), String.class);
+
+        Object red = color.constant("RED");
+        Assertions.assertSame(red, color.fromValue("red"));
+        Assertions.assertSame(color.constant("GREEN"), color.fromValue("green"));
+        // a duplicated value refers to the constant of its first occurrence
+        Assertions.assertSame(red, color.constant("SCARLET"));
+
+        // unknown values are cached
+        Object blue = color.fromValue("blue");
+        Assertions.assertEquals("blue", blue.toString());
+        Assertions.assertSame(blue, color.fromValue("blue"));
+        Assertions.assertNotEquals(red, blue);
+        Assertions.assertEquals(Arrays.asList(red, color.constant("GREEN"), blue), color.values());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> color.fromValue(null));
+    }
+
+    @Test
+    public void testExpandableEnumCacheIsBounded() throws Exception {
+        ExpandableEnum color = generate(2, () -> createEnum(ClassType.STRING, "red", "green"), String.class);
+
+        Object blue = color.fromValue("blue");
+        Object cyan = color.fromValue("cyan");
+        Assertions.assertSame(blue, color.fromValue("blue"));
+        Assertions.assertSame(cyan, color.fromValue("cyan"));
+
+        // the cache is full, the value is not retained, but the instances are still equal
+        Object yellow = color.fromValue("yellow");
+        Object otherYellow = color.fromValue("yellow");
+        Assertions.assertNotSame(yellow, otherYellow);
+        Assertions.assertEquals(yellow, otherYellow);
+        Assertions.assertEquals(yellow.hashCode(), otherYellow.hashCode());
+        Assertions.assertEquals(4, color.values().size());
+        // known values are still resolved to the constants
+        Assertions.assertSame(color.constant("RED"), color.fromValue("red"));
+    }
+
+    @Test
+    public void testExpandableEnumWithoutCache() throws Exception {
+        ExpandableEnum color = generate(0, () -> createEnum(ClassType.STRING, "red", "green"), String.class);
+
+        Object blue = color.fromValue("blue");
+        Object otherBlue = color.fromValue("blue");
+        Assertions.assertNotSame(blue, otherBlue);
+        Assertions.assertEquals(blue, otherBlue);
+        Assertions.assertEquals(blue.hashCode(), otherBlue.hashCode());
+        Assertions.assertEquals(Arrays.asList(color.constant("RED"), color.constant("GREEN")), color.values());
+    }
+
+    @Test
+    public void testExpandableEnumComparesValuesOfOtherTypes() throws Exception {
+        // switch is not available on Double, the values are compared
+        ExpandableEnum color = generate(null, () -> createEnum(PrimitiveType.DOUBLE, "1.0", "2.0"), Double.class);
+
+        Object red = color.constant("RED");
+        Assertions.assertSame(red, color.fromValue(1.0));
+        Assertions.assertSame(color.constant("GREEN"), color.fromValue(2.0));
+        Assertions.assertSame(red, color.constant("SCARLET"));
+
+        Object blue = color.fromValue(3.0);
+        Assertions.assertSame(blue, color.fromValue(3.0));
+        Assertions.assertEquals("3.0", blue.toString());
+    }
+
+    private static EnumType createEnum(IType elementType, String red, String green) {
+        return new EnumType.Builder().packageName(MODELS_PACKAGE)
+            .name("Color")
+            .description("The color.")
+            .expandable(true)
+            .elementType(elementType)
+            .values(Arrays.asList(new ClientEnumValue("RED", red), new ClientEnumValue("GREEN", green),
+                new ClientEnumValue("SCARLET", red)))
+            .fromMethodName("fromValue")
+            .toMethodName("getValue")
+            .build();
+    }
+
+    /**
+     * Generates the enum, compiles it, and gives access to the static members of the compiled class.
+     */
+    private static ExpandableEnum generate(Integer cacheSize, Supplier<EnumType> enumSupplier, Class<?> valueClass)
+        throws Exception {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("flavor", "generic");
+        if (cacheSize != null) {
+            settings.put("expandable-enum-cache-size", cacheSize);
+        }
+        ClassLoader classLoader = withSettings(settings, javaPackage -> {
+            EnumType enumType = enumSupplier.get();
+            javaPackage.addEnum(enumType.getPackage(), enumType.getName(), enumType);
+            return compile(javaPackage.getJavaFiles());
+        });
+        return new ExpandableEnum(classLoader.loadClass(MODELS_PACKAGE + ".Color"), valueClass);
+    }
+
+    private static final class ExpandableEnum {
+        private final Class<?> enumClass;
+        private final Class<?> valueClass;
+
+        private ExpandableEnum(Class<?> enumClass, Class<?> valueClass) {
+            this.enumClass = enumClass;
+            this.valueClass = valueClass;
+        }
+
+        private Object constant(String name) throws ReflectiveOperationException {
+            return enumClass.getField(name).get(null);
+        }
+
+        private Object fromValue(Object value) throws Exception {
+            try {
+                return enumClass.getMethod("fromValue", valueClass).invoke(null, value);
+            } catch (InvocationTargetException e) {
+                throw (Exception) e.getCause();
+            }
+        }
+
+        private Collection<?> values() throws ReflectiveOperationException {
+            return (Collection<?>) enumClass.getMethod("values").invoke(null);
+        }
+    }
+}
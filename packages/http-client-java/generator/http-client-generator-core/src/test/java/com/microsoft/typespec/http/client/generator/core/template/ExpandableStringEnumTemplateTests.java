@@ -0,0 +1,62 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.MODELS_PACKAGE;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.compile;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.withSettings;
+
+import com.azure.core.util.ExpandableStringEnum;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link EnumTemplate} on the ExpandableStringEnum of the azure flavor. The ExpandableEnum of the other
+ * flavors is tested in {@link EnumTemplateTests}.
+ */
+public class ExpandableStringEnumTemplateTests {
+
+    @Test
+    public void testExpandableStringEnumResolvesKnownValues() throws Exception {
+        ClassLoader classLoader = withSettings(Collections.singletonMap("flavor", "azure"), javaPackage -> {
+            EnumType enumType = new EnumType.Builder().packageName(MODELS_PACKAGE)
+                .name("Color")
+                .description("The color.")
+                .expandable(true)
+                .elementType(ClassType.STRING)
+                .values(Arrays.asList(new ClientEnumValue("RED", "red"), new ClientEnumValue("GREEN", "green"),
+                    new ClientEnumValue("SCARLET", "red")))
+                .fromMethodName("fromString")
+                .toMethodName("toString")
+                .build();
+            javaPackage.addEnum(enumType.getPackage(), enumType.getName(), enumType);
+            return compile(javaPackage.getJavaFiles(), ExpandableStringEnum.class);
+        });
+        Class<?> colorClass = classLoader.loadClass(MODELS_PACKAGE + ".Color");
+        Method fromString = colorClass.getMethod("fromString", String.class);
+
+        Object red = colorClass.getField("RED").get(null);
+        Object green = colorClass.getField("GREEN").get(null);
+        Assertions.assertSame(red, fromString.invoke(null, "red"));
+        Assertions.assertSame(green, fromString.invoke(null, "green"));
+        // a duplicated value refers to the constant of its first occurrence
+        Assertions.assertSame(red, colorClass.getField("SCARLET").get(null));
+
+        // unknown names are delegated to ExpandableStringEnum
+        Object blue = fromString.invoke(null, "blue");
+        Assertions.assertEquals("blue", blue.toString());
+        Assertions.assertEquals(blue, fromString.invoke(null, "blue"));
+        Assertions.assertNull(fromString.invoke(null, (Object) null));
+
+        Collection<?> values = (Collection<?>) colorClass.getMethod("values").invoke(null);
+        Assertions.assertTrue(values.containsAll(Arrays.asList(red, green, blue)));
+    }
+}
@@ -0,0 +1,244 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.GENERIC_FLAVOR;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.MODELS_PACKAGE;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.compile;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.modelBuilder;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.propertyBuilder;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.withSettings;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ReturnValue;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import io.clientcore.core.http.models.HttpMethod;
+import io.clientcore.core.models.binarydata.BinaryData;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonSerializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag(GENERIC_FLAVOR)
+public class JsonLinesMethodTemplateTests {
+
+    @Test
+    public void testRequestMethod() throws Exception {
+        generate(infoType -> Collections.singletonList(createMethod("send", infoType, null, false)), (client, info) -> {
+            List<Object> elements
+                = Arrays.asList(fromJson(info, "{\"desc\":\"one\"}"), fromJson(info, "{\"desc\":\"two\"}"));
+            client.getClass().getMethod("sendElements", Iterator.class).invoke(client, elements.iterator());
+
+            BinaryData body = (BinaryData) client.getClass().getField("sentBody").get(client);
+            Assertions.assertEquals("{\"desc\":\"one\"}\n{\"desc\":\"two\"}\n", body.toString());
+            Assertions.assertThrows(NoSuchMethodException.class, () -> client.getClass().getMethod("receiveElements"));
+        });
+    }
+
+    @Test
+    public void testRequestMethodWithContentLength() throws Exception {
+        // the length of the body is unknown before the elements are serialized, the overload is not generated
+        generate(infoType -> Collections.singletonList(createMethod("send", infoType, null, true)),
+            (client, info) -> Assertions.assertThrows(NoSuchMethodException.class,
+                () -> client.getClass().getMethod("sendElements", Iterator.class)));
+    }
+
+    @Test
+    public void testResponseMethod() throws Exception {
+        generate(infoType -> Collections.singletonList(createMethod("receive", null, infoType, false)),
+            (client, info) -> {
+                client.getClass()
+                    .getField("receivedBody")
+                    .set(client, BinaryData.fromString("{\"desc\":\"one\"}\n\n{\"desc\":\"two\"}\n"));
+
+                List<String> values = new ArrayList<>();
+                try (Stream<?> elements = (Stream<?>) client.getClass().getMethod("receiveElements").invoke(client)) {
+                    Iterator<?> iterator = elements.iterator();
+                    while (iterator.hasNext()) {
+                        Object element = iterator.next();
+                        Assertions.assertSame(info, element.getClass());
+                        values.add(((JsonSerializable<?>) element).toJsonString());
+                    }
+                }
+                Assertions.assertEquals(Arrays.asList("{\"desc\":\"one\"}", "{\"desc\":\"two\"}"), values);
+            });
+    }
+
+    @Test
+    public void testNonJsonLinesMethod() {
+        withSettings(Collections.singletonMap("flavor", "generic"), javaPackage -> {
+            ClientModel info = modelBuilder("Info", propertyBuilder("desc", ClassType.STRING).build()).build();
+            ClientModelUtil.setGetClientModelFunction(name -> "Info".equals(name) ? info : null);
+            try {
+                ClientMethod clientMethod = createMethod("receive", null, info.getType(), false);
+                Assertions.assertTrue(JsonLinesMethodTemplate.isJsonLinesMethod(clientMethod));
+
+                // not JSON Lines
+                Assertions.assertFalse(JsonLinesMethodTemplate.isJsonLinesMethod(clientMethod.newBuilder()
+                    .proxyMethod(clientMethod.getProxyMethod()
+                        .newBuilder()
+                        .responseContentTypes(Collections.singleton("application/octet-stream"))
+                        .build())
+                    .build()));
+                // element type unknown, or not a model
+                Assertions
+                    .assertFalse(JsonLinesMethodTemplate.isJsonLinesMethod(createMethod("receive", null, null, false)));
+                Assertions.assertFalse(
+                    JsonLinesMethodTemplate.isJsonLinesMethod(createMethod("receive", null, ClassType.STRING, false)));
+                return null;
+            } finally {
+                ClientModelUtil.setGetClientModelFunction(name -> ClientModels.getInstance().getModel(name));
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ClientAssertion {
+        void run(Object client, Class<?> info) throws Exception;
+    }
+
+    /**
+     * Generates a client with the methods and their typed overloads, along with the model of the elements and
+     * JsonLinesHelper, compiles the code, and runs the assertion on an instance of the client.
+     * <p>
+     * The client stores the request body of "send" in the "sentBody" field, and "receive" returns the "receivedBody"
+     * field.
+     */
+    private static void generate(Function<IType, List<ClientMethod>> methodsSupplier, ClientAssertion assertion)
+        throws Exception {
+        ClassLoader classLoader = withSettings(Collections.singletonMap("flavor", "generic"), javaPackage -> {
+            ClientModel info = modelBuilder("Info", propertyBuilder("desc", ClassType.STRING).build()).build();
+            ClientModelUtil.setGetClientModelFunction(name -> "Info".equals(name) ? info : null);
+            try {
+                javaPackage.addModel(info.getPackage(), info.getName(), info);
+                addJsonLinesHelper(javaPackage);
+                List<JavaFile> javaFiles = new ArrayList<>(javaPackage.getJavaFiles());
+                javaFiles.add(writeClient(methodsSupplier.apply(info.getType())));
+                return compile(javaFiles);
+            } finally {
+                ClientModelUtil.setGetClientModelFunction(name -> ClientModels.getInstance().getModel(name));
+            }
+        });
+
+        Object client = classLoader.loadClass("com.azure.mock.MockClient").getConstructor().newInstance();
+        assertion.run(client, classLoader.loadClass(MODELS_PACKAGE + ".Info"));
+    }
+
+    private static void addJsonLinesHelper(JavaPackage javaPackage) {
+        JavaSettings settings = JavaSettings.getInstance();
+        javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+            ClientModelUtil.GENERIC_JSON_LINES_HELPER_CLASS_NAME, ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME);
+    }
+
+    private static JavaFile writeClient(List<ClientMethod> clientMethods) {
+        Set<String> imports = new HashSet<>();
+        imports.add("io.clientcore.core.annotations.Metadata");
+        imports.add("io.clientcore.core.annotations.MetadataProperties");
+        imports.add("io.clientcore.core.annotations.ReturnType");
+        imports.add("io.clientcore.core.annotations.ServiceMethod");
+        ClassType.BINARY_DATA.addImportsTo(imports, false);
+        JsonLinesMethodTemplate.addImports(imports, clientMethods);
+
+        JavaFile javaFile = new JavaFile("com/azure/mock/MockClient.java");
+        javaFile.declarePackage("com.azure.mock");
+        javaFile.declareImport(imports);
+        javaFile.publicFinalClass("MockClient", classBlock -> {
+            classBlock.variable("BinaryData sentBody", JavaVisibility.Public);
+            classBlock.variable("BinaryData receivedBody", JavaVisibility.Public);
+            for (ClientMethod clientMethod : clientMethods) {
+                classBlock.publicMethod(clientMethod.getReturnValue().getType() + " " + clientMethod.getName() + "("
+                    + clientMethod.getParametersDeclaration() + ")", function -> {
+                        if ("send".equals(clientMethod.getName())) {
+                            // the request body is read, as it would be sent
+                            function.line("this.sentBody = BinaryData.fromBytes(body.toBytes());");
+                        } else {
+                            function.methodReturn("this.receivedBody");
+                        }
+                    });
+                JsonLinesMethodTemplate.write(clientMethod, classBlock);
+            }
+        });
+        return javaFile;
+    }
+
+    private static Object fromJson(Class<?> modelClass, String json) throws Exception {
+        try (JsonReader jsonReader = JsonReader.fromString(json)) {
+            return modelClass.getMethod("fromJson", JsonReader.class).invoke(null, jsonReader);
+        }
+    }
+
+    private static ClientMethod createMethod(String name, IType requestElementType, IType responseElementType,
+        boolean contentLength) {
+        boolean isRequest = "send".equals(name);
+        IType returnType = isRequest ? PrimitiveType.VOID : ClassType.BINARY_DATA;
+        List<ClientMethodParameter> parameters = new ArrayList<>();
+        List<ProxyMethodParameter> proxyParameters = new ArrayList<>();
+        if (isRequest) {
+            parameters.add(new ClientMethodParameter.Builder().name("body")
+                .description("The body parameter.")
+                .wireType(ClassType.BINARY_DATA)
+                .required(true)
+                .annotations(Collections.emptyList())
+                .requestParameterLocation(RequestParameterLocation.BODY)
+                .build());
+        }
+        if (contentLength) {
+            parameters.add(new ClientMethodParameter.Builder().name("contentLength")
+                .description("The Content-Length header for the request.")
+                .wireType(PrimitiveType.LONG)
+                .required(true)
+                .annotations(Collections.emptyList())
+                .requestParameterLocation(RequestParameterLocation.HEADER)
+                .build());
+            proxyParameters.add(new ProxyMethodParameter.Builder().name("contentLength")
+                .wireType(PrimitiveType.LONG)
+                .requestParameterLocation(RequestParameterLocation.HEADER)
+                .requestParameterName("Content-Length")
+                .build());
+        }
+
+        ProxyMethod proxyMethod = new ProxyMethod.Builder().name(name)
+            .httpMethod(isRequest ? HttpMethod.POST : HttpMethod.GET)
+            .requestContentType("application/jsonl")
+            .responseContentTypes(Collections.singleton("application/jsonl"))
+            .requestElementType(requestElementType)
+            .responseElementType(responseElementType)
+            .returnType(returnType)
+            .parameters(proxyParameters)
+            .responseExpectedStatusCodes(Arrays.asList(200, 204))
+            .build();
+        return new ClientMethod.Builder().name(name)
+            .description("The " + name + " operation.")
+            .type(ClientMethodType.SimpleSync)
+            .returnValue(new ReturnValue("the response.", returnType))
+            .parameters(parameters)
+            .proxyMethod(proxyMethod)
+            .methodVisibility(JavaVisibility.Public)
+            .build();
+    }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.GENERIC_FLAVOR;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.MODELS_PACKAGE;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.compile;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.modelBuilder;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.propertyBuilder;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.withSettings;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import io.clientcore.core.serialization.json.JsonSerializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+@Tag(GENERIC_FLAVOR)
+public class ModelBenchmarkTemplateTests {
+
+    @Test
+    public void testModelBenchmark() throws Exception {
+        ClassLoader classLoader = withSettings(Collections.singletonMap("flavor", "generic"), javaPackage -> {
+            ClientModel model
+                = modelBuilder("Resource", propertyBuilder("name", ClassType.STRING).required(true).build(),
+                    propertyBuilder("tags", new ListType(ClassType.STRING)).required(true).build()).build();
+            javaPackage.addModel(model.getPackage(), model.getName(), model);
+            javaPackage.addModelBenchmark(model);
+
+            List<JavaFile> javaFiles = javaPackage.getJavaFiles();
+            String benchmarkPath = javaFiles.get(javaFiles.size() - 1).getFilePath();
+            Assertions.assertTrue(benchmarkPath.startsWith("src/benchmark/java/"));
+            Assertions.assertTrue(benchmarkPath.endsWith("/ResourceBenchmarks.java"));
+            return compile(javaFiles, Benchmark.class);
+        });
+
+        Class<?> resourceClass = classLoader.loadClass(MODELS_PACKAGE + ".Resource");
+        Class<?> benchmarkClass = classLoader.loadClass("com.azure.mock.generated.ResourceBenchmarks");
+        // JMH generates subclasses of the benchmark class
+        Assertions.assertFalse(Modifier.isFinal(benchmarkClass.getModifiers()));
+        Assertions.assertTrue(benchmarkClass.getMethod("setup").isAnnotationPresent(Setup.class));
+        for (String name : new String[] { "fromJson", "toJson", "roundTrip" }) {
+            Assertions.assertTrue(benchmarkClass.getMethod(name).isAnnotationPresent(Benchmark.class));
+        }
+
+        Field jsonField = benchmarkClass.getDeclaredField("JSON");
+        jsonField.setAccessible(true);
+        String json = new String((byte[]) jsonField.get(null), StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.startsWith("{\"name\":"));
+
+        Object benchmark = benchmarkClass.getConstructor().newInstance();
+        benchmarkClass.getMethod("setup").invoke(benchmark);
+
+        Object fromJson = benchmarkClass.getMethod("fromJson").invoke(benchmark);
+        Assertions.assertSame(resourceClass, fromJson.getClass());
+        Assertions.assertEquals(json, ((JsonSerializable<?>) fromJson).toJsonString());
+
+        byte[] toJson = (byte[]) benchmarkClass.getMethod("toJson").invoke(benchmark);
+        Assertions.assertEquals(json, new String(toJson, StandardCharsets.UTF_8));
+
+        Object roundTrip = benchmarkClass.getMethod("roundTrip").invoke(benchmark);
+        Assertions.assertSame(resourceClass, roundTrip.getClass());
+        Assertions.assertEquals(json, ((JsonSerializable<?>) roundTrip).toJsonString());
+    }
+}
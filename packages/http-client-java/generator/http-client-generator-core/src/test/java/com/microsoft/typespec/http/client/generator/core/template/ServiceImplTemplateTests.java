@@ -0,0 +1,414 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.compile;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.withSettings;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.exception.ResourceNotFoundException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.RequestOptions;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.core.util.tracing.Tracer;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Proxy;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import io.clientcore.core.http.models.HttpMethod;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ServiceImplTemplateTests {
+
+    private static final String SERVICE_IMPL_CLASS_NAME
+        = "com.azure.mock.implementation.MockClientImpl$MockServiceImpl";
+
+    @Test
+    public void testServiceImpl() throws ReflectiveOperationException {
+        ClassLoader classLoader = withSettings(settings(true), javaPackage -> {
+            Proxy proxy = createProxy(ClassType.STRING);
+            Assertions.assertTrue(ClientModelUtil.isGenerateServiceImpl(proxy));
+
+            javaPackage.addJavaFromResources("com.azure.mock.implementation",
+                ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME);
+            List<JavaFile> javaFiles = new ArrayList<>(javaPackage.getJavaFiles());
+            javaFiles.add(write(proxy));
+            return compile(javaFiles, HttpPipeline.class, Mono.class, Publisher.class);
+        });
+
+        AtomicReference<HttpRequest> request = new AtomicReference<>();
+        MockHttpResponse response = new MockHttpResponse(201, "{\"name\":\"a b\"}");
+        Object service = createService(classLoader, request, response, null);
+
+        // URL templating and escaping, headers and body
+        Response<?> putResponse = (Response<?>) invoke(service, "put", "https://localhost", "a b", "x y", "t%20k",
+            "application/json", BinaryData.fromString("{}"), null, Context.NONE);
+        Assertions.assertEquals("https://localhost/mock/items/a%20b?filter=x%20y&token=t%20k",
+            request.get().getUrl().toString());
+        Assertions.assertEquals("application/json", request.get().getHeaders().getValue(HttpHeaderName.ACCEPT));
+        Assertions.assertEquals("application/json", request.get().getHeaders().getValue(HttpHeaderName.CONTENT_TYPE));
+        Assertions.assertEquals("{}", request.get().getBodyAsBinaryData().toString());
+        Assertions.assertEquals(201, putResponse.getStatusCode());
+        Assertions.assertEquals("{\"name\":\"a b\"}", putResponse.getValue().toString());
+
+        // Response<Void>, the body is not read
+        response = new MockHttpResponse(204, "ignored");
+        service = createService(classLoader, request, response, null);
+        Response<?> deleteResponse
+            = (Response<?>) ((Mono<?>) invoke(service, "delete", "https://localhost", "a", null, Context.NONE)).block();
+        Assertions.assertEquals("https://localhost/mock/items/a", request.get().getUrl().toString());
+        Assertions.assertEquals("0", request.get().getHeaders().getValue(HttpHeaderName.CONTENT_LENGTH));
+        Assertions.assertEquals(204, deleteResponse.getStatusCode());
+        Assertions.assertNull(deleteResponse.getValue());
+        Assertions.assertEquals(0, response.bodyReads.get());
+    }
+
+    @Test
+    public void testServiceImplException() throws ReflectiveOperationException {
+        ClassLoader classLoader = compileServiceImpl();
+
+        AtomicReference<HttpRequest> request = new AtomicReference<>();
+        MockHttpResponse response = new MockHttpResponse(404, "{\"code\":\"NotFound\"}");
+        Object service = createService(classLoader, request, response, null);
+
+        // exception mapped from the status code, with the body
+        ResourceNotFoundException exception
+            = Assertions.assertThrows(ResourceNotFoundException.class, () -> invoke(service, "put", "https://localhost",
+                "a", null, null, "application/json", null, null, Context.NONE));
+        Assertions.assertEquals(404, exception.getResponse().getStatusCode());
+        Assertions.assertTrue(exception.getMessage().contains("NotFound"));
+
+        Mono<?> deleteMono = (Mono<?>) invoke(service, "delete", "https://localhost", "a", null, Context.NONE);
+        exception = Assertions.assertThrows(ResourceNotFoundException.class, deleteMono::block);
+        Assertions.assertTrue(exception.getMessage().contains("NotFound"));
+
+        // status code without a mapping, and an expected status code of another method
+        Object errorService = createService(classLoader, request, new MockHttpResponse(500, ""), null);
+        HttpResponseException defaultException
+            = Assertions.assertThrows(HttpResponseException.class, () -> invoke(errorService, "put",
+                "https://localhost", "a", null, null, "application/json", null, null, Context.NONE));
+        Assertions.assertEquals(HttpResponseException.class, defaultException.getClass());
+        Mono<?> unexpectedMono
+            = (Mono<?>) invoke(createService(classLoader, request, new MockHttpResponse(200, ""), null), "delete",
+                "https://localhost", "a", null, Context.NONE);
+        Assertions.assertThrows(HttpResponseException.class, unexpectedMono::block);
+    }
+
+    @Test
+    public void testServiceImplRequestOptions() throws ReflectiveOperationException {
+        ClassLoader classLoader = compileServiceImpl();
+
+        // the call with RequestOptions is delegated to RestProxy, which applies the request callbacks
+        AtomicReference<HttpRequest> request = new AtomicReference<>();
+        Object service = createService(classLoader, request, new MockHttpResponse(201, "{}"), null);
+        RequestOptions requestOptions = new RequestOptions().setHeader(HttpHeaderName.fromString("x-ms-test"), "a")
+            .addRequestCallback(httpRequest -> httpRequest.setHeader(HttpHeaderName.fromString("x-ms-callback"), "b"));
+        Response<?> putResponse = (Response<?>) invoke(service, "put", "https://localhost", "a b", "x y", "t%20k",
+            "application/json", BinaryData.fromString("{}"), requestOptions, Context.NONE);
+        Assertions.assertEquals("https://localhost/mock/items/a%20b?filter=x%20y&token=t%20k",
+            request.get().getUrl().toString());
+        Assertions.assertEquals("a", request.get().getHeaders().getValue(HttpHeaderName.fromString("x-ms-test")));
+        Assertions.assertEquals("b", request.get().getHeaders().getValue(HttpHeaderName.fromString("x-ms-callback")));
+        Assertions.assertEquals(201, putResponse.getStatusCode());
+
+        // the exception is mapped by RestProxy from the same annotations
+        Object errorService = createService(classLoader, request, new MockHttpResponse(404, ""), null);
+        Mono<?> deleteMono
+            = (Mono<?>) invoke(errorService, "delete", "https://localhost", "a", new RequestOptions(), Context.NONE);
+        Assertions.assertThrows(ResourceNotFoundException.class, deleteMono::block);
+    }
+
+    @Test
+    public void testServiceImplTracing() throws ReflectiveOperationException {
+        ClassLoader classLoader = compileServiceImpl();
+
+        AtomicReference<HttpRequest> request = new AtomicReference<>();
+        List<String> spans = new ArrayList<>();
+        Object service = createService(classLoader, request, new MockHttpResponse(200, ""), spans);
+
+        // same as RestProxy, the span is named after the service interface, and started from the Context
+        invoke(service, "put", "https://localhost", "a", null, null, "application/json", null, null, Context.NONE);
+        Assertions.assertEquals(Arrays.asList("start MockClient.put", "end null"), spans);
+
+        spans.clear();
+        service = createService(classLoader, request, new MockHttpResponse(404, ""), spans);
+        Mono<?> deleteMono = (Mono<?>) invoke(service, "delete", "https://localhost", "a", null, Context.NONE);
+        Assertions.assertThrows(ResourceNotFoundException.class, deleteMono::block);
+        Assertions.assertEquals(Arrays.asList("start MockClient.delete", "end 404"), spans);
+
+        // tracing disabled in the Context
+        spans.clear();
+        invoke(service, "delete", "https://localhost", "a", null, new Context(Tracer.DISABLE_TRACING_KEY, true));
+        Assertions.assertEquals(Collections.emptyList(), spans);
+    }
+
+    @Test
+    public void testUnsupportedServiceInterface() {
+        withSettings(settings(true), javaPackage -> {
+            // a parameter type that RestProxy serializes by the serializer
+            Assertions.assertFalse(ClientModelUtil.isGenerateServiceImpl(createProxy(ClassType.DATE_TIME)));
+            return null;
+        });
+
+        withSettings(settings(false), javaPackage -> {
+            Assertions.assertFalse(ClientModelUtil.isGenerateServiceImpl(createProxy(ClassType.STRING)));
+            return null;
+        });
+    }
+
+    private static ClassLoader compileServiceImpl() {
+        return withSettings(settings(true), javaPackage -> {
+            javaPackage.addJavaFromResources("com.azure.mock.implementation",
+                ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME);
+            List<JavaFile> javaFiles = new ArrayList<>(javaPackage.getJavaFiles());
+            javaFiles.add(write(createProxy(ClassType.STRING)));
+            return compile(javaFiles, HttpPipeline.class, Mono.class, Publisher.class);
+        });
+    }
+
+    private static Map<String, Object> settings(boolean generateServiceImpl) {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("data-plane", true);
+        settings.put("generate-service-impl", generateServiceImpl);
+        return settings;
+    }
+
+    /**
+     * Writes the service interface and its implementation, as in the implementation class of the client.
+     */
+    private static JavaFile write(Proxy proxy) {
+        Set<String> imports = new HashSet<>();
+        proxy.addImportsTo(imports, true, JavaSettings.getInstance());
+        ServiceImplTemplate.addImports(imports);
+
+        JavaFile javaFile = new JavaFile("com/azure/mock/implementation/MockClientImpl.java");
+        javaFile.declarePackage("com.azure.mock.implementation");
+        javaFile.declareImport(imports);
+        javaFile.publicFinalClass("MockClientImpl",
+            classBlock -> Templates.getProxyTemplate().write(proxy, classBlock));
+        return javaFile;
+    }
+
+    /**
+     * Creates the implementation of the service interface, with an HttpPipeline which records the request and returns
+     * the response, and records the spans to the list if it is not null.
+     */
+    private static Object createService(ClassLoader classLoader, AtomicReference<HttpRequest> request,
+        MockHttpResponse response, List<String> spans) throws ReflectiveOperationException {
+        HttpPipelineBuilder builder = new HttpPipelineBuilder().httpClient(httpRequest -> {
+            request.set(httpRequest);
+            return Mono.just(response.forRequest(httpRequest));
+        });
+        if (spans != null) {
+            builder.tracer(createTracer(spans));
+        }
+        Constructor<?> constructor = classLoader.loadClass(SERVICE_IMPL_CLASS_NAME)
+            .getDeclaredConstructor(HttpPipeline.class, SerializerAdapter.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(builder.build(), JacksonAdapter.createDefaultSerializerAdapter());
+    }
+
+    private static Tracer createTracer(List<String> spans) {
+        return (Tracer) java.lang.reflect.Proxy.newProxyInstance(Tracer.class.getClassLoader(),
+            new Class<?>[] { Tracer.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "isEnabled":
+                        return true;
+
+                    case "start":
+                        spans.add("start " + args[0]);
+                        return ((Context) args[args.length - 1]).addData("span", args[0]);
+
+                    case "end":
+                        spans.add("end " + args[0]);
+                        return null;
+
+                    default:
+                        return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                }
+            });
+    }
+
+    private static Object invoke(Object service, String methodName, Object... args)
+        throws ReflectiveOperationException {
+        Method method = Arrays.stream(service.getClass().getDeclaredMethods())
+            .filter(m -> m.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow(NoSuchMethodException::new);
+        method.setAccessible(true);
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Proxy createProxy(IType filterType) {
+        Map<ClassType, List<Integer>> exceptionTypes = new LinkedHashMap<>();
+        exceptionTypes.put(ClassType.CLIENT_AUTHENTICATION_EXCEPTION, Collections.singletonList(401));
+        exceptionTypes.put(ClassType.RESOURCE_NOT_FOUND_EXCEPTION, Collections.singletonList(404));
+
+        List<ProxyMethodParameter> putParameters = new ArrayList<>();
+        putParameters.add(parameter("endpoint", "endpoint", RequestParameterLocation.URI, ClassType.STRING, false));
+        putParameters.add(parameter("name", "name", RequestParameterLocation.PATH, ClassType.STRING, false));
+        putParameters.add(parameter("filter", "filter", RequestParameterLocation.QUERY, filterType, false));
+        putParameters.add(parameter("token", "token", RequestParameterLocation.QUERY, ClassType.STRING, true));
+        putParameters.add(parameter("accept", "Accept", RequestParameterLocation.HEADER, ClassType.STRING, false));
+        putParameters.add(parameter("body", "body", RequestParameterLocation.BODY, ClassType.BINARY_DATA, false));
+        putParameters.add(ProxyMethodParameter.REQUEST_OPTIONS_PARAMETER);
+        putParameters.add(parameter("context", "context", RequestParameterLocation.NONE, ClassType.CONTEXT, false));
+        ProxyMethod put = new ProxyMethod.Builder().name("put")
+            .httpMethod(HttpMethod.PUT)
+            .urlPath("/items/{name}")
+            .requestContentType("application/json")
+            .returnType(GenericType.response(ClassType.BINARY_DATA))
+            .parameters(putParameters)
+            .allParameters(putParameters)
+            .responseExpectedStatusCodes(Arrays.asList(200, 201))
+            .unexpectedResponseExceptionTypes(exceptionTypes)
+            .unexpectedResponseExceptionType(ClassType.HTTP_RESPONSE_EXCEPTION)
+            .isSync(true)
+            .build();
+
+        List<ProxyMethodParameter> deleteParameters
+            = Arrays.asList(putParameters.get(0), putParameters.get(1), putParameters.get(6), putParameters.get(7));
+        ProxyMethod delete = new ProxyMethod.Builder().name("delete")
+            .httpMethod(HttpMethod.DELETE)
+            .urlPath("/items/{name}")
+            .requestContentType("application/json")
+            .returnType(GenericType.mono(GenericType.response(ClassType.VOID)))
+            .parameters(deleteParameters)
+            .allParameters(deleteParameters)
+            .responseExpectedStatusCodes(Collections.singletonList(204))
+            .unexpectedResponseExceptionTypes(exceptionTypes)
+            .unexpectedResponseExceptionType(ClassType.HTTP_RESPONSE_EXCEPTION)
+            .build();
+
+        return new Proxy.Builder().name("MockService")
+            .clientTypeName("MockClient")
+            .baseURL("{endpoint}/mock")
+            .methods(Arrays.asList(put, delete))
+            .build();
+    }
+
+    private static ProxyMethodParameter parameter(String name, String serializedName, RequestParameterLocation location,
+        IType type, boolean alreadyEncoded) {
+        return new ProxyMethodParameter.Builder().name(name)
+            .description("The " + name + " parameter.")
+            .wireType(type)
+            .clientType(type)
+            .rawType(type)
+            .requestParameterLocation(location)
+            .requestParameterName(serializedName)
+            .alreadyEncoded(alreadyEncoded)
+            .required(true)
+            .build();
+    }
+
+    /**
+     * The response of the mock HttpClient, which counts the reads of the body.
+     */
+    private static final class MockHttpResponse extends HttpResponse {
+        private final int statusCode;
+        private final byte[] body;
+        private final AtomicInteger bodyReads;
+
+        private MockHttpResponse(int statusCode, String body) {
+            this(null, statusCode, body.getBytes(StandardCharsets.UTF_8), new AtomicInteger());
+        }
+
+        private MockHttpResponse(HttpRequest request, int statusCode, byte[] body, AtomicInteger bodyReads) {
+            super(request);
+            this.statusCode = statusCode;
+            this.body = body;
+            this.bodyReads = bodyReads;
+        }
+
+        /**
+         * Creates the same response to the request, as RestProxy requires the request of the response. The reads of
+         * the body are counted on this response.
+         */
+        private MockHttpResponse forRequest(HttpRequest request) {
+            return new MockHttpResponse(request, statusCode, body, bodyReads);
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        @Deprecated
+        public String getHeaderValue(String name) {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            bodyReads.incrementAndGet();
+            return Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            bodyReads.incrementAndGet();
+            return Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return getBodyAsString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            bodyReads.incrementAndGet();
+            return Mono.just(new String(body, charset));
+        }
+    }
+}
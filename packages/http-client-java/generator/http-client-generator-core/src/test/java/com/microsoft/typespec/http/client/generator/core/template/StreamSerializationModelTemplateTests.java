@@ -0,0 +1,231 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.GENERIC_FLAVOR;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.MODELS_PACKAGE;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.compile;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.modelBuilder;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.propertyBuilder;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.withSettings;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonSerializable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Tag(GENERIC_FLAVOR)
+public class StreamSerializationModelTemplateTests {
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testFlattenedPropertiesDeserialization(boolean jsonFieldSwitchDispatch) throws Exception {
+        GeneratedModels models = generateModels(jsonFieldSwitchDispatch,
+            () -> Collections.singletonList(modelBuilder("Resource", propertyBuilder("name", ClassType.STRING).build(),
+                propertyBuilder("count", ClassType.INTEGER).build(),
+                propertyBuilder("size", ClassType.INTEGER).serializedName("properties.size").needsFlatten(true).build())
+                    .needsFlatten(true)
+                    .build()));
+
+        Class<?> resource = models.loadModelClass("Resource");
+        Assertions.assertEquals("{\"name\":\"a\",\"count\":2,\"properties\":{\"size\":3}}",
+            roundTrip(resource, "{\"name\":\"a\",\"properties\":{\"other\":[1],\"size\":3},\"count\":2}"));
+        // flattened properties are only read from a JSON object, otherwise the field is skipped as an unknown field
+        Assertions.assertEquals("{\"name\":\"b\",\"count\":2}",
+            roundTrip(resource, "{\"properties\":[{\"size\":3}],\"name\":\"b\",\"unknown\":{},\"count\":2}"));
+        Assertions.assertEquals("{\"name\":\"c\"}", roundTrip(resource, "{\"properties\":null,\"name\":\"c\"}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testFlattenedPropertiesDeserializationInFromJsonShared(boolean jsonFieldSwitchDispatch)
+        throws Exception {
+        GeneratedModels models = generateModels(jsonFieldSwitchDispatch, () -> {
+            ClientModelProperty dogKind = propertyBuilder("kind", ClassType.STRING).polymorphicDiscriminator(true)
+                .defaultValue("\"dog\"")
+                .required(true)
+                .build();
+            ClientModel dog
+                = modelBuilder("Dog", dogKind, propertyBuilder("breed", ClassType.STRING).build()).polymorphic(true)
+                    .polymorphicDiscriminator(dogKind)
+                    .polymorphicDiscriminatorName("kind")
+                    .serializedName("dog")
+                    .parentModelName("Animal")
+                    .build();
+
+            ClientModelProperty kind = propertyBuilder("kind", ClassType.STRING).polymorphicDiscriminator(true)
+                .defaultValue("\"Animal\"")
+                .required(true)
+                .build();
+            ClientModel animal = modelBuilder("Animal", kind, propertyBuilder("name", ClassType.STRING).build(),
+                propertyBuilder("size", ClassType.INTEGER).serializedName("properties.size").needsFlatten(true).build())
+                    .polymorphic(true)
+                    .polymorphicDiscriminator(kind)
+                    .polymorphicDiscriminatorName("kind")
+                    .serializedName("Animal")
+                    .needsFlatten(true)
+                    .derivedModels(Collections.singletonList(dog))
+                    .build();
+            return Arrays.asList(animal, dog);
+        });
+        Class<?> animal = models.loadModelClass("Animal");
+        Assertions.assertTrue(Arrays.stream(animal.getDeclaredMethods())
+            .anyMatch(method -> "fromJsonShared".equals(method.getName()) && Modifier.isStatic(method.getModifiers())));
+        Assertions.assertEquals("{\"kind\":\"dog\",\"name\":\"a\",\"properties\":{\"size\":3},\"breed\":\"b\"}",
+            roundTrip(animal, "{\"breed\":\"b\",\"properties\":{\"size\":3},\"kind\":\"dog\",\"name\":\"a\"}"));
+        // when "properties" is not a JSON object, fromJsonShared doesn't handle the field, and Dog skips it
+        Assertions.assertEquals("{\"kind\":\"dog\",\"name\":\"a\",\"breed\":\"b\"}",
+            roundTrip(animal, "{\"kind\":\"dog\",\"properties\":\"x\",\"breed\":\"b\",\"name\":\"a\"}"));
+        Assertions.assertEquals("{\"kind\":\"Animal\",\"name\":\"a\"}",
+            roundTrip(animal, "{\"name\":\"a\",\"properties\":1}"));
+    }
+
+    @Test
+    public void testJsonMergePatchTracksUpdatesInLong() throws Exception {
+        GeneratedModels models = generateModels(false, () -> Collections.singletonList(createJsonMergePatchModel(3)));
+
+        Class<?> resourcePatch = models.loadModelClass("ResourcePatch");
+        Assertions.assertEquals(long.class, resourcePatch.getDeclaredField("updatedProperties").getType());
+
+        Object patch = resourcePatch.getConstructor().newInstance();
+        resourcePatch.getMethod("setProperty2", String.class).invoke(patch, "c");
+        resourcePatch.getMethod("setProperty1", String.class).invoke(patch, (Object) null);
+        // only the updated properties are serialized in JSON merge patch, including the ones set to null
+        Assertions.assertEquals("{\"property1\":null,\"property2\":\"c\"}", toJsonMergePatch(models, patch));
+        Assertions.assertEquals("{\"property2\":\"c\"}", ((JsonSerializable<?>) patch).toJsonString());
+    }
+
+    @Test
+    public void testJsonMergePatchTracksUpdatesInBitSet() throws Exception {
+        GeneratedModels models
+            = generateModels(false, () -> Collections.singletonList(createJsonMergePatchModel(Long.SIZE + 1)));
+
+        Class<?> resourcePatch = models.loadModelClass("ResourcePatch");
+        Assertions.assertEquals(BitSet.class, resourcePatch.getDeclaredField("updatedProperties").getType());
+
+        Object patch = resourcePatch.getConstructor().newInstance();
+        resourcePatch.getMethod("setProperty64", String.class).invoke(patch, "c");
+        resourcePatch.getMethod("setProperty0", String.class).invoke(patch, (Object) null);
+        Assertions.assertEquals("{\"property0\":null,\"property64\":\"c\"}", toJsonMergePatch(models, patch));
+    }
+
+    @Test
+    public void testJsonMergePatchWithCollidingConstantNames() throws Exception {
+        // the properties all map to the UPDATED_FOO_BAR constant name
+        GeneratedModels models = generateModels(false,
+            () -> Collections
+                .singletonList(createJsonMergePatchModel(propertyBuilder("fooBar", ClassType.STRING).build(),
+                    propertyBuilder("fooBAR", ClassType.STRING).build(),
+                    propertyBuilder("fooBaR", ClassType.STRING).build())));
+
+        Class<?> resourcePatch = models.loadModelClass("ResourcePatch");
+        Object patch = resourcePatch.getConstructor().newInstance();
+        resourcePatch.getMethod("setFooBAR", String.class).invoke(patch, "b");
+        Assertions.assertEquals("{\"fooBAR\":\"b\"}", toJsonMergePatch(models, patch));
+        resourcePatch.getMethod("setFooBaR", String.class).invoke(patch, (Object) null);
+        Assertions.assertEquals("{\"fooBAR\":\"b\",\"fooBaR\":null}", toJsonMergePatch(models, patch));
+    }
+
+    private static ClientModel createJsonMergePatchModel(int propertyCount) {
+        ClientModelProperty[] properties = new ClientModelProperty[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            properties[i] = propertyBuilder("property" + i, ClassType.STRING).build();
+        }
+        return createJsonMergePatchModel(properties);
+    }
+
+    private static ClientModel createJsonMergePatchModel(ClientModelProperty... properties) {
+        return modelBuilder("ResourcePatch", properties).implementationDetails(new ImplementationDetails.Builder()
+            .usages(EnumSet.of(ImplementationDetails.Usage.INPUT, ImplementationDetails.Usage.JSON_MERGE_PATCH))
+            .build()).build();
+    }
+
+    /**
+     * Serializes the model as JSON merge patch, via the accessor in JsonMergePatchHelper, as the clients do.
+     */
+    private static String toJsonMergePatch(GeneratedModels models, Object model) throws Exception {
+        Class<?> helper = models.classLoader.loadClass("com.azure.mock.implementation.JsonMergePatchHelper");
+        Object accessor = helper.getMethod("get" + model.getClass().getSimpleName() + "Accessor").invoke(null);
+        Method prepare
+            = accessor.getClass().getMethod("prepareModelForJsonMergePatch", model.getClass(), boolean.class);
+        prepare.setAccessible(true);
+        prepare.invoke(accessor, model, true);
+        try {
+            return ((JsonSerializable<?>) model).toJsonString();
+        } finally {
+            prepare.invoke(accessor, model, false);
+        }
+    }
+
+    private static GeneratedModels generateModels(boolean jsonFieldSwitchDispatch,
+        Supplier<List<ClientModel>> modelsSupplier) {
+        Map<String, Object> options = new HashMap<>();
+        options.put("flavor", "generic");
+        options.put("json-field-switch-dispatch", jsonFieldSwitchDispatch);
+        options.put("share-jsonserializable-code", true);
+        return withSettings(options, javaPackage -> {
+            Map<String, ClientModel> models = new HashMap<>();
+            ClientModelUtil.setGetClientModelFunction(models::get);
+            try {
+                for (ClientModel model : modelsSupplier.get()) {
+                    models.put(model.getName(), model);
+                }
+                models.values().forEach(model -> javaPackage.addModel(model.getPackage(), model.getName(), model));
+                List<ClientModel> jsonMergePatchModels = models.values()
+                    .stream()
+                    .filter(model -> ClientModelUtil.isJsonMergePatchModel(model, JavaSettings.getInstance()))
+                    .collect(Collectors.toList());
+                if (!jsonMergePatchModels.isEmpty()) {
+                    javaPackage.addJsonMergePatchHelper(jsonMergePatchModels);
+                }
+                return new GeneratedModels(compile(javaPackage.getJavaFiles()));
+            } finally {
+                ClientModelUtil.setGetClientModelFunction(name -> ClientModels.getInstance().getModel(name));
+            }
+        });
+    }
+
+    /**
+     * Deserializes the JSON with the fromJson method of the model class, and serializes the result back.
+     */
+    private static String roundTrip(Class<?> modelClass, String json) throws Exception {
+        try (JsonReader jsonReader = JsonReader.fromString(json)) {
+            Object model = modelClass.getMethod("fromJson", JsonReader.class).invoke(null, jsonReader);
+            return ((JsonSerializable<?>) model).toJsonString();
+        }
+    }
+
+    private static final class GeneratedModels {
+        private final ClassLoader classLoader;
+
+        private GeneratedModels(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        private Class<?> loadModelClass(String name) throws ClassNotFoundException {
+            return classLoader.loadClass(MODELS_PACKAGE + "." + name);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.GENERIC_FLAVOR;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.MODELS_PACKAGE;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.compile;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.modelBuilder;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.propertyBuilder;
+import static com.microsoft.typespec.http.client.generator.core.TemplateTestHelper.withSettings;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag(GENERIC_FLAVOR)
+public class ClientModelUtilTests {
+
+    @Test
+    public void testJsonReadValueCallback() {
+        withModels(models -> {
+            IType resourceType = models.get("Resource").getType();
+
+            Assertions.assertEquals("Resource::fromJson", ClientModelUtil.getJsonReadValueCallback(resourceType));
+            Assertions.assertEquals("reader -> reader.readArray(Resource::fromJson)",
+                ClientModelUtil.getJsonReadValueCallback(new ListType(resourceType)));
+            Assertions.assertEquals("reader -> reader.readMap(reader1 -> reader1.readArray(Resource::fromJson))",
+                ClientModelUtil.getJsonReadValueCallback(new MapType(new ListType(resourceType))));
+
+            // not a model, or a model not serialized as JSON
+            Assertions.assertNull(ClientModelUtil.getJsonReadValueCallback(ClassType.STRING));
+            Assertions.assertNull(ClientModelUtil.getJsonReadValueCallback(new ListType(ClassType.STRING)));
+            Assertions.assertNull(ClientModelUtil.getJsonReadValueCallback(models.get("XmlResource").getType()));
+        });
+    }
+
+    @Test
+    public void testJsonWriteValueCallback() {
+        withModels(models -> {
+            IType resourceType = models.get("Resource").getType();
+
+            Assertions.assertEquals(
+                "(writer, array) -> writer.writeArray(array, (writer1, element1) -> writer1.writeJson(element1))",
+                ClientModelUtil.getJsonWriteValueCallback(new ListType(resourceType)));
+            Assertions.assertEquals(
+                "(writer, map) -> writer.writeMap(map, (writer1, array1) -> writer1.writeArray("
+                    + "array1, (writer2, element2) -> writer2.writeJson(element2)))",
+                ClientModelUtil.getJsonWriteValueCallback(new MapType(new ListType(resourceType))));
+
+            // a model is serialized by its toJson, not a callback
+            Assertions.assertNull(ClientModelUtil.getJsonWriteValueCallback(resourceType));
+            // not a model, or a model not serialized as JSON
+            Assertions.assertNull(ClientModelUtil.getJsonWriteValueCallback(new ListType(ClassType.STRING)));
+            Assertions.assertNull(
+                ClientModelUtil.getJsonWriteValueCallback(new ListType(models.get("XmlResource").getType())));
+        });
+    }
+
+    @Test
+    public void testJsonValueCallbackRoundTrip() throws Exception {
+        String json = "{\"a\":[{\"name\":\"one\"},{\"name\":\"two\"}],\"b\":[]}";
+        ClassLoader classLoader = withSettings(Collections.singletonMap("flavor", "generic"), javaPackage -> {
+            ClientModel resource = modelBuilder("Resource", propertyBuilder("name", ClassType.STRING).build()).build();
+            ClientModelUtil.setGetClientModelFunction(name -> "Resource".equals(name) ? resource : null);
+            try {
+                javaPackage.addModel(resource.getPackage(), resource.getName(), resource);
+                List<JavaFile> javaFiles = new ArrayList<>(javaPackage.getJavaFiles());
+                javaFiles.add(writeCallbacks(new MapType(new ListType(resource.getType()))));
+                return compile(javaFiles);
+            } finally {
+                ClientModelUtil.setGetClientModelFunction(name -> ClientModels.getInstance().getModel(name));
+            }
+        });
+
+        Class<?> callbacks = classLoader.loadClass("com.azure.mock.Callbacks");
+        Map<?, ?> value = (Map<?, ?>) callbacks.getMethod("read", String.class).invoke(null, json);
+        List<?> resources = (List<?>) value.get("a");
+        Assertions.assertEquals(2, resources.size());
+        Assertions.assertSame(classLoader.loadClass(MODELS_PACKAGE + ".Resource"), resources.get(0).getClass());
+        Assertions.assertEquals(json, callbacks.getMethod("write", Map.class).invoke(null, value));
+    }
+
+    /**
+     * Writes a class which reads the type from a JSON string by the read callback, and writes it back to a JSON string
+     * by the write callback.
+     */
+    private static JavaFile writeCallbacks(IType type) {
+        Set<String> imports = new HashSet<>();
+        type.addImportsTo(imports, false);
+        imports.add("io.clientcore.core.serialization.json.JsonReader");
+        imports.add("io.clientcore.core.serialization.json.JsonWriter");
+        imports.add("io.clientcore.core.utils.IOExceptionCheckedBiConsumer");
+        imports.add("io.clientcore.core.utils.IOExceptionCheckedFunction");
+        imports.add("java.io.ByteArrayOutputStream");
+        imports.add("java.io.IOException");
+        imports.add("java.nio.charset.StandardCharsets");
+
+        JavaFile javaFile = new JavaFile("com/azure/mock/Callbacks.java");
+        javaFile.declarePackage("com.azure.mock");
+        javaFile.declareImport(imports);
+        javaFile.publicFinalClass("Callbacks", classBlock -> {
+            classBlock.publicStaticMethod(type + " read(String json) throws IOException", function -> {
+                function.line("IOExceptionCheckedFunction<JsonReader, %1$s> callback = %2$s;", type,
+                    ClientModelUtil.getJsonReadValueCallback(type));
+                function.tryBlock("JsonReader jsonReader = JsonReader.fromString(json)", tryBlock -> {
+                    tryBlock.line("jsonReader.nextToken();");
+                    tryBlock.methodReturn("callback.apply(jsonReader)");
+                });
+            });
+            classBlock.publicStaticMethod("String write(" + type + " value) throws IOException", function -> {
+                function.line("IOExceptionCheckedBiConsumer<JsonWriter, %1$s> callback = %2$s;", type,
+                    ClientModelUtil.getJsonWriteValueCallback(type));
+                function.line("ByteArrayOutputStream outputStream = new ByteArrayOutputStream();");
+                function.tryBlock("JsonWriter jsonWriter = JsonWriter.toStream(outputStream)",
+                    tryBlock -> tryBlock.line("callback.accept(jsonWriter, value);"));
+                function.methodReturn("outputStream.toString(StandardCharsets.UTF_8.name())");
+            });
+        });
+        return javaFile;
+    }
+
+    /**
+     * Runs the assertions with the "Resource" model, and the "XmlResource" model which is serialized as XML, in the
+     * flavor of the compiled tests.
+     */
+    private static void withModels(Consumer<Map<String, ClientModel>> assertions) {
+        withSettings(Collections.singletonMap("flavor", "generic"), javaPackage -> {
+            Map<String, ClientModel> models = new HashMap<>();
+            models.put("Resource", modelBuilder("Resource").build());
+            models.put("XmlResource", modelBuilder("XmlResource").xmlName("XmlResource").build());
+            ClientModelUtil.setGetClientModelFunction(models::get);
+            try {
+                assertions.accept(models);
+                return null;
+            } finally {
+                ClientModelUtil.setGetClientModelFunction(name -> ClientModels.getInstance().getModel(name));
+            }
+        });
+    }
+}
@@ -277,6 +277,15 @@ public class FluentGen extends Javagen {
             }
         }
 
+        if (javaSettings.isGenerateBenchmarks()) {
+            // JMH benchmarks on JSON serialization of models
+            for (ClientModel model : client.getModels()) {
+                if (ClientModelUtil.isJsonSerializableModel(model.getType())) {
+                    javaPackage.addModelBenchmark(model);
+                }
+            }
+        }
+
         return javaPackage;
     }
 
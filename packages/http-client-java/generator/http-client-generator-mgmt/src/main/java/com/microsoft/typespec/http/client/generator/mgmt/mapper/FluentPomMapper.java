@@ -54,6 +54,7 @@ public class FluentPomMapper extends PomMapper {
         }
 
         pom.setRequireCompilerPlugins(!project.isIntegratedWithSdk());
+        pom.setRequireBenchmarkProfile(JavaSettings.getInstance().isGenerateBenchmarks());
 
         return pom;
     }
@@ -30,6 +30,9 @@ public class ModelNaming {
     public static final String METHOD_PARAMETER_NAME_ID = "id";
 
     public static final String CLASS_RESOURCE_MANAGER_UTILS = "ResourceManagerUtils";
+    public static final String CLASS_RESOURCE_ID_SEGMENTS = CLASS_RESOURCE_MANAGER_UTILS + ".ResourceIdSegments";
+
+    public static final String LOCAL_VARIABLE_RESOURCE_ID_SEGMENTS = "resourceIdSegments";
 
     private ModelNaming() {
     }
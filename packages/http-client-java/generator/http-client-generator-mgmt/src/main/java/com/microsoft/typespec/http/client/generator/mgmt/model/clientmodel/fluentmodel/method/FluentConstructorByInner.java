@@ -50,17 +50,21 @@ public class FluentConstructorByInner extends FluentMethod {
                     .collect(Collectors.toMap(UrlPathSegments.ParameterSegment::getParameterName,
                         UrlPathSegments.ParameterSegment::getSegmentName));
 
-                // init from resource id
+                // init from resource id, which is parsed once for all the path parameters
+                if (!pathParameters.isEmpty()) {
+                    block.line(String.format("%1$s %2$s = %1$s.parse(%3$s.id());",
+                        ModelNaming.CLASS_RESOURCE_ID_SEGMENTS, ModelNaming.LOCAL_VARIABLE_RESOURCE_ID_SEGMENTS,
+                        ModelNaming.MODEL_PROPERTY_INNER));
+                }
                 pathParameters.forEach(p -> {
                     String valueFromIdText;
                     if (urlPathSegments.hasScope()) {
-                        valueFromIdText
-                            = String.format("%1$s.getValueFromIdByParameterName(%2$s.id(), \"%3$s\", \"%4$s\")",
-                                ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, ModelNaming.MODEL_PROPERTY_INNER,
-                                urlPathSegments.getPath(), p.getSerializedName());
+                        valueFromIdText = String.format("%1$s.getValueByParameterName(\"%2$s\", \"%3$s\")",
+                            ModelNaming.LOCAL_VARIABLE_RESOURCE_ID_SEGMENTS, urlPathSegments.getPath(),
+                            p.getSerializedName());
                     } else {
-                        valueFromIdText = String.format("%1$s.getValueFromIdByName(%2$s.id(), \"%3$s\")",
-                            ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, ModelNaming.MODEL_PROPERTY_INNER,
+                        valueFromIdText = String.format("%1$s.getValueByName(\"%2$s\")",
+                            ModelNaming.LOCAL_VARIABLE_RESOURCE_ID_SEGMENTS,
                             urlSegmentNameByParameterName.get(p.getSerializedName()));
                     }
                     if (p.getClientMethodParameter().getClientType() != ClassType.STRING) {
@@ -33,7 +33,6 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
     private static final List<MethodTemplate> METHOD_TEMPLATES = new ArrayList<>();
     static {
         MethodTemplate getValueFromIdByNameMethod = MethodTemplate.builder()
-            .imports(List.of(Arrays.class.getName(), Iterator.class.getName()))
             .visibility(JavaVisibility.PackagePrivate)
             .modifiers(Collections.singletonList(JavaModifier.Static))
             .methodSignature("String getValueFromIdByName(String id, String name)")
@@ -43,8 +42,6 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
         METHOD_TEMPLATES.add(getValueFromIdByNameMethod);
 
         MethodTemplate getValueFromIdByParameterNameMethod = MethodTemplate.builder()
-            .imports(List.of(Arrays.class.getName(), Iterator.class.getName(), List.class.getName(),
-                ArrayList.class.getName(), ClassType.CORE_UTILS.getFullName(), Collections.class.getName()))
             .visibility(JavaVisibility.PackagePrivate)
             .modifiers(Collections.singletonList(JavaModifier.Static))
             .methodSignature(
@@ -60,6 +57,8 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
         ClassType.PAGED_RESPONSE_BASE.getFullName(), Iterator.class.getName(), Function.class.getName(),
         Collectors.class.getName(), Stream.class.getName());
 
+    private static final List<String> IMPORTS_UTILS_RESOURCE_ID_SEGMENTS = List.of(Arrays.class.getName());
+
     public void write(JavaFile javaFile) {
         write(null, javaFile);
     }
@@ -69,6 +68,7 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
         Set<String> imports = new HashSet<>();
         METHOD_TEMPLATES.forEach(mt -> mt.addImportsTo(imports));
         imports.addAll(IMPORTS_UTILS_PAGED_ITERABLE);
+        imports.addAll(IMPORTS_UTILS_RESOURCE_ID_SEGMENTS);
         javaFile.declareImport(imports);
 
         javaFile.classBlock(JavaVisibility.PackagePrivate, Collections.singletonList(JavaModifier.Final),
@@ -83,6 +83,10 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
                 String configurableClassText
                     = FluentUtils.loadTextFromResource("ResourceManagerUtils_PagedIterableImpl.txt");
                 javaFile.text(configurableClassText);
+
+                // ResourceIdSegments class, parses the resource ID once for all its values
+                javaFile.line();
+                javaFile.text(FluentUtils.loadTextFromResource("ResourceManagerUtils_ResourceIdSegments.txt"));
             });
     }
 }
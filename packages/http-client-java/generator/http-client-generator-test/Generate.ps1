@@ -50,6 +50,9 @@ $generateScript = {
   } elseif ($tspFile -match "azure[\\/]example[\\/]basic[\\/]") {
     # override examples-dir
     $tspOptions += " --option ""@typespec/http-client-java.examples-dir={project-root}/specs/azure/example/basic/examples"""
+  } elseif ($tspFile -match "azure[\\/]payload[\\/]pageable[\\/]") {
+    # request the next pages in background
+    $tspOptions += " --option ""@typespec/http-client-java.page-prefetch-depth=2"""
   } elseif ($tspFile -match "azure[\\/]client-generator-core[\\/]client-initialization[\\/]") {
     $tspOptions += " --option ""@typespec/http-client-java.enable-subclient=true"""
   } elseif ($tspFile -match "resiliency[\\/]srv-driven[\\/]old\.tsp") {
@@ -112,6 +115,16 @@ $generateScript = {
     $tspOptions += " --option ""@typespec/http-client-java.enable-subclient=true"""
     # test for include-api-view-properties
     $tspOptions += " --option ""@typespec/http-client-java.include-api-view-properties=false"""
+  } elseif ($tspFile -match "tsp[\\/]protocol-api-convenient-api.tsp") {
+    # test for json-direct-serialization
+    $tspOptions += " --option ""@typespec/http-client-java.json-direct-serialization=true"""
+  } elseif ($tspFile -match "tsp[\\/]builtin.tsp") {
+    # test for generate-service-impl
+    $tspOptions += " --option ""@typespec/http-client-java.generate-service-impl=true"""
+  } elseif ($tspFile -match "tsp[\\/]literal.tsp") {
+    # test for generate-async-methods=false and generate-benchmarks
+    $tspOptions += " --option ""@typespec/http-client-java.generate-async-methods=false"""
+    $tspOptions += " --option ""@typespec/http-client-java.generate-benchmarks=true"""
   }
 
   # Test customization for one of the TypeSpec definitions - naming.tsp
@@ -176,6 +189,9 @@ try {
   if (Test-Path ./src/samples) {
     Remove-Item ./src/samples -Recurse -Force
   }
+  if (Test-Path ./src/benchmark) {
+    Remove-Item ./src/benchmark -Recurse -Force
+  }
   if (Test-Path ./src/test) {
     Get-ChildItem -Path ./src/test -Recurse -Directory | Where-Object {$_.Name -match "^generated$"} | Remove-Item -Recurse -Force
   }
@@ -0,0 +1,78 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.armresourceprovider.implementation;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark on getting the names of a nested resource from its ID, as done by the constructor of ChildResourceImpl.
+ * <p>
+ * The ID is either split once per name, as ResourceManagerUtils did before ResourceIdSegments, or parsed once by
+ * ResourceIdSegments. The benchmark is in the package of ResourceManagerUtils, as ResourceIdSegments is
+ * package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResourceIdParseBenchmark {
+
+    private String id;
+
+    @Setup
+    public void setup() {
+        id = "/subscriptions/00000000-0000-0000-0000-000000000000/resourceGroups/rg"
+            + "/providers/TspTest.ArmResourceProvider/topLevelArmResources/top/childResources/child";
+    }
+
+    @Benchmark
+    public int splitPerName() {
+        return getValueFromIdByNameWithSplit(id, "resourceGroups").length()
+            + getValueFromIdByNameWithSplit(id, "topLevelArmResources").length()
+            + getValueFromIdByNameWithSplit(id, "childResources").length();
+    }
+
+    @Benchmark
+    public int singleParse() {
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        return resourceIdSegments.getValueByName("resourceGroups").length()
+            + resourceIdSegments.getValueByName("topLevelArmResources").length()
+            + resourceIdSegments.getValueByName("childResources").length();
+    }
+
+    // the implementation of ResourceManagerUtils.getValueFromIdByName before ResourceIdSegments
+    private static String getValueFromIdByNameWithSplit(String id, String name) {
+        if (id == null) {
+            return null;
+        }
+        Iterator<String> itr = Arrays.stream(id.split("/")).iterator();
+        while (itr.hasNext()) {
+            String part = itr.next();
+            if (part != null && !part.trim().isEmpty()) {
+                if (part.equalsIgnoreCase(name)) {
+                    if (itr.hasNext()) {
+                        return itr.next();
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
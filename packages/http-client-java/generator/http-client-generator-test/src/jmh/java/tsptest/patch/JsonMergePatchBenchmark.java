@@ -0,0 +1,107 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.patch;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tsptest.patch.implementation.JsonMergePatchHelper;
+import tsptest.patch.models.InnerModel;
+import tsptest.patch.models.Resource;
+import tsptest.patch.models.Salmon;
+
+/**
+ * Benchmark on the setters and on the JSON merge patch serialization of the patch models, which track the updated
+ * properties.
+ * <p>
+ * Resource has properties of primitive, model and list types, Salmon is a subtype of the polymorphic Fish. Some of
+ * the properties are set to null, which is serialized as null in a merge patch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonMergePatchBenchmark {
+
+    private Resource resource;
+    private Salmon salmon;
+    private ByteArrayOutputStream outputStream;
+
+    @Setup
+    public void setup() {
+        resource = createResource();
+        salmon = createSalmon();
+        outputStream = new ByteArrayOutputStream(1024);
+    }
+
+    @Benchmark
+    public Resource setResource() {
+        return createResource();
+    }
+
+    @Benchmark
+    public Salmon setSalmon() {
+        return createSalmon();
+    }
+
+    @Benchmark
+    public int serializeResource() throws IOException {
+        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
+        try {
+            return serialize(resource::toJson);
+        } finally {
+            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+        }
+    }
+
+    @Benchmark
+    public int serializeSalmon() throws IOException {
+        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(salmon, true);
+        try {
+            return serialize(salmon::toJson);
+        } finally {
+            JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(salmon, false);
+        }
+    }
+
+    private static Resource createResource() {
+        return new Resource().setDescription("description")
+            .setLongValue(1L)
+            .setIntValue(null)
+            .setInnerModelProperty(new InnerModel().setName("name"))
+            .setArray(Arrays.asList(new InnerModel().setDescription(null)));
+    }
+
+    private static Salmon createSalmon() {
+        return new Salmon().setAge(1).setColor("silver").setPartner(null).setFriends(null);
+    }
+
+    private int serialize(JsonWriterConsumer serializer) throws IOException {
+        outputStream.reset();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            serializer.accept(jsonWriter);
+        }
+        return outputStream.size();
+    }
+
+    @FunctionalInterface
+    private interface JsonWriterConsumer {
+        void accept(JsonWriter jsonWriter) throws IOException;
+    }
+}
@@ -34,9 +34,11 @@ import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -194,8 +196,7 @@ public final class NextLinkVerbClientImpl {
     private Mono<PagedResponse<BinaryData>> listItemsSinglePageAsync(RequestOptions requestOptions) {
         final String accept = "application/json";
         return FluxUtil.withContext(context -> service.listItems(this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "items", "nextLink"));
     }
 
     /**
@@ -249,8 +250,7 @@ public final class NextLinkVerbClientImpl {
     private PagedResponse<BinaryData> listItemsSinglePage(RequestOptions requestOptions) {
         final String accept = "application/json";
         Response<BinaryData> res = service.listItemsSync(this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "items", "nextLink");
     }
 
     /**
@@ -308,8 +308,7 @@ public final class NextLinkVerbClientImpl {
         return FluxUtil
             .withContext(
                 context -> service.listItemsNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "items", "nextLink"));
     }
 
     /**
@@ -337,26 +336,33 @@ public final class NextLinkVerbClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listItemsNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "items", "nextLink");
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private PagedResponse<BinaryData> toPagedResponse(Response<BinaryData> res, String itemPath, String nextLinkPath) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(res.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    JsonToken token = jsonReader.nextToken();
+                    if (token == JsonToken.START_ARRAY && fieldName.equals(itemPath)) {
+                        values = jsonReader.readArray(reader -> reader.isStartArrayOrObject()
+                            ? BinaryData.fromString(reader.readChildren())
+                            : BinaryData.fromObject(reader.readUntyped()));
+                    } else if (token == JsonToken.STRING && fieldName.equals(nextLinkPath)) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink,
+            null);
     }
 }
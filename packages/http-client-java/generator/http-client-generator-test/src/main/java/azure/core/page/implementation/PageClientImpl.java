@@ -39,9 +39,12 @@ import com.azure.core.util.FluxUtil;
 import com.azure.core.util.UrlBuilder;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -364,8 +367,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithPage(this.getEndpoint(), this.getServiceVersion().getVersion(),
                 accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -438,8 +440,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithPageSync(this.getEndpoint(), this.getServiceVersion().getVersion(),
             accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -533,8 +534,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithParameters(this.getEndpoint(),
                 this.getServiceVersion().getVersion(), accept, bodyInput, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -646,8 +646,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithParametersSync(this.getEndpoint(),
             this.getServiceVersion().getVersion(), accept, bodyInput, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -740,8 +739,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithCustomPageModel(this.getEndpoint(),
                 this.getServiceVersion().getVersion(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "items", "nextLink"));
     }
 
     /**
@@ -814,8 +812,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithCustomPageModelSync(this.getEndpoint(),
             this.getServiceVersion().getVersion(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "items", "nextLink");
     }
 
     /**
@@ -897,8 +894,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.withParameterizedNextLink(this.getEndpoint(), select, accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "values", "nextLink"));
     }
 
     /**
@@ -997,8 +993,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.withParameterizedNextLinkSync(this.getEndpoint(), select, accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "values", "nextLink");
     }
 
     /**
@@ -1091,8 +1086,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(
                 context -> service.listWithPageNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -1129,8 +1123,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listWithPageNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -1168,8 +1161,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.listWithParametersNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -1206,8 +1198,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listWithParametersNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -1246,8 +1237,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithCustomPageModelNext(nextLink, this.getEndpoint(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "items", "nextLink"));
     }
 
     /**
@@ -1285,8 +1275,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithCustomPageModelNextSync(nextLink, this.getEndpoint(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "items", "nextLink");
     }
 
     /**
@@ -1325,8 +1314,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.withParameterizedNextLinkNext(nextLink, this.getEndpoint(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "values", "nextLink"));
     }
 
     /**
@@ -1364,26 +1352,33 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.withParameterizedNextLinkNextSync(nextLink, this.getEndpoint(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "values", "nextLink");
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private PagedResponse<BinaryData> toPagedResponse(Response<BinaryData> res, String itemPath, String nextLinkPath) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(res.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    JsonToken token = jsonReader.nextToken();
+                    if (token == JsonToken.START_ARRAY && fieldName.equals(itemPath)) {
+                        values = jsonReader.readArray(reader -> reader.isStartArrayOrObject()
+                            ? BinaryData.fromString(reader.readChildren())
+                            : BinaryData.fromObject(reader.readUntyped()));
+                    } else if (token == JsonToken.STRING && fieldName.equals(nextLinkPath)) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink,
+            null);
     }
 }
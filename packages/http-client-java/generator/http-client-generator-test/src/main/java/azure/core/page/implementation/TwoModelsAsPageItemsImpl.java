@@ -30,9 +30,11 @@ import com.azure.core.http.rest.RestProxy;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -184,8 +186,7 @@ public final class TwoModelsAsPageItemsImpl {
         return FluxUtil
             .withContext(context -> service.listFirstItem(this.client.getEndpoint(),
                 this.client.getServiceVersion().getVersion(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -242,8 +243,7 @@ public final class TwoModelsAsPageItemsImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listFirstItemSync(this.client.getEndpoint(),
             this.client.getServiceVersion().getVersion(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -302,8 +302,7 @@ public final class TwoModelsAsPageItemsImpl {
         return FluxUtil
             .withContext(context -> service.listSecondItem(this.client.getEndpoint(),
                 this.client.getServiceVersion().getVersion(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -360,8 +359,7 @@ public final class TwoModelsAsPageItemsImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listSecondItemSync(this.client.getEndpoint(),
             this.client.getServiceVersion().getVersion(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -420,8 +418,7 @@ public final class TwoModelsAsPageItemsImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.listFirstItemNext(nextLink, this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -449,8 +446,7 @@ public final class TwoModelsAsPageItemsImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listFirstItemNextSync(nextLink, this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -480,8 +476,7 @@ public final class TwoModelsAsPageItemsImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.listSecondItemNext(nextLink, this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -509,26 +504,33 @@ public final class TwoModelsAsPageItemsImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listSecondItemNextSync(nextLink, this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private PagedResponse<BinaryData> toPagedResponse(Response<BinaryData> res, String itemPath, String nextLinkPath) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(res.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    JsonToken token = jsonReader.nextToken();
+                    if (token == JsonToken.START_ARRAY && fieldName.equals(itemPath)) {
+                        values = jsonReader.readArray(reader -> reader.isStartArrayOrObject()
+                            ? BinaryData.fromString(reader.readChildren())
+                            : BinaryData.fromObject(reader.readUntyped()));
+                    } else if (token == JsonToken.STRING && fieldName.equals(nextLinkPath)) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink,
+            null);
     }
 }
@@ -49,12 +49,13 @@ public final class ErrorsImpl implements Errors {
     }
 
     public ConfidentialResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String confidentialResourceName = ResourceManagerUtils.getValueFromIdByName(id, "confidentialResources");
+        String confidentialResourceName = resourceIdSegments.getValueByName("confidentialResources");
         if (confidentialResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'confidentialResources'.", id)));
@@ -64,12 +65,13 @@ public final class ErrorsImpl implements Errors {
     }
 
     public Response<ConfidentialResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String confidentialResourceName = ResourceManagerUtils.getValueFromIdByName(id, "confidentialResources");
+        String confidentialResourceName = resourceIdSegments.getValueByName("confidentialResources");
         if (confidentialResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'confidentialResources'.", id)));
@@ -137,9 +137,10 @@ public final class ManagedIdentityTrackedResourceImpl implements ManagedIdentity
         azure.resourcemanager.commonproperties.CommonPropertiesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.managedIdentityTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "managedIdentityTrackedResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.managedIdentityTrackedResourceName = resourceIdSegments.getValueByName("managedIdentityTrackedResources");
     }
 
     public ManagedIdentityTrackedResource refresh() {
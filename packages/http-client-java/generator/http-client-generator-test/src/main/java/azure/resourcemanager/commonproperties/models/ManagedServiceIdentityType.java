@@ -14,17 +14,19 @@ public final class ManagedServiceIdentityType extends ExpandableStringEnum<Manag
     /**
      * No managed identity.
      */
-    public static final ManagedServiceIdentityType NONE = fromString("None");
+    public static final ManagedServiceIdentityType NONE = fromString("None", ManagedServiceIdentityType.class);
 
     /**
      * System assigned managed identity.
      */
-    public static final ManagedServiceIdentityType SYSTEM_ASSIGNED = fromString("SystemAssigned");
+    public static final ManagedServiceIdentityType SYSTEM_ASSIGNED
+        = fromString("SystemAssigned", ManagedServiceIdentityType.class);
 
     /**
      * User assigned managed identity.
      */
-    public static final ManagedServiceIdentityType USER_ASSIGNED = fromString("UserAssigned");
+    public static final ManagedServiceIdentityType USER_ASSIGNED
+        = fromString("UserAssigned", ManagedServiceIdentityType.class);
 
     /**
      * System and user assigned managed identity.
@@ -48,7 +50,19 @@ public final class ManagedServiceIdentityType extends ExpandableStringEnum<Manag
      * @return the corresponding ManagedServiceIdentityType.
      */
     public static ManagedServiceIdentityType fromString(String name) {
-        return fromString(name, ManagedServiceIdentityType.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "None":
+                return NONE;
+            case "SystemAssigned":
+                return SYSTEM_ASSIGNED;
+            case "UserAssigned":
+                return USER_ASSIGNED;
+            default:
+                return fromString(name, ManagedServiceIdentityType.class);
+        }
     }
 
     /**
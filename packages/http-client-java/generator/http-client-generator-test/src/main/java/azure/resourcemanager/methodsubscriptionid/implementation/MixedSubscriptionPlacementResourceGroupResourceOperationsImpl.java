@@ -61,12 +61,13 @@ public final class MixedSubscriptionPlacementResourceGroupResourceOperationsImpl
     }
 
     public ResourceGroupResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String resourceGroupResourceName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroupResources");
+        String resourceGroupResourceName = resourceIdSegments.getValueByName("resourceGroupResources");
         if (resourceGroupResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourceGroupResources'.", id)));
@@ -76,12 +77,13 @@ public final class MixedSubscriptionPlacementResourceGroupResourceOperationsImpl
     }
 
     public Response<ResourceGroupResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String resourceGroupResourceName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroupResources");
+        String resourceGroupResourceName = resourceIdSegments.getValueByName("resourceGroupResources");
         if (resourceGroupResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourceGroupResources'.", id)));
@@ -90,12 +92,13 @@ public final class MixedSubscriptionPlacementResourceGroupResourceOperationsImpl
     }
 
     public void deleteById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String resourceGroupResourceName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroupResources");
+        String resourceGroupResourceName = resourceIdSegments.getValueByName("resourceGroupResources");
         if (resourceGroupResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourceGroupResources'.", id)));
@@ -104,12 +107,13 @@ public final class MixedSubscriptionPlacementResourceGroupResourceOperationsImpl
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String resourceGroupResourceName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroupResources");
+        String resourceGroupResourceName = resourceIdSegments.getValueByName("resourceGroupResources");
         if (resourceGroupResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourceGroupResources'.", id)));
@@ -60,12 +60,13 @@ public final class MixedSubscriptionPlacementSubscriptionResourceOperationsImpl
     }
 
     public SubscriptionResource getById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResourceName = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResources");
+        String subscriptionResourceName = resourceIdSegments.getValueByName("subscriptionResources");
         if (subscriptionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResources'.", id)));
@@ -74,12 +75,13 @@ public final class MixedSubscriptionPlacementSubscriptionResourceOperationsImpl
     }
 
     public Response<SubscriptionResource> getByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResourceName = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResources");
+        String subscriptionResourceName = resourceIdSegments.getValueByName("subscriptionResources");
         if (subscriptionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResources'.", id)));
@@ -88,12 +90,13 @@ public final class MixedSubscriptionPlacementSubscriptionResourceOperationsImpl
     }
 
     public void deleteById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResourceName = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResources");
+        String subscriptionResourceName = resourceIdSegments.getValueByName("subscriptionResources");
         if (subscriptionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResources'.", id)));
@@ -102,12 +105,13 @@ public final class MixedSubscriptionPlacementSubscriptionResourceOperationsImpl
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResourceName = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResources");
+        String subscriptionResourceName = resourceIdSegments.getValueByName("subscriptionResources");
         if (subscriptionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResources'.", id)));
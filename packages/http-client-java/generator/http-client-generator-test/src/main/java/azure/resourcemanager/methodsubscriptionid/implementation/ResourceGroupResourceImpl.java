@@ -128,9 +128,10 @@ public final class ResourceGroupResourceImpl
         azure.resourcemanager.methodsubscriptionid.MethodSubscriptionIdManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.resourceGroupResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroupResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.resourceGroupResourceName = resourceIdSegments.getValueByName("resourceGroupResources");
     }
 
     public ResourceGroupResource refresh() {
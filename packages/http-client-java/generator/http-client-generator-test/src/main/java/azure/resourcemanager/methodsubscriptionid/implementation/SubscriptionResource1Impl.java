@@ -95,9 +95,10 @@ public final class SubscriptionResource1Impl
         azure.resourcemanager.methodsubscriptionid.MethodSubscriptionIdManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.subscriptionId = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptions");
-        this.subscriptionResource1Name
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptionResource1s");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.subscriptionId = resourceIdSegments.getValueByName("subscriptions");
+        this.subscriptionResource1Name = resourceIdSegments.getValueByName("subscriptionResource1s");
     }
 
     public SubscriptionResource1 refresh() {
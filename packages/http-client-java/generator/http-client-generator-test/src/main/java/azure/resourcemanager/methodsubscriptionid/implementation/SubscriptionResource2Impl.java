@@ -95,9 +95,10 @@ public final class SubscriptionResource2Impl
         azure.resourcemanager.methodsubscriptionid.MethodSubscriptionIdManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.subscriptionId = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptions");
-        this.subscriptionResource2Name
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptionResource2s");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.subscriptionId = resourceIdSegments.getValueByName("subscriptions");
+        this.subscriptionResource2Name = resourceIdSegments.getValueByName("subscriptionResource2s");
     }
 
     public SubscriptionResource2 refresh() {
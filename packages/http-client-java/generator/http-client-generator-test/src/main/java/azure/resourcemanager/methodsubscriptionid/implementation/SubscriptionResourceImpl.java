@@ -95,9 +95,10 @@ public final class SubscriptionResourceImpl
         azure.resourcemanager.methodsubscriptionid.MethodSubscriptionIdManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.subscriptionId = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptions");
-        this.subscriptionResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptionResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.subscriptionId = resourceIdSegments.getValueByName("subscriptions");
+        this.subscriptionResourceName = resourceIdSegments.getValueByName("subscriptionResources");
     }
 
     public SubscriptionResource refresh() {
@@ -60,12 +60,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource1Opera
     }
 
     public SubscriptionResource1 getById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource1Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource1s");
+        String subscriptionResource1Name = resourceIdSegments.getValueByName("subscriptionResource1s");
         if (subscriptionResource1Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource1s'.", id)));
@@ -74,12 +75,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource1Opera
     }
 
     public Response<SubscriptionResource1> getByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource1Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource1s");
+        String subscriptionResource1Name = resourceIdSegments.getValueByName("subscriptionResource1s");
         if (subscriptionResource1Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource1s'.", id)));
@@ -88,12 +90,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource1Opera
     }
 
     public void deleteById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource1Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource1s");
+        String subscriptionResource1Name = resourceIdSegments.getValueByName("subscriptionResource1s");
         if (subscriptionResource1Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource1s'.", id)));
@@ -102,12 +105,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource1Opera
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource1Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource1s");
+        String subscriptionResource1Name = resourceIdSegments.getValueByName("subscriptionResource1s");
         if (subscriptionResource1Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource1s'.", id)));
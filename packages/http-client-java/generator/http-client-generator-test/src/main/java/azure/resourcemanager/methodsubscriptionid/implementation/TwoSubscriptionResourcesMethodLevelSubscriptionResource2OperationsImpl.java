@@ -60,12 +60,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource2Opera
     }
 
     public SubscriptionResource2 getById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource2Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource2s");
+        String subscriptionResource2Name = resourceIdSegments.getValueByName("subscriptionResource2s");
         if (subscriptionResource2Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource2s'.", id)));
@@ -74,12 +75,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource2Opera
     }
 
     public Response<SubscriptionResource2> getByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource2Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource2s");
+        String subscriptionResource2Name = resourceIdSegments.getValueByName("subscriptionResource2s");
         if (subscriptionResource2Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource2s'.", id)));
@@ -88,12 +90,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource2Opera
     }
 
     public void deleteById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource2Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource2s");
+        String subscriptionResource2Name = resourceIdSegments.getValueByName("subscriptionResource2s");
         if (subscriptionResource2Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource2s'.", id)));
@@ -102,12 +105,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource2Opera
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String subscriptionId = resourceIdSegments.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource2Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource2s");
+        String subscriptionResource2Name = resourceIdSegments.getValueByName("subscriptionResource2s");
         if (subscriptionResource2Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource2s'.", id)));
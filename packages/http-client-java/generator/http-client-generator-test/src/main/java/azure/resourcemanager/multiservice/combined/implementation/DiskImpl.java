@@ -121,8 +121,10 @@ public final class DiskImpl implements Disk, Disk.Definition, Disk.Update {
     DiskImpl(DiskInner innerObject, azure.resourcemanager.multiservice.combined.CombinedManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.diskName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "disks");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.diskName = resourceIdSegments.getValueByName("disks");
     }
 
     public Disk refresh() {
@@ -122,8 +122,10 @@ public final class VirtualMachineImpl implements VirtualMachine, VirtualMachine.
         azure.resourcemanager.multiservice.combined.CombinedManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.vmName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "virtualMachines");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.vmName = resourceIdSegments.getValueByName("virtualMachines");
     }
 
     public VirtualMachine refresh() {
@@ -122,8 +122,10 @@ public final class DiskImpl implements Disk, Disk.Definition, Disk.Update {
         azure.resourcemanager.multiserviceolderversions.combined.CombinedManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.diskName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "disksOld");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.diskName = resourceIdSegments.getValueByName("disksOld");
     }
 
     public Disk refresh() {
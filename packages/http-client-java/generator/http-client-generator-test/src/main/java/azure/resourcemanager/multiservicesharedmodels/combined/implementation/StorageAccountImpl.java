@@ -123,8 +123,10 @@ public final class StorageAccountImpl implements StorageAccount, StorageAccount.
         azure.resourcemanager.multiservicesharedmodels.combined.CombinedManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.accountName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "storageAccounts");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.accountName = resourceIdSegments.getValueByName("storageAccounts");
     }
 
     public StorageAccount refresh() {
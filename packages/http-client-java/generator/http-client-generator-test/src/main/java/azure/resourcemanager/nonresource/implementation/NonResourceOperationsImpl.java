@@ -46,12 +46,13 @@ public final class NonResourceOperationsImpl implements NonResourceOperations {
     }
 
     public NonResource getById(String id) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String location = resourceIdSegments.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String parameter = ResourceManagerUtils.getValueFromIdByName(id, "otherParameters");
+        String parameter = resourceIdSegments.getValueByName("otherParameters");
         if (parameter == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'otherParameters'.", id)));
@@ -60,12 +61,13 @@ public final class NonResourceOperationsImpl implements NonResourceOperations {
     }
 
     public Response<NonResource> getByIdWithResponse(String id, Context context) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String location = resourceIdSegments.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String parameter = ResourceManagerUtils.getValueFromIdByName(id, "otherParameters");
+        String parameter = resourceIdSegments.getValueByName("otherParameters");
         if (parameter == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'otherParameters'.", id)));
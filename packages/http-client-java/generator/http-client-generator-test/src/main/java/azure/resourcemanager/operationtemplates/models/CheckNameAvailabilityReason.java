@@ -14,12 +14,13 @@ public final class CheckNameAvailabilityReason extends ExpandableStringEnum<Chec
     /**
      * Name is invalid.
      */
-    public static final CheckNameAvailabilityReason INVALID = fromString("Invalid");
+    public static final CheckNameAvailabilityReason INVALID = fromString("Invalid", CheckNameAvailabilityReason.class);
 
     /**
      * Name already exists.
      */
-    public static final CheckNameAvailabilityReason ALREADY_EXISTS = fromString("AlreadyExists");
+    public static final CheckNameAvailabilityReason ALREADY_EXISTS
+        = fromString("AlreadyExists", CheckNameAvailabilityReason.class);
 
     /**
      * Creates a new instance of CheckNameAvailabilityReason value.
@@ -37,7 +38,17 @@ public final class CheckNameAvailabilityReason extends ExpandableStringEnum<Chec
      * @return the corresponding CheckNameAvailabilityReason.
      */
     public static CheckNameAvailabilityReason fromString(String name) {
-        return fromString(name, CheckNameAvailabilityReason.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "Invalid":
+                return INVALID;
+            case "AlreadyExists":
+                return ALREADY_EXISTS;
+            default:
+                return fromString(name, CheckNameAvailabilityReason.class);
+        }
     }
 
     /**
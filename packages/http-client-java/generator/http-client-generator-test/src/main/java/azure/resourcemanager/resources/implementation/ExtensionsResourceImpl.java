@@ -97,10 +97,12 @@ public final class ExtensionsResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
-        this.extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        this.extensionsResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
     }
@@ -68,14 +68,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public ExtensionsResource getById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String extensionsResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
         if (extensionsResourceName == null) {
@@ -86,14 +87,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public Response<ExtensionsResource> getByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String extensionsResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
         if (extensionsResourceName == null) {
@@ -104,14 +106,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public void deleteById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String extensionsResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
         if (extensionsResourceName == null) {
@@ -122,14 +125,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String extensionsResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
         if (extensionsResourceName == null) {
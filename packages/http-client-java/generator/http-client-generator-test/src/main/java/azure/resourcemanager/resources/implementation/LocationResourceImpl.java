@@ -99,8 +99,10 @@ public final class LocationResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.location = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "locations");
-        this.locationResourceName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "locationResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.location = resourceIdSegments.getValueByName("locations");
+        this.locationResourceName = resourceIdSegments.getValueByName("locationResources");
     }
 
     public LocationResource refresh() {
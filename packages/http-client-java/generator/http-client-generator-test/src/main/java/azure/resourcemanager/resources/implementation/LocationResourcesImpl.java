@@ -67,12 +67,13 @@ public final class LocationResourcesImpl implements LocationResources {
     }
 
     public LocationResource getById(String id) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String location = resourceIdSegments.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String locationResourceName = ResourceManagerUtils.getValueFromIdByName(id, "locationResources");
+        String locationResourceName = resourceIdSegments.getValueByName("locationResources");
         if (locationResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locationResources'.", id)));
@@ -81,12 +82,13 @@ public final class LocationResourcesImpl implements LocationResources {
     }
 
     public Response<LocationResource> getByIdWithResponse(String id, Context context) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String location = resourceIdSegments.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String locationResourceName = ResourceManagerUtils.getValueFromIdByName(id, "locationResources");
+        String locationResourceName = resourceIdSegments.getValueByName("locationResources");
         if (locationResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locationResources'.", id)));
@@ -95,12 +97,13 @@ public final class LocationResourcesImpl implements LocationResources {
     }
 
     public void deleteById(String id) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String location = resourceIdSegments.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String locationResourceName = ResourceManagerUtils.getValueFromIdByName(id, "locationResources");
+        String locationResourceName = resourceIdSegments.getValueByName("locationResources");
         if (locationResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locationResources'.", id)));
@@ -109,12 +112,13 @@ public final class LocationResourcesImpl implements LocationResources {
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String location = resourceIdSegments.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String locationResourceName = ResourceManagerUtils.getValueFromIdByName(id, "locationResources");
+        String locationResourceName = resourceIdSegments.getValueByName("locationResources");
         if (locationResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locationResources'.", id)));
@@ -107,11 +107,11 @@ public final class NestedProxyResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelTrackedResources");
-        this.nextedProxyResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "nestedProxyResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.topLevelTrackedResourceName = resourceIdSegments.getValueByName("topLevelTrackedResources");
+        this.nextedProxyResourceName = resourceIdSegments.getValueByName("nestedProxyResources");
     }
 
     public NestedProxyResource refresh() {
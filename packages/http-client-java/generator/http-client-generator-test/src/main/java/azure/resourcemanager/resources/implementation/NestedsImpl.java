@@ -73,17 +73,18 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public NestedProxyResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = resourceIdSegments.getValueByName("topLevelTrackedResources");
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = resourceIdSegments.getValueByName("nestedProxyResources");
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -94,17 +95,18 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public Response<NestedProxyResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = resourceIdSegments.getValueByName("topLevelTrackedResources");
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = resourceIdSegments.getValueByName("nestedProxyResources");
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -113,17 +115,18 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public void deleteById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = resourceIdSegments.getValueByName("topLevelTrackedResources");
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = resourceIdSegments.getValueByName("nestedProxyResources");
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -132,17 +135,18 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public void deleteByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = resourceIdSegments.getValueByName("topLevelTrackedResources");
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = resourceIdSegments.getValueByName("nestedProxyResources");
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -125,9 +125,10 @@ public final class TopLevelTrackedResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelTrackedResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.topLevelTrackedResourceName = resourceIdSegments.getValueByName("topLevelTrackedResources");
     }
 
     public TopLevelTrackedResource refresh() {
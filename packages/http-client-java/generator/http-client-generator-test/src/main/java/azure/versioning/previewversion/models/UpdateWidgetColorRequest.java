@@ -12,8 +12,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Update widget color request.
@@ -26,11 +24,14 @@ public final class UpdateWidgetColorRequest implements JsonSerializable<UpdateWi
     @Generated
     private String color;
 
+    @Generated
+    private static final long UPDATED_COLOR = 1L << 0;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -84,7 +85,7 @@ public final class UpdateWidgetColorRequest implements JsonSerializable<UpdateWi
     @Generated
     public UpdateWidgetColorRequest setColor(String color) {
         this.color = color;
-        this.updatedProperties.add("color");
+        this.updatedProperties |= UPDATED_COLOR;
         return this;
     }
 
@@ -106,7 +107,7 @@ public final class UpdateWidgetColorRequest implements JsonSerializable<UpdateWi
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("color")) {
+        if ((updatedProperties & UPDATED_COLOR) != 0) {
             if (this.color == null) {
                 jsonWriter.writeNullField("color");
             } else {
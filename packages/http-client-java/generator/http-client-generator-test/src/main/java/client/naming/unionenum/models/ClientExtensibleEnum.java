@@ -16,7 +16,7 @@ public final class ClientExtensibleEnum extends ExpandableStringEnum<ClientExten
      * Static value value1 for ClientExtensibleEnum.
      */
     @Generated
-    public static final ClientExtensibleEnum ENUM_VALUE1 = fromString("value1");
+    public static final ClientExtensibleEnum ENUM_VALUE1 = fromString("value1", ClientExtensibleEnum.class);
 
     /**
      * Creates a new instance of ClientExtensibleEnum value.
@@ -36,7 +36,15 @@ public final class ClientExtensibleEnum extends ExpandableStringEnum<ClientExten
      */
     @Generated
     public static ClientExtensibleEnum fromString(String name) {
-        return fromString(name, ClientExtensibleEnum.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "value1":
+                return ENUM_VALUE1;
+            default:
+                return fromString(name, ClientExtensibleEnum.class);
+        }
     }
 
     /**
@@ -16,19 +16,19 @@ public final class ColorsExtensibleEnum extends ExpandableStringEnum<ColorsExten
      * Static value blue for ColorsExtensibleEnum.
      */
     @Generated
-    public static final ColorsExtensibleEnum BLUE = fromString("blue");
+    public static final ColorsExtensibleEnum BLUE = fromString("blue", ColorsExtensibleEnum.class);
 
     /**
      * Static value red for ColorsExtensibleEnum.
      */
     @Generated
-    public static final ColorsExtensibleEnum RED = fromString("red");
+    public static final ColorsExtensibleEnum RED = fromString("red", ColorsExtensibleEnum.class);
 
     /**
      * Static value green for ColorsExtensibleEnum.
      */
     @Generated
-    public static final ColorsExtensibleEnum GREEN = fromString("green");
+    public static final ColorsExtensibleEnum GREEN = fromString("green", ColorsExtensibleEnum.class);
 
     /**
      * Creates a new instance of ColorsExtensibleEnum value.
@@ -48,7 +48,19 @@ public final class ColorsExtensibleEnum extends ExpandableStringEnum<ColorsExten
      */
     @Generated
     public static ColorsExtensibleEnum fromString(String name) {
-        return fromString(name, ColorsExtensibleEnum.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "blue":
+                return BLUE;
+            case "red":
+                return RED;
+            case "green":
+                return GREEN;
+            default:
+                return fromString(name, ColorsExtensibleEnum.class);
+        }
     }
 
     /**
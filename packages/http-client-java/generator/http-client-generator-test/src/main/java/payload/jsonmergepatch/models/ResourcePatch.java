@@ -11,10 +11,8 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import payload.jsonmergepatch.implementation.JsonMergePatchHelper;
 
 /**
@@ -64,11 +62,32 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     private List<Integer> intArray;
 
+    @Generated
+    private static final long UPDATED_DESCRIPTION = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_MAP = 1L << 1;
+
+    @Generated
+    private static final long UPDATED_ARRAY = 1L << 2;
+
+    @Generated
+    private static final long UPDATED_INT_VALUE = 1L << 3;
+
+    @Generated
+    private static final long UPDATED_FLOAT_VALUE = 1L << 4;
+
+    @Generated
+    private static final long UPDATED_INNER_MODEL = 1L << 5;
+
+    @Generated
+    private static final long UPDATED_INT_ARRAY = 1L << 6;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -119,7 +138,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     public ResourcePatch setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= UPDATED_DESCRIPTION;
         return this;
     }
 
@@ -142,7 +161,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     public ResourcePatch setMap(Map<String, InnerModel> map) {
         this.map = map;
-        this.updatedProperties.add("map");
+        this.updatedProperties |= UPDATED_MAP;
         return this;
     }
 
@@ -165,7 +184,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     public ResourcePatch setArray(List<InnerModel> array) {
         this.array = array;
-        this.updatedProperties.add("array");
+        this.updatedProperties |= UPDATED_ARRAY;
         return this;
     }
 
@@ -188,7 +207,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     public ResourcePatch setIntValue(Integer intValue) {
         this.intValue = intValue;
-        this.updatedProperties.add("intValue");
+        this.updatedProperties |= UPDATED_INT_VALUE;
         return this;
     }
 
@@ -211,7 +230,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     public ResourcePatch setFloatValue(Double floatValue) {
         this.floatValue = floatValue;
-        this.updatedProperties.add("floatValue");
+        this.updatedProperties |= UPDATED_FLOAT_VALUE;
         return this;
     }
 
@@ -234,7 +253,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     public ResourcePatch setInnerModel(InnerModel innerModel) {
         this.innerModel = innerModel;
-        this.updatedProperties.add("innerModel");
+        this.updatedProperties |= UPDATED_INNER_MODEL;
         return this;
     }
 
@@ -257,7 +276,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     public ResourcePatch setIntArray(List<Integer> intArray) {
         this.intArray = intArray;
-        this.updatedProperties.add("intArray");
+        this.updatedProperties |= UPDATED_INT_ARRAY;
         return this;
     }
 
@@ -285,14 +304,14 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & UPDATED_DESCRIPTION) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("map")) {
+        if ((updatedProperties & UPDATED_MAP) != 0) {
             if (this.map == null) {
                 jsonWriter.writeNullField("map");
             } else {
@@ -307,28 +326,28 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
                 });
             }
         }
-        if (updatedProperties.contains("array")) {
+        if ((updatedProperties & UPDATED_ARRAY) != 0) {
             if (this.array == null) {
                 jsonWriter.writeNullField("array");
             } else {
                 jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
             }
         }
-        if (updatedProperties.contains("intValue")) {
+        if ((updatedProperties & UPDATED_INT_VALUE) != 0) {
             if (this.intValue == null) {
                 jsonWriter.writeNullField("intValue");
             } else {
                 jsonWriter.writeNumberField("intValue", this.intValue);
             }
         }
-        if (updatedProperties.contains("floatValue")) {
+        if ((updatedProperties & UPDATED_FLOAT_VALUE) != 0) {
             if (this.floatValue == null) {
                 jsonWriter.writeNullField("floatValue");
             } else {
                 jsonWriter.writeNumberField("floatValue", this.floatValue);
             }
         }
-        if (updatedProperties.contains("innerModel")) {
+        if ((updatedProperties & UPDATED_INNER_MODEL) != 0) {
             if (this.innerModel == null) {
                 jsonWriter.writeNullField("innerModel");
             } else {
@@ -337,7 +356,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
                 JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(this.innerModel, false);
             }
         }
-        if (updatedProperties.contains("intArray")) {
+        if ((updatedProperties & UPDATED_INT_ARRAY) != 0) {
             if (this.intArray == null) {
                 jsonWriter.writeNullField("intArray");
             } else {
@@ -16,8 +16,12 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import com.azure.json.JsonWriter;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import streaming.jsonl.implementation.BasicsImpl;
+import streaming.jsonl.implementation.JsonLinesHelper;
+import streaming.jsonl.models.Info;
 
 /**
  * Initializes a new instance of the asynchronous JsonlClient type.
@@ -104,6 +108,28 @@ public final class JsonlAsyncClient {
         return sendWithResponse(body, requestOptions).flatMap(FluxUtil::toMono);
     }
 
+    /**
+     * The send operation.
+     * <p>
+     * The elements are serialized into the request body one line at a time, as the request body is sent.
+     * 
+     * @param body the elements of the request body.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return A {@link Mono} that completes when a successful response is received.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Void> sendElements(Flux<Info> body) {
+        return BinaryData
+            .fromFlux(body.map(element -> JsonLinesHelper.writeElement(element, JsonWriter::writeJson)), null, false)
+            .flatMap(bodyContent -> send(bodyContent));
+    }
+
     /**
      * The receive operation.
      * 
@@ -121,4 +147,22 @@ public final class JsonlAsyncClient {
         RequestOptions requestOptions = new RequestOptions();
         return receiveWithResponse(requestOptions).flatMap(FluxUtil::toMono);
     }
+
+    /**
+     * The receive operation.
+     * <p>
+     * The elements are parsed from the response body one line at a time.
+     * 
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the elements of the response body.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public Flux<Info> receiveElements() {
+        return receive().flatMapMany(body -> JsonLinesHelper.readElementsAsync(body, Info::fromJson));
+    }
 }
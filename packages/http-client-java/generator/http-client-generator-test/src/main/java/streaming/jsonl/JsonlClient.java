@@ -15,7 +15,12 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonWriter;
+import java.util.Iterator;
+import java.util.stream.Stream;
 import streaming.jsonl.implementation.BasicsImpl;
+import streaming.jsonl.implementation.JsonLinesHelper;
+import streaming.jsonl.models.Info;
 
 /**
  * Initializes a new instance of the synchronous JsonlClient type.
@@ -101,6 +106,25 @@ public final class JsonlClient {
         sendWithResponse(body, requestOptions).getValue();
     }
 
+    /**
+     * The send operation.
+     * <p>
+     * The elements are serialized into the request body one line at a time, as the request body is sent.
+     * 
+     * @param body the elements of the request body.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void sendElements(Iterator<Info> body) {
+        send(JsonLinesHelper.writeElements(body, JsonWriter::writeJson));
+    }
+
     /**
      * The receive operation.
      * 
@@ -118,4 +142,23 @@ public final class JsonlClient {
         RequestOptions requestOptions = new RequestOptions();
         return receiveWithResponse(requestOptions).getValue();
     }
+
+    /**
+     * The receive operation.
+     * <p>
+     * The elements are parsed from the response body one line at a time, as the Stream is consumed. The Stream should
+     * be closed, e.g. in a try-with-resources statement, to release the response body if it is not consumed to its end.
+     * 
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the elements of the response body.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public Stream<Info> receiveElements() {
+        return JsonLinesHelper.readElements(receive(), Info::fromJson);
+    }
 }
@@ -113,17 +113,18 @@ public final class SkusImpl implements Skus {
     }
 
     public SkuResource getRootById(String id) {
-        String providerNamespace = ResourceManagerUtils.getValueFromIdByName(id, "providerRegistrations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String providerNamespace = resourceIdSegments.getValueByName("providerRegistrations");
         if (providerNamespace == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'providerRegistrations'.", id)));
         }
-        String resourceType = ResourceManagerUtils.getValueFromIdByName(id, "resourcetypeRegistrations");
+        String resourceType = resourceIdSegments.getValueByName("resourcetypeRegistrations");
         if (resourceType == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourcetypeRegistrations'.", id)));
         }
-        String sku = ResourceManagerUtils.getValueFromIdByName(id, "skus");
+        String sku = resourceIdSegments.getValueByName("skus");
         if (sku == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'skus'.", id)));
@@ -132,17 +133,18 @@ public final class SkusImpl implements Skus {
     }
 
     public Response<SkuResource> getRootByIdWithResponse(String id, Context context) {
-        String providerNamespace = ResourceManagerUtils.getValueFromIdByName(id, "providerRegistrations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String providerNamespace = resourceIdSegments.getValueByName("providerRegistrations");
         if (providerNamespace == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'providerRegistrations'.", id)));
         }
-        String resourceType = ResourceManagerUtils.getValueFromIdByName(id, "resourcetypeRegistrations");
+        String resourceType = resourceIdSegments.getValueByName("resourcetypeRegistrations");
         if (resourceType == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourcetypeRegistrations'.", id)));
         }
-        String sku = ResourceManagerUtils.getValueFromIdByName(id, "skus");
+        String sku = resourceIdSegments.getValueByName("skus");
         if (sku == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'skus'.", id)));
@@ -151,17 +153,18 @@ public final class SkusImpl implements Skus {
     }
 
     public void deleteRootById(String id) {
-        String providerNamespace = ResourceManagerUtils.getValueFromIdByName(id, "providerRegistrations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String providerNamespace = resourceIdSegments.getValueByName("providerRegistrations");
         if (providerNamespace == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'providerRegistrations'.", id)));
         }
-        String resourceType = ResourceManagerUtils.getValueFromIdByName(id, "resourcetypeRegistrations");
+        String resourceType = resourceIdSegments.getValueByName("resourcetypeRegistrations");
         if (resourceType == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourcetypeRegistrations'.", id)));
         }
-        String sku = ResourceManagerUtils.getValueFromIdByName(id, "skus");
+        String sku = resourceIdSegments.getValueByName("skus");
         if (sku == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'skus'.", id)));
@@ -170,17 +173,18 @@ public final class SkusImpl implements Skus {
     }
 
     public Response<Void> deleteRootByIdWithResponse(String id, Context context) {
-        String providerNamespace = ResourceManagerUtils.getValueFromIdByName(id, "providerRegistrations");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String providerNamespace = resourceIdSegments.getValueByName("providerRegistrations");
         if (providerNamespace == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'providerRegistrations'.", id)));
         }
-        String resourceType = ResourceManagerUtils.getValueFromIdByName(id, "resourcetypeRegistrations");
+        String resourceType = resourceIdSegments.getValueByName("resourcetypeRegistrations");
         if (resourceType == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourcetypeRegistrations'.", id)));
         }
-        String sku = ResourceManagerUtils.getValueFromIdByName(id, "skus");
+        String sku = resourceIdSegments.getValueByName("skus");
         if (sku == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'skus'.", id)));
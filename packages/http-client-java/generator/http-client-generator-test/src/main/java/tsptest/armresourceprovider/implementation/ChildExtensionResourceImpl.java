@@ -109,13 +109,15 @@ public final class ChildExtensionResourceImpl
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
-        this.topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        this.topLevelArmResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
-        this.childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        this.childExtensionResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
     }
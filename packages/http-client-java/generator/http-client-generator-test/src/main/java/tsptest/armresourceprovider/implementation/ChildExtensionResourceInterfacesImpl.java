@@ -74,21 +74,22 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public ChildExtensionResource getById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String topLevelArmResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String childExtensionResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
         if (childExtensionResourceName == null) {
@@ -100,21 +101,22 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public Response<ChildExtensionResource> getByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String topLevelArmResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String childExtensionResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
         if (childExtensionResourceName == null) {
@@ -125,21 +127,22 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public void deleteById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String topLevelArmResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String childExtensionResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
         if (childExtensionResourceName == null) {
@@ -150,21 +153,22 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public void deleteByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+        String resourceUri = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String topLevelArmResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String childExtensionResourceName = resourceIdSegments.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
         if (childExtensionResourceName == null) {
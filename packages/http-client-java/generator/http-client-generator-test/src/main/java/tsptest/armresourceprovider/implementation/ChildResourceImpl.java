@@ -134,10 +134,11 @@ public final class ChildResourceImpl implements ChildResource, ChildResource.Def
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelArmResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelArmResources");
-        this.childResourceName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "childResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.topLevelArmResourceName = resourceIdSegments.getValueByName("topLevelArmResources");
+        this.childResourceName = resourceIdSegments.getValueByName("childResources");
     }
 
     public ChildResource refresh() {
@@ -160,9 +160,10 @@ public final class CustomTemplateResourceImpl
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.customTemplateResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "customTemplateResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.customTemplateResourceName = resourceIdSegments.getValueByName("customTemplateResources");
     }
 
     public CustomTemplateResourceImpl withRegion(Region location) {
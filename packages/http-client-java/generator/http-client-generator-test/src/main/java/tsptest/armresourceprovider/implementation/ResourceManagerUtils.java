@@ -8,12 +8,8 @@ import com.azure.core.http.rest.PagedFlux;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.PagedResponse;
 import com.azure.core.http.rest.PagedResponseBase;
-import com.azure.core.util.CoreUtils;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,56 +20,11 @@ final class ResourceManagerUtils {
     }
 
     static String getValueFromIdByName(String id, String name) {
-        if (id == null) {
-            return null;
-        }
-        Iterator<String> itr = Arrays.stream(id.split("/")).iterator();
-        while (itr.hasNext()) {
-            String part = itr.next();
-            if (part != null && !part.trim().isEmpty()) {
-                if (part.equalsIgnoreCase(name)) {
-                    if (itr.hasNext()) {
-                        return itr.next();
-                    } else {
-                        return null;
-                    }
-                }
-            }
-        }
-        return null;
+        return ResourceIdSegments.parse(id).getValueByName(name);
     }
 
     static String getValueFromIdByParameterName(String id, String pathTemplate, String parameterName) {
-        if (id == null || pathTemplate == null) {
-            return null;
-        }
-        String parameterNameParentheses = "{" + parameterName + "}";
-        List<String> idSegmentsReverted = Arrays.asList(id.split("/"));
-        List<String> pathSegments = Arrays.asList(pathTemplate.split("/"));
-        Collections.reverse(idSegmentsReverted);
-        Iterator<String> idItrReverted = idSegmentsReverted.iterator();
-        int pathIndex = pathSegments.size();
-        while (idItrReverted.hasNext() && pathIndex > 0) {
-            String idSegment = idItrReverted.next();
-            String pathSegment = pathSegments.get(--pathIndex);
-            if (!CoreUtils.isNullOrEmpty(idSegment) && !CoreUtils.isNullOrEmpty(pathSegment)) {
-                if (pathSegment.equalsIgnoreCase(parameterNameParentheses)) {
-                    if (pathIndex == 0 || (pathIndex == 1 && pathSegments.get(0).isEmpty())) {
-                        List<String> segments = new ArrayList<>();
-                        segments.add(idSegment);
-                        idItrReverted.forEachRemaining(segments::add);
-                        Collections.reverse(segments);
-                        if (!segments.isEmpty() && segments.get(0).isEmpty()) {
-                            segments.remove(0);
-                        }
-                        return String.join("/", segments);
-                    } else {
-                        return idSegment;
-                    }
-                }
-            }
-        }
-        return null;
+        return ResourceIdSegments.parse(id).getValueByParameterName(pathTemplate, parameterName);
     }
 
     static <T, S> PagedIterable<S> mapPage(PagedIterable<T> pageIterable, Function<T, S> mapper) {
@@ -192,4 +143,115 @@ final class ResourceManagerUtils {
             return new IteratorImpl<>(iterable.iterator(), mapper);
         }
     }
+
+    /**
+     * The segments of a resource ID, found by a single scan of the ID.
+     * <p>
+     * The segments are the parts of the ID separated by '/', as of {@code id.split("/")}. Only the offsets of the
+     * segments are kept, a segment is copied to a String when it is returned.
+     */
+    static final class ResourceIdSegments {
+        private static final ResourceIdSegments NULL_ID = new ResourceIdSegments(null, new int[] { 0 }, 0);
+
+        private final String id;
+        // segment i starts at starts[i] and ends before starts[i + 1] - 1
+        private final int[] starts;
+        private final int count;
+
+        private ResourceIdSegments(String id, int[] starts, int count) {
+            this.id = id;
+            this.starts = starts;
+            this.count = count;
+        }
+
+        static ResourceIdSegments parse(String id) {
+            if (id == null) {
+                return NULL_ID;
+            }
+            // trailing empty segments are removed, as of String.split
+            int length = id.length();
+            while (length > 0 && id.charAt(length - 1) == '/') {
+                length--;
+            }
+            int[] starts = new int[16];
+            int count = 0;
+            if (length > 0) {
+                count = 1;
+                for (int i = 0; i < length; i++) {
+                    if (id.charAt(i) == '/') {
+                        if (count + 1 == starts.length) {
+                            starts = Arrays.copyOf(starts, starts.length * 2);
+                        }
+                        starts[count++] = i + 1;
+                    }
+                }
+            }
+            starts[count] = length + 1;
+            return new ResourceIdSegments(id, starts, count);
+        }
+
+        String getValueByName(String name) {
+            if (name == null) {
+                return null;
+            }
+            for (int i = 0; i < count; i++) {
+                if (!isBlank(i) && length(i) == name.length()
+                    && id.regionMatches(true, starts[i], name, 0, name.length())) {
+                    return i + 1 < count ? get(i + 1) : null;
+                }
+            }
+            return null;
+        }
+
+        String getValueByParameterName(String pathTemplate, String parameterName) {
+            if (id == null || pathTemplate == null || parameterName == null) {
+                return null;
+            }
+            ResourceIdSegments pathSegments = parse(pathTemplate);
+            int pathIndex = pathSegments.count;
+            for (int i = count - 1; i >= 0 && pathIndex > 0; i--) {
+                pathIndex--;
+                if (length(i) > 0 && pathSegments.isParameter(pathIndex, parameterName)) {
+                    if (pathIndex == 0 || (pathIndex == 1 && pathSegments.length(0) == 0)) {
+                        // the scope, which is the ID up to this segment, without the leading '/'
+                        int start = length(0) == 0 ? starts[1] : 0;
+                        return id.substring(start, end(i));
+                    } else {
+                        return get(i);
+                    }
+                }
+            }
+            return null;
+        }
+
+        // whether the segment is "{parameterName}", ignoring case
+        private boolean isParameter(int index, String parameterName) {
+            int start = starts[index];
+            return length(index) == parameterName.length() + 2
+                && id.charAt(start) == '{'
+                && id.charAt(end(index) - 1) == '}'
+                && id.regionMatches(true, start + 1, parameterName, 0, parameterName.length());
+        }
+
+        private boolean isBlank(int index) {
+            for (int i = starts[index]; i < end(index); i++) {
+                if (id.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String get(int index) {
+            return id.substring(starts[index], end(index));
+        }
+
+        private int length(int index) {
+            return end(index) - starts[index];
+        }
+
+        private int end(int index) {
+            return starts[index + 1] - 1;
+        }
+    }
 }
@@ -11,29 +11,30 @@ import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for PriorityModel.
  */
 public final class PriorityModel implements ExpandableEnum<Integer>, JsonSerializable<PriorityModel> {
-    private static final Map<Integer, PriorityModel> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<Integer, PriorityModel> NEW_INSTANCE = PriorityModel::new;
+    private static final Map<Integer, PriorityModel> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Static value 0 for PriorityModel.
      */
-    public static final PriorityModel HIGH = fromValue(0);
+    public static final PriorityModel HIGH = new PriorityModel(0);
 
     /**
      * Static value 1 for PriorityModel.
      */
-    public static final PriorityModel LOW = fromValue(1);
+    public static final PriorityModel LOW = new PriorityModel(1);
 
     private final Integer value;
 
@@ -52,7 +53,27 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        if (HIGH.value.equals(value)) {
+            return HIGH;
+        }
+        if (LOW.value.equals(value)) {
+            return LOW;
+        }
+        return fromUnknownValue(value);
+    }
+
+    private static PriorityModel fromUnknownValue(Integer value) {
+        PriorityModel unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new PriorityModel(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        PriorityModel existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -61,7 +82,9 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
      * @return Known PriorityModel values.
      */
     public static Collection<PriorityModel> values() {
-        return new ArrayList<>(VALUES.values());
+        List<PriorityModel> values = new ArrayList<>(Arrays.asList(HIGH, LOW));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -110,7 +133,7 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
 
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof PriorityModel && Objects.equals(this.value, ((PriorityModel) obj).value));
     }
 
     @Override
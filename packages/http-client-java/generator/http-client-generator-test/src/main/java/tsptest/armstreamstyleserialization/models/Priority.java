@@ -11,29 +11,30 @@ import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for Priority.
  */
 public final class Priority implements ExpandableEnum<Integer>, JsonSerializable<Priority> {
-    private static final Map<Integer, Priority> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<Integer, Priority> NEW_INSTANCE = Priority::new;
+    private static final Map<Integer, Priority> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * high priority.
      */
-    public static final Priority HIGH = fromValue(0);
+    public static final Priority HIGH = new Priority(0);
 
     /**
      * low priority.
      */
-    public static final Priority LOW = fromValue(1);
+    public static final Priority LOW = new Priority(1);
 
     private final Integer value;
 
@@ -52,7 +53,27 @@ public final class Priority implements ExpandableEnum<Integer>, JsonSerializable
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        if (HIGH.value.equals(value)) {
+            return HIGH;
+        }
+        if (LOW.value.equals(value)) {
+            return LOW;
+        }
+        return fromUnknownValue(value);
+    }
+
+    private static Priority fromUnknownValue(Integer value) {
+        Priority unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new Priority(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        Priority existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -61,7 +82,9 @@ public final class Priority implements ExpandableEnum<Integer>, JsonSerializable
      * @return Known Priority values.
      */
     public static Collection<Priority> values() {
-        return new ArrayList<>(VALUES.values());
+        List<Priority> values = new ArrayList<>(Arrays.asList(HIGH, LOW));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -110,7 +133,7 @@ public final class Priority implements ExpandableEnum<Integer>, JsonSerializable
 
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof Priority && Objects.equals(this.value, ((Priority) obj).value));
     }
 
     @Override
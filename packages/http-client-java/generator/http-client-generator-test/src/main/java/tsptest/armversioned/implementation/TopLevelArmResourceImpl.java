@@ -140,9 +140,10 @@ public final class TopLevelArmResourceImpl
         tsptest.armversioned.ArmVersionedManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelArmResourcePropertiesName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelArmResources");
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(innerObject.id());
+        this.resourceGroupName = resourceIdSegments.getValueByName("resourceGroups");
+        this.topLevelArmResourcePropertiesName = resourceIdSegments.getValueByName("topLevelArmResources");
     }
 
     public TopLevelArmResource refresh() {
@@ -14,17 +14,17 @@ public final class ResourceProvisioningState extends ExpandableStringEnum<Resour
     /**
      * Resource has been created.
      */
-    public static final ResourceProvisioningState SUCCEEDED = fromString("Succeeded");
+    public static final ResourceProvisioningState SUCCEEDED = fromString("Succeeded", ResourceProvisioningState.class);
 
     /**
      * Resource creation failed.
      */
-    public static final ResourceProvisioningState FAILED = fromString("Failed");
+    public static final ResourceProvisioningState FAILED = fromString("Failed", ResourceProvisioningState.class);
 
     /**
      * Resource creation was canceled.
      */
-    public static final ResourceProvisioningState CANCELED = fromString("Canceled");
+    public static final ResourceProvisioningState CANCELED = fromString("Canceled", ResourceProvisioningState.class);
 
     /**
      * Creates a new instance of ResourceProvisioningState value.
@@ -42,7 +42,19 @@ public final class ResourceProvisioningState extends ExpandableStringEnum<Resour
      * @return the corresponding ResourceProvisioningState.
      */
     public static ResourceProvisioningState fromString(String name) {
-        return fromString(name, ResourceProvisioningState.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "Succeeded":
+                return SUCCEEDED;
+            case "Failed":
+                return FAILED;
+            case "Canceled":
+                return CANCELED;
+            default:
+                return fromString(name, ResourceProvisioningState.class);
+        }
     }
 
     /**
@@ -20,12 +20,20 @@ import com.azure.core.exception.ClientAuthenticationException;
 import com.azure.core.exception.HttpResponseException;
 import com.azure.core.exception.ResourceModifiedException;
 import com.azure.core.exception.ResourceNotFoundException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.http.rest.RestProxy;
+import com.azure.core.http.rest.SimpleResponse;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
+import com.azure.core.util.UrlBuilder;
+import com.azure.core.util.serializer.SerializerAdapter;
 import reactor.core.publisher.Mono;
 
 /**
@@ -48,8 +56,7 @@ public final class BuiltinOpsImpl {
      * @param client the instance of the service client containing this operation class.
      */
     BuiltinOpsImpl(BuiltinClientImpl client) {
-        this.service
-            = RestProxy.create(BuiltinOpsService.class, client.getHttpPipeline(), client.getSerializerAdapter());
+        this.service = new BuiltinOpsServiceImpl(client.getHttpPipeline(), client.getSerializerAdapter());
         this.client = client;
     }
 
@@ -101,6 +108,160 @@ public final class BuiltinOpsImpl {
             RequestOptions requestOptions, Context context);
     }
 
+    /**
+     * The implementation of BuiltinOpsService, which sends the requests through the HttpPipeline.
+     */
+    private static final class BuiltinOpsServiceImpl implements BuiltinOpsService {
+        private final HttpPipeline httpPipeline;
+
+        private final SerializerAdapter serializer;
+
+        private volatile BuiltinOpsService restProxyService;
+
+        private BuiltinOpsServiceImpl(HttpPipeline httpPipeline, SerializerAdapter serializer) {
+            this.httpPipeline = httpPipeline;
+            this.serializer = serializer;
+        }
+
+        @Override
+        public Mono<Response<BinaryData>> read(String endpoint, String queryParam, String queryParamEncoded,
+            String accept, RequestOptions requestOptions, Context context) {
+            if (requestOptions != null) {
+                return getRestProxyService().read(endpoint, queryParam, queryParamEncoded, accept, requestOptions,
+                    context);
+            }
+            UrlBuilder urlBuilder = ServiceImplHelper.createUrlBuilder(endpoint, "/builtin");
+            if (queryParam != null) {
+                urlBuilder.setQueryParameter("query", ServiceImplHelper.escapeQuery(queryParam));
+            }
+            if (queryParamEncoded != null) {
+                urlBuilder.setQueryParameter("query-encoded", queryParamEncoded);
+            }
+            HttpRequest httpRequest = new HttpRequest(HttpMethod.GET, urlBuilder.toString());
+            httpRequest.setHeader(HttpHeaderName.fromString("Accept"), accept);
+            httpRequest.setHeader(HttpHeaderName.CONTENT_LENGTH, "0");
+            Context requestContext
+                = ServiceImplHelper.startTracingSpan(httpPipeline, "BuiltinClientBuiltinOps.read", context);
+            return ServiceImplHelper.endTracingSpanAsync(httpPipeline,
+                httpPipeline.send(httpRequest, requestContext).flatMap(response -> {
+                    int statusCode = response.getStatusCode();
+                    if (statusCode != 200) {
+                        return ServiceImplHelper.readBodyAsync(response)
+                            .flatMap(responseBody -> Mono.error(createException(response, responseBody)));
+                    }
+                    return ServiceImplHelper.readBodyAsync(response)
+                        .map(responseBody -> new SimpleResponse<>(httpRequest, statusCode, response.getHeaders(),
+                            responseBody));
+                }), requestContext);
+        }
+
+        @Override
+        public Response<BinaryData> readSync(String endpoint, String queryParam, String queryParamEncoded,
+            String accept, RequestOptions requestOptions, Context context) {
+            if (requestOptions != null) {
+                return getRestProxyService().readSync(endpoint, queryParam, queryParamEncoded, accept, requestOptions,
+                    context);
+            }
+            UrlBuilder urlBuilder = ServiceImplHelper.createUrlBuilder(endpoint, "/builtin");
+            if (queryParam != null) {
+                urlBuilder.setQueryParameter("query", ServiceImplHelper.escapeQuery(queryParam));
+            }
+            if (queryParamEncoded != null) {
+                urlBuilder.setQueryParameter("query-encoded", queryParamEncoded);
+            }
+            HttpRequest httpRequest = new HttpRequest(HttpMethod.GET, urlBuilder.toString());
+            httpRequest.setHeader(HttpHeaderName.fromString("Accept"), accept);
+            httpRequest.setHeader(HttpHeaderName.CONTENT_LENGTH, "0");
+            Context requestContext
+                = ServiceImplHelper.startTracingSpan(httpPipeline, "BuiltinClientBuiltinOps.readSync", context);
+            try (HttpResponse response = httpPipeline.sendSync(httpRequest, requestContext)) {
+                BinaryData responseBody = ServiceImplHelper.readBody(response);
+                int statusCode = response.getStatusCode();
+                if (statusCode != 200) {
+                    throw createException(response, responseBody);
+                }
+                ServiceImplHelper.endTracingSpan(httpPipeline, statusCode, requestContext);
+                return new SimpleResponse<>(httpRequest, statusCode, response.getHeaders(), responseBody);
+            } catch (RuntimeException exception) {
+                ServiceImplHelper.endTracingSpan(httpPipeline, exception, requestContext);
+                throw exception;
+            }
+        }
+
+        @Override
+        public Mono<Response<Void>> write(String endpoint, String contentType, BinaryData body,
+            RequestOptions requestOptions, Context context) {
+            if (requestOptions != null) {
+                return getRestProxyService().write(endpoint, contentType, body, requestOptions, context);
+            }
+            UrlBuilder urlBuilder = ServiceImplHelper.createUrlBuilder(endpoint, "/builtin");
+            HttpRequest httpRequest = new HttpRequest(HttpMethod.POST, urlBuilder.toString());
+            httpRequest.setHeader(HttpHeaderName.fromString("Content-Type"), contentType);
+            ServiceImplHelper.setBody(httpRequest, body, "application/json");
+            Context requestContext
+                = ServiceImplHelper.startTracingSpan(httpPipeline, "BuiltinClientBuiltinOps.write", context);
+            return ServiceImplHelper.endTracingSpanAsync(httpPipeline,
+                httpPipeline.send(httpRequest, requestContext).flatMap(response -> {
+                    int statusCode = response.getStatusCode();
+                    if (statusCode != 200) {
+                        return ServiceImplHelper.readBodyAsync(response)
+                            .flatMap(responseBody -> Mono.error(createException(response, responseBody)));
+                    }
+                    response.close();
+                    return Mono.just(new SimpleResponse<>(httpRequest, statusCode, response.getHeaders(), null));
+                }), requestContext);
+        }
+
+        @Override
+        public Response<Void> writeSync(String endpoint, String contentType, BinaryData body,
+            RequestOptions requestOptions, Context context) {
+            if (requestOptions != null) {
+                return getRestProxyService().writeSync(endpoint, contentType, body, requestOptions, context);
+            }
+            UrlBuilder urlBuilder = ServiceImplHelper.createUrlBuilder(endpoint, "/builtin");
+            HttpRequest httpRequest = new HttpRequest(HttpMethod.POST, urlBuilder.toString());
+            httpRequest.setHeader(HttpHeaderName.fromString("Content-Type"), contentType);
+            ServiceImplHelper.setBody(httpRequest, body, "application/json");
+            Context requestContext
+                = ServiceImplHelper.startTracingSpan(httpPipeline, "BuiltinClientBuiltinOps.writeSync", context);
+            try (HttpResponse response = httpPipeline.sendSync(httpRequest, requestContext)) {
+                int statusCode = response.getStatusCode();
+                if (statusCode != 200) {
+                    throw createException(response, ServiceImplHelper.readBody(response));
+                }
+                ServiceImplHelper.endTracingSpan(httpPipeline, statusCode, requestContext);
+                return new SimpleResponse<>(httpRequest, statusCode, response.getHeaders(), null);
+            } catch (RuntimeException exception) {
+                ServiceImplHelper.endTracingSpan(httpPipeline, exception, requestContext);
+                throw exception;
+            }
+        }
+
+        private BuiltinOpsService getRestProxyService() {
+            BuiltinOpsService service = restProxyService;
+            if (service == null) {
+                service = RestProxy.create(BuiltinOpsService.class, httpPipeline, serializer);
+                restProxyService = service;
+            }
+            return service;
+        }
+
+        private HttpResponseException createException(HttpResponse response, BinaryData body) {
+            String message = ServiceImplHelper.getErrorMessage(response, body);
+            Object value = ServiceImplHelper.getErrorValue(serializer, response, body);
+            if (response.getStatusCode() == 401) {
+                return new ClientAuthenticationException(message, response, value);
+            }
+            if (response.getStatusCode() == 404) {
+                return new ResourceNotFoundException(message, response, value);
+            }
+            if (response.getStatusCode() == 409) {
+                return new ResourceModifiedException(message, response, value);
+            }
+            return new HttpResponseException(message, response, value);
+        }
+    }
+
     /**
      * The read operation.
      * <p><strong>Query Parameters</strong></p>
@@ -16,13 +16,13 @@ public final class FishKind extends ExpandableStringEnum<FishKind> {
      * The kind of fish is shark.
      */
     @Generated
-    public static final FishKind SHARK = fromString("shark");
+    public static final FishKind SHARK = fromString("shark", FishKind.class);
 
     /**
      * The kind of fish is salmon.
      */
     @Generated
-    public static final FishKind SALMON = fromString("salmon");
+    public static final FishKind SALMON = fromString("salmon", FishKind.class);
 
     /**
      * Creates a new instance of FishKind value.
@@ -42,7 +42,17 @@ public final class FishKind extends ExpandableStringEnum<FishKind> {
      */
     @Generated
     public static FishKind fromString(String name) {
-        return fromString(name, FishKind.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "shark":
+                return SHARK;
+            case "salmon":
+                return SALMON;
+            default:
+                return fromString(name, FishKind.class);
+        }
     }
 
     /**
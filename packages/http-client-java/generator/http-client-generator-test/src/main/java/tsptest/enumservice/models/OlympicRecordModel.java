@@ -12,31 +12,32 @@ import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for OlympicRecordModel.
  */
 public final class OlympicRecordModel implements ExpandableEnum<Double>, JsonSerializable<OlympicRecordModel> {
-    private static final Map<Double, OlympicRecordModel> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<Double, OlympicRecordModel> NEW_INSTANCE = OlympicRecordModel::new;
+    private static final Map<Double, OlympicRecordModel> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Static value 9.58 for OlympicRecordModel.
      */
     @Generated
-    public static final OlympicRecordModel OLYMPIC_100_METERS = fromValue(9.58);
+    public static final OlympicRecordModel OLYMPIC_100_METERS = new OlympicRecordModel(9.58);
 
     /**
      * Static value 19.3 for OlympicRecordModel.
      */
     @Generated
-    public static final OlympicRecordModel OLYMPIC_200_METERS = fromValue(19.3);
+    public static final OlympicRecordModel OLYMPIC_200_METERS = new OlympicRecordModel(19.3);
 
     private final Double value;
 
@@ -56,7 +57,27 @@ public final class OlympicRecordModel implements ExpandableEnum<Double>, JsonSer
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        if (OLYMPIC_100_METERS.value.equals(value)) {
+            return OLYMPIC_100_METERS;
+        }
+        if (OLYMPIC_200_METERS.value.equals(value)) {
+            return OLYMPIC_200_METERS;
+        }
+        return fromUnknownValue(value);
+    }
+
+    private static OlympicRecordModel fromUnknownValue(Double value) {
+        OlympicRecordModel unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new OlympicRecordModel(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        OlympicRecordModel existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -66,7 +87,9 @@ public final class OlympicRecordModel implements ExpandableEnum<Double>, JsonSer
      */
     @Generated
     public static Collection<OlympicRecordModel> values() {
-        return new ArrayList<>(VALUES.values());
+        List<OlympicRecordModel> values = new ArrayList<>(Arrays.asList(OLYMPIC_100_METERS, OLYMPIC_200_METERS));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -120,7 +143,8 @@ public final class OlympicRecordModel implements ExpandableEnum<Double>, JsonSer
     @Generated
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof OlympicRecordModel && Objects.equals(this.value, ((OlympicRecordModel) obj).value));
     }
 
     @Generated
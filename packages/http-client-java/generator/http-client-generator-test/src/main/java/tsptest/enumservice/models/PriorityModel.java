@@ -12,31 +12,32 @@ import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for PriorityModel.
  */
 public final class PriorityModel implements ExpandableEnum<Integer>, JsonSerializable<PriorityModel> {
-    private static final Map<Integer, PriorityModel> VALUES = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UNKNOWN_VALUES = 1024;
 
-    private static final Function<Integer, PriorityModel> NEW_INSTANCE = PriorityModel::new;
+    private static final Map<Integer, PriorityModel> UNKNOWN_VALUES = new ConcurrentHashMap<>();
 
     /**
      * Static value 100 for PriorityModel.
      */
     @Generated
-    public static final PriorityModel HIGH = fromValue(100);
+    public static final PriorityModel HIGH = new PriorityModel(100);
 
     /**
      * Static value 0 for PriorityModel.
      */
     @Generated
-    public static final PriorityModel LOW = fromValue(0);
+    public static final PriorityModel LOW = new PriorityModel(0);
 
     private final Integer value;
 
@@ -56,7 +57,27 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        if (HIGH.value.equals(value)) {
+            return HIGH;
+        }
+        if (LOW.value.equals(value)) {
+            return LOW;
+        }
+        return fromUnknownValue(value);
+    }
+
+    private static PriorityModel fromUnknownValue(Integer value) {
+        PriorityModel unknownValue = UNKNOWN_VALUES.get(value);
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        unknownValue = new PriorityModel(value);
+        if (UNKNOWN_VALUES.size() >= MAX_CACHED_UNKNOWN_VALUES) {
+            // the cache is full, the value is not retained
+            return unknownValue;
+        }
+        PriorityModel existingValue = UNKNOWN_VALUES.putIfAbsent(value, unknownValue);
+        return existingValue == null ? unknownValue : existingValue;
     }
 
     /**
@@ -66,7 +87,9 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
      */
     @Generated
     public static Collection<PriorityModel> values() {
-        return new ArrayList<>(VALUES.values());
+        List<PriorityModel> values = new ArrayList<>(Arrays.asList(HIGH, LOW));
+        values.addAll(UNKNOWN_VALUES.values());
+        return values;
     }
 
     /**
@@ -120,7 +143,7 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
     @Generated
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof PriorityModel && Objects.equals(this.value, ((PriorityModel) obj).value));
     }
 
     @Generated
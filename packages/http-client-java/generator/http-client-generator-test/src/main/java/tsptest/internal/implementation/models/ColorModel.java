@@ -16,19 +16,19 @@ public final class ColorModel extends ExpandableStringEnum<ColorModel> {
      * Static value Red for ColorModel.
      */
     @Generated
-    public static final ColorModel RED = fromString("Red");
+    public static final ColorModel RED = fromString("Red", ColorModel.class);
 
     /**
      * Static value Blue for ColorModel.
      */
     @Generated
-    public static final ColorModel BLUE = fromString("Blue");
+    public static final ColorModel BLUE = fromString("Blue", ColorModel.class);
 
     /**
      * Static value Green for ColorModel.
      */
     @Generated
-    public static final ColorModel GREEN = fromString("Green");
+    public static final ColorModel GREEN = fromString("Green", ColorModel.class);
 
     /**
      * Creates a new instance of ColorModel value.
@@ -48,7 +48,19 @@ public final class ColorModel extends ExpandableStringEnum<ColorModel> {
      */
     @Generated
     public static ColorModel fromString(String name) {
-        return fromString(name, ColorModel.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "Red":
+                return RED;
+            case "Blue":
+                return BLUE;
+            case "Green":
+                return GREEN;
+            default:
+                return fromString(name, ColorModel.class);
+        }
     }
 
     /**
@@ -16,13 +16,13 @@ public final class UnusedEnum extends ExpandableStringEnum<UnusedEnum> {
      * Static value Weekday for UnusedEnum.
      */
     @Generated
-    public static final UnusedEnum WEEKDAY = fromString("Weekday");
+    public static final UnusedEnum WEEKDAY = fromString("Weekday", UnusedEnum.class);
 
     /**
      * Static value Weekend for UnusedEnum.
      */
     @Generated
-    public static final UnusedEnum WEEKEND = fromString("Weekend");
+    public static final UnusedEnum WEEKEND = fromString("Weekend", UnusedEnum.class);
 
     /**
      * Creates a new instance of UnusedEnum value.
@@ -42,7 +42,17 @@ public final class UnusedEnum extends ExpandableStringEnum<UnusedEnum> {
      */
     @Generated
     public static UnusedEnum fromString(String name) {
-        return fromString(name, UnusedEnum.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "Weekday":
+                return WEEKDAY;
+            case "Weekend":
+                return WEEKEND;
+            default:
+                return fromString(name, UnusedEnum.class);
+        }
     }
 
     /**
@@ -40,7 +40,7 @@ import tsptest.literalservice.implementation.LiteralServiceClientImpl;
 /**
  * A builder for creating a new instance of the LiteralServiceClient type.
  */
-@ServiceClientBuilder(serviceClients = { LiteralServiceClient.class, LiteralServiceAsyncClient.class })
+@ServiceClientBuilder(serviceClients = { LiteralServiceClient.class })
 public final class LiteralServiceClientBuilder implements HttpTrait<LiteralServiceClientBuilder>,
     ConfigurationTrait<LiteralServiceClientBuilder>, EndpointTrait<LiteralServiceClientBuilder> {
     @Generated
@@ -263,16 +263,6 @@ public final class LiteralServiceClientBuilder implements HttpTrait<LiteralServi
         return httpPipeline;
     }
 
-    /**
-     * Builds an instance of LiteralServiceAsyncClient class.
-     * 
-     * @return an instance of LiteralServiceAsyncClient.
-     */
-    @Generated
-    public LiteralServiceAsyncClient buildAsyncClient() {
-        return new LiteralServiceAsyncClient(buildInnerClient().getLiteralOps());
-    }
-
     /**
      * Builds an instance of LiteralServiceClient class.
      * 
@@ -18,19 +18,19 @@ public final class DataStatus extends ExpandableStringEnum<DataStatus> {
      * Static value Running for DataStatus.
      */
     @Generated
-    public static final DataStatus LRO_RUNNING = fromString("Running");
+    public static final DataStatus LRO_RUNNING = fromString("Running", DataStatus.class);
 
     /**
      * Static value Completed for DataStatus.
      */
     @Generated
-    public static final DataStatus COMPLETED = fromString("Completed");
+    public static final DataStatus COMPLETED = fromString("Completed", DataStatus.class);
 
     /**
      * Static value Failed for DataStatus.
      */
     @Generated
-    public static final DataStatus FAILED = fromString("Failed");
+    public static final DataStatus FAILED = fromString("Failed", DataStatus.class);
 
     /**
      * Creates a new instance of DataStatus value.
@@ -50,7 +50,19 @@ public final class DataStatus extends ExpandableStringEnum<DataStatus> {
      */
     @Generated
     public static DataStatus fromString(String name) {
-        return fromString(name, DataStatus.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "Running":
+                return LRO_RUNNING;
+            case "Completed":
+                return COMPLETED;
+            case "Failed":
+                return FAILED;
+            default:
+                return fromString(name, DataStatus.class);
+        }
     }
 
     /**
@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -50,11 +48,17 @@ public class Fish implements JsonSerializable<Fish> {
     @Generated
     private String color;
 
+    @Generated
+    private static final long UPDATED_AGE = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_COLOR = 1L << 1;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -156,7 +160,7 @@ public class Fish implements JsonSerializable<Fish> {
     @Generated
     public Fish setAge(int age) {
         this.age = age;
-        this.updatedProperties.add("age");
+        this.updatedProperties |= UPDATED_AGE;
         return this;
     }
 
@@ -179,7 +183,7 @@ public class Fish implements JsonSerializable<Fish> {
     @Generated
     public Fish setColor(String color) {
         this.color = color;
-        this.updatedProperties.add("color");
+        this.updatedProperties |= UPDATED_COLOR;
         return this;
     }
 
@@ -204,10 +208,10 @@ public class Fish implements JsonSerializable<Fish> {
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
-        if (updatedProperties.contains("age")) {
+        if ((updatedProperties & UPDATED_AGE) != 0) {
             jsonWriter.writeIntField("age", this.age);
         }
-        if (updatedProperties.contains("color")) {
+        if ((updatedProperties & UPDATED_COLOR) != 0) {
             if (this.color == null) {
                 jsonWriter.writeNullField("color");
             } else {
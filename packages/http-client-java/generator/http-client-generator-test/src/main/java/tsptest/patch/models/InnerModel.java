@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -32,11 +30,17 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Generated
     private String description;
 
+    @Generated
+    private static final long UPDATED_NAME = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_DESCRIPTION = 1L << 1;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -88,7 +92,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Generated
     public InnerModel setName(String name) {
         this.name = name;
-        this.updatedProperties.add("name");
+        this.updatedProperties |= UPDATED_NAME;
         return this;
     }
 
@@ -111,7 +115,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Generated
     public InnerModel setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= UPDATED_DESCRIPTION;
         return this;
     }
 
@@ -134,14 +138,14 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("name")) {
+        if ((updatedProperties & UPDATED_NAME) != 0) {
             if (this.name == null) {
                 jsonWriter.writeNullField("name");
             } else {
                 jsonWriter.writeStringField("name", this.name);
             }
         }
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & UPDATED_DESCRIPTION) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
@@ -24,6 +24,7 @@ import com.azure.core.util.polling.PollerFlux;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tsptest.protocolandconvenient.implementation.JsonSerializationHelper;
 import tsptest.protocolandconvenient.implementation.ProtocolAndConvenienceOpsImpl;
 import tsptest.protocolandconvenient.models.ResourceA;
 import tsptest.protocolandconvenient.models.ResourceB;
@@ -297,8 +298,9 @@ public final class ProtocolAndConvenientAsyncClient {
     public Mono<ResourceB> onlyConvenient(ResourceA body) {
         // Generated convenience method for onlyConvenientWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return onlyConvenientWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ResourceB.class));
+        return onlyConvenientWithResponse(JsonSerializationHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializationHelper.fromBinaryData(protocolMethodData, ResourceB::fromJson));
     }
 
     /**
@@ -318,9 +320,9 @@ public final class ProtocolAndConvenientAsyncClient {
     public Mono<ResourceF> bothConvenientAndProtocol(ResourceE body) {
         // Generated convenience method for bothConvenientAndProtocolWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return bothConvenientAndProtocolWithResponse(BinaryData.fromObject(body), requestOptions)
+        return bothConvenientAndProtocolWithResponse(JsonSerializationHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ResourceF.class));
+            .map(protocolMethodData -> JsonSerializationHelper.fromBinaryData(protocolMethodData, ResourceF::fromJson));
     }
 
     /**
@@ -341,7 +343,8 @@ public final class ProtocolAndConvenientAsyncClient {
     public PollerFlux<PollOperationDetails, ResourceI> beginCreateOrReplace(String name, ResourceI resource) {
         // Generated convenience method for beginCreateOrReplaceWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginCreateOrReplaceWithModelAsync(name, BinaryData.fromObject(resource), requestOptions);
+        return serviceClient.beginCreateOrReplaceWithModelAsync(name, JsonSerializationHelper.toBinaryData(resource),
+            requestOptions);
     }
 
     /**
@@ -18,6 +18,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.SyncPoller;
+import tsptest.protocolandconvenient.implementation.JsonSerializationHelper;
 import tsptest.protocolandconvenient.implementation.ProtocolAndConvenienceOpsImpl;
 import tsptest.protocolandconvenient.models.ResourceA;
 import tsptest.protocolandconvenient.models.ResourceB;
@@ -290,8 +291,9 @@ public final class ProtocolAndConvenientClient {
     public ResourceB onlyConvenient(ResourceA body) {
         // Generated convenience method for onlyConvenientWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return onlyConvenientWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(ResourceB.class);
+        return JsonSerializationHelper.fromBinaryData(
+            onlyConvenientWithResponse(JsonSerializationHelper.toBinaryData(body), requestOptions).getValue(),
+            ResourceB::fromJson);
     }
 
     /**
@@ -311,8 +313,10 @@ public final class ProtocolAndConvenientClient {
     public ResourceF bothConvenientAndProtocol(ResourceE body) {
         // Generated convenience method for bothConvenientAndProtocolWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return bothConvenientAndProtocolWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(ResourceF.class);
+        return JsonSerializationHelper.fromBinaryData(
+            bothConvenientAndProtocolWithResponse(JsonSerializationHelper.toBinaryData(body), requestOptions)
+                .getValue(),
+            ResourceF::fromJson);
     }
 
     /**
@@ -333,7 +337,8 @@ public final class ProtocolAndConvenientClient {
     public SyncPoller<PollOperationDetails, ResourceI> beginCreateOrReplace(String name, ResourceI resource) {
         // Generated convenience method for beginCreateOrReplaceWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginCreateOrReplaceWithModel(name, BinaryData.fromObject(resource), requestOptions);
+        return serviceClient.beginCreateOrReplaceWithModel(name, JsonSerializationHelper.toBinaryData(resource),
+            requestOptions);
     }
 
     /**
@@ -12,25 +12,31 @@ import com.azure.core.util.DateTimeRfc1123;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.serializer.ObjectSerializer;
 import com.azure.core.util.serializer.TypeReference;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import reactor.core.publisher.Mono;
 
 // DO NOT modify this helper class
 
 final class PollingUtils {
 
-    public static final TypeReference<Map<String, Object>> POST_POLL_RESULT_TYPE_REFERENCE
-        = new TypeReference<Map<String, Object>>() {
-        };
-
     public static final HttpHeaderName OPERATION_LOCATION_HEADER = HttpHeaderName.fromString("Operation-Location");
 
     public static final String HTTP_METHOD = "httpMethod";
@@ -76,19 +82,98 @@ final class PollingUtils {
         return value;
     }
 
-    @SuppressWarnings("unchecked")
-    public static <T> Mono<T> deserializeResponse(BinaryData binaryData, ObjectSerializer serializer,
+    /**
+     * Deserializes a property of the JSON object in the response body.
+     * <p>
+     * The response body is read by a JsonReader up to the property, and only the value of the property is
+     * deserialized to the result type.
+     *
+     * @param responseBody the response body
+     * @param propertyName the name of the property
+     * @param serializer the serializer for the value of the property, if the result type cannot read itself from JSON
+     * @param typeReference the result type
+     * @return the value of the property, or null if the property is absent or null
+     */
+    public static <T> T deserializeResultProperty(String responseBody, String propertyName, ObjectSerializer serializer,
         TypeReference<T> typeReference) {
-        Mono<T> value;
-        if (binaryData == null) {
-            value = Mono.empty();
-        } else if (typeReference.getJavaClass().isAssignableFrom(BinaryData.class)) {
+        if (responseBody == null) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(responseBody)) {
+            if (jsonReader.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (jsonReader.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonReader.getFieldName();
+                jsonReader.nextToken();
+                if (propertyName.equals(fieldName)) {
+                    return jsonReader.currentToken() == JsonToken.NULL
+                        ? null
+                        : readResultValue(jsonReader, serializer, typeReference);
+                }
+                jsonReader.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T readResultValue(JsonReader jsonReader, ObjectSerializer serializer,
+        TypeReference<T> typeReference) throws IOException {
+        Class<T> clazz = typeReference.getJavaClass();
+        if (clazz.isAssignableFrom(BinaryData.class)) {
             // T is BinaryData
-            value = (Mono<T>) binaryData.toReplayableBinaryDataAsync();
-        } else {
-            value = binaryData.toObjectAsync(typeReference, serializer);
+            return clazz.cast(BinaryData.fromString(readJsonText(jsonReader)));
         }
-        return value;
+
+        Method fromJson = getFromJsonMethod(clazz);
+        if (fromJson != null) {
+            // T is a model, it reads itself from the JsonReader
+            try {
+                return clazz.cast(fromJson.invoke(null, jsonReader));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                } else if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        return serializer.deserializeFromBytes(readJsonText(jsonReader).getBytes(StandardCharsets.UTF_8),
+            typeReference);
+    }
+
+    // the static "fromJson(JsonReader)" method of a JsonSerializable class, or null
+    private static Method getFromJsonMethod(Class<?> clazz) {
+        if (!JsonSerializable.class.isAssignableFrom(clazz)) {
+            return null;
+        }
+        try {
+            Method method = clazz.getMethod("fromJson", JsonReader.class);
+            // a static method of the super class returns the super type
+            return Modifier.isStatic(method.getModifiers()) && clazz.isAssignableFrom(method.getReturnType())
+                ? method
+                : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    // the JSON text of the current value of the JsonReader
+    private static String readJsonText(JsonReader jsonReader) throws IOException {
+        if (jsonReader.isStartArrayOrObject()) {
+            return jsonReader.readChildren();
+        }
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            jsonWriter.writeUntyped(jsonReader.readUntyped());
+        }
+        return stringWriter.toString();
     }
 
     private static final HttpHeaderName RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("retry-after-ms");
@@ -44,10 +44,12 @@ import com.azure.core.util.polling.SyncPoller;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
 import com.azure.core.util.serializer.TypeReference;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 import tsptest.response.ResponseServiceVersion;
 import tsptest.response.models.OperationDetails1;
@@ -1298,8 +1300,7 @@ public final class ResponseClientImpl {
     private Mono<PagedResponse<BinaryData>> listStringsSinglePageAsync(RequestOptions requestOptions) {
         final String accept = "application/json";
         return FluxUtil.withContext(context -> service.listStrings(this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items_value"), getNextLink(res.getValue(), "next_link"), null));
+            .map(res -> toPagedResponse(res, "items_value", "next_link"));
     }
 
     /**
@@ -1349,8 +1350,7 @@ public final class ResponseClientImpl {
     private PagedResponse<BinaryData> listStringsSinglePage(RequestOptions requestOptions) {
         final String accept = "application/json";
         Response<BinaryData> res = service.listStringsSync(this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items_value"), getNextLink(res.getValue(), "next_link"), null);
+        return toPagedResponse(res, "items_value", "next_link");
     }
 
     /**
@@ -1401,8 +1401,7 @@ public final class ResponseClientImpl {
         final String accept = "application/json";
         return FluxUtil
             .withContext(context -> service.listIntegers(this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), null, null));
+            .map(res -> toPagedResponse(res, "value", null));
     }
 
     /**
@@ -1448,8 +1447,7 @@ public final class ResponseClientImpl {
     private PagedResponse<BinaryData> listIntegersSinglePage(RequestOptions requestOptions) {
         final String accept = "application/json";
         Response<BinaryData> res = service.listIntegersSync(this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), null, null);
+        return toPagedResponse(res, "value", null);
     }
 
     /**
@@ -1990,8 +1988,7 @@ public final class ResponseClientImpl {
         return FluxUtil
             .withContext(
                 context -> service.listStringsNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items_value"), getNextLink(res.getValue(), "next_link"), null));
+            .map(res -> toPagedResponse(res, "items_value", "next_link"));
     }
 
     /**
@@ -2017,26 +2014,33 @@ public final class ResponseClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listStringsNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items_value"), getNextLink(res.getValue(), "next_link"), null);
-    }
-
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+        return toPagedResponse(res, "items_value", "next_link");
+    }
+
+    private PagedResponse<BinaryData> toPagedResponse(Response<BinaryData> res, String itemPath, String nextLinkPath) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(res.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    JsonToken token = jsonReader.nextToken();
+                    if (token == JsonToken.START_ARRAY && fieldName.equals(itemPath)) {
+                        values = jsonReader.readArray(reader -> reader.isStartArrayOrObject()
+                            ? BinaryData.fromString(reader.readChildren())
+                            : BinaryData.fromObject(reader.readUntyped()));
+                    } else if (token == JsonToken.STRING && fieldName.equals(nextLinkPath)) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink,
+            null);
     }
 }
@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
 
 /**
@@ -44,11 +42,17 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     private String type;
 
+    @Generated
+    private static final long UPDATED_DESCRIPTION = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_TYPE = 1L << 1;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -119,7 +123,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= UPDATED_DESCRIPTION;
         return this;
     }
 
@@ -143,7 +147,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setType(String type) {
         this.type = type;
-        this.updatedProperties.add("type");
+        this.updatedProperties |= UPDATED_TYPE;
         return this;
     }
 
@@ -166,14 +170,14 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & UPDATED_DESCRIPTION) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("type")) {
+        if ((updatedProperties & UPDATED_TYPE) != 0) {
             if (this.type == null) {
                 jsonWriter.writeNullField("type");
             } else {
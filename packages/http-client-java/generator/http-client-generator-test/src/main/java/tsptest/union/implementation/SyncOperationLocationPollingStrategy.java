@@ -20,7 +20,6 @@ import com.azure.core.util.serializer.TypeReference;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.Map;
 
 // DO NOT modify this helper class
 
@@ -116,13 +115,10 @@ public final class SyncOperationLocationPollingStrategy<T, U> extends SyncOperat
         if (propertyName != null) {
             // take the last poll response body from PollingContext,
             // and de-serialize the <propertyName> property as final result
-            BinaryData latestResponseBody
-                = BinaryData.fromString(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY));
-            Map<String, Object> pollResult = PollingUtils.deserializeResponseSync(latestResponseBody, serializer,
-                PollingUtils.POST_POLL_RESULT_TYPE_REFERENCE);
-            if (pollResult != null && pollResult.get(propertyName) != null) {
-                return PollingUtils.deserializeResponseSync(BinaryData.fromObject(pollResult.get(propertyName)),
-                    serializer, resultType);
+            U result = PollingUtils.deserializeResultProperty(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY),
+                propertyName, serializer, resultType);
+            if (result != null) {
+                return result;
             } else {
                 throw LOGGER.logExceptionAsError(new AzureException("Cannot get final result"));
             }
@@ -16,43 +16,43 @@ public final class DaysOfWeekExtensibleEnum extends ExpandableStringEnum<DaysOfW
      * Monday.
      */
     @Generated
-    public static final DaysOfWeekExtensibleEnum MONDAY = fromString("Monday");
+    public static final DaysOfWeekExtensibleEnum MONDAY = fromString("Monday", DaysOfWeekExtensibleEnum.class);
 
     /**
      * Tuesday.
      */
     @Generated
-    public static final DaysOfWeekExtensibleEnum TUESDAY = fromString("Tuesday");
+    public static final DaysOfWeekExtensibleEnum TUESDAY = fromString("Tuesday", DaysOfWeekExtensibleEnum.class);
 
     /**
      * Wednesday.
      */
     @Generated
-    public static final DaysOfWeekExtensibleEnum WEDNESDAY = fromString("Wednesday");
+    public static final DaysOfWeekExtensibleEnum WEDNESDAY = fromString("Wednesday", DaysOfWeekExtensibleEnum.class);
 
     /**
      * Thursday.
      */
     @Generated
-    public static final DaysOfWeekExtensibleEnum THURSDAY = fromString("Thursday");
+    public static final DaysOfWeekExtensibleEnum THURSDAY = fromString("Thursday", DaysOfWeekExtensibleEnum.class);
 
     /**
      * Friday.
      */
     @Generated
-    public static final DaysOfWeekExtensibleEnum FRIDAY = fromString("Friday");
+    public static final DaysOfWeekExtensibleEnum FRIDAY = fromString("Friday", DaysOfWeekExtensibleEnum.class);
 
     /**
      * Saturday.
      */
     @Generated
-    public static final DaysOfWeekExtensibleEnum SATURDAY = fromString("Saturday");
+    public static final DaysOfWeekExtensibleEnum SATURDAY = fromString("Saturday", DaysOfWeekExtensibleEnum.class);
 
     /**
      * Sunday.
      */
     @Generated
-    public static final DaysOfWeekExtensibleEnum SUNDAY = fromString("Sunday");
+    public static final DaysOfWeekExtensibleEnum SUNDAY = fromString("Sunday", DaysOfWeekExtensibleEnum.class);
 
     /**
      * Creates a new instance of DaysOfWeekExtensibleEnum value.
@@ -72,7 +72,27 @@ public final class DaysOfWeekExtensibleEnum extends ExpandableStringEnum<DaysOfW
      */
     @Generated
     public static DaysOfWeekExtensibleEnum fromString(String name) {
-        return fromString(name, DaysOfWeekExtensibleEnum.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "Monday":
+                return MONDAY;
+            case "Tuesday":
+                return TUESDAY;
+            case "Wednesday":
+                return WEDNESDAY;
+            case "Thursday":
+                return THURSDAY;
+            case "Friday":
+                return FRIDAY;
+            case "Saturday":
+                return SATURDAY;
+            case "Sunday":
+                return SUNDAY;
+            default:
+                return fromString(name, DaysOfWeekExtensibleEnum.class);
+        }
     }
 
     /**
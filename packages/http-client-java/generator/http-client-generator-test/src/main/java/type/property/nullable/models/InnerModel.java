@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import type.property.nullable.implementation.JsonMergePatchHelper;
 
 /**
@@ -26,11 +24,14 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Generated
     private String property;
 
+    @Generated
+    private static final long UPDATED_PROPERTY = 1L << 0;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, a bit per property as given by the UPDATED_ constants.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -82,7 +83,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Generated
     public InnerModel setProperty(String property) {
         this.property = property;
-        this.updatedProperties.add("property");
+        this.updatedProperties |= UPDATED_PROPERTY;
         return this;
     }
 
@@ -104,7 +105,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("property")) {
+        if ((updatedProperties & UPDATED_PROPERTY) != 0) {
             if (this.property == null) {
                 jsonWriter.writeNullField("property");
             } else {
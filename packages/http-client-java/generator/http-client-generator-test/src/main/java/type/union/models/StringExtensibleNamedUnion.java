@@ -16,13 +16,13 @@ public final class StringExtensibleNamedUnion extends ExpandableStringEnum<Strin
      * Static value b for StringExtensibleNamedUnion.
      */
     @Generated
-    public static final StringExtensibleNamedUnion OPTIONB = fromString("b");
+    public static final StringExtensibleNamedUnion OPTIONB = fromString("b", StringExtensibleNamedUnion.class);
 
     /**
      * Static value c for StringExtensibleNamedUnion.
      */
     @Generated
-    public static final StringExtensibleNamedUnion C = fromString("c");
+    public static final StringExtensibleNamedUnion C = fromString("c", StringExtensibleNamedUnion.class);
 
     /**
      * Creates a new instance of StringExtensibleNamedUnion value.
@@ -42,7 +42,17 @@ public final class StringExtensibleNamedUnion extends ExpandableStringEnum<Strin
      */
     @Generated
     public static StringExtensibleNamedUnion fromString(String name) {
-        return fromString(name, StringExtensibleNamedUnion.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "b":
+                return OPTIONB;
+            case "c":
+                return C;
+            default:
+                return fromString(name, StringExtensibleNamedUnion.class);
+        }
     }
 
     /**
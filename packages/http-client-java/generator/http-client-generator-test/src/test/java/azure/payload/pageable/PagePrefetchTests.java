@@ -0,0 +1,144 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package azure.payload.pageable;
+
+import azure.payload.pageable.models.User;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.RequestOptions;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.core.util.Context;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests the page prefetch of the sync paging methods on sync stack, generated with "page-prefetch-depth=2", against an
+ * in-process mock server.
+ * <p>
+ * The mock server records, for each request, the number of pages the iteration has processed, so that the tests can
+ * check which page was being processed when a page was requested.
+ */
+public class PagePrefetchTests {
+    private static final String FIRST_PAGE_PATH = "/azure/payload/pageable";
+
+    private final MockServer server = new MockServer(4);
+    private final PageableClient client = new PageableClientBuilder().httpClient(server).buildClient();
+
+    @Test
+    public void testPrefetchOverlapsProcessing() throws InterruptedException {
+        List<String> names = new ArrayList<>();
+        for (PagedResponse<User> page : client.list().iterableByPage()) {
+            if (names.isEmpty()) {
+                // the next pages are requested while the first page is being processed
+                Assertions.assertTrue(server.getRequestLatch("/page/2").await(5, TimeUnit.SECONDS));
+                Assertions.assertTrue(server.getRequestLatch("/page/3").await(5, TimeUnit.SECONDS));
+            }
+            page.getValue().forEach(user -> names.add(user.getName()));
+            server.processedPages.incrementAndGet();
+        }
+
+        Assertions.assertEquals(Arrays.asList("user1", "user2", "user3", "user4"), names);
+        Assertions.assertEquals(4, server.requests.size());
+        Assertions.assertEquals(0, server.getProcessedPagesAtRequest("/page/2"));
+        Assertions.assertEquals(0, server.getProcessedPagesAtRequest("/page/3"));
+    }
+
+    @Test
+    public void testPrefetchDepth() throws InterruptedException {
+        boolean firstPage = true;
+        for (PagedResponse<User> page : client.list().iterableByPage()) {
+            if (firstPage) {
+                Assertions.assertTrue(server.getRequestLatch("/page/3").await(5, TimeUnit.SECONDS));
+                firstPage = false;
+            }
+            server.processedPages.incrementAndGet();
+        }
+
+        // depth 2, the 4th page is not requested before the processing of the 1st page is done
+        Assertions.assertTrue(server.getProcessedPagesAtRequest("/page/4") >= 1);
+    }
+
+    @Test
+    public void testPrefetchUsesContext() {
+        RequestOptions requestOptions = new RequestOptions().setContext(new Context("x-ms-test", "prefetch"));
+
+        Assertions.assertEquals(4, client.list(requestOptions).stream().count());
+        Assertions.assertEquals(4, server.testValues.size());
+        server.testValues.forEach(value -> Assertions.assertEquals("prefetch", value));
+    }
+
+    @Test
+    public void testNewIterationStartsFromFirstPage() throws InterruptedException {
+        PagedIterable<User> pagedIterable = client.list();
+        // stop the first iteration after the first page, while the next pages are prefetched
+        pagedIterable.iterableByPage().iterator().next();
+        Assertions.assertTrue(server.getRequestLatch("/page/2").await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(Arrays.asList("user1", "user2", "user3", "user4"),
+            pagedIterable.stream().map(User::getName).collect(Collectors.toList()));
+    }
+
+    private static final class MockServer implements HttpClient {
+        private final int pageCount;
+        private final AtomicInteger processedPages = new AtomicInteger();
+        private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+        private final Map<String, Integer> processedPagesAtRequest = new ConcurrentHashMap<>();
+        private final Queue<Object> testValues = new ConcurrentLinkedQueue<>();
+        private final Map<String, CountDownLatch> requestLatches = new ConcurrentHashMap<>();
+
+        private MockServer(int pageCount) {
+            this.pageCount = pageCount;
+        }
+
+        private CountDownLatch getRequestLatch(String path) {
+            return requestLatches.computeIfAbsent(path, key -> new CountDownLatch(1));
+        }
+
+        private int getProcessedPagesAtRequest(String path) {
+            Integer processedPages = processedPagesAtRequest.get(path);
+            Assertions.assertNotNull(processedPages, "Expected a request to " + path);
+            return processedPages;
+        }
+
+        @Override
+        public Mono<HttpResponse> send(HttpRequest request) {
+            return Mono.fromCallable(() -> sendSync(request, Context.NONE));
+        }
+
+        @Override
+        public HttpResponse sendSync(HttpRequest request, Context context) {
+            String path = request.getUrl().getPath();
+            requests.add(path);
+            processedPagesAtRequest.putIfAbsent(path, processedPages.get());
+            context.getData("x-ms-test").ifPresent(testValues::add);
+            getRequestLatch(path).countDown();
+
+            int pageNumber = FIRST_PAGE_PATH.equals(path) ? 1 : Integer.parseInt(path.substring("/page/".length()));
+            String next
+                = pageNumber < pageCount ? ",\"nextLink\":\"http://localhost:3000/page/" + (pageNumber + 1) + "\"" : "";
+            String body = "{\"value\":[{\"name\":\"user" + pageNumber + "\"}]" + next + "}";
+            return new MockHttpResponse(request, 200,
+                new HttpHeaders().set(HttpHeaderName.CONTENT_TYPE, "application/json"),
+                body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -6,12 +6,16 @@ package streaming.jsonl;
 import com.azure.core.util.BinaryData;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+import streaming.jsonl.models.Info;
 
 public final class JsonlTests {
 
     private final JsonlClient client = new JsonlClientBuilder().buildClient();
+    private final JsonlAsyncClient asyncClient = new JsonlClientBuilder().buildAsyncClient();
 
     @Test
     public void testJsonl() {
@@ -23,4 +27,16 @@ public final class JsonlTests {
         BinaryData data = client.receive();
         Assertions.assertEquals(3, data.toString().split("\n").length);
     }
+
+    @Test
+    public void testJsonlElements() {
+        try (Stream<Info> elements = client.receiveElements()) {
+            Assertions.assertEquals(List.of("one", "two", "three"),
+                elements.map(Info::getDesc).collect(Collectors.toList()));
+        }
+
+        StepVerifier.create(asyncClient.receiveElements().map(Info::getDesc))
+            .expectNext("one", "two", "three")
+            .verifyComplete();
+    }
 }
@@ -0,0 +1,68 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.armresourceprovider.implementation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ResourceManagerUtilsTests {
+    private static final String CHILD_RESOURCE_ID = "/subscriptions/00000000-0000-0000-0000-000000000000"
+        + "/resourceGroups/rg1/providers/TspTest.ArmResourceProvider/topLevelArmResources/top1/childResources/child1";
+
+    private static final String CHILD_EXTENSION_RESOURCE_PATH = "/{resourceUri}/providers/TspTest.ArmResourceProvider"
+        + "/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}";
+
+    @Test
+    public void testGetValueByName() {
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments
+            = ResourceManagerUtils.ResourceIdSegments.parse(CHILD_RESOURCE_ID);
+
+        Assertions.assertEquals("rg1", resourceIdSegments.getValueByName("resourceGroups"));
+        // name is case-insensitive
+        Assertions.assertEquals("top1", resourceIdSegments.getValueByName("TOPLEVELARMRESOURCES"));
+        Assertions.assertEquals("child1", resourceIdSegments.getValueByName("childResources"));
+        Assertions.assertNull(resourceIdSegments.getValueByName("missing"));
+        // no segment after the name
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName("/resourceGroups/rg1/childResources/",
+            "childResources"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName(null, "resourceGroups"));
+    }
+
+    @Test
+    public void testGetValueByParameterName() {
+        String id = "/subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.Storage/storageAccounts/sa1"
+            + "/providers/TspTest.ArmResourceProvider/topLevelArmResources/top1/childExtensionResources/ext1";
+        ResourceManagerUtils.ResourceIdSegments resourceIdSegments = ResourceManagerUtils.ResourceIdSegments.parse(id);
+
+        Assertions.assertEquals("ext1",
+            resourceIdSegments.getValueByParameterName(CHILD_EXTENSION_RESOURCE_PATH, "childExtensionResourceName"));
+        Assertions.assertEquals("top1",
+            resourceIdSegments.getValueByParameterName(CHILD_EXTENSION_RESOURCE_PATH, "topLevelArmResourceName"));
+        // the scope is the ID up to the parameter, without the leading '/'
+        Assertions.assertEquals("subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.Storage/storageAccounts/sa1",
+            resourceIdSegments.getValueByParameterName(CHILD_EXTENSION_RESOURCE_PATH, "resourceUri"));
+        Assertions.assertNull(resourceIdSegments.getValueByParameterName(CHILD_EXTENSION_RESOURCE_PATH, "missing"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByParameterName(id, null, "resourceUri"));
+        Assertions.assertNull(
+            ResourceManagerUtils.getValueFromIdByParameterName(null, CHILD_EXTENSION_RESOURCE_PATH, "resourceUri"));
+    }
+
+    @Test
+    public void testSameResultsAsSplit() {
+        String[] ids = {
+            CHILD_RESOURCE_ID,
+            CHILD_RESOURCE_ID + "/",
+            "subscriptions/sub1//resourceGroups/rg1",
+            "//resourceGroups/ /childResources",
+            "",
+            "/" };
+        String[] names = { "subscriptions", "resourceGroups", "childResources", " ", "" };
+        for (String id : ids) {
+            for (String name : names) {
+                Assertions.assertEquals(ResourceIdParseBenchmark.getValueFromIdByNameWithSplit(id, name),
+                    ResourceManagerUtils.getValueFromIdByName(id, name), id + " " + name);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.longrunning.implementation;
+
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.serializer.JsonSerializerProviders;
+import com.azure.core.util.serializer.ObjectSerializer;
+import com.azure.core.util.serializer.TypeReference;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tsptest.longrunning.models.JobResultResult;
+
+public class PollingUtilsTests {
+    private static final String POLL_RESPONSE_BODY = "{\"id\":\"job1\",\"status\":\"Succeeded\","
+        + "\"error\":{\"details\":[{\"result\":\"nested\"}]},\"result\":{\"data\":\"data1\"},\"extra\":[1,2]}";
+
+    private final ObjectSerializer serializer = JsonSerializerProviders.createInstance(true);
+
+    @Test
+    public void testDeserializeResultPropertyToModel() {
+        JobResultResult result = PollingUtils.deserializeResultProperty(POLL_RESPONSE_BODY, "result", serializer,
+            TypeReference.createInstance(JobResultResult.class));
+        Assertions.assertEquals("data1", result.getData());
+    }
+
+    @Test
+    public void testDeserializeResultPropertyToBinaryData() {
+        BinaryData result = PollingUtils.deserializeResultProperty(POLL_RESPONSE_BODY, "result", serializer,
+            TypeReference.createInstance(BinaryData.class));
+        Assertions.assertEquals("{\"data\":\"data1\"}", result.toString());
+
+        BinaryData id = PollingUtils.deserializeResultProperty(POLL_RESPONSE_BODY, "id", serializer,
+            TypeReference.createInstance(BinaryData.class));
+        Assertions.assertEquals("\"job1\"", id.toString());
+    }
+
+    @Test
+    public void testDeserializeResultPropertyWithSerializer() {
+        Map<String, Object> result = PollingUtils.deserializeResultProperty(POLL_RESPONSE_BODY, "result", serializer,
+            new TypeReference<Map<String, Object>>() {
+            });
+        Assertions.assertEquals("data1", result.get("data"));
+    }
+
+    @Test
+    public void testDeserializeMissingResultProperty() {
+        TypeReference<JobResultResult> type = TypeReference.createInstance(JobResultResult.class);
+        Assertions.assertNull(PollingUtils.deserializeResultProperty(POLL_RESPONSE_BODY, "missing", serializer, type));
+        Assertions.assertNull(PollingUtils.deserializeResultProperty("{\"result\":null}", "result", serializer, type));
+        Assertions.assertNull(PollingUtils.deserializeResultProperty(null, "result", serializer, type));
+    }
+}
@@ -3,14 +3,16 @@
 
 package com.microsoft.typespec.http.client.generator;
 
-import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.AnnotatedPropertyUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
-import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelCustomConstructor;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelLoader;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeSpecMetadata;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import com.microsoft.typespec.http.client.generator.core.model.projectmodel.TextFile;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.Postprocessor;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.fluent.TypeSpecFluentPlugin;
@@ -19,12 +21,14 @@ import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJ
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
 import com.microsoft.typespec.http.client.generator.util.FileUtil;
+import com.microsoft.typespec.http.client.generator.util.IncrementalFileWriter;
 import io.clientcore.core.serialization.json.JsonReader;
 import io.clientcore.core.utils.CoreUtils;
 import io.clientcore.core.utils.configuration.Configuration;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -40,20 +44,12 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.inspector.TrustedTagInspector;
-import org.yaml.snakeyaml.representer.Representer;
 
 public class Main {
     private static final Logger LOGGER = LoggerFactory.getLogger(Main.class);
     private static final String DEFAULT_OUTPUT_DIR = "http-client-generator-test/tsp-output/";
     // private static final String DEFAULT_OUTPUT_DIR = "http-client-generator-clientcore-test/tsp-output/";
 
-    private static Yaml yaml = null;
-
     // java -jar target/azure-typespec-extension-jar-with-dependencies.jar
     public static void main(String[] args) throws IOException {
         try {
@@ -109,17 +105,34 @@ public class Main {
         TypeSpecFluentPlugin fluentPlugin
             = new TypeSpecFluentPlugin(emitterOptions, sdkIntegration, codeModel.getInfo().getTitle());
 
-        codeModel = fluentPlugin.preProcess(codeModel);
+        GenerationMetrics metrics = GenerationMetrics.getInstance();
+        CodeModel preProcessedCodeModel
+            = metrics.time(GenerationMetrics.TRANSFORM, () -> fluentPlugin.preProcess(codeModel));
 
         // client
-        Client client = fluentPlugin.processClient(codeModel);
+        Client client = metrics.time(GenerationMetrics.MAP, () -> fluentPlugin.processClient(preProcessedCodeModel));
 
         // template
-        FluentJavaPackage javaPackage = fluentPlugin.processTemplates(codeModel, client);
+        FluentJavaPackage javaPackage;
+        try (GenerationMetrics.Phase phase = metrics.startPhase(GenerationMetrics.TEMPLATE)) {
+            javaPackage = fluentPlugin.processTemplates(preProcessedCodeModel, client);
+            phase.setFileCount(getFileCount(javaPackage));
+        }
 
-        // delete generated Java files
-        deleteGeneratedJavaFiles(emitterOptions.getOutputDir(), javaPackage.getJavaFiles(), JavaSettings.getInstance(),
-            FluentStatic.getFluentJavaSettings().getMetadataSuffix().orElse(null));
+        String metadataSuffix = FluentStatic.getFluentJavaSettings().getMetadataSuffix().orElse(null);
+        TypeSpecMetadata previousMetadata = null;
+        IncrementalFileWriter incrementalFileWriter = null;
+        if (Boolean.TRUE.equals(emitterOptions.getIncrementalOutput())) {
+            // generated Java files that are removed will be deleted after writing the output
+            previousMetadata = readMetadata(emitterOptions.getOutputDir(), JavaSettings.getInstance(), metadataSuffix);
+            incrementalFileWriter = new IncrementalFileWriter(emitterOptions.getOutputDir(),
+                previousMetadata == null ? null : previousMetadata.getGeneratedFileDigests());
+            fluentPlugin.setIncrementalFileWriter(incrementalFileWriter);
+        } else {
+            // delete generated Java files
+            deleteGeneratedJavaFiles(emitterOptions.getOutputDir(), javaPackage.getJavaFiles(),
+                JavaSettings.getInstance(), metadataSuffix);
+        }
 
         // write java files
 
@@ -129,20 +142,34 @@ public class Main {
             .stream()
             .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
 
-        // XML include POM
-        javaPackage.getXmlFiles()
-            .forEach(xmlFile -> fluentPlugin.writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null));
+        try (GenerationMetrics.Phase phase = metrics.startPhase(GenerationMetrics.WRITE)) {
+            // XML include POM
+            javaPackage.getXmlFiles()
+                .forEach(
+                    xmlFile -> fluentPlugin.writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null));
+
+            // properties file
+            String artifactId = FluentUtils.getArtifactId();
+            if (!CoreUtils.isNullOrEmpty(artifactId)) {
+                fluentPlugin.writeFile("src/main/resources/" + artifactId + ".properties",
+                    "version=${project.version}\n", null);
+            }
+
+            // Others
+            if (incrementalFileWriter != null) {
+                updateMetadataWithDigests(javaPackage.getTextFiles(), incrementalFileWriter, JavaSettings.getInstance(),
+                    metadataSuffix);
+            }
+            javaPackage.getTextFiles()
+                .forEach(textFile -> fluentPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+            phase.setFileCount(javaPackage.getXmlFiles().size() + javaPackage.getTextFiles().size());
+        }
 
-        // properties file
-        String artifactId = FluentUtils.getArtifactId();
-        if (!CoreUtils.isNullOrEmpty(artifactId)) {
-            fluentPlugin.writeFile("src/main/resources/" + artifactId + ".properties", "version=${project.version}\n",
-                null);
+        if (incrementalFileWriter != null) {
+            completeIncrementalOutput(incrementalFileWriter, previousMetadata, JavaSettings.getInstance());
         }
 
-        // Others
-        javaPackage.getTextFiles()
-            .forEach(textFile -> fluentPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+        metrics.report(fluentPlugin, new PluginLogger(fluentPlugin, Main.class));
     }
 
     private static void handleDPG(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration,
@@ -156,14 +183,28 @@ public class Main {
         Client client = typeSpecPlugin.processClient(codeModel);
 
         // template
-        JavaPackage javaPackage = typeSpecPlugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+        JavaPackage javaPackage;
+        try (GenerationMetrics.Phase phase = GenerationMetrics.getInstance().startPhase(GenerationMetrics.TEMPLATE)) {
+            javaPackage = typeSpecPlugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+            phase.setFileCount(getFileCount(javaPackage));
+        }
 
         LOGGER.info("Count of Java files: {}", javaPackage.getJavaFiles().size());
         LOGGER.info("Count of XML files: {}", javaPackage.getXmlFiles().size());
         LOGGER.info("Count of text files: {}", javaPackage.getTextFiles().size());
 
-        // delete generated Java files
-        deleteGeneratedJavaFiles(outputDir, javaPackage.getJavaFiles(), settings, null);
+        TypeSpecMetadata previousMetadata = null;
+        IncrementalFileWriter incrementalFileWriter = null;
+        if (Boolean.TRUE.equals(emitterOptions.getIncrementalOutput())) {
+            // generated Java files that are removed will be deleted after writing the output
+            previousMetadata = readMetadata(outputDir, settings, null);
+            incrementalFileWriter = new IncrementalFileWriter(outputDir,
+                previousMetadata == null ? null : previousMetadata.getGeneratedFileDigests());
+            typeSpecPlugin.setIncrementalFileWriter(incrementalFileWriter);
+        } else {
+            // delete generated Java files
+            deleteGeneratedJavaFiles(outputDir, javaPackage.getJavaFiles(), settings, null);
+        }
 
         Map<String, String> javaFiles = new ConcurrentHashMap<>();
         javaPackage.getJavaFiles()
@@ -174,21 +215,37 @@ public class Main {
         // write output java files
         new Postprocessor(typeSpecPlugin).postProcess(javaFiles);
 
-        // XML include POM
-        javaPackage.getXmlFiles()
-            .forEach(
-                xmlFile -> typeSpecPlugin.writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null));
-        // Others
-        javaPackage.getTextFiles()
-            .forEach(textFile -> typeSpecPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
-        // resources
-        if (settings.isAzureV1()) {
-            String artifactId = ClientModelUtil.getArtifactId();
-            if (!CoreUtils.isNullOrEmpty(artifactId)) {
-                typeSpecPlugin.writeFile("src/main/resources/" + artifactId + ".properties",
-                    "name=${project.artifactId}\nversion=${project.version}\n", null);
+        try (GenerationMetrics.Phase phase = GenerationMetrics.getInstance().startPhase(GenerationMetrics.WRITE)) {
+            // XML include POM
+            javaPackage.getXmlFiles()
+                .forEach(
+                    xmlFile -> typeSpecPlugin.writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null));
+            // Others
+            if (incrementalFileWriter != null) {
+                updateMetadataWithDigests(javaPackage.getTextFiles(), incrementalFileWriter, settings, null);
             }
+            javaPackage.getTextFiles()
+                .forEach(textFile -> typeSpecPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+            // resources
+            if (settings.isAzureV1()) {
+                String artifactId = ClientModelUtil.getArtifactId();
+                if (!CoreUtils.isNullOrEmpty(artifactId)) {
+                    typeSpecPlugin.writeFile("src/main/resources/" + artifactId + ".properties",
+                        "name=${project.artifactId}\nversion=${project.version}\n", null);
+                }
+            }
+            phase.setFileCount(javaPackage.getXmlFiles().size() + javaPackage.getTextFiles().size());
         }
+
+        if (incrementalFileWriter != null) {
+            completeIncrementalOutput(incrementalFileWriter, previousMetadata, settings);
+        }
+
+        GenerationMetrics.getInstance().report(typeSpecPlugin, new PluginLogger(typeSpecPlugin, Main.class));
+    }
+
+    private static int getFileCount(JavaPackage javaPackage) {
+        return javaPackage.getJavaFiles().size() + javaPackage.getXmlFiles().size() + javaPackage.getTextFiles().size();
     }
 
     /**
@@ -203,23 +260,12 @@ public class Main {
         Set<String> filesToDelete = new HashSet<>();
 
         // clean up source code, based on metadata
-        String metadataFilename = "src/main/resources/META-INF/"
-            + (settings.isFluent() ? FluentUtils.getArtifactId() : ClientModelUtil.getArtifactId()) + "_metadata"
-            + (suffix == null ? "" : "_" + suffix) + ".json";
-        Path metadataFilePath = Paths.get(outputDir, metadataFilename).toAbsolutePath();
-        if (Files.isRegularFile(metadataFilePath) && metadataFilePath.toFile().canRead()) {
-            try (BufferedReader reader = Files.newBufferedReader(metadataFilePath, StandardCharsets.UTF_8);
-                JsonReader jsonReader = JsonReader.fromReader(reader)) {
-                TypeSpecMetadata metadata = TypeSpecMetadata.fromJson(jsonReader);
-                if (metadata != null && !CoreUtils.isNullOrEmpty(metadata.getGeneratedFiles())) {
-                    filesToDelete.addAll(metadata.getGeneratedFiles()
-                        .stream()
-                        .filter(filename -> filename.startsWith("src/main/") && filename.endsWith(".java"))
-                        .collect(Collectors.toSet()));
-                }
-            } catch (IOException e) {
-                LOGGER.warn("Unable to read file: {}", metadataFilePath.toAbsolutePath(), e);
-            }
+        TypeSpecMetadata metadata = readMetadata(outputDir, settings, suffix);
+        if (metadata != null && !CoreUtils.isNullOrEmpty(metadata.getGeneratedFiles())) {
+            filesToDelete.addAll(metadata.getGeneratedFiles()
+                .stream()
+                .filter(filename -> filename.startsWith("src/main/") && filename.endsWith(".java"))
+                .collect(Collectors.toSet()));
         }
 
         if (!CoreUtils.isNullOrEmpty(filesToDelete)) {
@@ -243,6 +289,98 @@ public class Main {
             Path path = Paths.get("src", "samples", "java", packageName.replace('.', File.separatorChar));
             FileUtil.deleteFilesInDirectory(Paths.get(outputDir).resolve(path));
         }
+
+        if (JavaSettings.getInstance().isGenerateBenchmarks()) {
+            // clean up benchmarks
+            String packageName = settings.getPackage("generated");
+            Path path = Paths.get("src", "benchmark", "java", packageName.replace('.', File.separatorChar));
+            FileUtil.deleteFilesInDirectory(Paths.get(outputDir).resolve(path));
+        }
+    }
+
+    private static String getMetadataFilename(JavaSettings settings, String suffix) {
+        return "src/main/resources/META-INF/"
+            + (settings.isFluent() ? FluentUtils.getArtifactId() : ClientModelUtil.getArtifactId()) + "_metadata"
+            + (suffix == null ? "" : "_" + suffix) + ".json";
+    }
+
+    private static TypeSpecMetadata readMetadata(String outputDir, JavaSettings settings, String suffix) {
+        Path metadataFilePath = Paths.get(outputDir, getMetadataFilename(settings, suffix)).toAbsolutePath();
+        if (Files.isRegularFile(metadataFilePath) && metadataFilePath.toFile().canRead()) {
+            try (BufferedReader reader = Files.newBufferedReader(metadataFilePath, StandardCharsets.UTF_8);
+                JsonReader jsonReader = JsonReader.fromReader(reader)) {
+                return TypeSpecMetadata.fromJson(jsonReader);
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read file: {}", metadataFilePath.toAbsolutePath(), e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records the digests of generated Java files in the metadata file, so that next generation can compare with
+     * them.
+     *
+     * @param textFiles the text files to be generated, which includes the metadata file
+     * @param incrementalFileWriter the writer for incremental output
+     * @param settings the Java settings
+     * @param suffix the suffix of the metadata file
+     */
+    private static void updateMetadataWithDigests(List<TextFile> textFiles,
+        IncrementalFileWriter incrementalFileWriter, JavaSettings settings, String suffix) {
+        String metadataFilename = getMetadataFilename(settings, suffix);
+        for (TextFile textFile : textFiles) {
+            if (metadataFilename.equals(textFile.getFilePath())) {
+                try (JsonReader jsonReader = JsonReader.fromString(textFile.getContents())) {
+                    TypeSpecMetadata metadata = TypeSpecMetadata.fromJson(jsonReader);
+                    textFile.setContents(new TypeSpecMetadata(metadata.getArtifactId(), metadata.getFlavor(),
+                        metadata.getApiVersion(), metadata.getCrossLanguageDefinitions(), metadata.getGeneratedFiles(),
+                        incrementalFileWriter.getDigests(filename -> filename.endsWith(".java"))).toJsonString());
+                } catch (IOException e) {
+                    LOGGER.warn("Unable to update metadata file: {}", metadataFilename, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes generated Java files that are not in the output anymore, and logs the summary of the incremental
+     * output.
+     *
+     * @param incrementalFileWriter the writer for incremental output
+     * @param previousMetadata the metadata from previous generation, can be null
+     * @param settings the Java settings
+     */
+    private static void completeIncrementalOutput(IncrementalFileWriter incrementalFileWriter,
+        TypeSpecMetadata previousMetadata, JavaSettings settings) {
+        if (previousMetadata != null) {
+            Set<String> previousFiles = new HashSet<>();
+            if (previousMetadata.getGeneratedFiles() != null) {
+                previousFiles.addAll(previousMetadata.getGeneratedFiles());
+            }
+            if (previousMetadata.getGeneratedFileDigests() != null) {
+                previousFiles.addAll(previousMetadata.getGeneratedFileDigests().keySet());
+            }
+            incrementalFileWriter.deleteRemovedFiles(previousFiles.stream()
+                .filter(filename -> filename.startsWith("src/main/") && filename.endsWith(".java"))
+                .collect(Collectors.toSet()));
+        }
+
+        String packageName = settings.getPackage("generated");
+        if (settings.isGenerateTests()) {
+            incrementalFileWriter.deleteRemovedFilesInDirectory(
+                Paths.get("src", "test", "java", packageName.replace('.', File.separatorChar)));
+        }
+        if (settings.isGenerateSamples()) {
+            incrementalFileWriter.deleteRemovedFilesInDirectory(
+                Paths.get("src", "samples", "java", packageName.replace('.', File.separatorChar)));
+        }
+        if (settings.isGenerateBenchmarks()) {
+            incrementalFileWriter.deleteRemovedFilesInDirectory(
+                Paths.get("src", "benchmark", "java", packageName.replace('.', File.separatorChar)));
+        }
+
+        LOGGER.info(incrementalFileWriter.getSummary());
     }
 
     private static EmitterOptions loadEmitterOptions(CodeModel codeModel) {
@@ -284,25 +422,13 @@ public class Main {
         return options;
     }
 
-    private static CodeModel loadCodeModel(String filename) throws IOException {
-        String file = Files.readString(Paths.get(filename));
-        CodeModel codeModel = getYaml().loadAs(file, CodeModel.class);
-        return codeModel;
-    }
-
-    private static Yaml getYaml() {
-        if (yaml == null) {
-            Representer representer = new Representer(new DumperOptions());
-            representer.setPropertyUtils(new AnnotatedPropertyUtils());
-            representer.getPropertyUtils().setSkipMissingProperties(true);
-            LoaderOptions loaderOptions = new LoaderOptions();
-            loaderOptions.setCodePointLimit(50 * 1024 * 1024);
-            loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
-            loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
-            loaderOptions.setTagInspector(new TrustedTagInspector());
-            Constructor constructor = new CodeModelCustomConstructor(loaderOptions);
-            yaml = new Yaml(constructor, representer, new DumperOptions(), loaderOptions);
-        }
-        return yaml;
+    private static CodeModel loadCodeModel(String filename) {
+        return GenerationMetrics.getInstance().time(GenerationMetrics.LOAD, () -> {
+            try {
+                return CodeModelLoader.load(Paths.get(filename), LOGGER);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
@@ -7,11 +7,11 @@ import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import com.microsoft.typespec.http.client.generator.core.extension.model.Message;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationMetrics;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientException;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ConvenienceMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeSpecMetadata;
@@ -25,6 +25,7 @@ import com.microsoft.typespec.http.client.generator.mapper.TypeSpecClientCoreMap
 import com.microsoft.typespec.http.client.generator.mapper.TypeSpecMapperFactory;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
 import com.microsoft.typespec.http.client.generator.util.FileUtil;
+import com.microsoft.typespec.http.client.generator.util.IncrementalFileWriter;
 import com.microsoft.typespec.http.client.generator.util.MetadataUtil;
 import com.microsoft.typespec.http.client.generator.util.ModelUtil;
 import io.clientcore.core.serialization.json.JsonReader;
@@ -46,13 +47,17 @@ public class TypeSpecPlugin extends Javagen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecPlugin.class);
 
     private final EmitterOptions emitterOptions;
+    private IncrementalFileWriter incrementalFileWriter;
 
     public Client processClient(CodeModel codeModel) {
+        GenerationMetrics metrics = GenerationMetrics.getInstance();
+
         // transform code model
-        codeModel = new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+        CodeModel transformedCodeModel = metrics.time(GenerationMetrics.TRANSFORM,
+            () -> new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel)));
 
         // map to client model
-        return Mappers.getClientMapper().map(codeModel);
+        return metrics.time(GenerationMetrics.MAP, () -> Mappers.getClientMapper().map(transformedCodeModel));
     }
 
     public JavaPackage processTemplates(CodeModel codeModel, Client client, JavaSettings settings) {
@@ -75,28 +80,28 @@ public class TypeSpecPlugin extends Javagen {
     @Override
     protected void writeClientModels(Client client, JavaPackage javaPackage, JavaSettings settings) {
         // Client model
-        client.getModels().stream().filter(ModelUtil::isGeneratingModel).forEach(model -> {
-            javaPackage.addModel(model.getPackage(), model.getName(), model);
-        });
+        javaPackage.addConcurrently(
+            client.getModels().stream().filter(ModelUtil::isGeneratingModel).collect(Collectors.toList()),
+            model -> javaPackage.addModel(model.getPackage(), model.getName(), model));
 
         // Enum
-        client.getEnums().stream().filter(ModelUtil::isGeneratingModel).forEach(model -> {
-            javaPackage.addEnum(model.getPackage(), model.getName(), model);
-        });
+        javaPackage.addConcurrently(
+            client.getEnums().stream().filter(ModelUtil::isGeneratingModel).collect(Collectors.toList()),
+            model -> javaPackage.addEnum(model.getPackage(), model.getName(), model));
 
         // Response
-        client.getResponseModels()
-            .stream()
-            .filter(ModelUtil::isGeneratingModel)
-            .forEach(model -> javaPackage.addClientResponse(model.getPackage(), model.getName(), model));
+        javaPackage.addConcurrently(
+            client.getResponseModels().stream().filter(ModelUtil::isGeneratingModel).collect(Collectors.toList()),
+            model -> javaPackage.addClientResponse(model.getPackage(), model.getName(), model));
 
         // Exception
-        for (ClientException exception : client.getExceptions()) {
-            javaPackage.addException(exception.getPackage(), exception.getName(), exception);
-        }
+        javaPackage.addConcurrently(client.getExceptions(),
+            exception -> javaPackage.addException(exception.getPackage(), exception.getName(), exception));
 
         // Union
-        client.getUnionModels().stream().filter(ModelUtil::isGeneratingModel).forEach(javaPackage::addUnionModel);
+        javaPackage.addConcurrently(
+            client.getUnionModels().stream().filter(ModelUtil::isGeneratingModel).collect(Collectors.toList()),
+            javaPackage::addUnionModel);
     }
 
     @Override
@@ -128,6 +133,31 @@ public class TypeSpecPlugin extends Javagen {
             }
         }
 
+        // JsonLinesHelper
+        if (ClientModelUtil.requireJsonLinesHelper(client.getServiceClients(), client.getAsyncClients(),
+            client.getSyncClients())) {
+            if (settings.isAzureV1()) {
+                javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                    ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME);
+            } else {
+                javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                    ClientModelUtil.GENERIC_JSON_LINES_HELPER_CLASS_NAME,
+                    ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME);
+            }
+        }
+
+        // JsonSerializationHelper
+        if (ClientModelUtil.requireJsonSerializationHelper(client.getAsyncClients(), client.getSyncClients())) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME);
+        }
+
+        // ServiceImplHelper
+        if (ClientModelUtil.requireServiceImplHelper(client.getServiceClients())) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.SERVICE_IMPL_HELPER_CLASS_NAME);
+        }
+
         // OperationLocationPollingStrategy
         if (ClientModelUtil.requireOperationLocationPollingStrategy(codeModel)) {
             if (JavaSettings.getInstance().isAzureV2()) {
@@ -137,8 +167,10 @@ public class TypeSpecPlugin extends Javagen {
                 javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
                     ClientModelUtil.CLIENT_CORE_POLLING_UTILS, ClientModelUtil.POLLING_UTILS);
             } else {
-                javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
-                    ClientModelUtil.OPERATION_LOCATION_POLLING_STRATEGY);
+                if (settings.isGenerateAsyncMethods()) {
+                    javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                        ClientModelUtil.OPERATION_LOCATION_POLLING_STRATEGY);
+                }
                 javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
                     ClientModelUtil.SYNC_OPERATION_LOCATION_POLLING_STRATEGY);
                 javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
@@ -146,14 +178,36 @@ public class TypeSpecPlugin extends Javagen {
             }
 
         }
+
+        // PagePrefetcher
+        if (ClientModelUtil.requirePagePrefetcher(client.getServiceClients(), settings)) {
+            if (settings.isAzureV1()) {
+                javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                    ClientModelUtil.PAGE_PREFETCHER);
+            } else {
+                javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                    ClientModelUtil.CLIENT_CORE_PAGE_PREFETCHER, ClientModelUtil.PAGE_PREFETCHER);
+            }
+        }
     }
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        Path outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
+        Path outputFile = incrementalFileWriter != null
+            ? incrementalFileWriter.write(fileName, content)
+            : FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
         LOGGER.info("Write file: {}", outputFile.toAbsolutePath());
     }
 
+    /**
+     * Sets the writer for incremental output. When set, files with unchanged content are not written.
+     *
+     * @param incrementalFileWriter the writer for incremental output
+     */
+    public void setIncrementalFileWriter(IncrementalFileWriter incrementalFileWriter) {
+        this.incrementalFileWriter = incrementalFileWriter;
+    }
+
     private static final Map<String, Object> SETTINGS_MAP = new HashMap<>();
 
     static {
@@ -224,6 +278,15 @@ public class TypeSpecPlugin extends Javagen {
         if (options.getEnableSyncStack() != null) {
             SETTINGS_MAP.put("enable-sync-stack", options.getEnableSyncStack());
         }
+        if (Boolean.FALSE.equals(options.getGenerateAsyncMethods())) {
+            // sync clients only, on the sync stack (the default), so that no API of the clients is based on Reactor
+            if (Boolean.FALSE.equals(options.getEnableSyncStack())) {
+                throw new IllegalArgumentException(
+                    "'generate-async-methods' set to false requires the sync stack, it cannot be used with "
+                        + "'enable-sync-stack' set to false.");
+            }
+            SETTINGS_MAP.put("sync-methods", "sync-only");
+        }
         if (options.getStreamStyleSerialization() != null) {
             SETTINGS_MAP.put("stream-style-serialization", options.getStreamStyleSerialization());
         }
@@ -233,6 +296,27 @@ public class TypeSpecPlugin extends Javagen {
         if (options.getUseRestProxy() != null) {
             SETTINGS_MAP.put("use-rest-proxy", emitterOptions.getUseRestProxy());
         }
+        if (options.getFormatCache() != null) {
+            SETTINGS_MAP.put("format-cache", options.getFormatCache());
+        }
+        if (options.getJsonFieldSwitchDispatch() != null) {
+            SETTINGS_MAP.put("json-field-switch-dispatch", options.getJsonFieldSwitchDispatch());
+        }
+        if (options.getJsonDirectSerialization() != null) {
+            SETTINGS_MAP.put("json-direct-serialization", options.getJsonDirectSerialization());
+        }
+        if (options.getGenerateServiceImpl() != null) {
+            SETTINGS_MAP.put("generate-service-impl", options.getGenerateServiceImpl());
+        }
+        if (options.getGenerateBenchmarks() != null) {
+            SETTINGS_MAP.put("generate-benchmarks", options.getGenerateBenchmarks());
+        }
+        if (options.getPagePrefetchDepth() != null) {
+            SETTINGS_MAP.put("page-prefetch-depth", options.getPagePrefetchDepth());
+        }
+        if (options.getExpandableEnumCacheSize() != null) {
+            SETTINGS_MAP.put("expandable-enum-cache-size", options.getExpandableEnumCacheSize());
+        }
 
         SETTINGS_MAP.put("sdk-integration", sdkIntegration);
         SETTINGS_MAP.put("regenerate-pom", sdkIntegration);
@@ -21,6 +21,7 @@ import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJ
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
 import com.microsoft.typespec.http.client.generator.util.FileUtil;
+import com.microsoft.typespec.http.client.generator.util.IncrementalFileWriter;
 import com.microsoft.typespec.http.client.generator.util.MetadataUtil;
 import io.clientcore.core.serialization.json.JsonReader;
 import io.clientcore.core.utils.CoreUtils;
@@ -37,6 +38,7 @@ import org.slf4j.LoggerFactory;
 public class TypeSpecFluentPlugin extends FluentGen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecFluentPlugin.class);
     private final EmitterOptions emitterOptions;
+    private IncrementalFileWriter incrementalFileWriter;
 
     public TypeSpecFluentPlugin(EmitterOptions options, boolean sdkIntegration, String title) {
         super(new TypeSpecPlugin.MockConnection(), "dummy", "dummy");
@@ -56,6 +58,9 @@ public class TypeSpecFluentPlugin extends FluentGen {
         if (options.getGenerateTests() != null) {
             SETTINGS_MAP.put("generate-tests", options.getGenerateTests());
         }
+        if (options.getGenerateBenchmarks() != null) {
+            SETTINGS_MAP.put("generate-benchmarks", options.getGenerateBenchmarks());
+        }
         if (options.getClientSideValidations() != null) {
             SETTINGS_MAP.put("client-side-validations", options.getClientSideValidations());
         }
@@ -72,6 +77,15 @@ public class TypeSpecFluentPlugin extends FluentGen {
         if (options.getEnableSyncStack() != null) {
             SETTINGS_MAP.put("enable-sync-stack", options.getEnableSyncStack());
         }
+        if (options.getFormatCache() != null) {
+            SETTINGS_MAP.put("format-cache", options.getFormatCache());
+        }
+        if (options.getJsonFieldSwitchDispatch() != null) {
+            SETTINGS_MAP.put("json-field-switch-dispatch", options.getJsonFieldSwitchDispatch());
+        }
+        if (options.getExpandableEnumCacheSize() != null) {
+            SETTINGS_MAP.put("expandable-enum-cache-size", options.getExpandableEnumCacheSize());
+        }
         SETTINGS_MAP.put("sdk-integration", sdkIntegration);
         SETTINGS_MAP.put("output-model-immutable", true);
         SETTINGS_MAP.put("stream-style-serialization", options.getStreamStyleSerialization());
@@ -146,10 +160,21 @@ public class TypeSpecFluentPlugin extends FluentGen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        Path outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
+        Path outputFile = incrementalFileWriter != null
+            ? incrementalFileWriter.write(fileName, content)
+            : FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
         LOGGER.info("Write file: {}", outputFile.toAbsolutePath());
     }
 
+    /**
+     * Sets the writer for incremental output. When set, files with unchanged content are not written.
+     *
+     * @param incrementalFileWriter the writer for incremental output
+     */
+    public void setIncrementalFileWriter(IncrementalFileWriter incrementalFileWriter) {
+        this.incrementalFileWriter = incrementalFileWriter;
+    }
+
     @Override
     protected FluentMapper getFluentMapper() {
         FluentMapper fluentMapper = super.getFluentMapper();
@@ -41,6 +41,15 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
     private Boolean useDefaultHttpStatusCodeToExceptionTypeMapping = true;
     private Boolean clientSideValidations = false;
     private Boolean uuidAsString = true;
+    private Boolean formatCache;
+    private Boolean jsonFieldSwitchDispatch;
+    private Boolean jsonDirectSerialization;
+    private Boolean generateServiceImpl;
+    private Boolean generateBenchmarks;
+    private Integer pagePrefetchDepth;
+    private Integer expandableEnumCacheSize;
+    private Boolean generateAsyncMethods;
+    private Boolean incrementalOutput = false;
     private DevOptions devOptions;
 
     // mgmt
@@ -49,7 +58,6 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
     private String addInner;
     private String removeInner;
     private String preserveModel;
-    private Boolean generateAsyncMethods;
     private String propertyIncludeAlways;
     private List<ResourceCollectionAssociation> resourceCollectionAssociations = new ArrayList<>();
     private String metadataSuffix;
@@ -209,6 +217,38 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
         return metadataSuffix;
     }
 
+    public Boolean getFormatCache() {
+        return formatCache;
+    }
+
+    public Boolean getJsonFieldSwitchDispatch() {
+        return jsonFieldSwitchDispatch;
+    }
+
+    public Boolean getJsonDirectSerialization() {
+        return jsonDirectSerialization;
+    }
+
+    public Boolean getGenerateServiceImpl() {
+        return generateServiceImpl;
+    }
+
+    public Boolean getGenerateBenchmarks() {
+        return generateBenchmarks;
+    }
+
+    public Integer getPagePrefetchDepth() {
+        return pagePrefetchDepth;
+    }
+
+    public Integer getExpandableEnumCacheSize() {
+        return expandableEnumCacheSize;
+    }
+
+    public Boolean getIncrementalOutput() {
+        return incrementalOutput;
+    }
+
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         // it does not need to be written to JSON
@@ -287,6 +327,22 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
                 options.uuidAsString = reader.getNullable(EmitterOptions::getBoolean);
             } else if ("metadata-suffix".equals(fieldName)) {
                 options.metadataSuffix = emptyToNull(reader.getString());
+            } else if ("format-cache".equals(fieldName)) {
+                options.formatCache = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("json-field-switch-dispatch".equals(fieldName)) {
+                options.jsonFieldSwitchDispatch = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("json-direct-serialization".equals(fieldName)) {
+                options.jsonDirectSerialization = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("generate-service-impl".equals(fieldName)) {
+                options.generateServiceImpl = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("generate-benchmarks".equals(fieldName)) {
+                options.generateBenchmarks = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("page-prefetch-depth".equals(fieldName)) {
+                options.pagePrefetchDepth = reader.getNullable(JsonReader::getInt);
+            } else if ("expandable-enum-cache-size".equals(fieldName)) {
+                options.expandableEnumCacheSize = reader.getNullable(JsonReader::getInt);
+            } else if ("incremental-output".equals(fieldName)) {
+                options.incrementalOutput = reader.getNullable(EmitterOptions::getBoolean);
             } else {
                 reader.skipChildren();
             }
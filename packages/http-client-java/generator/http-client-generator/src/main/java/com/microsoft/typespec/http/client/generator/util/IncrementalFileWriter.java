@@ -0,0 +1,182 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes generated files to the output directory, skipping files whose content did not change.
+ * <p>
+ * Unchanged files are not written, so that their last modified time is kept and downstream builds do not recompile
+ * them. The digest of each written file is recorded, so that it can be stored in the metadata of the generated SDK
+ * and compared with on the next generation.
+ */
+public class IncrementalFileWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalFileWriter.class);
+
+    private final String outputDir;
+    private final Map<String, String> previousDigests;
+    private final Map<String, String> digests = new ConcurrentHashMap<>();
+
+    private final AtomicInteger added = new AtomicInteger();
+    private final AtomicInteger changed = new AtomicInteger();
+    private final AtomicInteger removed = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+
+    /**
+     * Creates an IncrementalFileWriter.
+     *
+     * @param outputDir the output directory
+     * @param previousDigests the digests of the files from previous generation, keyed by relative file path
+     */
+    public IncrementalFileWriter(String outputDir, Map<String, String> previousDigests) {
+        this.outputDir = outputDir;
+        this.previousDigests = previousDigests == null ? Collections.emptyMap() : previousDigests;
+    }
+
+    /**
+     * Writes the content to a file under the output directory, if the file does not already have the same content.
+     *
+     * @param fileName name of the file (may include subdirectories)
+     * @param content content of the file
+     * @return the {@link Path} of the file
+     * @throws IllegalStateException if an I/O error occurs while reading or writing the file
+     */
+    public Path write(String fileName, String content) {
+        Path outputPath = Paths.get(outputDir, fileName).toAbsolutePath();
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String digest = digest(bytes);
+        digests.put(fileName, digest);
+
+        if (!Files.isRegularFile(outputPath)) {
+            FileUtil.writeToFile(outputDir, fileName, content);
+            added.incrementAndGet();
+            return outputPath;
+        }
+
+        // If the digest differs from the one recorded in previous generation, the file has changed, and there is no
+        // need to read it. Otherwise, compare with the file content, as the file may have been modified after the
+        // previous generation.
+        String previousDigest = previousDigests.get(fileName);
+        if (previousDigest == null || previousDigest.equals(digest)) {
+            try {
+                if (Files.size(outputPath) == bytes.length && Arrays.equals(Files.readAllBytes(outputPath), bytes)) {
+                    LOGGER.debug("Unchanged file: {}", outputPath);
+                    unchanged.incrementAndGet();
+                    return outputPath;
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        FileUtil.writeToFile(outputDir, fileName, content);
+        changed.incrementAndGet();
+        return outputPath;
+    }
+
+    /**
+     * Deletes the files from previous generation that are not written in this generation.
+     *
+     * @param previousFiles the files from previous generation, as relative file path
+     */
+    public void deleteRemovedFiles(Collection<String> previousFiles) {
+        for (String fileName : previousFiles) {
+            if (!digests.containsKey(fileName)) {
+                deleteFile(Paths.get(outputDir, fileName).toAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * Deletes the files in the directory (not recursive) that are not written in this generation.
+     *
+     * @param directory the directory, relative to the output directory
+     */
+    public void deleteRemovedFilesInDirectory(Path directory) {
+        Path path = Paths.get(outputDir).resolve(directory).toAbsolutePath();
+        if (!Files.isDirectory(path)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            for (Path filePath : stream) {
+                String fileName = directory.resolve(filePath.getFileName()).toString().replace(File.separatorChar, '/');
+                if (!digests.containsKey(fileName)) {
+                    deleteFile(filePath);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to list files in path: {}", path, e);
+        }
+    }
+
+    /**
+     * Gets the digests of the files written in this generation.
+     *
+     * @param fileFilter the filter for the relative file path
+     * @return the digests of the files, keyed by relative file path
+     */
+    public Map<String, String> getDigests(Predicate<String> fileFilter) {
+        Map<String, String> result = new TreeMap<>();
+        digests.forEach((fileName, digest) -> {
+            if (fileFilter.test(fileName)) {
+                result.put(fileName, digest);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Gets the summary of the files added, changed, removed and unchanged.
+     *
+     * @return the summary
+     */
+    public String getSummary() {
+        return String.format("Files added: %d, changed: %d, removed: %d, unchanged: %d", added.get(), changed.get(),
+            removed.get(), unchanged.get());
+    }
+
+    private void deleteFile(Path filePath) {
+        try {
+            if (Files.deleteIfExists(filePath)) {
+                removed.incrementAndGet();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete file: {}", filePath, e);
+        }
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
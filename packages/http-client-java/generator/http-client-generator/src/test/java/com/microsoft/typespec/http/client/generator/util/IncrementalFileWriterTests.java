@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public final class IncrementalFileWriterTests {
+
+    @Test
+    public void write_skipsUnchangedFilesAndDeletesRemovedFiles(@TempDir Path tempDir) throws IOException {
+        String outputDir = tempDir.toString();
+
+        IncrementalFileWriter firstWriter = new IncrementalFileWriter(outputDir, null);
+        Path unchanged = firstWriter.write("src/main/java/Unchanged.java", "class Unchanged {}\n");
+        Path changed = firstWriter.write("src/main/java/Changed.java", "class Changed {}\n");
+        Path removed = firstWriter.write("src/main/java/Removed.java", "class Removed {}\n");
+        assertEquals("Files added: 3, changed: 0, removed: 0, unchanged: 0", firstWriter.getSummary());
+        Map<String, String> digests = firstWriter.getDigests(fileName -> fileName.endsWith(".java"));
+        assertEquals(3, digests.size());
+
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(unchanged, lastModifiedTime);
+
+        IncrementalFileWriter secondWriter = new IncrementalFileWriter(outputDir, digests);
+        secondWriter.write("src/main/java/Unchanged.java", "class Unchanged {}\n");
+        secondWriter.write("src/main/java/Changed.java", "class Changed { int value; }\n");
+        secondWriter.write("src/main/java/Added.java", "class Added {}\n");
+        secondWriter.deleteRemovedFiles(digests.keySet());
+
+        assertEquals("Files added: 1, changed: 1, removed: 1, unchanged: 1", secondWriter.getSummary());
+        assertEquals(lastModifiedTime, Files.getLastModifiedTime(unchanged), "Unchanged.java should not be written");
+        assertEquals("class Changed { int value; }\n", Files.readString(changed, StandardCharsets.UTF_8));
+        assertFalse(Files.exists(removed), "Removed.java should be deleted");
+        assertEquals(Set.of("src/main/java/Added.java", "src/main/java/Changed.java", "src/main/java/Unchanged.java"),
+            secondWriter.getDigests(fileName -> true).keySet());
+    }
+
+    @Test
+    public void write_rewritesFileModifiedAfterGeneration(@TempDir Path tempDir) throws IOException {
+        String outputDir = tempDir.toString();
+
+        IncrementalFileWriter firstWriter = new IncrementalFileWriter(outputDir, null);
+        Path file = firstWriter.write("src/main/java/Model.java", "class Model {}\n");
+        Map<String, String> digests = firstWriter.getDigests(fileName -> true);
+
+        // file is modified on disk, while the generated content stays the same
+        Files.writeString(file, "class Model { int edited; }\n", StandardCharsets.UTF_8);
+
+        IncrementalFileWriter secondWriter = new IncrementalFileWriter(outputDir, digests);
+        secondWriter.write("src/main/java/Model.java", "class Model {}\n");
+
+        assertEquals("Files added: 0, changed: 1, removed: 0, unchanged: 0", secondWriter.getSummary());
+        assertEquals("class Model {}\n", Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void deleteRemovedFilesInDirectory_keepsWrittenFiles(@TempDir Path tempDir) throws IOException {
+        String outputDir = tempDir.toString();
+        Path testDir = Paths.get("src", "test", "java", "generated");
+        Files.createDirectories(tempDir.resolve(testDir));
+        Path staleTest = Files.writeString(tempDir.resolve(testDir).resolve("StaleTests.java"), "class StaleTests {}\n",
+            StandardCharsets.UTF_8);
+
+        IncrementalFileWriter writer = new IncrementalFileWriter(outputDir, null);
+        Path test = writer.write("src/test/java/generated/ModelTests.java", "class ModelTests {}\n");
+        writer.deleteRemovedFilesInDirectory(testDir);
+
+        assertTrue(Files.exists(test), "ModelTests.java should be kept");
+        assertFalse(Files.exists(staleTest), "StaleTests.java should be deleted");
+    }
+}